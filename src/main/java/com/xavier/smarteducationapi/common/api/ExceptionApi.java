@@ -11,6 +11,7 @@ import com.xavier.smarteducationapi.common.domain.exception.InvalidValueObjectEx
 import com.xavier.smarteducationapi.common.domain.exception.SmartEducationException;
 import com.xavier.smarteducationapi.common.infrastructure.exception.DatabaseException;
 import com.xavier.smarteducationapi.common.infrastructure.exception.EventPublishingException;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventSerializationException;
 import com.xavier.smarteducationapi.common.infrastructure.exception.ExternalServiceException;
 import com.xavier.smarteducationapi.common.infrastructure.exception.InfrastructureException;
 
@@ -111,6 +112,13 @@ public interface ExceptionApi {
      */
     Class<EventPublishingException> getEventPublishingExceptionClass();
     
+    /**
+     * Gets the event serialization exception class.
+     * 
+     * @return the EventSerializationException class
+     */
+    Class<EventSerializationException> getEventSerializationExceptionClass();
+    
     /**
      * Gets the external service exception class.
      * 
@@ -0,0 +1,31 @@
+package com.xavier.smarteducationapi.common.application.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import com.xavier.smarteducationapi.common.application.exception.ValidationException;
+
+/**
+ * Filters of an audit log query; absent filters match every entry.
+ *
+ * @param from Inclusive lower bound of {@code created_at}
+ * @param to Exclusive upper bound of {@code created_at}
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record AuditLogCriteria(@Nullable UUID tenantId, @Nullable String entityType, @Nullable String entityId,
+                               @Nullable UUID userId, @Nullable Instant from, @Nullable Instant to) {
+
+    public AuditLogCriteria {
+        if (entityId != null && entityType == null) {
+            throw new ValidationException("entityId", "entityType is required when filtering by entityId");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ValidationException("from", "from must be before to");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.xavier.smarteducationapi.common.application.audit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.xavier.smarteducationapi.common.application.exception.ValidationException;
+
+/**
+ * Keyset position in the audit log: the {@code (created_at, id)} of the last entry returned.
+ *
+ * Cursors are passed to clients as opaque URL-safe strings. The following page holds the entries
+ * ordered after this one by {@code created_at DESC, id DESC}, however many entries were written
+ * since, and costs the same to read whether it is the first page or the thousandth.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record AuditLogCursor(Instant createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Opaque form of the cursor
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a cursor produced by {@link #encode()}
+     *
+     * @throws ValidationException when the cursor is malformed
+     */
+    public static AuditLogCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("cursor", "Malformed cursor");
+            }
+            return new AuditLogCursor(Instant.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ValidationException("cursor", "Malformed cursor");
+        }
+    }
+}
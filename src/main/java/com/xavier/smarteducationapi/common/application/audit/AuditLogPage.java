@@ -0,0 +1,17 @@
+package com.xavier.smarteducationapi.common.application.audit;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * One page of audit log entries, newest first.
+ *
+ * @param nextCursor Cursor of the following page, {@code null} on the last one
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record AuditLogPage(List<AuditLogView> entries, @Nullable String nextCursor) {
+}
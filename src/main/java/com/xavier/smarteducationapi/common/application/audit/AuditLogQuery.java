@@ -0,0 +1,21 @@
+package com.xavier.smarteducationapi.common.application.audit;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Reads {@code audit.audit_log} newest first, one keyset page at a time.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface AuditLogQuery {
+
+    /**
+     * Entries matching the criteria, after the cursor when given
+     *
+     * @param after Cursor returned with the previous page, {@code null} for the first page
+     * @param limit Maximum number of entries
+     */
+    AuditLogPage find(AuditLogCriteria criteria, @Nullable AuditLogCursor after, int limit);
+}
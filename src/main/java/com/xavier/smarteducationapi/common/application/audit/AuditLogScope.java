@@ -0,0 +1,22 @@
+package com.xavier.smarteducationapi.common.application.audit;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * Narrows audit log queries to the entries the caller may read.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface AuditLogScope {
+
+    /**
+     * The criteria restricted to the caller's tenant, unless the caller may read the audit log of
+     * every tenant
+     *
+     * @throws org.springframework.security.access.AccessDeniedException when the caller asks for
+     *         another tenant's entries or has no tenant to read
+     */
+    AuditLogCriteria restrict(Authentication caller, AuditLogCriteria criteria);
+}
@@ -0,0 +1,20 @@
+package com.xavier.smarteducationapi.common.application.audit;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A stored audit log entry, with the changed fields decoded.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record AuditLogView(UUID id, @Nullable UUID tenantId, @Nullable UUID userId, String entityType,
+                           String entityId, String action, Map<String, Object> oldValues,
+                           Map<String, Object> newValues, @Nullable String ipAddress, @Nullable String userAgent,
+                           Instant createdAt) {
+}
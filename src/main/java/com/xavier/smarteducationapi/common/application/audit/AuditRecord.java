@@ -0,0 +1,65 @@
+package com.xavier.smarteducationapi.common.application.audit;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * One change to be written to {@code audit.audit_log}.
+ *
+ * Callers describe the state of the entity before and after the change; only the fields whose
+ * values differ are kept, so the stored row holds a diff rather than two full copies.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record AuditRecord(@Nullable String tenantId, String entityType, String entityId, String action,
+                          Map<String, Object> oldValues, Map<String, Object> newValues) {
+
+    public AuditRecord {
+        Objects.requireNonNull(entityType, "entityType is required");
+        Objects.requireNonNull(entityId, "entityId is required");
+        Objects.requireNonNull(action, "action is required");
+        oldValues = Collections.unmodifiableMap(new LinkedHashMap<>(oldValues));
+        newValues = Collections.unmodifiableMap(new LinkedHashMap<>(newValues));
+    }
+
+    /**
+     * Record the fields that differ between two states of an entity; {@code null} values
+     * stand for absent fields
+     *
+     * @param before State before the change, empty for a created entity
+     * @param after State after the change, empty for a removed entity
+     */
+    public static AuditRecord diff(@Nullable String tenantId, String entityType, String entityId, String action,
+                                   Map<String, ?> before, Map<String, ?> after) {
+        Map<String, Object> oldValues = new LinkedHashMap<>();
+        Map<String, Object> newValues = new LinkedHashMap<>();
+        before.forEach((field, value) -> {
+            Object changed = after.get(field);
+            if (value != null && !value.equals(changed)) {
+                oldValues.put(field, value);
+                if (changed != null) {
+                    newValues.put(field, changed);
+                }
+            }
+        });
+        after.forEach((field, value) -> {
+            if (value != null && before.get(field) == null) {
+                newValues.put(field, value);
+            }
+        });
+        return new AuditRecord(tenantId, entityType, entityId, action, oldValues, newValues);
+    }
+
+    /**
+     * Whether no field changed
+     */
+    public boolean isEmpty() {
+        return oldValues.isEmpty() && newValues.isEmpty();
+    }
+}
@@ -0,0 +1,19 @@
+package com.xavier.smarteducationapi.common.application.audit;
+
+/**
+ * Records changes in {@code audit.audit_log} on behalf of application services.
+ *
+ * Implementations must not slow down the calling use case: records are handed over in
+ * memory and written later, and only once the surrounding transaction has committed.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface AuditTrail {
+
+    /**
+     * Record a change; records without changed fields are ignored
+     */
+    void record(AuditRecord record);
+}
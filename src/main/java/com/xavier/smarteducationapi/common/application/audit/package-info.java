@@ -0,0 +1,17 @@
+/**
+ * Application audit trail package.
+ * 
+ * Contains the ports through which use cases record and read changes:
+ * - AuditTrail: Asynchronous recorder of changes to audit.audit_log
+ * - AuditRecord: One change, reduced to the fields that differ
+ * - AuditLogQuery: Keyset-paginated reads of the audit log
+ * - AuditLogScope: Restriction of audit log reads to the caller's tenant
+ * - AuditLogCriteria, AuditLogCursor, AuditLogPage, AuditLogView: Query filters and results
+ * 
+ * This package is part of the common module's public API.
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("application-audit")
+package com.xavier.smarteducationapi.common.application.audit;
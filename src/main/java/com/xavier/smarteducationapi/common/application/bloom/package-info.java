@@ -0,0 +1,13 @@
+/**
+ * Application bloom filter package.
+ * 
+ * Contains probabilistic set membership used to skip database lookups:
+ * - StringBloomFilter: Thread-safe bloom filter over strings
+ * 
+ * This package is part of the common module's public API.
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("application-bloom")
+package com.xavier.smarteducationapi.common.application.bloom;
@@ -1,7 +1,12 @@
 package com.xavier.smarteducationapi.common.application.event;
 
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import com.xavier.smarteducationapi.common.domain.entity.AggregateRoot;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
 import com.xavier.smarteducationapi.common.domain.event.DomainEventPublisher;
 import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
@@ -35,4 +40,20 @@ public class DomainEventListener {
             aggregate.markEventsAsCommitted();
         }
     }
+
+    /**
+     * Publishes the uncommitted events of several aggregates in one call,
+     * as used by repositories that write aggregates in batches.
+     *
+     * @param aggregates the aggregates that have been written
+     */
+    public void publishEvents(Collection<? extends AggregateRoot<?>> aggregates) {
+        List<DomainEvent> events = new ArrayList<>();
+        aggregates.forEach(aggregate -> events.addAll(aggregate.getUncommittedEvents()));
+        if (!events.isEmpty()) {
+            log.debug("Publishing {} events for {} aggregates", events.size(), aggregates.size());
+            eventPublisher.publishAll(events);
+            aggregates.forEach(AggregateRoot::markEventsAsCommitted);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.xavier.smarteducationapi.common.application.event;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Live subscriptions to stored domain events, for push and long-polling endpoints.
+ *
+ * Events are delivered only after they committed, from every node, in event store position order.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface DomainEventSubscriptions {
+
+    /**
+     * Open a Server-Sent Events stream of the events matching a filter
+     * @param filter The events to deliver
+     * @param lastEventId The last event the client received, to resume after it
+     * @return The emitter to return from the request handler
+     */
+    SseEmitter subscribe(EventStreamFilter filter, @Nullable String lastEventId);
+
+    /**
+     * Wait for the next event matching a filter stored after a position, without holding a thread
+     * @param filter The events to wait for
+     * @param afterPosition The event store position the caller has read up to
+     * @param timeoutMillis How long to wait
+     * @return Whether a matching event arrived before the timeout
+     */
+    CompletableFuture<Boolean> awaitEvent(EventStreamFilter filter, long afterPosition, long timeoutMillis);
+}
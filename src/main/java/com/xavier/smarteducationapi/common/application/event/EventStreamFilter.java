@@ -0,0 +1,46 @@
+package com.xavier.smarteducationapi.common.application.event;
+
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Selects the events a stream subscriber receives.
+ *
+ * Topics follow the {@code @TopicListener} conventions: a trailing {@code *} segment matches every
+ * topic below that prefix and a single {@code *} matches all topics. An empty topic set matches
+ * every topic; a {@code null} aggregate type or id matches any.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record EventStreamFilter(@Nullable String aggregateType, @Nullable String aggregateId, Set<String> topics) {
+
+    private static final String WILDCARD = "*";
+
+    public EventStreamFilter {
+        topics = Set.copyOf(topics);
+    }
+
+    public boolean matches(String eventAggregateType, String eventAggregateId, String topic) {
+        return (aggregateType == null || aggregateType.equals(eventAggregateType))
+                && (aggregateId == null || aggregateId.equals(eventAggregateId))
+                && matchesTopic(topic);
+    }
+
+    private boolean matchesTopic(String candidate) {
+        if (topics.isEmpty() || topics.contains(candidate) || topics.contains(WILDCARD)) {
+            return true;
+        }
+        for (String topic : topics) {
+            if (topic.endsWith("." + WILDCARD)) {
+                String prefix = topic.substring(0, topic.length() - 1);
+                if (candidate.startsWith(prefix) && candidate.length() > prefix.length()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
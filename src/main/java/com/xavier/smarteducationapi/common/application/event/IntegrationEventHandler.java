@@ -0,0 +1,47 @@
+package com.xavier.smarteducationapi.common.application.event;
+
+import java.util.Set;
+
+import org.springframework.util.ClassUtils;
+
+import com.xavier.smarteducationapi.common.domain.event.IntegrationEvent;
+
+/**
+ * Consumer of integration events delivered through {@code event_store.integration_events}.
+ *
+ * An event is handed to every handler whose context is listed in the event's target contexts
+ * (or to all handlers when it targets {@code "*"}). Delivery is at-least-once; redeliveries of an
+ * event a handler already completed are dropped by consumer name within the deduplication window,
+ * but a handler that fails part-way may still see the event again.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface IntegrationEventHandler {
+
+    /**
+     * Bounded context this handler belongs to, matched against the event's target contexts
+     */
+    String getContext();
+
+    /**
+     * Topics this handler consumes; an empty set accepts every event
+     */
+    default Set<String> getEventTypes() {
+        return Set.of();
+    }
+
+    /**
+     * Name under which handled events are recorded for deduplication; must stay stable across
+     * deployments and be unique per handler
+     */
+    default String getConsumerName() {
+        return getContext() + ":" + ClassUtils.getUserClass(this).getSimpleName();
+    }
+
+    /**
+     * Handle one event; throwing schedules a retry
+     */
+    void handle(IntegrationEvent event);
+}
@@ -0,0 +1,41 @@
+package com.xavier.smarteducationapi.common.application.event;
+
+import java.util.Set;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+
+/**
+ * A read model built from the domain event stream that can be rebuilt by replaying it.
+ *
+ * During a replay, events of the same aggregate are applied in {@code occurred_on} order
+ * by a single thread, while different aggregates are applied concurrently. Implementations
+ * must therefore be safe to call from several threads for distinct aggregates.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+public interface Projection {
+
+    /**
+     * Unique name, used as the checkpoint key
+     */
+    String getName();
+
+    /**
+     * Topics this projection consumes; an empty set replays every event
+     */
+    default Set<String> getEventTypes() {
+        return Set.of();
+    }
+
+    /**
+     * Discard the read model before a full rebuild
+     */
+    void reset();
+
+    /**
+     * Apply a single event to the read model
+     */
+    void apply(DomainEvent event);
+}
@@ -0,0 +1,30 @@
+package com.xavier.smarteducationapi.common.application.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean method as a handler for domain events published on one or more topics.
+ *
+ * The annotated method must declare exactly one parameter assignable to
+ * {@link com.xavier.smarteducationapi.common.domain.event.DomainEvent}. Topics are matched
+ * against {@code DomainEvent.topic()}; a trailing {@code *} segment (e.g. {@code tenant.*})
+ * matches every topic below that prefix, and a single {@code *} matches all topics.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-20
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TopicListener {
+
+    /**
+     * Topics or wildcard topics this handler subscribes to
+     */
+    String[] value();
+}
@@ -3,6 +3,11 @@
  * 
  * Contains application-level event handling infrastructure:
  * - DomainEventListener: Base listener for domain events
+ * - TopicListener: Annotation for topic-routed domain event handlers
+ * - Projection: Read model that can be rebuilt by replaying the event store
+ * - IntegrationEventHandler: Consumer of integration events targeted at a bounded context
+ * - DomainEventSubscriptions: Live subscriptions to stored domain events
+ * - EventStreamFilter: Topic and aggregate selection of a subscriber
  * - Event handlers and processors
  * 
  * This package is part of the common module's public API.
@@ -10,4 +15,5 @@
  * @author Xavier Nhagumbe
  */
 @org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("application-event")
 package com.xavier.smarteducationapi.common.application.event;
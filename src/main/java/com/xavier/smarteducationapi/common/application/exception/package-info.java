@@ -18,4 +18,5 @@
  * @author Xavier Nhagumbe
  */
 @org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("application-exception")
 package com.xavier.smarteducationapi.common.application.exception;
@@ -11,4 +11,5 @@
  * @author Xavier Nhagumbe
  */
 @org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("domain-entity")
 package com.xavier.smarteducationapi.common.domain.entity;
@@ -6,7 +6,9 @@ import java.util.Objects;
 
 /**
  * Abstract base class for domain events.
- * @version 1.0
+ * New events take their identifier and timestamp from the {@link EventIdentityProvider}
+ * held by {@link EventIdentity}.
+ * @version 1.1
  * @since 2025-09-15
  * @author Xavier Nhagumbe
  */
@@ -17,12 +19,23 @@ public abstract class AbstractDomainEvent implements DomainEvent {
     private final String aggregateType;
 
     protected AbstractDomainEvent(String aggregateId, String aggregateType) {
-        this.eventId = UUID.randomUUID();
-        this.occurredOn = Instant.now();
+        EventIdentityProvider identity = EventIdentity.provider();
+        this.eventId = identity.nextEventId();
+        this.occurredOn = identity.now();
         this.aggregateId = aggregateId;
         this.aggregateType = aggregateType;
     }
 
+    /**
+     * Restore an event with its original identity, e.g. when reading from the event store.
+     */
+    protected AbstractDomainEvent(EventMetadata metadata) {
+        this.eventId = metadata.eventId();
+        this.occurredOn = metadata.occurredOn();
+        this.aggregateId = metadata.aggregateId();
+        this.aggregateType = metadata.aggregateType();
+    }
+
     @Override
     public UUID getEventId() {
         return eventId;
@@ -0,0 +1,28 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+/**
+ * Incremental view of which aggregates changed, by event store position.
+ *
+ * Positions increase monotonically with every stored event. A position returned by
+ * {@link #changesAfter} is a cursor: asking for the changes after it later yields exactly the
+ * aggregates changed since, so synchronizing clients only ever read what changed.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public interface AggregateChangeFeed {
+
+    /**
+     * Find the aggregates of one type with events stored after a position
+     * @param aggregateType The aggregate type to report
+     * @param position The cursor returned by a previous call, or {@code 0} to start from the beginning
+     * @param maxEvents The maximum number of stored events to scan
+     * @return The changed aggregates and the cursor to continue from
+     */
+    AggregateChanges changesAfter(String aggregateType, long position, int maxEvents);
+
+    /**
+     * @return The position of the latest stored event, a cursor for following changes from now on
+     */
+    long latestPosition();
+}
@@ -0,0 +1,20 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.util.Set;
+
+/**
+ * Aggregates changed between two event store positions.
+ *
+ * {@code hasMore} is set when the scan stopped at its limit with further events available.
+ * {@code truncated} is set when events after the requested position are no longer held, e.g.
+ * because their partitions were archived; the caller should then reload the full state.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record AggregateChanges(Set<String> aggregateIds, long position, boolean hasMore, boolean truncated) {
+
+    public AggregateChanges {
+        aggregateIds = Set.copyOf(aggregateIds);
+    }
+}
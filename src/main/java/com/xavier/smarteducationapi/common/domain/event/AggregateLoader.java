@@ -0,0 +1,20 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.util.Optional;
+
+import com.xavier.smarteducationapi.common.domain.entity.AggregateRoot;
+
+/**
+ * Loads event-sourced aggregates from their latest snapshot plus the events recorded after it.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+public interface AggregateLoader {
+
+    /**
+     * Load an aggregate; empty when neither a snapshot nor events exist
+     */
+    <A extends AggregateRoot<?>> Optional<A> load(String aggregateId, AggregateSnapshotter<A> snapshotter);
+}
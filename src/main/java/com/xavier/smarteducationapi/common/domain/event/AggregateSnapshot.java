@@ -0,0 +1,29 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Serialized state of an aggregate after a known number of events.
+ *
+ * Loading an aggregate restores the latest snapshot and applies only the events
+ * stored after {@code lastEventId}.
+ * @version 1.0
+ * @since 2025-09-22
+ * @author Xavier Nhagumbe
+ */
+public record AggregateSnapshot(
+        String aggregateId,
+        String aggregateType,
+        long eventCount,
+        UUID lastEventId,
+        int schemaVersion,
+        byte[] state) {
+
+    public AggregateSnapshot {
+        Objects.requireNonNull(aggregateId, "aggregateId is required");
+        Objects.requireNonNull(aggregateType, "aggregateType is required");
+        Objects.requireNonNull(lastEventId, "lastEventId is required");
+        Objects.requireNonNull(state, "state is required");
+    }
+}
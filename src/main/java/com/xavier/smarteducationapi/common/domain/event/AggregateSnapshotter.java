@@ -0,0 +1,46 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import org.springframework.lang.Nullable;
+
+import com.xavier.smarteducationapi.common.domain.entity.AggregateRoot;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventReader;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventWriter;
+
+/**
+ * Aggregate-specific part of snapshot-based loading: which fields make up the aggregate's
+ * state, how to restore it from them and how to apply a stored event to it. The
+ * {@link AggregateLoader} chooses how the fields are encoded.
+ *
+ * @param <A> the aggregate type
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+public interface AggregateSnapshotter<A extends AggregateRoot<?>> {
+
+    /**
+     * Aggregate type as stored in {@code domain_events.aggregate_type}
+     */
+    String getAggregateType();
+
+    /**
+     * Version of the state layout written by {@link #snapshot}; snapshots written with another
+     * version are ignored and the aggregate is replayed from its events
+     */
+    int getSchemaVersion();
+
+    /**
+     * Write the state fields of an aggregate, always in the same order
+     */
+    void snapshot(A aggregate, EventWriter out);
+
+    /**
+     * Restore an aggregate from state fields written with the current schema version
+     */
+    A restore(EventReader in);
+
+    /**
+     * Apply a stored event; {@code aggregate} is {@code null} for the first event of a history
+     */
+    A apply(@Nullable A aggregate, DomainEvent event);
+}
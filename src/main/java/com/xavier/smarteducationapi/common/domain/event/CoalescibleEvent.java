@@ -0,0 +1,23 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.util.Optional;
+
+/**
+ * Domain event whose intermediate states may be folded into a later event of the same
+ * aggregate and topic.
+ *
+ * Only the net change survives coalescing, so an event should implement this when consumers care
+ * about the resulting state rather than every step towards it.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public interface CoalescibleEvent extends DomainEvent {
+
+    /**
+     * Merge a later event of the same aggregate and topic into this one
+     * @param later The event raised after this one
+     * @return The single event replacing both, or empty if they cannot be merged
+     */
+    Optional<DomainEvent> coalesceWith(DomainEvent later);
+}
@@ -0,0 +1,68 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Folds superseded events of one unit of work into the events that replace them.
+ *
+ * Events are grouped by aggregate and topic. When the pending event of a group is a
+ * {@link CoalescibleEvent} that accepts the next event of the group, both are replaced by the
+ * merged event, placed where the later one was raised so that it still follows every event it
+ * depends on. Events that do not coalesce keep their relative order.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public final class EventCoalescer {
+
+    private EventCoalescer() {
+    }
+
+    /**
+     * Coalesce a sequence of events in the order they were raised
+     * @param events The events to coalesce
+     * @return The remaining events, in order
+     */
+    public static List<DomainEvent> coalesce(List<? extends DomainEvent> events) {
+        if (events.size() < 2) {
+            return List.copyOf(events);
+        }
+        List<DomainEvent> slots = new ArrayList<>(events.size());
+        Map<Key, Integer> pending = new HashMap<>();
+        int removed = 0;
+
+        for (DomainEvent event : events) {
+            Key key = new Key(event.getAggregateType(), event.getAggregateId(), event.topic());
+            Integer slot = pending.get(key);
+            DomainEvent next = event;
+            if (slot != null && slots.get(slot) instanceof CoalescibleEvent previous) {
+                Optional<DomainEvent> merged = previous.coalesceWith(event);
+                if (merged.isPresent()) {
+                    slots.set(slot, null);
+                    removed++;
+                    next = merged.get();
+                }
+            }
+            pending.put(key, slots.size());
+            slots.add(next);
+        }
+
+        if (removed == 0) {
+            return slots;
+        }
+        List<DomainEvent> result = new ArrayList<>(slots.size() - removed);
+        for (DomainEvent event : slots) {
+            if (event != null) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    private record Key(String aggregateType, String aggregateId, String topic) {
+    }
+}
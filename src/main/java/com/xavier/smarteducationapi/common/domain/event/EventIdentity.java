@@ -0,0 +1,39 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.util.Objects;
+
+/**
+ * Holds the {@link EventIdentityProvider} used by {@link AbstractDomainEvent}.
+ *
+ * Events are created by aggregates, outside the reach of dependency injection, so the provider
+ * is process-wide. It defaults to a {@link MonotonicEventIdentityProvider} and is replaced at
+ * startup when the application is configured otherwise.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public final class EventIdentity {
+
+    private static volatile EventIdentityProvider provider = new MonotonicEventIdentityProvider();
+
+    private EventIdentity() {
+    }
+
+    /**
+     * @return The provider new events take their identity from
+     */
+    public static EventIdentityProvider provider() {
+        return provider;
+    }
+
+    /**
+     * Replace the provider for events created from now on
+     * @param eventIdentityProvider The provider to use
+     * @return The provider that was replaced
+     */
+    public static EventIdentityProvider use(EventIdentityProvider eventIdentityProvider) {
+        EventIdentityProvider previous = provider;
+        provider = Objects.requireNonNull(eventIdentityProvider, "eventIdentityProvider is required");
+        return previous;
+    }
+}
@@ -0,0 +1,44 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Source of the identifier and timestamp given to every new domain event.
+ *
+ * The active provider is held by {@link EventIdentity}; events restored from the event store
+ * keep their original identity and never consult it.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public interface EventIdentityProvider {
+
+    /**
+     * @return A new, unique event identifier
+     */
+    UUID nextEventId();
+
+    /**
+     * @return The time at which an event raised now occurred
+     */
+    Instant now();
+
+    /**
+     * Random (version 4) identifiers and the precise system clock, as events used before
+     * {@link MonotonicEventIdentityProvider} existed
+     */
+    static EventIdentityProvider random() {
+        return new EventIdentityProvider() {
+            @Override
+            public UUID nextEventId() {
+                return UUID.randomUUID();
+            }
+
+            @Override
+            public Instant now() {
+                return Instant.now();
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Identity and origin of a domain event, used to restore stored events
+ * without generating new identifiers or timestamps.
+ * @version 1.0
+ * @since 2025-09-21
+ * @author Xavier Nhagumbe
+ */
+public record EventMetadata(UUID eventId, Instant occurredOn, String aggregateId, String aggregateType) {
+
+    public EventMetadata {
+        Objects.requireNonNull(eventId, "eventId is required");
+        Objects.requireNonNull(occurredOn, "occurredOn is required");
+    }
+
+    /**
+     * Capture the metadata of an existing event
+     */
+    public static EventMetadata of(DomainEvent event) {
+        return new EventMetadata(event.getEventId(), event.occurredOn(),
+                event.getAggregateId(), event.getAggregateType());
+    }
+}
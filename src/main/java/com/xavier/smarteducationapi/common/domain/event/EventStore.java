@@ -2,6 +2,7 @@ package com.xavier.smarteducationapi.common.domain.event;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -21,6 +22,12 @@ public interface EventStore {
      */
     List<DomainEvent> getEventsForAggregate(String aggregateId, String aggregateType);
 
+    /**
+     * Retrieve events for an aggregate stored after the given event, in storage order
+     * @return The events, or empty when the given event is not stored for the aggregate
+     */
+    Optional<List<DomainEvent>> getEventsForAggregateAfter(String aggregateId, String aggregateType, UUID eventId);
+
     /**
      * Retrieve events by time range
      */
@@ -0,0 +1,120 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Event identity without {@code SecureRandom} or a clock read per event.
+ *
+ * Identifiers are time-ordered UUIDs in the version 7 layout: 48 bits of epoch milliseconds,
+ * a 12-bit per-thread counter and 62 bits from {@link ThreadLocalRandom}. Timestamps come from
+ * a coarse clock: one daemon timer, shared by every provider on the system clock, stores the wall
+ * clock in a volatile field every millisecond, and events only read that field. One
+ * {@link Instant} is cached per tick, and the tick never moves backwards, even when the wall
+ * clock does. Under load the timer may run late, so timestamps can trail the wall clock by a few
+ * milliseconds.
+ *
+ * Within the JVM this gives the following ordering guarantees:
+ * - identifiers generated by one thread are strictly increasing;
+ * - an event created after another, on any thread, never has an earlier {@code occurredOn},
+ *   and its identifier is greater whenever the two fall in different milliseconds.
+ *
+ * When a thread exhausts its counter within one millisecond, its identifiers borrow the next
+ * millisecond rather than wrap.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public final class MonotonicEventIdentityProvider implements EventIdentityProvider {
+    private static final long VERSION_7 = 0x7000L;
+    private static final int MAX_COUNTER = 0xFFF;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_IETF = 0x8000_0000_0000_0000L;
+
+    private final LongSupplier wallClock;
+    private final AtomicReference<Tick> tick;
+    private final ThreadLocal<Sequence> sequences = ThreadLocal.withInitial(Sequence::new);
+
+    public MonotonicEventIdentityProvider() {
+        this(CoarseClock::millis);
+    }
+
+    /**
+     * @param wallClock Source of epoch milliseconds, which may jump backwards; read on every event,
+     *        so it must be cheap
+     */
+    public MonotonicEventIdentityProvider(LongSupplier wallClock) {
+        this.wallClock = wallClock;
+        long millis = wallClock.getAsLong();
+        this.tick = new AtomicReference<>(new Tick(millis, Instant.ofEpochMilli(millis)));
+    }
+
+    @Override
+    public UUID nextEventId() {
+        long millis = tick().millis();
+        Sequence sequence = sequences.get();
+        if (millis > sequence.millis) {
+            sequence.millis = millis;
+            sequence.counter = 0;
+        } else if (++sequence.counter > MAX_COUNTER) {
+            sequence.millis++;
+            sequence.counter = 0;
+        }
+        long mostSigBits = sequence.millis << 16 | VERSION_7 | sequence.counter;
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & VARIANT_MASK | VARIANT_IETF;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public Instant now() {
+        return tick().instant();
+    }
+
+    /**
+     * Advance the shared tick when the coarse clock has moved on. Threads only compete for it
+     * once per millisecond; otherwise the cached instant is returned as is.
+     */
+    private Tick tick() {
+        long millis = wallClock.getAsLong();
+        Tick current = tick.get();
+        while (millis > current.millis()) {
+            Tick next = new Tick(millis, Instant.ofEpochMilli(millis));
+            if (tick.compareAndSet(current, next)) {
+                return next;
+            }
+            current = tick.get();
+        }
+        return current;
+    }
+
+    private record Tick(long millis, Instant instant) {
+    }
+
+    /**
+     * Wall clock milliseconds, refreshed by a daemon timer started on first use
+     */
+    private static final class CoarseClock {
+        private static volatile long millis = System.currentTimeMillis();
+
+        static {
+            ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable ->
+                    Thread.ofPlatform().name("event-identity-clock").daemon().unstarted(runnable));
+            timer.scheduleAtFixedRate(() -> millis = System.currentTimeMillis(), 1, 1, TimeUnit.MILLISECONDS);
+        }
+
+        static long millis() {
+            return millis;
+        }
+    }
+
+    private static final class Sequence {
+        private long millis = -1;
+        private int counter;
+    }
+}
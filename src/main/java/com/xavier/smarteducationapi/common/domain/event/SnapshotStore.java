@@ -0,0 +1,21 @@
+package com.xavier.smarteducationapi.common.domain.event;
+
+import java.util.Optional;
+
+/**
+ * Interface for aggregate snapshot storage.
+ * @version 1.0
+ * @since 2025-09-22
+ * @author Xavier Nhagumbe
+ */
+public interface SnapshotStore {
+    /**
+     * Store a snapshot, keeping older ones only as a fallback
+     */
+    void save(AggregateSnapshot snapshot);
+
+    /**
+     * Latest snapshot of an aggregate, if any
+     */
+    Optional<AggregateSnapshot> findLatest(String aggregateId, String aggregateType);
+}
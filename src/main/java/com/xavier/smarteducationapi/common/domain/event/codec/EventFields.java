@@ -0,0 +1,20 @@
+package com.xavier.smarteducationapi.common.domain.event.codec;
+
+import java.util.Map;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+
+/**
+ * Payload fields of a domain event as plain values, as written by its {@link EventSerializer}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface EventFields {
+
+    /**
+     * Payload fields of an event, in write order
+     */
+    Map<String, Object> fields(DomainEvent event);
+}
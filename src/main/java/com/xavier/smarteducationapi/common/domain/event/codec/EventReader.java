@@ -0,0 +1,23 @@
+package com.xavier.smarteducationapi.common.domain.event.codec;
+
+import java.time.Instant;
+
+/**
+ * Source for the payload fields of a domain event, read in the order they were written.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+public interface EventReader {
+
+    String readString(String name);
+
+    Integer readInteger(String name);
+
+    Long readLong(String name);
+
+    Boolean readBoolean(String name);
+
+    Instant readInstant(String name);
+}
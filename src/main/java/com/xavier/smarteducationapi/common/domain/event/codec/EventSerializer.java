@@ -0,0 +1,81 @@
+package com.xavier.smarteducationapi.common.domain.event.codec;
+
+import java.util.function.BiConsumer;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+
+/**
+ * Writes and reads the payload of one domain event type.
+ *
+ * Serializers are registered as Spring beans by the module that owns the event.
+ * {@link #read} receives the schema version the payload was written with; when an
+ * event evolves, bump {@link DomainEvent#getEventVersion()} and upcast older
+ * payloads in {@code read} by branching on that version.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+public interface EventSerializer<E extends DomainEvent> {
+
+    /**
+     * Stable name identifying the event type in stored payloads
+     */
+    String getTypeName();
+
+    /**
+     * Event class handled by this serializer
+     */
+    Class<E> getEventClass();
+
+    /**
+     * Write the payload fields of an event
+     */
+    void write(E event, EventWriter out);
+
+    /**
+     * Read an event written with the given schema version
+     */
+    E read(EventReader in, EventMetadata metadata, int version);
+
+    /**
+     * Reads an event payload, upcasting from the stored schema version when needed.
+     */
+    @FunctionalInterface
+    interface PayloadReader<E> {
+        E read(EventReader in, EventMetadata metadata, int version);
+    }
+
+    /**
+     * Create a serializer from a writer and a reader function
+     */
+    static <E extends DomainEvent> EventSerializer<E> of(
+            String typeName,
+            Class<E> eventClass,
+            BiConsumer<E, EventWriter> writer,
+            PayloadReader<E> reader) {
+
+        return new EventSerializer<>() {
+            @Override
+            public String getTypeName() {
+                return typeName;
+            }
+
+            @Override
+            public Class<E> getEventClass() {
+                return eventClass;
+            }
+
+            @Override
+            public void write(E event, EventWriter out) {
+                writer.accept(event, out);
+            }
+
+            @Override
+            public E read(EventReader in, EventMetadata metadata, int version) {
+                return reader.read(in, metadata, version);
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.xavier.smarteducationapi.common.domain.event.codec;
+
+import java.time.Instant;
+
+/**
+ * Sink for the payload fields of a domain event.
+ *
+ * Field names are used by self-describing formats such as JSON; positional
+ * formats such as the binary codec ignore them and rely on write order, so
+ * serializers must always write fields in the same order.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+public interface EventWriter {
+
+    EventWriter writeString(String name, String value);
+
+    EventWriter writeInteger(String name, Integer value);
+
+    EventWriter writeLong(String name, Long value);
+
+    EventWriter writeBoolean(String name, Boolean value);
+
+    EventWriter writeInstant(String name, Instant value);
+}
@@ -0,0 +1,16 @@
+/**
+ * Domain event codec SPI package.
+ * 
+ * Contains the ports through which modules describe the payload of their events and
+ * snapshots, independently of the stored format:
+ * - EventSerializer: Per-event-type field writer/reader with schema-version upcasting
+ * - EventWriter / EventReader: Field sinks and sources implemented by each format
+ * - EventFields: Payload fields of an event as plain values
+ * 
+ * This package is part of the common module's public API.
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("domain-event-codec")
+package com.xavier.smarteducationapi.common.domain.event.codec;
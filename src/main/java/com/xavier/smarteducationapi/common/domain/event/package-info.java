@@ -7,10 +7,15 @@
  * - Event publisher interfaces
  * - Integration events for cross-module communication
  * - Event store interface
+ * - Aggregate snapshots and the snapshot store interface
+ * - Coalescing of events superseded within one unit of work
+ * - Pluggable generation of event identifiers and timestamps
+ * - Change feed of aggregates by event store position
  * 
  * This package is part of the common module's public API.
  * 
  * @author Xavier Nhagumbe
  */
 @org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("domain-event")
 package com.xavier.smarteducationapi.common.domain.event;
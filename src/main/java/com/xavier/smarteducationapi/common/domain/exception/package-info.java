@@ -21,4 +21,5 @@
  * @author Xavier Nhagumbe
  */
 @org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("domain-exception")
 package com.xavier.smarteducationapi.common.domain.exception;
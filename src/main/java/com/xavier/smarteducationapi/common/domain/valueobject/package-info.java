@@ -14,4 +14,5 @@
  * @author Xavier Nhagumbe
  */
 @org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("domain-valueobject")
 package com.xavier.smarteducationapi.common.domain.valueobject;
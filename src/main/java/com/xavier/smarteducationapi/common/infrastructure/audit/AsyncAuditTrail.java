@@ -0,0 +1,316 @@
+package com.xavier.smarteducationapi.common.infrastructure.audit;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditRecord;
+import com.xavier.smarteducationapi.common.application.audit.AuditTrail;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link AuditTrail} writing to {@code audit.audit_log} in batches, off the calling thread.
+ *
+ * Recording only captures the caller (user, address and user agent) and puts the entry on a
+ * bounded queue, after the surrounding transaction commits when there is one; rolled back changes
+ * are never audited. The queue is written by {@link JdbcAuditLogWriter} when it holds
+ * {@code batch-size} entries, on a virtual thread, and every {@code flush-interval-ms} otherwise.
+ *
+ * <ul>
+ * <li>A batch that fails to write is kept and retried before newer entries on the next flush.</li>
+ * <li>A batch refused for its data, such as a value the table does not accept, is not retried as a
+ * whole: it is split in halves until the refused entries are isolated, and those are logged, counted
+ * and dropped, so one bad entry cannot hold back the rest of the audit log.</li>
+ * <li>When the queue is full, recording waits up to {@code offer-timeout-ms} for room and then drops
+ * the entry, so an unavailable database slows use cases down by a bounded amount instead of
+ * blocking them. Dropped entries are logged and counted.</li>
+ * <li>On shutdown the queue is drained before the data source closes; entries recorded afterwards
+ * are written synchronously.</li>
+ * </ul>
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class AsyncAuditTrail implements AuditTrail, MeterBinder {
+
+    private final JdbcAuditLogWriter writer;
+    private final Clock clock;
+    private final Executor flusher;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+
+    private final BlockingQueue<AuditLogEntry> queue;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Object flushLock = new Object();
+    private List<AuditLogEntry> failed = List.of();
+    private volatile boolean closed;
+
+    @Autowired
+    public AsyncAuditTrail(
+            JdbcAuditLogWriter writer,
+            @Value("${spring.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${spring.audit.batch-size:500}") int batchSize,
+            @Value("${spring.audit.offer-timeout-ms:100}") long offerTimeoutMillis) {
+        this(writer, Clock.systemUTC(), Executors.newVirtualThreadPerTaskExecutor(), queueCapacity, batchSize,
+                offerTimeoutMillis);
+    }
+
+    public AsyncAuditTrail(JdbcAuditLogWriter writer, Clock clock, Executor flusher, int queueCapacity,
+                           int batchSize, long offerTimeoutMillis) {
+        this.writer = writer;
+        this.clock = clock;
+        this.flusher = flusher;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public void record(AuditRecord record) {
+        if (record.isEmpty()) {
+            return;
+        }
+        AuditLogEntry entry = capture(record);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    /**
+     * Write queued entries, oldest first
+     *
+     * @return number of entries written
+     */
+    @Scheduled(fixedDelayString = "${spring.audit.flush-interval-ms:1000}")
+    public int flush() {
+        synchronized (flushLock) {
+            int count = 0;
+            while (true) {
+                List<AuditLogEntry> batch = failed;
+                if (batch.isEmpty()) {
+                    batch = new ArrayList<>(Math.min(queue.size(), batchSize));
+                    queue.drainTo(batch, batchSize);
+                    if (batch.isEmpty()) {
+                        return count;
+                    }
+                }
+                failed = List.of();
+                try {
+                    count += write(batch);
+                } catch (DataAccessException ex) {
+                    log.warn("Could not write {} audit log entries, {} more queued: {}",
+                            failed.size(), queue.size(), ex.getMessage());
+                    return count;
+                }
+            }
+        }
+    }
+
+    /**
+     * Write a batch one statement at a time, splitting statements refused for their data until the
+     * refused entries are isolated and dropped. On any other failure the unwritten entries are kept
+     * in {@code failed} and the exception is rethrown.
+     *
+     * @return number of entries written
+     */
+    private int write(List<AuditLogEntry> batch) {
+        Deque<List<AuditLogEntry>> parts = new ArrayDeque<>();
+        for (int from = 0; from < batch.size(); from += JdbcAuditLogWriter.ROWS_PER_STATEMENT) {
+            parts.addLast(batch.subList(from, Math.min(from + JdbcAuditLogWriter.ROWS_PER_STATEMENT, batch.size())));
+        }
+        int count = 0;
+        while (!parts.isEmpty()) {
+            List<AuditLogEntry> part = parts.peekFirst();
+            try {
+                writer.writeAll(part);
+                parts.removeFirst();
+                count += part.size();
+                written.addAndGet(part.size());
+            } catch (DataIntegrityViolationException ex) {
+                parts.removeFirst();
+                if (part.size() == 1) {
+                    reject(part.get(0), ex);
+                } else {
+                    parts.addFirst(part.subList(part.size() / 2, part.size()));
+                    parts.addFirst(part.subList(0, part.size() / 2));
+                }
+            } catch (DataAccessException ex) {
+                List<AuditLogEntry> unwritten = new ArrayList<>();
+                parts.forEach(unwritten::addAll);
+                failed = unwritten;
+                throw ex;
+            }
+        }
+        return count;
+    }
+
+    private void reject(AuditLogEntry entry, DataIntegrityViolationException ex) {
+        rejected.incrementAndGet();
+        log.error("Audit log refused {} of {} {}, dropped it: {}", entry.record().action(),
+                entry.record().entityType(), entry.record().entityId(), ex.getMostSpecificCause().getMessage());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        flush();
+        int remaining = pending();
+        if (remaining > 0) {
+            log.error("{} audit log entries could not be written before shutdown", remaining);
+        }
+        if (flusher instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("audit.trail.pending", this, AsyncAuditTrail::getPendingEntries)
+                .description("Audit log entries waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("audit.trail.written", this, AsyncAuditTrail::getWrittenEntries)
+                .description("Audit log entries written")
+                .register(registry);
+        FunctionCounter.builder("audit.trail.dropped", this, AsyncAuditTrail::getDroppedEntries)
+                .description("Audit log entries dropped because the queue was full")
+                .register(registry);
+        FunctionCounter.builder("audit.trail.rejected", this, AsyncAuditTrail::getRejectedEntries)
+                .description("Audit log entries dropped because the database refused them")
+                .register(registry);
+    }
+
+    public int getPendingEntries() {
+        return pending();
+    }
+
+    public long getWrittenEntries() {
+        return written.get();
+    }
+
+    public long getDroppedEntries() {
+        return dropped.get();
+    }
+
+    public long getRejectedEntries() {
+        return rejected.get();
+    }
+
+    private int pending() {
+        synchronized (flushLock) {
+            return queue.size() + failed.size();
+        }
+    }
+
+    private void enqueue(AuditLogEntry entry) {
+        if (closed) {
+            if (!queue.offer(entry)) {
+                dropped.incrementAndGet();
+            }
+            flush();
+            return;
+        }
+        if (!queue.offer(entry)) {
+            scheduleFlush();
+            if (!offer(entry)) {
+                dropped.incrementAndGet();
+                log.error("Audit log queue full, dropped {} of {} {}",
+                        entry.record().action(), entry.record().entityType(), entry.record().entityId());
+                return;
+            }
+        }
+        if (queue.size() >= batchSize) {
+            scheduleFlush();
+        }
+    }
+
+    private boolean offer(AuditLogEntry entry) {
+        try {
+            return queue.offer(entry, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        flusher.execute(() -> {
+            try {
+                flush();
+            } finally {
+                flushScheduled.set(false);
+            }
+        });
+    }
+
+    private AuditLogEntry capture(AuditRecord record) {
+        String ipAddress = null;
+        String userAgent = null;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            ipAddress = request.getRemoteAddr();
+            userAgent = request.getHeader("User-Agent");
+        }
+        return new AuditLogEntry(record, currentUserId(), ipAddress, userAgent, clock.instant());
+    }
+
+    @Nullable
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.xavier.smarteducationapi.common.infrastructure.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditRecord;
+
+/**
+ * An {@link AuditRecord} with the caller and time it was recorded at, waiting to be written.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record AuditLogEntry(AuditRecord record, @Nullable UUID userId, @Nullable String ipAddress,
+                            @Nullable String userAgent, Instant createdAt) {
+}
@@ -0,0 +1,121 @@
+package com.xavier.smarteducationapi.common.infrastructure.audit;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.MonthlyPartition;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the monthly partitions of {@code audit.audit_log}.
+ *
+ * Partitions for the current month and the next {@code months-ahead} months are created on startup
+ * and by a daily job; there is no default partition, so entries for a month without one cannot be
+ * written and stay queued in the {@link AsyncAuditTrail}. Months older than
+ * {@code retention-months} are dropped as whole partitions, never row by row; a retention of
+ * {@code 0} keeps every month.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class AuditLogPartitionManager {
+
+    public static final String TABLE = "audit_log";
+
+    private static final String CREATE_PARTITIONS = "SELECT audit.create_monthly_partitions(?, ?, ?)";
+
+    private static final String SELECT_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = 'audit' AND c.relkind = 'r' AND c.relname ~ ?
+            ORDER BY c.relname
+            """;
+
+    private static final String DROP_PARTITION = "DROP TABLE IF EXISTS audit.%s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    @Autowired
+    public AuditLogPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.audit.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${spring.audit.partitioning.retention-months:84}") int retentionMonths) {
+        this(jdbcTemplate, Clock.systemDefaultZone(), monthsAhead, retentionMonths);
+    }
+
+    public AuditLogPartitionManager(JdbcTemplate jdbcTemplate, Clock clock, int monthsAhead, int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Create upcoming partitions and drop the ones past the retention period
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${spring.audit.partitioning.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        try {
+            int created = ensureFuturePartitions();
+            List<MonthlyPartition> dropped = dropExpiredPartitions();
+            if (created > 0 || !dropped.isEmpty()) {
+                log.info("Audit log partitions: {} created, {} dropped", created, dropped.size());
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Audit log partition maintenance failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Create missing partitions from the current month up to {@code months-ahead} months ahead
+     *
+     * @return number of partitions created
+     */
+    public int ensureFuturePartitions() {
+        YearMonth current = YearMonth.now(clock);
+        Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class,
+                TABLE, current.atDay(1), current.plusMonths(monthsAhead).atDay(1));
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Drop the partitions of months before the retention period
+     *
+     * @return partitions dropped
+     */
+    public List<MonthlyPartition> dropExpiredPartitions() {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+        YearMonth oldestRetained = YearMonth.now(clock).minusMonths(retentionMonths - 1L);
+        List<MonthlyPartition> expired = new ArrayList<>();
+        jdbcTemplate.query(SELECT_PARTITIONS, (RowCallbackHandler) rs -> MonthlyPartition.parse(rs.getString("relname"))
+                .filter(partition -> partition.table().equals(TABLE) && partition.month().isBefore(oldestRetained))
+                .ifPresent(expired::add), MonthlyPartition.namePattern(TABLE));
+        for (MonthlyPartition partition : expired) {
+            jdbcTemplate.execute(DROP_PARTITION.formatted(partition.name()));
+        }
+        return expired;
+    }
+}
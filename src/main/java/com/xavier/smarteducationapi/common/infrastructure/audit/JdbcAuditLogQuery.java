@@ -0,0 +1,119 @@
+package com.xavier.smarteducationapi.common.infrastructure.audit;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.json.JsonParser;
+import org.springframework.boot.json.JsonParserFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditLogCriteria;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogCursor;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogPage;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogQuery;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogView;
+
+/**
+ * {@link AuditLogQuery} over the monthly partitions of {@code audit.audit_log}.
+ *
+ * Pages are read with a keyset condition on {@code (created_at, id)} and ordered by
+ * {@code created_at DESC, id DESC}, the trailing columns of every audit log index, so each page
+ * is an index range scan that stops after {@code limit + 1} rows. The time range and the cursor
+ * also bound {@code created_at} with plain comparisons, which lets the planner skip the partitions
+ * outside of them.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcAuditLogQuery implements AuditLogQuery {
+
+    private static final String SELECT = """
+            SELECT id, tenant_id, user_id, entity_type, entity_id, action, old_values, new_values,
+                   ip_address, user_agent, created_at
+            FROM audit.audit_log
+            WHERE TRUE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonParser parser = JsonParserFactory.getJsonParser();
+
+    public JdbcAuditLogQuery(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public AuditLogPage find(AuditLogCriteria criteria, @Nullable AuditLogCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> parameters = new ArrayList<>();
+        if (criteria.tenantId() != null) {
+            sql.append("  AND tenant_id = ?\n");
+            parameters.add(criteria.tenantId());
+        }
+        if (criteria.userId() != null) {
+            sql.append("  AND user_id = ?\n");
+            parameters.add(criteria.userId());
+        }
+        if (criteria.entityType() != null) {
+            sql.append("  AND entity_type = ?\n");
+            parameters.add(criteria.entityType());
+        }
+        if (criteria.entityId() != null) {
+            sql.append("  AND entity_id = ?\n");
+            parameters.add(criteria.entityId());
+        }
+        if (criteria.from() != null) {
+            sql.append("  AND created_at >= ?\n");
+            parameters.add(Timestamp.from(criteria.from()));
+        }
+        if (criteria.to() != null) {
+            sql.append("  AND created_at < ?\n");
+            parameters.add(Timestamp.from(criteria.to()));
+        }
+        if (after != null) {
+            Timestamp createdAt = Timestamp.from(after.createdAt());
+            sql.append("  AND created_at <= ? AND (created_at, id) < (?, ?)\n");
+            parameters.add(createdAt);
+            parameters.add(createdAt);
+            parameters.add(after.id());
+        }
+        sql.append("ORDER BY created_at DESC, id DESC\nLIMIT ?");
+        parameters.add(limit + 1);
+
+        List<AuditLogView> entries = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> map(rs),
+                parameters.toArray());
+        if (entries.size() <= limit) {
+            return new AuditLogPage(entries, null);
+        }
+        AuditLogView last = entries.get(limit - 1);
+        return new AuditLogPage(List.copyOf(entries.subList(0, limit)),
+                new AuditLogCursor(last.createdAt(), last.id()).encode());
+    }
+
+    private AuditLogView map(ResultSet rs) throws SQLException {
+        return new AuditLogView(
+                rs.getObject("id", UUID.class),
+                rs.getObject("tenant_id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("entity_type"),
+                rs.getString("entity_id"),
+                rs.getString("action"),
+                values(rs.getString("old_values")),
+                values(rs.getString("new_values")),
+                rs.getString("ip_address"),
+                rs.getString("user_agent"),
+                rs.getTimestamp("created_at").toInstant());
+    }
+
+    private Map<String, Object> values(@Nullable String json) {
+        return json != null ? parser.parseMap(json) : Map.of();
+    }
+}
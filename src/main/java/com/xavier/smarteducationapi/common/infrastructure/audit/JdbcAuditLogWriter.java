@@ -0,0 +1,111 @@
+package com.xavier.smarteducationapi.common.infrastructure.audit;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.json.JsonWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes {@link AuditLogEntry} batches to {@code audit.audit_log}.
+ *
+ * Each statement inserts up to {@value #ROWS_PER_STATEMENT} rows through a multi-row
+ * {@code VALUES} list, so a batch costs a few round trips and one index update pass per statement
+ * instead of one per row. Changed fields are stored as JSON objects; an empty side is stored as
+ * {@code NULL}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcAuditLogWriter {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT = """
+            INSERT INTO audit.audit_log (tenant_id, user_id, entity_type, entity_id, action,
+                                         old_values, new_values, ip_address, user_agent, created_at)
+            VALUES
+            """;
+
+    private static final String ROW = "(?, ?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), ?, ?, ?)";
+
+    private static final int ENTITY_TYPE_LENGTH = 100;
+    private static final int ENTITY_ID_LENGTH = 100;
+    private static final int ACTION_LENGTH = 50;
+    private static final int IP_ADDRESS_LENGTH = 45;
+
+    private static final JsonWriter<Map<String, Object>> WRITER = JsonWriter.standard();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String fullStatement = statement(ROWS_PER_STATEMENT);
+
+    public JdbcAuditLogWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert the entries in as few statements as possible
+     */
+    public void writeAll(List<AuditLogEntry> entries) {
+        for (int from = 0; from < entries.size(); from += ROWS_PER_STATEMENT) {
+            List<AuditLogEntry> chunk = entries.subList(from, Math.min(from + ROWS_PER_STATEMENT, entries.size()));
+            String sql = chunk.size() == ROWS_PER_STATEMENT ? fullStatement : statement(chunk.size());
+            jdbcTemplate.update(sql, parameters(chunk));
+        }
+    }
+
+    private static String statement(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + rows * (ROW.length() + 2)).append(INSERT);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ",\n").append(ROW);
+        }
+        return sql.toString();
+    }
+
+    private static Object[] parameters(Collection<AuditLogEntry> entries) {
+        List<Object> parameters = new ArrayList<>(entries.size() * 10);
+        for (AuditLogEntry entry : entries) {
+            parameters.add(uuidOrNull(entry.record().tenantId()));
+            parameters.add(entry.userId());
+            parameters.add(truncate(entry.record().entityType(), ENTITY_TYPE_LENGTH));
+            parameters.add(truncate(entry.record().entityId(), ENTITY_ID_LENGTH));
+            parameters.add(truncate(entry.record().action(), ACTION_LENGTH));
+            parameters.add(json(entry.record().oldValues()));
+            parameters.add(json(entry.record().newValues()));
+            parameters.add(truncate(entry.ipAddress(), IP_ADDRESS_LENGTH));
+            parameters.add(entry.userAgent());
+            parameters.add(Timestamp.from(entry.createdAt()));
+        }
+        return parameters.toArray();
+    }
+
+    @Nullable
+    static String json(Map<String, Object> values) {
+        return values.isEmpty() ? null : WRITER.writeToString(values);
+    }
+
+    @Nullable
+    private static UUID uuidOrNull(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static String truncate(@Nullable String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+}
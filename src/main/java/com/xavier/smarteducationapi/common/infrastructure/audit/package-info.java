@@ -0,0 +1,14 @@
+/**
+ * Audit log infrastructure.
+ * 
+ * Contains the storage of audit.audit_log:
+ * - AsyncAuditTrail: Bounded in-memory queue flushed in batches, drained on shutdown
+ * - JdbcAuditLogWriter: Multi-row inserts of queued entries
+ * - AuditLogEntry: A recorded change with its caller and time
+ * - JdbcAuditLogQuery: Keyset-paginated reads, pruned to the partitions of the time range
+ * - AuditLogPartitionManager: Monthly partitions created ahead and dropped after retention
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+package com.xavier.smarteducationapi.common.infrastructure.audit;
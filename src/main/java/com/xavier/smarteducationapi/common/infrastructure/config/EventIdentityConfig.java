@@ -0,0 +1,41 @@
+package com.xavier.smarteducationapi.common.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.smarteducationapi.common.domain.event.EventIdentity;
+import com.xavier.smarteducationapi.common.domain.event.EventIdentityProvider;
+import com.xavier.smarteducationapi.common.domain.event.MonotonicEventIdentityProvider;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Selects how new domain events are identified, from {@code spring.event-store.identity.generator}:
+ * {@code monotonic} (time-ordered identifiers and a coarse clock) or {@code random}
+ * (random UUIDs and the precise system clock).
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Configuration
+@Slf4j
+public class EventIdentityConfig {
+    private final String generator;
+
+    public EventIdentityConfig(@Value("${spring.event-store.identity.generator:monotonic}") String generator) {
+        this.generator = generator;
+    }
+
+    @PostConstruct
+    void configureEventIdentity() {
+        EventIdentityProvider provider = switch (generator) {
+            case "monotonic" -> new MonotonicEventIdentityProvider();
+            case "random" -> EventIdentityProvider.random();
+            default -> throw new IllegalStateException("Unknown event identity generator: " + generator);
+        };
+        EventIdentity.use(provider);
+        log.info("Domain events use the {} identity generator", generator);
+    }
+}
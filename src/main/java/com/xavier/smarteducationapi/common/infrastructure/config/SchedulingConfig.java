@@ -0,0 +1,16 @@
+package com.xavier.smarteducationapi.common.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs such as event partition management and archival.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,11 @@
+/**
+ * Infrastructure configuration package.
+ * 
+ * Contains Spring configuration shared by all modules:
+ * - SchedulingConfig: Enables scheduled maintenance jobs
+ * - EventIdentityConfig: Selects the generator of domain event identifiers and timestamps
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+package com.xavier.smarteducationapi.common.infrastructure.config;
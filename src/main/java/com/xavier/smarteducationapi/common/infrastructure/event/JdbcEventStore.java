@@ -0,0 +1,197 @@
+package com.xavier.smarteducationapi.common.infrastructure.event;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventStore;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.DomainEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.EventCodecRegistry;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.JsonEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventSegmentStore;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.SegmentRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JDBC implementation of the event store on {@code event_store.domain_events}.
+ *
+ * New events are written with the codec selected by {@code spring.event-store.codec}
+ * ({@code binary} by default, {@code json} for debugging). JSON payloads go to the
+ * {@code event_data} JSONB column, other formats to {@code payload}; rows are decoded
+ * with the codec recorded in {@code payload_format}, so both can coexist.
+ *
+ * The table is range-partitioned by month on {@code occurred_on}; partitions are
+ * maintained by {@link com.xavier.smarteducationapi.common.infrastructure.event.partition.EventPartitionManager}.
+ * Archived partitions are read from the {@link EventSegmentStore} and merged in front
+ * of the rows still in the database.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+@Repository
+@Slf4j
+public class JdbcEventStore implements EventStore {
+
+    private static final String SELECT_EVENTS = "SELECT " + StoredEventDecoder.PAYLOAD_COLUMNS
+            + " FROM event_store.domain_events ";
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO event_store.domain_events
+                (event_id, aggregate_id, aggregate_type, event_type, event_version,
+                 event_data, payload, payload_format, occurred_on)
+            VALUES (?, ?, ?, ?, ?, CAST(? AS JSONB), ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventCodecRegistry registry;
+    private final DomainEventCodec writeCodec;
+    private final StoredEventDecoder decoder;
+    private final EventSegmentStore segmentStore;
+    private final RowMapper<DomainEvent> rowMapper;
+
+    public JdbcEventStore(
+            JdbcTemplate jdbcTemplate,
+            EventCodecRegistry registry,
+            StoredEventDecoder decoder,
+            EventSegmentStore segmentStore,
+            @Value("${spring.event-store.codec:binary}") String format) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.registry = registry;
+        this.writeCodec = decoder.getCodecs().get(format);
+        if (writeCodec == null) {
+            throw new IllegalStateException("Unknown event store codec '" + format + "', available: " + decoder.getCodecs().keySet());
+        }
+        this.decoder = decoder;
+        this.segmentStore = segmentStore;
+        this.rowMapper = (rs, rowNum) -> decoder.decode(rs);
+    }
+
+    @Override
+    public void store(DomainEvent event) {
+        if (!registry.supports(event)) {
+            log.debug("Event {} has no registered serializer and is not persisted", event.getClass().getName());
+            return;
+        }
+
+        byte[] encoded = writeCodec.encode(event);
+        boolean json = JsonEventCodec.FORMAT.equals(writeCodec.getFormat());
+        jdbcTemplate.update(INSERT_EVENT,
+                event.getEventId(),
+                event.getAggregateId(),
+                event.getAggregateType(),
+                event.topic(),
+                event.getEventVersion(),
+                json ? new String(encoded, StandardCharsets.UTF_8) : null,
+                json ? null : encoded,
+                writeCodec.getFormat(),
+                Timestamp.from(event.occurredOn()));
+    }
+
+    @Override
+    public List<DomainEvent> getEventsForAggregate(String aggregateId, String aggregateType) {
+        List<DomainEvent> cold = decode(segmentStore.findByAggregate(aggregateId, aggregateType));
+        return merge(cold, jdbcTemplate.query(SELECT_EVENTS
+                + "WHERE aggregate_id = ? AND aggregate_type = ? ORDER BY position",
+                rowMapper, aggregateId, aggregateType));
+    }
+
+    @Override
+    public Optional<List<DomainEvent>> getEventsForAggregateAfter(String aggregateId, String aggregateType, UUID eventId) {
+        List<SegmentRecord> cold = segmentStore.findByAggregate(aggregateId, aggregateType);
+        for (int i = 0; i < cold.size(); i++) {
+            if (cold.get(i).eventId().equals(eventId)) {
+                return Optional.of(merge(decode(cold.subList(i + 1, cold.size())), jdbcTemplate.query(SELECT_EVENTS
+                        + "WHERE aggregate_id = ? AND aggregate_type = ? ORDER BY position",
+                        rowMapper, aggregateId, aggregateType)));
+            }
+        }
+        // The anchor itself is read too, so an empty result tells that it is not stored
+        List<DomainEvent> events = jdbcTemplate.query(SELECT_EVENTS
+                + "WHERE aggregate_id = ? AND aggregate_type = ?"
+                + " AND position >= (SELECT position FROM event_store.domain_events WHERE event_id = ?)"
+                + " ORDER BY position",
+                rowMapper, aggregateId, aggregateType, eventId);
+        if (events.isEmpty() || !events.get(0).getEventId().equals(eventId)) {
+            return Optional.empty();
+        }
+        return Optional.of(events.subList(1, events.size()));
+    }
+
+    /**
+     * The bounds are compared with the {@code occurred_on} partition key directly,
+     * so only the monthly partitions overlapping the range are scanned; ranges lying
+     * entirely in archived months are answered from segments alone
+     */
+    @Override
+    public List<DomainEvent> getEventsByTimeRange(Instant start, Instant end) {
+        List<DomainEvent> cold = decode(segmentStore.findByTimeRange(start, end));
+        if (segmentStore.covers(start, end)) {
+            return cold;
+        }
+        return merge(cold, jdbcTemplate.query(SELECT_EVENTS
+                + "WHERE occurred_on >= ? AND occurred_on < ? ORDER BY occurred_on",
+                rowMapper, Timestamp.from(start), Timestamp.from(end)));
+    }
+
+    @Override
+    public List<DomainEvent> getEventsByTopic(String topic) {
+        List<DomainEvent> cold = decode(segmentStore.findByEventType(topic));
+        return merge(cold, jdbcTemplate.query(SELECT_EVENTS + "WHERE event_type = ? ORDER BY occurred_on",
+                rowMapper, topic));
+    }
+
+    @Override
+    public DomainEvent getEventById(UUID eventId) {
+        List<DomainEvent> events = jdbcTemplate.query(SELECT_EVENTS + "WHERE event_id = ?", rowMapper, eventId);
+        if (!events.isEmpty()) {
+            return events.get(0);
+        }
+        return segmentStore.findById(eventId).map(this::decode).orElse(null);
+    }
+
+    private DomainEvent decode(SegmentRecord record) {
+        return decoder.decode(record.payloadFormat(), record.eventId().toString(), record.payload());
+    }
+
+    private List<DomainEvent> decode(List<SegmentRecord> records) {
+        List<DomainEvent> events = new ArrayList<>(records.size());
+        for (SegmentRecord record : records) {
+            events.add(decode(record));
+        }
+        return events;
+    }
+
+    /**
+     * Archived events precede live ones; while a partition is being dropped its
+     * events may be returned by both, so live duplicates are skipped
+     */
+    private static List<DomainEvent> merge(List<DomainEvent> cold, List<DomainEvent> hot) {
+        if (cold.isEmpty()) {
+            return hot;
+        }
+        Set<UUID> archived = new HashSet<>();
+        cold.forEach(event -> archived.add(event.getEventId()));
+        List<DomainEvent> merged = new ArrayList<>(cold.size() + hot.size());
+        merged.addAll(cold);
+        for (DomainEvent event : hot) {
+            if (!archived.contains(event.getEventId())) {
+                merged.add(event);
+            }
+        }
+        return merged;
+    }
+}
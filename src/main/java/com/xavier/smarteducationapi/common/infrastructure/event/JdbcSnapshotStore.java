@@ -0,0 +1,81 @@
+package com.xavier.smarteducationapi.common.infrastructure.event;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateSnapshot;
+import com.xavier.smarteducationapi.common.domain.event.SnapshotStore;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC implementation of the snapshot store on {@code event_store.aggregate_snapshots}.
+ *
+ * Each aggregate keeps its two most recent snapshots; the older one remains as a
+ * fallback while a newer snapshot with a different schema version is rolled out.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcSnapshotStore implements SnapshotStore {
+
+    private static final String INSERT_SNAPSHOT = """
+            INSERT INTO event_store.aggregate_snapshots
+                (aggregate_id, aggregate_type, event_count, last_event_id, schema_version, state)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (aggregate_id, aggregate_type, event_count) DO NOTHING
+            """;
+
+    private static final String PRUNE_SNAPSHOTS = """
+            DELETE FROM event_store.aggregate_snapshots
+            WHERE aggregate_id = ? AND aggregate_type = ? AND event_count < (
+                SELECT MIN(event_count) FROM (
+                    SELECT event_count FROM event_store.aggregate_snapshots
+                    WHERE aggregate_id = ? AND aggregate_type = ?
+                    ORDER BY event_count DESC LIMIT 2) newest)
+            """;
+
+    private static final String SELECT_LATEST = """
+            SELECT aggregate_id, aggregate_type, event_count, last_event_id, schema_version, state
+            FROM event_store.aggregate_snapshots
+            WHERE aggregate_id = ? AND aggregate_type = ?
+            ORDER BY event_count DESC
+            LIMIT 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void save(AggregateSnapshot snapshot) {
+        jdbcTemplate.update(INSERT_SNAPSHOT,
+                snapshot.aggregateId(),
+                snapshot.aggregateType(),
+                snapshot.eventCount(),
+                snapshot.lastEventId(),
+                snapshot.schemaVersion(),
+                snapshot.state());
+        jdbcTemplate.update(PRUNE_SNAPSHOTS, snapshot.aggregateId(), snapshot.aggregateType(),
+                snapshot.aggregateId(), snapshot.aggregateType());
+    }
+
+    @Override
+    public Optional<AggregateSnapshot> findLatest(String aggregateId, String aggregateType) {
+        List<AggregateSnapshot> snapshots = jdbcTemplate.query(SELECT_LATEST, (rs, rowNum) -> new AggregateSnapshot(
+                rs.getString("aggregate_id"),
+                rs.getString("aggregate_type"),
+                rs.getLong("event_count"),
+                UUID.fromString(rs.getString("last_event_id")),
+                rs.getInt("schema_version"),
+                rs.getBytes("state")), aggregateId, aggregateType);
+        return snapshots.stream().findFirst();
+    }
+}
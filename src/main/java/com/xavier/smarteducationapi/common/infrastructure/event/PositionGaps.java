@@ -0,0 +1,65 @@
+package com.xavier.smarteducationapi.common.infrastructure.event;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides when a reader of {@code event_store.domain_events} in position order may move past a
+ * missing position.
+ *
+ * Positions are drawn from a sequence before the inserting transaction commits, so a missing
+ * position usually belongs to a transaction that has not committed yet, and moving past it would
+ * lose that transaction's events. A gap is settled when the event after it was stored more than
+ * {@code settle-seconds} ago, or when this node first saw the gap more than {@code gap-timeout-ms} ago.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public final class PositionGaps {
+
+    private final Clock clock;
+    private final long gapTimeoutMillis;
+    private final long settleSeconds;
+    private final Map<Long, Long> firstSeen = new ConcurrentHashMap<>();
+
+    public PositionGaps(Clock clock, long gapTimeoutMillis, long settleSeconds) {
+        this.clock = clock;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.settleSeconds = settleSeconds;
+    }
+
+    /**
+     * Age, in seconds, past which a stored event settles the gap before it; bound to
+     * {@code created_at < LOCALTIMESTAMP - make_interval(secs => ?)} by readers
+     */
+    public long getSettleSeconds() {
+        return settleSeconds;
+    }
+
+    /**
+     * Whether a reader may move past a missing position
+     * @param missing The first missing position
+     * @param nextSettled Whether the event stored after the gap is older than {@code settle-seconds}
+     */
+    public boolean isSettled(long missing, boolean nextSettled) {
+        if (nextSettled) {
+            return true;
+        }
+        long now = clock.millis();
+        long seen = firstSeen.computeIfAbsent(missing, key -> now);
+        return now - seen >= gapTimeoutMillis;
+    }
+
+    /**
+     * Forget gaps seen longer ago than {@code settle-seconds}, which are settled by then anyway
+     */
+    public void prune() {
+        if (firstSeen.isEmpty()) {
+            return;
+        }
+        long expired = clock.millis() - settleSeconds * 1000;
+        firstSeen.values().removeIf(seen -> seen < expired);
+    }
+}
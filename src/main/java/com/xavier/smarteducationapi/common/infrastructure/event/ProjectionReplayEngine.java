@@ -0,0 +1,482 @@
+package com.xavier.smarteducationapi.common.infrastructure.event;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.smarteducationapi.common.application.event.Projection;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventSegmentStore;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventReplayException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rebuilds {@link Projection}s by replaying {@code event_store.domain_events}.
+ *
+ * Events are streamed in {@code position} order, archived segments first and then through a
+ * server-side cursor (a read-only transaction with a fetch size), and partitioned by
+ * {@code aggregate_id} across worker threads, so the events of one aggregate are applied in order
+ * by a single worker while different aggregates are applied in parallel. Payloads are decoded on
+ * the workers. Database rows at or below the highest archived position are skipped, as a month
+ * is briefly both archived and still attached while its segment is published.
+ *
+ * The cursor stops before a missing position that {@link PositionGaps} does not consider settled
+ * yet, since the events of a transaction that has not committed would otherwise be skipped for
+ * good; resuming later continues from there.
+ *
+ * Every {@code checkpoint-interval} events a barrier is sent to all workers; once every worker
+ * has passed it, the position of the last dispatched event is persisted to
+ * {@code event_store.projection_checkpoints}. A failed or interrupted replay can therefore be
+ * resumed from the last checkpoint; events after it may be applied a second time.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@Component
+@Slf4j
+public class ProjectionReplayEngine {
+
+    /** Rows of unwanted types are read without payload, so they are not mistaken for gaps */
+    private static final String SELECT_REPLAY = """
+            SELECT position, aggregate_id, wanted, event_id, payload_format,
+                   CASE WHEN wanted THEN payload END AS payload,
+                   CASE WHEN wanted THEN event_data::text END AS event_data,
+                   created_at < LOCALTIMESTAMP - make_interval(secs => ?) AS settled
+            FROM (SELECT e.*, %s AS wanted FROM event_store.domain_events e WHERE e.position > ?) events
+            ORDER BY position
+            """;
+
+    private static final String SELECT_CHECKPOINT = """
+            SELECT last_position, events_applied
+            FROM event_store.projection_checkpoints
+            WHERE projection_name = ?
+            """;
+
+    private static final String START_CHECKPOINT = """
+            INSERT INTO event_store.projection_checkpoints
+                (projection_name, status, last_position, events_applied, started_at, updated_at)
+            VALUES (?, 'RUNNING', NULL, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (projection_name) DO UPDATE SET
+                status = 'RUNNING', last_position = NULL, events_applied = 0,
+                started_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String SAVE_CHECKPOINT = """
+            UPDATE event_store.projection_checkpoints
+            SET last_position = ?, events_applied = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE projection_name = ?
+            """;
+
+    private static final String UPDATE_STATUS = """
+            UPDATE event_store.projection_checkpoints
+            SET status = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE projection_name = ?
+            """;
+
+    /** Position before any stored event */
+    private static final long ORIGIN = 0L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final StoredEventDecoder decoder;
+    private final EventSegmentStore segmentStore;
+    private final PositionGaps gaps;
+    private final Map<String, Projection> projections;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private final int workers;
+    private final int fetchSize;
+    private final int checkpointInterval;
+    private final int queueCapacity;
+
+    @Autowired
+    public ProjectionReplayEngine(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            StoredEventDecoder decoder,
+            EventSegmentStore segmentStore,
+            ObjectProvider<Projection> projections,
+            @Value("${spring.event-store.replay.workers:0}") int workers,
+            @Value("${spring.event-store.replay.fetch-size:1000}") int fetchSize,
+            @Value("${spring.event-store.replay.checkpoint-interval:10000}") int checkpointInterval,
+            @Value("${spring.event-store.replay.queue-capacity:1024}") int queueCapacity,
+            @Value("${spring.event-store.replay.gap-timeout-ms:5000}") long gapTimeoutMillis,
+            @Value("${spring.event-store.replay.settle-seconds:600}") long settleSeconds) {
+        this(jdbcTemplate, transactionManager, decoder, segmentStore, projections, Clock.systemUTC(), workers,
+                fetchSize, checkpointInterval, queueCapacity, gapTimeoutMillis, settleSeconds);
+    }
+
+    public ProjectionReplayEngine(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            StoredEventDecoder decoder, EventSegmentStore segmentStore, ObjectProvider<Projection> projections,
+            Clock clock, int workers, int fetchSize, int checkpointInterval, int queueCapacity,
+            long gapTimeoutMillis, long settleSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.decoder = decoder;
+        this.segmentStore = segmentStore;
+        this.gaps = new PositionGaps(clock, gapTimeoutMillis, settleSeconds);
+        this.projections = projections.orderedStream()
+                .collect(Collectors.toUnmodifiableMap(Projection::getName, Function.identity()));
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.fetchSize = fetchSize;
+        this.checkpointInterval = checkpointInterval;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Discard the projection's read model and replay every event
+     */
+    public ReplayResult rebuild(String projectionName) {
+        Projection projection = lookup(projectionName);
+        return exclusively(projection, () -> {
+            projection.reset();
+            jdbcTemplate.update(START_CHECKPOINT, projection.getName());
+            return replay(projection, ORIGIN, 0L, false);
+        });
+    }
+
+    /**
+     * Continue an unfinished replay from its last checkpoint, or rebuild if none exists.
+     * A completed projection is caught up with events stored since.
+     */
+    public ReplayResult resume(String projectionName) {
+        Projection projection = lookup(projectionName);
+        Checkpoint checkpoint = findCheckpoint(projection.getName());
+        if (checkpoint == null) {
+            return rebuild(projectionName);
+        }
+        return exclusively(projection, () -> {
+            jdbcTemplate.update(UPDATE_STATUS, "RUNNING", projection.getName());
+            return replay(projection, checkpoint.position(), checkpoint.eventsApplied(), true);
+        });
+    }
+
+    public Set<String> getProjectionNames() {
+        return projections.keySet();
+    }
+
+    private Projection lookup(String projectionName) {
+        Projection projection = projections.get(projectionName);
+        if (projection == null) {
+            throw EventReplayException.unknownProjection(projectionName);
+        }
+        return projection;
+    }
+
+    private ReplayResult exclusively(Projection projection, Supplier<ReplayResult> replay) {
+        if (!running.add(projection.getName())) {
+            throw new EventReplayException(projection.getName(), "A replay is already running");
+        }
+        try {
+            return replay.get();
+        } finally {
+            running.remove(projection.getName());
+        }
+    }
+
+    @Nullable
+    private Checkpoint findCheckpoint(String projectionName) {
+        List<Checkpoint> checkpoints = jdbcTemplate.query(SELECT_CHECKPOINT,
+                (rs, rowNum) -> new Checkpoint(rs.getLong("last_position"), rs.getLong("events_applied")),
+                projectionName);
+        return checkpoints.isEmpty() ? null : checkpoints.get(0);
+    }
+
+    private ReplayResult replay(Projection projection, long from, long alreadyApplied, boolean resumed) {
+        long started = System.nanoTime();
+        Run run = new Run(projection, alreadyApplied);
+        log.info("Replaying projection '{}' from {} on {} worker(s)", projection.getName(), from, workers);
+
+        run.start();
+        try {
+            readTransaction.executeWithoutResult(status -> stream(projection, from, run));
+            run.finish();
+        } catch (ReplayAborted ex) {
+            run.abort();
+        } catch (RuntimeException ex) {
+            run.abort();
+            jdbcTemplate.update(UPDATE_STATUS, "FAILED", projection.getName());
+            throw ex instanceof EventReplayException replayFailure ? replayFailure
+                    : new EventReplayException(projection.getName(), "Reading the event store failed", ex);
+        }
+
+        Throwable failure = run.failure.get();
+        if (failure != null) {
+            jdbcTemplate.update(UPDATE_STATUS, "FAILED", projection.getName());
+            throw new EventReplayException(projection.getName(), "Applying an event failed", failure);
+        }
+
+        jdbcTemplate.update(UPDATE_STATUS, "COMPLETED", projection.getName());
+        ReplayResult result = new ReplayResult(projection.getName(), run.applied(), resumed,
+                Duration.ofNanos(System.nanoTime() - started));
+        log.info("Replayed projection '{}': {} event(s) in {} ms", projection.getName(),
+                result.eventsApplied(), result.elapsed().toMillis());
+        return result;
+    }
+
+    private void stream(Projection projection, long from, Run run) {
+        Set<String> eventTypes = projection.getEventTypes();
+        String sql = SELECT_REPLAY.formatted(eventTypes.isEmpty() ? "TRUE" : "e.event_type = ANY(?)");
+
+        long archived = segmentStore.forEachAfter(from, eventTypes, record -> run.dispatch(new StoredRow(
+                record.position(),
+                record.eventId().toString(),
+                record.aggregateId(),
+                record.payloadFormat(),
+                record.payload(),
+                null)));
+
+        long start = Math.max(from, archived);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            int index = 1;
+            statement.setLong(index++, gaps.getSettleSeconds());
+            if (!eventTypes.isEmpty()) {
+                statement.setArray(index++, connection.createArrayOf("varchar", eventTypes.toArray()));
+            }
+            statement.setLong(index, start);
+            return statement;
+        }, (ResultSetExtractor<Void>) rs -> {
+            long cursor = start;
+            while (rs.next()) {
+                long position = rs.getLong("position");
+                if (position != cursor + 1 && !gaps.isSettled(cursor + 1, rs.getBoolean("settled"))) {
+                    log.info("Replay of projection '{}' stops before uncommitted position {}",
+                            projection.getName(), cursor + 1);
+                    break;
+                }
+                cursor = position;
+                if (rs.getBoolean("wanted")) {
+                    run.dispatch(readRow(rs));
+                }
+            }
+            return null;
+        });
+        gaps.prune();
+    }
+
+    private static StoredRow readRow(ResultSet rs) throws SQLException {
+        byte[] payload = rs.getBytes("payload");
+        return new StoredRow(
+                rs.getLong("position"),
+                rs.getString("event_id"),
+                rs.getString("aggregate_id"),
+                rs.getString("payload_format"),
+                payload != null ? ByteBuffer.wrap(payload) : null,
+                rs.getString("event_data"));
+    }
+
+    private void saveCheckpoint(String projectionName, long position, long applied) {
+        jdbcTemplate.update(SAVE_CHECKPOINT, position, applied, projectionName);
+        log.debug("Projection '{}' checkpoint at position {} ({} event(s))", projectionName, position, applied);
+    }
+
+    /**
+     * State of a single replay: the worker queues, the dispatch counters and the first failure
+     */
+    private final class Run {
+
+        private final Projection projection;
+        private final long alreadyApplied;
+        private final List<BlockingQueue<Object>> queues;
+        private final Thread[] threads;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private long dispatched;
+        private long last;
+        private long savedApplied;
+
+        Run(Projection projection, long alreadyApplied) {
+            this.projection = projection;
+            this.alreadyApplied = alreadyApplied;
+            this.savedApplied = alreadyApplied;
+            this.queues = new ArrayList<>(workers);
+            this.threads = new Thread[workers];
+        }
+
+        void start() {
+            for (int i = 0; i < workers; i++) {
+                BlockingQueue<Object> queue = new ArrayBlockingQueue<>(queueCapacity);
+                queues.add(queue);
+                threads[i] = Thread.ofPlatform()
+                        .name("replay-" + projection.getName() + "-" + i)
+                        .start(() -> work(queue));
+            }
+        }
+
+        void dispatch(StoredRow row) {
+            if (failure.get() != null) {
+                throw new ReplayAborted();
+            }
+            put(queues.get(Math.floorMod(row.aggregateId().hashCode(), workers)), row);
+            dispatched++;
+            last = row.position();
+            if (dispatched % checkpointInterval == 0) {
+                barrier();
+            }
+        }
+
+        long applied() {
+            return alreadyApplied + dispatched;
+        }
+
+        /**
+         * Drain the queues, persist the final position and wait for the workers
+         */
+        void finish() {
+            barrier();
+            stop();
+        }
+
+        /**
+         * Discard queued work and wait for the workers
+         */
+        void abort() {
+            failure.compareAndSet(null, new ReplayAborted());
+            for (BlockingQueue<Object> queue : queues) {
+                queue.clear();
+                queue.offer(Stop.INSTANCE);
+            }
+            join();
+        }
+
+        private void barrier() {
+            if (dispatched == 0) {
+                return;
+            }
+            Barrier barrier = new Barrier(last, applied(), new AtomicInteger(workers));
+            for (BlockingQueue<Object> queue : queues) {
+                put(queue, barrier);
+            }
+        }
+
+        private void stop() {
+            for (BlockingQueue<Object> queue : queues) {
+                put(queue, Stop.INSTANCE);
+            }
+            join();
+        }
+
+        private void join() {
+            for (Thread thread : threads) {
+                try {
+                    thread.join();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new EventReplayException(projection.getName(), "Interrupted while waiting for workers", ex);
+                }
+            }
+        }
+
+        private void put(BlockingQueue<Object> queue, Object item) {
+            try {
+                queue.put(item);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, ex);
+                throw new ReplayAborted();
+            }
+        }
+
+        private void work(BlockingQueue<Object> queue) {
+            try {
+                while (true) {
+                    Object item = queue.take();
+                    if (item == Stop.INSTANCE) {
+                        return;
+                    }
+                    if (item instanceof Barrier barrier) {
+                        pass(barrier);
+                    } else if (failure.get() == null) {
+                        apply((StoredRow) item);
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, ex);
+            }
+        }
+
+        private void apply(StoredRow row) {
+            try {
+                projection.apply(row.payload() != null
+                        ? decoder.decode(row.format(), row.eventId(), row.payload())
+                        : decoder.decode(row.format(), row.eventId(), null, row.json()));
+            } catch (Throwable ex) {
+                if (failure.compareAndSet(null, ex)) {
+                    log.error("Projection '{}' failed on event {}", projection.getName(), row.eventId(), ex);
+                }
+            }
+        }
+
+        /**
+         * The last worker to pass a barrier persists it; barriers complete in dispatch order,
+         * but the saves may race, so only a checkpoint further than the saved one is written
+         */
+        private void pass(Barrier barrier) {
+            if (barrier.remaining().decrementAndGet() > 0 || failure.get() != null) {
+                return;
+            }
+            synchronized (this) {
+                if (barrier.applied() > savedApplied && failure.get() == null) {
+                    try {
+                        saveCheckpoint(projection.getName(), barrier.position(), barrier.applied());
+                        savedApplied = barrier.applied();
+                    } catch (RuntimeException ex) {
+                        log.warn("Could not persist checkpoint for projection '{}': {}", projection.getName(), ex.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private record Checkpoint(long position, long eventsApplied) {
+    }
+
+    private record StoredRow(long position, String eventId, String aggregateId, String format,
+            @Nullable ByteBuffer payload, @Nullable String json) {
+    }
+
+    private record Barrier(long position, long applied, AtomicInteger remaining) {
+    }
+
+    private enum Stop {
+        INSTANCE
+    }
+
+    /**
+     * Stops the cursor once a worker has failed
+     */
+    private static final class ReplayAborted extends RuntimeException {
+        ReplayAborted() {
+            super(null, null, false, false);
+        }
+    }
+}
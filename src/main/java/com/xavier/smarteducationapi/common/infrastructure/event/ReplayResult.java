@@ -0,0 +1,18 @@
+package com.xavier.smarteducationapi.common.infrastructure.event;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a projection replay.
+ *
+ * @param projection name of the replayed projection
+ * @param eventsApplied events applied in total, including those applied before a resume
+ * @param resumed whether the replay continued from a persisted checkpoint
+ * @param elapsed wall-clock time of this run
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+public record ReplayResult(String projection, long eventsApplied, boolean resumed, Duration elapsed) {
+}
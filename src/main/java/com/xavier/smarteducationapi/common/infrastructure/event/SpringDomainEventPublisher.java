@@ -1,38 +1,130 @@
 package com.xavier.smarteducationapi.common.infrastructure.event;
 
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.xavier.smarteducationapi.common.domain.event.CoalescibleEvent;
 import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
 import com.xavier.smarteducationapi.common.domain.event.DomainEventPublisher;
+import com.xavier.smarteducationapi.common.domain.event.EventCoalescer;
+import com.xavier.smarteducationapi.common.domain.event.EventStore;
+import com.xavier.smarteducationapi.common.domain.event.IntegrationEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.integration.IntegrationEventOutbox;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Spring implementation of DomainEventPublisher.
- * @version 1.0
+ * Events are appended to the {@link EventStore} when one is available (integration events
+ * are also enqueued in the {@link IntegrationEventOutbox}), dispatched to
+ * {@code @TopicListener} handlers through the precompiled {@link TopicEventRouter} and
+ * then published on the application context for type-based {@code @EventListener}s
+ * and Spring Modulith.
+ *
+ * With {@code spring.event-store.coalescing.enabled}, events published inside a transaction
+ * are held until it is about to commit and run through the {@link EventCoalescer} first, so
+ * {@link CoalescibleEvent}s superseded within the transaction are never stored or dispatched.
+ * Outside a transaction each batch is coalesced on its own.
+ * @version 1.4
  * @since 2025-09-15
  * @author Xavier Nhagumbe
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SpringDomainEventPublisher implements DomainEventPublisher {
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final TopicEventRouter topicEventRouter;
+    private final ObjectProvider<EventStore> eventStore;
+    private final ObjectProvider<IntegrationEventOutbox> integrationEventOutbox;
+    private final boolean coalescing;
+
+    public SpringDomainEventPublisher(
+            ApplicationEventPublisher applicationEventPublisher,
+            TopicEventRouter topicEventRouter,
+            ObjectProvider<EventStore> eventStore,
+            ObjectProvider<IntegrationEventOutbox> integrationEventOutbox,
+            @Value("${spring.event-store.coalescing.enabled:false}") boolean coalescing) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.topicEventRouter = topicEventRouter;
+        this.eventStore = eventStore;
+        this.integrationEventOutbox = integrationEventOutbox;
+        this.coalescing = coalescing;
+    }
 
     @Override
     public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Override
+    public void publishAll(Collection<DomainEvent> events) {
+        if (!coalescing) {
+            events.forEach(this::dispatch);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingEvents().addAll(events);
+            return;
+        }
+        EventCoalescer.coalesce(List.copyOf(events)).forEach(this::dispatch);
+    }
+
+    private void dispatch(DomainEvent event) {
         log.debug("Publishing domain event: {} with ID: {}",
                 event.getClass().getSimpleName(), event.getEventId());
+        eventStore.ifAvailable(store -> store.store(event));
+        if (event instanceof IntegrationEvent integrationEvent) {
+            integrationEventOutbox.ifAvailable(outbox -> outbox.enqueue(integrationEvent));
+        }
+        topicEventRouter.route(event);
         applicationEventPublisher.publishEvent(event);
     }
 
-    @Override
-    public void publishAll(Collection<DomainEvent> events) {
-        events.forEach(this::publish);
+    /**
+     * Events held for the current transaction, registering the flush on first use
+     */
+    private List<DomainEvent> pendingEvents() {
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending.events;
+    }
+
+    /**
+     * Flushes the events of one transaction before it commits, while the event store still
+     * writes in the same transaction
+     */
+    private final class PendingEvents implements TransactionSynchronization {
+        private final List<DomainEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Listeners may publish further events while the held ones are dispatched
+            while (!events.isEmpty()) {
+                List<DomainEvent> batch = EventCoalescer.coalesce(events);
+                if (batch.size() < events.size()) {
+                    log.debug("Coalesced {} domain events into {}", events.size(), batch.size());
+                }
+                events.clear();
+                batch.forEach(SpringDomainEventPublisher.this::dispatch);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SpringDomainEventPublisher.this);
+        }
     }
-}
\ No newline at end of file
+}
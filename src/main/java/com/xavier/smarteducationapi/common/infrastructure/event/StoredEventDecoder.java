@@ -0,0 +1,77 @@
+package com.xavier.smarteducationapi.common.infrastructure.event;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.DomainEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventSerializationException;
+
+/**
+ * Decodes rows of {@code event_store.domain_events} with the codec recorded in
+ * {@code payload_format}. Shared by the event store and the projection replay engine.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@Component
+public class StoredEventDecoder {
+
+    /**
+     * Column list every decodable query must select
+     */
+    public static final String PAYLOAD_COLUMNS = "event_id, payload_format, payload, event_data::text AS event_data";
+
+    private final Map<String, DomainEventCodec> codecs;
+
+    public StoredEventDecoder(List<DomainEventCodec> codecs) {
+        this.codecs = codecs.stream().collect(Collectors.toUnmodifiableMap(DomainEventCodec::getFormat, Function.identity()));
+    }
+
+    /**
+     * Decode the current row of a result set selecting {@link #PAYLOAD_COLUMNS}
+     */
+    public DomainEvent decode(ResultSet rs) throws SQLException {
+        return decode(rs.getString("payload_format"), rs.getString("event_id"),
+                rs.getBytes("payload"), rs.getString("event_data"));
+    }
+
+    /**
+     * Decode a stored payload; binary payloads take precedence over the JSON column
+     */
+    public DomainEvent decode(String format, String eventId, @Nullable byte[] payload, @Nullable String json) {
+        DomainEventCodec codec = codecs.get(format);
+        if (codec == null) {
+            throw new EventSerializationException(format, eventId, "No codec available for stored format");
+        }
+        if (payload == null) {
+            payload = json != null ? json.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        }
+        return codec.decode(payload);
+    }
+
+    /**
+     * Decode a payload held in a buffer, such as a slice of a memory-mapped segment
+     */
+    public DomainEvent decode(String format, String eventId, ByteBuffer payload) {
+        DomainEventCodec codec = codecs.get(format);
+        if (codec == null) {
+            throw new EventSerializationException(format, eventId, "No codec available for stored format");
+        }
+        return codec.decode(payload);
+    }
+
+    public Map<String, DomainEventCodec> getCodecs() {
+        return codecs;
+    }
+}
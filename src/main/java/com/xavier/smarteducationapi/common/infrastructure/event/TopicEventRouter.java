@@ -0,0 +1,247 @@
+package com.xavier.smarteducationapi.common.infrastructure.event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.application.event.TopicListener;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventPublishingException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes domain events to {@link TopicListener} methods by {@code DomainEvent.topic()}.
+ *
+ * Listener methods are discovered while beans are initialised and bound once through
+ * {@link LambdaMetafactory} (falling back to a bound {@link MethodHandle}). When the context
+ * has finished starting, the router freezes an immutable topic-to-handlers table in which
+ * wildcard subscriptions are already expanded, so dispatch is a single map lookup followed
+ * by direct calls. Topics first seen after startup are resolved once and the table is
+ * republished copy-on-write.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-20
+ */
+@Component
+@Slf4j
+public class TopicEventRouter implements BeanPostProcessor, SmartInitializingSingleton {
+
+    private static final String WILDCARD = "*";
+    private static final Route[] NO_ROUTES = new Route[0];
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private volatile Map<String, Route[]> routes = Map.of();
+    private boolean compiled;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        Map<Method, TopicListener> methods = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<TopicListener>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, TopicListener.class));
+
+        methods.forEach((method, listener) -> register(bean, beanName, method, listener.value()));
+        return bean;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        synchronized (subscriptions) {
+            compiled = true;
+            compile();
+            log.info("Topic router compiled {} subscription(s) into {} topic route(s)",
+                    subscriptions.size(), routes.size());
+        }
+    }
+
+    /**
+     * Register a handler for the given topics. Used for beans discovered at startup
+     * and available for programmatic subscriptions.
+     */
+    public void subscribe(String topic, Class<? extends DomainEvent> eventType, String name, TopicHandler handler) {
+        synchronized (subscriptions) {
+            subscriptions.add(new Subscription(normalize(topic), new Route(name, eventType, handler)));
+            if (compiled) {
+                compile();
+            }
+        }
+    }
+
+    /**
+     * Dispatch an event to every handler subscribed to its topic
+     */
+    public void route(DomainEvent event) {
+        String topic = event.topic();
+        Route[] targets = routes.get(topic);
+        if (targets == null) {
+            targets = install(topic);
+        }
+
+        for (Route target : targets) {
+            if (target.eventType().isInstance(event)) {
+                target.handler().handle(event);
+            }
+        }
+    }
+
+    /**
+     * Topics that currently have a precompiled route
+     */
+    public Set<String> getCompiledTopics() {
+        return routes.keySet();
+    }
+
+    private Route[] install(String topic) {
+        synchronized (subscriptions) {
+            Map<String, Route[]> current = routes;
+            Route[] targets = current.get(topic);
+            if (targets != null) {
+                return targets;
+            }
+            targets = resolve(topic);
+            Map<String, Route[]> updated = new HashMap<>(current);
+            updated.put(topic, targets);
+            routes = Map.copyOf(updated);
+            return targets;
+        }
+    }
+
+    private void compile() {
+        Map<String, Route[]> table = new HashMap<>();
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.isWildcard()) {
+                table.computeIfAbsent(subscription.topic(), this::resolve);
+            }
+        }
+        for (String topic : routes.keySet()) {
+            table.computeIfAbsent(topic, this::resolve);
+        }
+        routes = Map.copyOf(table);
+    }
+
+    private Route[] resolve(String topic) {
+        List<Route> matches = new ArrayList<>();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(topic)) {
+                matches.add(subscription.route());
+            }
+        }
+        return matches.isEmpty() ? NO_ROUTES : matches.toArray(Route[]::new);
+    }
+
+    private void register(Object bean, String beanName, Method method, String[] topics) {
+        if (method.getParameterCount() != 1 || !DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            throw new IllegalStateException("@TopicListener method " + method
+                    + " must declare a single DomainEvent parameter");
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<? extends DomainEvent> eventType = (Class<? extends DomainEvent>) method.getParameterTypes()[0];
+        TopicHandler handler = bind(bean, method);
+        String name = beanName + "#" + method.getName();
+
+        for (String topic : topics) {
+            subscribe(topic, eventType, name, handler);
+            log.debug("Registered topic listener {} for topic '{}'", name, topic);
+        }
+    }
+
+    private TopicHandler bind(Object bean, Method method) {
+        Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+        try {
+            if (!AopUtils.isJdkDynamicProxy(bean)) {
+                return spinLambda(bean, invocable);
+            }
+        } catch (Throwable ex) {
+            log.debug("Falling back to method handle dispatch for {}: {}", invocable, ex.toString());
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(invocable.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(invocable).bindTo(bean)
+                    .asType(MethodType.methodType(void.class, DomainEvent.class));
+            return event -> invoke(target, event);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot bind @TopicListener method " + invocable, ex);
+        }
+    }
+
+    private TopicHandler spinLambda(Object bean, Method method) throws Throwable {
+        Class<?> declaringClass = method.getDeclaringClass();
+        Class<?> eventType = method.getParameterTypes()[0];
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        MethodHandle implementation = lookup.unreflect(method);
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "handle",
+                MethodType.methodType(TopicHandler.class, declaringClass),
+                MethodType.methodType(void.class, DomainEvent.class),
+                implementation,
+                MethodType.methodType(void.class, eventType));
+
+        return (TopicHandler) site.getTarget().invoke(bean);
+    }
+
+    private static void invoke(MethodHandle target, DomainEvent event) {
+        try {
+            target.invokeExact(event);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new EventPublishingException(event, "Topic listener failed", ex);
+        }
+    }
+
+    private static String normalize(String topic) {
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("Topic must not be blank");
+        }
+        return topic.trim();
+    }
+
+    /**
+     * A bound handler together with the event type it accepts
+     */
+    private record Route(String name, Class<? extends DomainEvent> eventType, TopicHandler handler) {
+    }
+
+    /**
+     * A topic or wildcard topic subscription
+     */
+    private record Subscription(String topic, Route route) {
+
+        boolean isWildcard() {
+            return topic.equals(WILDCARD) || topic.endsWith("." + WILDCARD);
+        }
+
+        boolean matches(String candidate) {
+            if (topic.equals(WILDCARD)) {
+                return true;
+            }
+            if (isWildcard()) {
+                String prefix = topic.substring(0, topic.length() - 1);
+                return candidate.startsWith(prefix) && candidate.length() > prefix.length();
+            }
+            return topic.equals(candidate);
+        }
+    }
+}
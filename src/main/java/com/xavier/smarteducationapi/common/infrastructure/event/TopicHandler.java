@@ -0,0 +1,21 @@
+package com.xavier.smarteducationapi.common.infrastructure.event;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+
+/**
+ * Functional target that {@link TopicEventRouter} binds {@code @TopicListener} methods to.
+ * Implementations are spun at startup through {@code LambdaMetafactory}, so invoking a
+ * handler is a plain interface call on the listener bean.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-20
+ */
+@FunctionalInterface
+public interface TopicHandler {
+
+    /**
+     * Handle a domain event routed to this handler
+     */
+    void handle(DomainEvent event);
+}
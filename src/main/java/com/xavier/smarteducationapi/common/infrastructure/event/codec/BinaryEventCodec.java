@@ -0,0 +1,303 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventReader;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventWriter;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventSerializationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Compact, positional binary codec for domain events.
+ *
+ * Layout: magic byte, format version, type name, schema version, event id (two fixed
+ * longs), occurred-on (zig-zag seconds + nanos), aggregate id and type, followed by the
+ * serializer's fields in write order. Strings are length-prefixed UTF-8, numbers are
+ * zig-zag varints and every field has an explicit null encoding.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+@Component
+@RequiredArgsConstructor
+public class BinaryEventCodec implements DomainEventCodec {
+
+    public static final String FORMAT = "binary";
+
+    static final byte MAGIC = 0x45;
+    static final byte FORMAT_VERSION = 1;
+
+    private static final ThreadLocal<Output> BUFFERS = ThreadLocal.withInitial(Output::new);
+
+    private final EventCodecRegistry registry;
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    public byte[] encode(DomainEvent event) {
+        EventSerializer<DomainEvent> serializer = registry.forEvent(event, FORMAT);
+        Output out = BUFFERS.get().reset();
+
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeString(null, serializer.getTypeName());
+        out.writeVarLong(event.getEventVersion());
+        out.writeFixedLong(event.getEventId().getMostSignificantBits());
+        out.writeFixedLong(event.getEventId().getLeastSignificantBits());
+        out.writeVarLong(zigZag(event.occurredOn().getEpochSecond()));
+        out.writeVarLong(event.occurredOn().getNano());
+        out.writeString(null, event.getAggregateId());
+        out.writeString(null, event.getAggregateType());
+
+        serializer.write(event, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public DomainEvent decode(byte[] payload) {
+        return decode(ByteBuffer.wrap(payload));
+    }
+
+    @Override
+    public DomainEvent decode(ByteBuffer payload) {
+        Input in = new Input(payload);
+        String typeName = null;
+        try {
+            if (in.readByte() != MAGIC) {
+                throw new EventSerializationException(FORMAT, "unknown", "Payload does not start with the binary event marker");
+            }
+            byte formatVersion = in.readByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new EventSerializationException(FORMAT, "unknown", "Unsupported binary format version " + formatVersion);
+            }
+
+            typeName = in.readString(null);
+            int version = (int) in.readVarLong();
+            UUID eventId = new UUID(in.readFixedLong(), in.readFixedLong());
+            Instant occurredOn = Instant.ofEpochSecond(unZigZag(in.readVarLong()), in.readVarLong());
+            EventMetadata metadata = new EventMetadata(eventId, occurredOn, in.readString(null), in.readString(null));
+
+            return registry.forTypeName(typeName, FORMAT).read(in, metadata, version);
+        } catch (BufferUnderflowException ex) {
+            throw new EventSerializationException(FORMAT, String.valueOf(typeName), "Truncated payload", ex);
+        }
+    }
+
+    /**
+     * Encode a bare field sequence in the binary field encoding, e.g. aggregate snapshot state
+     */
+    public static byte[] writeFields(Consumer<EventWriter> fields) {
+        Output out = BUFFERS.get().reset();
+        fields.accept(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a field sequence produced by {@link #writeFields(Consumer)}
+     */
+    public static <T> T readFields(byte[] payload, Function<EventReader, T> fields) {
+        try {
+            return fields.apply(new Input(ByteBuffer.wrap(payload)));
+        } catch (BufferUnderflowException ex) {
+            throw new EventSerializationException(FORMAT, "fields", "Truncated payload", ex);
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Growable, reusable output buffer
+     */
+    private static final class Output implements EventWriter {
+
+        private static final int MAX_RETAINED = 64 * 1024;
+
+        private byte[] buffer = new byte[256];
+        private int position;
+
+        Output reset() {
+            if (buffer.length > MAX_RETAINED) {
+                buffer = new byte[256];
+            }
+            position = 0;
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeFixedLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        @Override
+        public EventWriter writeString(String name, String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return this;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+            return this;
+        }
+
+        @Override
+        public EventWriter writeInteger(String name, Integer value) {
+            writeVarLong(value == null ? 0 : (zigZag(value) & 0xFFFFFFFFL) + 1);
+            return this;
+        }
+
+        @Override
+        public EventWriter writeLong(String name, Long value) {
+            writeByte(value == null ? 0 : 1);
+            if (value != null) {
+                writeVarLong(zigZag(value));
+            }
+            return this;
+        }
+
+        @Override
+        public EventWriter writeBoolean(String name, Boolean value) {
+            writeByte(value == null ? 0 : (value ? 2 : 1));
+            return this;
+        }
+
+        @Override
+        public EventWriter writeInstant(String name, Instant value) {
+            writeByte(value == null ? 0 : 1);
+            if (value != null) {
+                writeVarLong(zigZag(value.getEpochSecond()));
+                writeVarLong(value.getNano());
+            }
+            return this;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    /**
+     * Reader over a byte buffer; strings are decoded straight from the backing array when present
+     */
+    private static final class Input implements EventReader {
+
+        private final ByteBuffer buffer;
+
+        Input(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            return buffer.get();
+        }
+
+        long readFixedLong() {
+            return buffer.getLong();
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new EventSerializationException(FORMAT, "unknown", "Malformed varint");
+        }
+
+        @Override
+        public String readString(String name) {
+            int length = (int) readVarLong() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+
+        @Override
+        public Integer readInteger(String name) {
+            long raw = readVarLong();
+            return raw == 0 ? null : (int) unZigZag(raw - 1);
+        }
+
+        @Override
+        public Long readLong(String name) {
+            return readByte() == 0 ? null : unZigZag(readVarLong());
+        }
+
+        @Override
+        public Boolean readBoolean(String name) {
+            byte raw = readByte();
+            return raw == 0 ? null : raw == 2;
+        }
+
+        @Override
+        public Instant readInstant(String name) {
+            if (readByte() == 0) {
+                return null;
+            }
+            return Instant.ofEpochSecond(unZigZag(readVarLong()), readVarLong());
+        }
+    }
+}
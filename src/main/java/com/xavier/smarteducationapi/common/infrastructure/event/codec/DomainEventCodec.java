@@ -0,0 +1,43 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.codec;
+
+import java.nio.ByteBuffer;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+
+/**
+ * SPI for turning domain events into bytes and back.
+ *
+ * Every encoded payload is self-describing: it carries the serializer type name,
+ * the event schema version ({@link DomainEvent#getEventVersion()}) and the event
+ * metadata, so it can be decoded without any side-channel information.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+public interface DomainEventCodec {
+
+    /**
+     * Short identifier stored alongside payloads, e.g. {@code binary} or {@code json}
+     */
+    String getFormat();
+
+    /**
+     * Encode an event including its metadata
+     */
+    byte[] encode(DomainEvent event);
+
+    /**
+     * Decode a payload produced by {@link #encode(DomainEvent)}
+     */
+    DomainEvent decode(byte[] payload);
+
+    /**
+     * Decode the remaining bytes of a buffer without copying where the codec supports it
+     */
+    default DomainEvent decode(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return decode(bytes);
+    }
+}
@@ -0,0 +1,81 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventSerializationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Immutable lookup of {@link EventSerializer}s by event class and by stored type name.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+@Component
+@Slf4j
+public class EventCodecRegistry {
+
+    private final Map<Class<?>, EventSerializer<?>> byClass;
+    private final Map<String, EventSerializer<?>> byTypeName;
+
+    public EventCodecRegistry(List<EventSerializer<?>> serializers) {
+        Map<Class<?>, EventSerializer<?>> classes = new HashMap<>();
+        Map<String, EventSerializer<?>> names = new HashMap<>();
+
+        for (EventSerializer<?> serializer : serializers) {
+            EventSerializer<?> previous = names.put(serializer.getTypeName(), serializer);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate event type name '" + serializer.getTypeName()
+                        + "' for " + serializer.getEventClass().getName() + " and " + previous.getEventClass().getName());
+            }
+            classes.put(serializer.getEventClass(), serializer);
+        }
+
+        this.byClass = Map.copyOf(classes);
+        this.byTypeName = Map.copyOf(names);
+        log.info("Registered {} domain event serializer(s)", byTypeName.size());
+    }
+
+    /**
+     * Serializer for the runtime class of an event
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends DomainEvent> EventSerializer<E> forEvent(E event, String format) {
+        EventSerializer<?> serializer = byClass.get(event.getClass());
+        if (serializer == null) {
+            throw EventSerializationException.unknownType(format, event.getClass().getName());
+        }
+        return (EventSerializer<E>) serializer;
+    }
+
+    /**
+     * Serializer for a stored type name
+     */
+    public EventSerializer<?> forTypeName(String typeName, String format) {
+        EventSerializer<?> serializer = byTypeName.get(typeName);
+        if (serializer == null) {
+            throw EventSerializationException.unknownType(format, typeName);
+        }
+        return serializer;
+    }
+
+    /**
+     * Whether the event's class has a registered serializer
+     */
+    public boolean supports(DomainEvent event) {
+        return byClass.containsKey(event.getClass());
+    }
+
+    public Set<String> getTypeNames() {
+        return byTypeName.keySet();
+    }
+}
@@ -0,0 +1,191 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.json.JsonParseException;
+import org.springframework.boot.json.JsonParser;
+import org.springframework.boot.json.JsonParserFactory;
+import org.springframework.boot.json.JsonWriter;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventFields;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventReader;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventWriter;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventSerializationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Human-readable JSON codec for domain events, intended for debugging and ad-hoc queries.
+ *
+ * Payloads are an envelope holding the type name, schema version and metadata, with the
+ * serializer's fields under {@code data}. Fields are looked up by name, so fields missing
+ * from older payloads read as {@code null}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonEventCodec implements DomainEventCodec, EventFields {
+
+    public static final String FORMAT = "json";
+
+    private static final JsonWriter<Map<String, Object>> WRITER = JsonWriter.standard();
+
+    private final EventCodecRegistry registry;
+    private final JsonParser parser = JsonParserFactory.getJsonParser();
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    public byte[] encode(DomainEvent event) {
+        return encodeToString(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encode an event as a JSON document
+     */
+    public String encodeToString(DomainEvent event) {
+        EventSerializer<DomainEvent> serializer = registry.forEvent(event, FORMAT);
+        FieldMap data = new FieldMap();
+        serializer.write(event, data);
+
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("type", serializer.getTypeName());
+        envelope.put("version", event.getEventVersion());
+        envelope.put("eventId", event.getEventId().toString());
+        envelope.put("occurredOn", event.occurredOn().toString());
+        envelope.put("aggregateId", event.getAggregateId());
+        envelope.put("aggregateType", event.getAggregateType());
+        envelope.put("data", data.values);
+        return WRITER.writeToString(envelope);
+    }
+
+    /**
+     * Payload fields of an event as JSON-ready values, in write order
+     */
+    @Override
+    public Map<String, Object> fields(DomainEvent event) {
+        FieldMap data = new FieldMap();
+        registry.forEvent(event, FORMAT).write(event, data);
+        return data.values;
+    }
+
+    @Override
+    public DomainEvent decode(byte[] payload) {
+        return decode(new String(payload, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a JSON document produced by {@link #encodeToString(DomainEvent)}
+     */
+    @SuppressWarnings("unchecked")
+    public DomainEvent decode(String json) {
+        Map<String, Object> envelope;
+        try {
+            envelope = parser.parseMap(json);
+        } catch (JsonParseException ex) {
+            throw new EventSerializationException(FORMAT, "unknown", "Malformed JSON payload", ex);
+        }
+
+        String typeName = (String) envelope.get("type");
+        if (typeName == null) {
+            throw new EventSerializationException(FORMAT, "unknown", "Missing type name");
+        }
+        int version = envelope.get("version") instanceof Number number ? number.intValue() : 1;
+        EventMetadata metadata = new EventMetadata(
+                UUID.fromString((String) envelope.get("eventId")),
+                Instant.parse((String) envelope.get("occurredOn")),
+                (String) envelope.get("aggregateId"),
+                (String) envelope.get("aggregateType"));
+
+        Object data = envelope.get("data");
+        FieldMap fields = new FieldMap(data instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of());
+        return registry.forTypeName(typeName, FORMAT).read(fields, metadata, version);
+    }
+
+    /**
+     * Named fields backed by a map
+     */
+    private static final class FieldMap implements EventWriter, EventReader {
+
+        private final Map<String, Object> values;
+
+        FieldMap() {
+            this.values = new LinkedHashMap<>();
+        }
+
+        FieldMap(Map<String, Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public EventWriter writeString(String name, String value) {
+            values.put(name, value);
+            return this;
+        }
+
+        @Override
+        public EventWriter writeInteger(String name, Integer value) {
+            values.put(name, value);
+            return this;
+        }
+
+        @Override
+        public EventWriter writeLong(String name, Long value) {
+            values.put(name, value);
+            return this;
+        }
+
+        @Override
+        public EventWriter writeBoolean(String name, Boolean value) {
+            values.put(name, value);
+            return this;
+        }
+
+        @Override
+        public EventWriter writeInstant(String name, Instant value) {
+            values.put(name, value != null ? value.toString() : null);
+            return this;
+        }
+
+        @Override
+        public String readString(String name) {
+            Object value = values.get(name);
+            return value != null ? value.toString() : null;
+        }
+
+        @Override
+        public Integer readInteger(String name) {
+            return values.get(name) instanceof Number number ? number.intValue() : null;
+        }
+
+        @Override
+        public Long readLong(String name) {
+            return values.get(name) instanceof Number number ? number.longValue() : null;
+        }
+
+        @Override
+        public Boolean readBoolean(String name) {
+            return values.get(name) instanceof Boolean value ? value : null;
+        }
+
+        @Override
+        public Instant readInstant(String name) {
+            Object value = values.get(name);
+            return value != null ? Instant.parse(value.toString()) : null;
+        }
+    }
+}
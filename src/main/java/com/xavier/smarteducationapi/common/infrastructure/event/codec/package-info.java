@@ -0,0 +1,14 @@
+/**
+ * Domain event codec package.
+ * 
+ * Contains the pluggable serialization formats used by the event store; the serializers
+ * they apply are declared through the domain.event.codec ports:
+ * - DomainEventCodec: Codec SPI for encoding and decoding domain events
+ * - EventCodecRegistry: Lookup of serializers by event class and type name
+ * - BinaryEventCodec: Compact positional binary format
+ * - JsonEventCodec: Readable JSON format for debugging
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+package com.xavier.smarteducationapi.common.infrastructure.event.codec;
@@ -0,0 +1,234 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.dedup;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drops redelivered events for at-least-once consumers, keyed by consumer and event id.
+ *
+ * Lookups go through three tiers:
+ * <ol>
+ * <li>a {@link RecentEventWindow} of recently handled events, which catches nearly every redelivery;</li>
+ * <li>a {@link EventIdBloomFilter} over everything recorded within the retention period, which
+ * proves most new events were never seen;</li>
+ * <li>{@code event_store.processed_events}, queried only when the bloom filter reports a possible
+ * match or has not been loaded yet.</li>
+ * </ol>
+ * The bloom filter only holds what this node handled or loaded, so for redeliveries, which another
+ * node may have partly handled since the last reload, a miss in the window goes straight to the table.
+ * Processed events enter the window and the bloom filter immediately and are written to the
+ * table in batches, so neither path costs a database round trip per event. The bloom filter is
+ * rebuilt from the table on startup and after the daily partition maintenance, which also drops
+ * days that have left the retention period.
+ *
+ * Events are only recorded after they were handled, so a consumer that crashes before the next
+ * flush may see them again; the window narrows duplicates, it does not make handlers exactly-once.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class EventDeduplicator {
+
+    private final JdbcProcessedEventStore store;
+    private final Clock clock;
+    private final RecentEventWindow window;
+    private final long bloomExpectedEntries;
+    private final double bloomFalsePositiveRate;
+    private final int retentionDays;
+    private final int daysAhead;
+    private final int flushBatchSize;
+
+    private final ConcurrentLinkedQueue<ProcessedEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Object flushLock = new Object();
+
+    private volatile EventIdBloomFilter bloom;
+    private volatile EventIdBloomFilter rebuilding;
+    private volatile boolean bloomLoaded;
+
+    @Autowired
+    public EventDeduplicator(
+            JdbcProcessedEventStore store,
+            @Value("${spring.event-store.dedup.window-size:100000}") int windowSize,
+            @Value("${spring.event-store.dedup.bloom-expected-entries:1000000}") long bloomExpectedEntries,
+            @Value("${spring.event-store.dedup.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate,
+            @Value("${spring.event-store.dedup.retention-days:7}") int retentionDays,
+            @Value("${spring.event-store.dedup.days-ahead:2}") int daysAhead,
+            @Value("${spring.event-store.dedup.flush-batch-size:500}") int flushBatchSize) {
+        this(store, Clock.systemDefaultZone(), windowSize, bloomExpectedEntries, bloomFalsePositiveRate,
+                retentionDays, daysAhead, flushBatchSize);
+    }
+
+    public EventDeduplicator(JdbcProcessedEventStore store, Clock clock, int windowSize, long bloomExpectedEntries,
+                             double bloomFalsePositiveRate, int retentionDays, int daysAhead, int flushBatchSize) {
+        this.store = store;
+        this.clock = clock;
+        this.window = new RecentEventWindow(windowSize);
+        this.bloomExpectedEntries = bloomExpectedEntries;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        this.retentionDays = retentionDays;
+        this.daysAhead = daysAhead;
+        this.flushBatchSize = flushBatchSize;
+        this.bloom = new EventIdBloomFilter(bloomExpectedEntries, bloomFalsePositiveRate);
+    }
+
+    /**
+     * Whether the consumer already handled the event within the retention period
+     */
+    public boolean isDuplicate(String consumer, UUID eventId) {
+        return isDuplicate(consumer, eventId, false);
+    }
+
+    /**
+     * Whether the consumer already handled the event within the retention period
+     * @param redelivered Whether the event was delivered before, so the bloom filter is not trusted
+     */
+    public boolean isDuplicate(String consumer, UUID eventId, boolean redelivered) {
+        if (window.contains(consumer, eventId)) {
+            return true;
+        }
+        if (!redelivered && bloomLoaded && !bloom.mightContain(consumer, eventId)) {
+            return false;
+        }
+        boolean recorded = store.exists(consumer, eventId, oldestRetainedDay());
+        if (recorded) {
+            window.add(consumer, eventId);
+        }
+        return recorded;
+    }
+
+    /**
+     * Record that the consumer handled the event; the row is written with the next batch
+     */
+    public void markProcessed(String consumer, UUID eventId) {
+        window.add(consumer, eventId);
+        bloom.put(consumer, eventId);
+        EventIdBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(consumer, eventId);
+        }
+        pending.add(new ProcessedEvent(consumer, eventId));
+        if (pendingCount.incrementAndGet() >= flushBatchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Write pending records to {@code event_store.processed_events}
+     *
+     * @return number of records written
+     */
+    @Scheduled(fixedDelayString = "${spring.event-store.dedup.flush-interval-ms:1000}")
+    public int flush() {
+        synchronized (flushLock) {
+            int written = 0;
+            while (true) {
+                List<ProcessedEvent> batch = new ArrayList<>(Math.min(pendingCount.get(), flushBatchSize));
+                ProcessedEvent event;
+                while (batch.size() < flushBatchSize && (event = pending.poll()) != null) {
+                    batch.add(event);
+                }
+                if (batch.isEmpty()) {
+                    return written;
+                }
+                try {
+                    store.recordAll(batch, LocalDate.now(clock));
+                } catch (DataAccessException ex) {
+                    // Keep the records for the next flush; the window still covers them meanwhile
+                    pending.addAll(batch);
+                    log.warn("Could not record {} processed event(s): {}", batch.size(), ex.getMessage());
+                    return written;
+                }
+                pendingCount.addAndGet(-batch.size());
+                written += batch.size();
+            }
+        }
+    }
+
+    /**
+     * Create upcoming daily partitions, drop expired ones and reload the bloom filter
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${spring.event-store.partitioning.maintenance-cron:0 0 2 * * *}")
+    public void maintain() {
+        LocalDate today = LocalDate.now(clock);
+        try {
+            int created = store.createPartitions(today, today.plusDays(daysAhead));
+            List<String> dropped = store.dropPartitionsBefore(oldestRetainedDay());
+            if (created > 0 || !dropped.isEmpty()) {
+                log.info("Processed event partitions: {} created, {} dropped", created, dropped.size());
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Processed event partition maintenance failed: {}", ex.getMessage());
+        }
+        rebuildBloomFilter();
+    }
+
+    /**
+     * Rebuild the bloom filter from the retained records, which also forgets expired ones
+     *
+     * @return number of records loaded
+     */
+    public long rebuildBloomFilter() {
+        EventIdBloomFilter next = new EventIdBloomFilter(bloomExpectedEntries, bloomFalsePositiveRate);
+        rebuilding = next;
+        long[] loaded = {0};
+        try {
+            flush();
+            store.forEachSince(oldestRetainedDay(), event -> {
+                next.put(event.consumer(), event.eventId());
+                loaded[0]++;
+            });
+            for (ProcessedEvent event : pending) {
+                next.put(event.consumer(), event.eventId());
+            }
+            bloom = next;
+            bloomLoaded = true;
+            if (loaded[0] > bloomExpectedEntries) {
+                log.warn("Processed event bloom filter holds {} entries, sized for {}; raise "
+                        + "spring.event-store.dedup.bloom-expected-entries", loaded[0], bloomExpectedEntries);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not load processed events, falling back to database lookups: {}", ex.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+        return loaded[0];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public boolean isBloomFilterLoaded() {
+        return bloomLoaded;
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private LocalDate oldestRetainedDay() {
+        return LocalDate.now(clock).minusDays(retentionDays);
+    }
+}
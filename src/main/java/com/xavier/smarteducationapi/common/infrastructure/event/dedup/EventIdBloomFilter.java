@@ -0,0 +1,83 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.dedup;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe bloom filter over (consumer, event id) pairs.
+ *
+ * Sized from the expected number of entries and the acceptable false positive rate. Bits are
+ * only ever set, with a CAS per word, so lookups never block. Bit positions come from double
+ * hashing of the event id mixed with the consumer's hash; random (version 4) ids need no further
+ * hashing.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public final class EventIdBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    public EventIdBloomFilter(long expectedEntries, double falsePositiveRate) {
+        long entries = Math.max(expectedEntries, 1);
+        long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Math.max((optimalBits + 63) / 64, 1), Integer.MAX_VALUE - 8);
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount * Long.SIZE;
+        this.hashes = (int) Math.max(1, Math.min(16, Math.round((double) bits / entries * Math.log(2))));
+    }
+
+    public void put(String consumer, UUID eventId) {
+        long hash1 = hash1(consumer, eventId);
+        long hash2 = hash2(eventId);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    /**
+     * False means the pair was definitely never added
+     */
+    public boolean mightContain(String consumer, UUID eventId) {
+        long hash1 = hash1(consumer, eventId);
+        long hash2 = hash2(eventId);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bits;
+    }
+
+    public int hashCount() {
+        return hashes;
+    }
+
+    private static long hash1(String consumer, UUID eventId) {
+        return mix(eventId.getMostSignificantBits() ^ consumer.hashCode() * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long hash2(UUID eventId) {
+        return mix(eventId.getLeastSignificantBits()) | 1;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
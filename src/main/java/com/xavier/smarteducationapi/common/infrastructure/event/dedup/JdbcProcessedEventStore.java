@@ -0,0 +1,146 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.dedup;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Persistent log of processed events in {@code event_store.processed_events}.
+ *
+ * The table is range partitioned by {@code processed_on} with one partition per day, named
+ * {@code processed_events_yYYYYmMMdDD}. Expired days are removed by dropping their partitions
+ * instead of deleting rows.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcProcessedEventStore {
+
+    public static final String TABLE = "processed_events";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'_y'yyyy'm'MM'd'dd");
+
+    private static final String CREATE_PARTITIONS = "SELECT event_store.create_daily_partitions(?, ?, ?)";
+
+    private static final String SELECT_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = 'event_store' AND c.relkind = 'r' AND c.relname ~ '^processed_events_y[0-9]{4}m[0-9]{2}d[0-9]{2}$'
+            ORDER BY c.relname
+            """;
+
+    private static final String DROP_PARTITION = "DROP TABLE IF EXISTS event_store.%s";
+
+    private static final String EXISTS = """
+            SELECT EXISTS (
+                SELECT 1 FROM event_store.processed_events
+                WHERE consumer = ? AND event_id = ? AND processed_on >= ?
+            )
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO event_store.processed_events (consumer, event_id, processed_on)
+            VALUES (?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SELECT_SINCE = """
+            SELECT consumer, event_id
+            FROM event_store.processed_events
+            WHERE processed_on >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final int fetchSize;
+
+    public JdbcProcessedEventStore(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.event-store.dedup.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Whether the consumer recorded the event on or after {@code since}
+     */
+    public boolean exists(String consumer, UUID eventId, LocalDate since) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS, Boolean.class,
+                consumer, eventId, Date.valueOf(since)));
+    }
+
+    /**
+     * Record processed events in one batch; events already recorded that day are ignored
+     */
+    public void recordAll(List<ProcessedEvent> events, LocalDate processedOn) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Date day = Date.valueOf(processedOn);
+        jdbcTemplate.batchUpdate(INSERT, events.stream()
+                .map(event -> new Object[] {event.consumer(), event.eventId(), day})
+                .toList());
+    }
+
+    /**
+     * Stream every event recorded on or after {@code since}
+     */
+    public void forEachSince(LocalDate since, Consumer<ProcessedEvent> consumer) {
+        readTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_SINCE);
+            statement.setFetchSize(fetchSize);
+            statement.setDate(1, Date.valueOf(since));
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(
+                new ProcessedEvent(rs.getString("consumer"), rs.getObject("event_id", UUID.class)))));
+    }
+
+    /**
+     * Create missing daily partitions between two days (inclusive)
+     *
+     * @return number of partitions created
+     */
+    public int createPartitions(LocalDate from, LocalDate to) {
+        Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class,
+                TABLE, Date.valueOf(from), Date.valueOf(to));
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Drop the partitions of days before {@code day}
+     *
+     * @return names of the dropped partitions
+     */
+    public List<String> dropPartitionsBefore(LocalDate day) {
+        String oldest = TABLE + day.format(PARTITION_SUFFIX);
+        List<String> expired = new ArrayList<>();
+        jdbcTemplate.query(SELECT_PARTITIONS, (RowCallbackHandler) rs -> {
+            String name = rs.getString("relname");
+            if (name.compareTo(oldest) < 0) {
+                expired.add(name);
+            }
+        });
+        for (String name : expired) {
+            jdbcTemplate.execute(DROP_PARTITION.formatted(name));
+        }
+        return expired;
+    }
+}
@@ -0,0 +1,16 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.dedup;
+
+import java.util.UUID;
+
+/**
+ * An event handled by one consumer.
+ *
+ * @param consumer name of the consumer, unique per handler
+ * @param eventId id of the handled event
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record ProcessedEvent(String consumer, UUID eventId) {
+}
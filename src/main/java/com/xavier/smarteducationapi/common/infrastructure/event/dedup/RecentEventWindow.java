@@ -0,0 +1,76 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.dedup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded LRU set of the (consumer, event id) pairs handled most recently.
+ *
+ * Redeliveries almost always follow the original delivery closely, so this window answers the
+ * common case. It is split into independently locked stripes so that concurrent workers rarely
+ * contend; each stripe evicts its least recently used entry when full.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public final class RecentEventWindow {
+
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public RecentEventWindow(int capacity) {
+        int perStripe = Math.max(capacity / STRIPES, 1);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    public boolean contains(String consumer, UUID eventId) {
+        ProcessedEvent key = new ProcessedEvent(consumer, eventId);
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.get(key) != null;
+        }
+    }
+
+    public void add(String consumer, UUID eventId) {
+        ProcessedEvent key = new ProcessedEvent(consumer, eventId);
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, Boolean.TRUE);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(ProcessedEvent key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe extends LinkedHashMap<ProcessedEvent, Boolean> {
+
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ProcessedEvent, Boolean> eldest) {
+            return size() > capacity;
+        }
+    }
+}
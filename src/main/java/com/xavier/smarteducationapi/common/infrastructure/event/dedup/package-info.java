@@ -0,0 +1,14 @@
+/**
+ * Consumer-side event deduplication package.
+ * 
+ * Lets at-least-once consumers drop redelivered events without a database round trip per event:
+ * - EventDeduplicator: Window, bloom filter and database lookups with batched writes
+ * - RecentEventWindow: Striped LRU window of recently handled events
+ * - EventIdBloomFilter: Lock-free bloom filter over consumer and event id pairs
+ * - JdbcProcessedEventStore: Day-partitioned processed_events table
+ * - ProcessedEvent: Consumer and event id pair
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+package com.xavier.smarteducationapi.common.infrastructure.event.dedup;
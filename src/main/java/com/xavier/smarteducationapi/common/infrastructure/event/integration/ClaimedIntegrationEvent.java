@@ -0,0 +1,32 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.integration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A row of {@code event_store.integration_events} claimed by a worker.
+ *
+ * @param eventId event identifier
+ * @param createdAt partition key of the row
+ * @param eventType topic of the event
+ * @param sourceContext bounded context that published the event
+ * @param targetContexts bounded contexts the event is delivered to; {@code "*"} for all
+ * @param payload JSON envelope produced by the JSON event codec
+ * @param attempts delivery attempts including the current one
+ * @param maxAttempts attempts after which the row is dead-lettered
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record ClaimedIntegrationEvent(UUID eventId, LocalDateTime createdAt, String eventType, String sourceContext,
+        List<String> targetContexts, String payload, int attempts, int maxAttempts) {
+
+    /**
+     * Whether a failure of the current attempt exhausts the retries
+     */
+    public boolean isLastAttempt() {
+        return attempts >= maxAttempts;
+    }
+}
@@ -0,0 +1,79 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.integration;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.application.event.IntegrationEventHandler;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.IntegrationEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.StoredEventDecoder;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.JsonEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.dedup.EventDeduplicator;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventPublishingException;
+
+/**
+ * Fans a claimed integration event out to the {@link IntegrationEventHandler}s of its target contexts.
+ *
+ * Handlers that already completed the event, for example before another handler failed and the
+ * event was retried, are skipped through the {@link EventDeduplicator}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+public class IntegrationEventDispatcher {
+
+    /** Target context addressing every handler */
+    public static final String ALL_CONTEXTS = "*";
+
+    private final StoredEventDecoder decoder;
+    private final EventDeduplicator deduplicator;
+    private final List<IntegrationEventHandler> handlers;
+
+    public IntegrationEventDispatcher(StoredEventDecoder decoder, EventDeduplicator deduplicator,
+                                      ObjectProvider<IntegrationEventHandler> handlers) {
+        this.decoder = decoder;
+        this.deduplicator = deduplicator;
+        this.handlers = handlers.orderedStream().toList();
+    }
+
+    /**
+     * Deliver an event to every matching handler that has not handled it yet, in handler order;
+     * the first failure is rethrown
+     *
+     * @return number of handlers the event was delivered to
+     */
+    public int dispatch(ClaimedIntegrationEvent claimed) {
+        List<IntegrationEventHandler> targets = handlersFor(claimed);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        DomainEvent decoded = decoder.decode(JsonEventCodec.FORMAT, claimed.eventId().toString(), null, claimed.payload());
+        if (!(decoded instanceof IntegrationEvent event)) {
+            throw new EventPublishingException(claimed.eventType(), claimed.eventId().toString(),
+                    "Payload does not decode to an integration event", null);
+        }
+        int delivered = 0;
+        for (IntegrationEventHandler handler : targets) {
+            String consumer = handler.getConsumerName();
+            if (deduplicator.isDuplicate(consumer, claimed.eventId(), claimed.attempts() > 1)) {
+                continue;
+            }
+            handler.handle(event);
+            deduplicator.markProcessed(consumer, claimed.eventId());
+            delivered++;
+        }
+        return delivered;
+    }
+
+    private List<IntegrationEventHandler> handlersFor(ClaimedIntegrationEvent claimed) {
+        boolean broadcast = claimed.targetContexts().contains(ALL_CONTEXTS);
+        return handlers.stream()
+                .filter(handler -> broadcast || claimed.targetContexts().contains(handler.getContext()))
+                .filter(handler -> handler.getEventTypes().isEmpty() || handler.getEventTypes().contains(claimed.eventType()))
+                .toList();
+    }
+}
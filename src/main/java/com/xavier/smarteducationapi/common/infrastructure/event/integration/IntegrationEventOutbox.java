@@ -0,0 +1,72 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.integration;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.domain.event.IntegrationEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.EventCodecRegistry;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.JsonEventCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes integration events to {@code event_store.integration_events} for asynchronous delivery.
+ *
+ * Events are enqueued in the publishing transaction, so they are delivered only if that
+ * transaction commits. The row's {@code created_at} is the event's occurrence time, which makes
+ * enqueueing the same event twice a no-op.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class IntegrationEventOutbox {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO event_store.integration_events
+                (event_id, event_type, source_context, target_contexts, payload, max_attempts, created_at, next_attempt_at)
+            VALUES (?, ?, ?, ?, CAST(? AS JSONB), ?, ?, LOCALTIMESTAMP)
+            ON CONFLICT (event_id, created_at) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventCodecRegistry registry;
+    private final JsonEventCodec codec;
+    private final int maxAttempts;
+
+    public IntegrationEventOutbox(
+            JdbcTemplate jdbcTemplate,
+            EventCodecRegistry registry,
+            JsonEventCodec codec,
+            @Value("${spring.event-store.integration.max-attempts:5}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.registry = registry;
+        this.codec = codec;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void enqueue(IntegrationEvent event) {
+        if (!registry.supports(event)) {
+            log.warn("Integration event {} has no registered serializer and is not delivered", event.getClass().getName());
+            return;
+        }
+        String payload = codec.encodeToString(event);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_EVENT);
+            statement.setObject(1, event.getEventId());
+            statement.setString(2, event.topic());
+            statement.setString(3, event.getSourceContext());
+            statement.setArray(4, connection.createArrayOf("text", event.getTargetContexts()));
+            statement.setString(5, payload);
+            statement.setInt(6, maxAttempts);
+            statement.setTimestamp(7, Timestamp.from(event.occurredOn()));
+            return statement;
+        });
+    }
+}
@@ -0,0 +1,188 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.integration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pool of threads delivering {@code event_store.integration_events}.
+ *
+ * Each worker claims batches through the {@link JdbcIntegrationEventQueue} and dispatches them;
+ * workers never coordinate with each other, so throughput grows with the number of workers and
+ * nodes until the database becomes the limit. A worker that claims a full batch continues
+ * immediately, otherwise it waits {@code poll-interval-ms} (with jitter) before polling again.
+ *
+ * Failed deliveries are retried after an exponential backoff of {@code backoff-initial-ms}
+ * doubling up to {@code backoff-max-ms}, randomised between half and the full delay; rows that
+ * exhaust {@code max_attempts} are moved to {@code DEAD_LETTER}.
+ *
+ * On shutdown every worker is interrupted and the pool waits at most five seconds in total for
+ * them; rows claimed by a worker that is still running are redelivered once their lease expires.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class IntegrationEventWorkerPool implements SmartLifecycle {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final JdbcIntegrationEventQueue queue;
+    private final IntegrationEventDispatcher dispatcher;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final Duration lease;
+    private final long backoffInitialMillis;
+    private final long backoffMaxMillis;
+    private final Object idle = new Object();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public IntegrationEventWorkerPool(
+            JdbcIntegrationEventQueue queue,
+            IntegrationEventDispatcher dispatcher,
+            @Value("${spring.event-store.integration.enabled:true}") boolean enabled,
+            @Value("${spring.event-store.integration.workers:2}") int workers,
+            @Value("${spring.event-store.integration.batch-size:50}") int batchSize,
+            @Value("${spring.event-store.integration.poll-interval-ms:500}") long pollIntervalMillis,
+            @Value("${spring.event-store.integration.lease-seconds:300}") long leaseSeconds,
+            @Value("${spring.event-store.integration.backoff-initial-ms:1000}") long backoffInitialMillis,
+            @Value("${spring.event-store.integration.backoff-max-ms:600000}") long backoffMaxMillis) {
+        this.queue = queue;
+        this.dispatcher = dispatcher;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.backoffInitialMillis = backoffInitialMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            threads.add(Thread.ofPlatform()
+                    .name("integration-worker-" + i)
+                    .start(this::work));
+        }
+        log.info("Started {} integration event worker(s)", workers);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        synchronized (idle) {
+            idle.notifyAll();
+        }
+        threads.forEach(Thread::interrupt);
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        for (Thread thread : threads) {
+            try {
+                thread.join(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0)));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (thread.isAlive()) {
+                log.warn("Integration worker {} did not stop within {} s; its claimed rows are redelivered "
+                        + "when their lease expires", thread.getName(), SHUTDOWN_TIMEOUT.toSeconds());
+            }
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Claim and deliver one batch
+     *
+     * @return number of rows claimed
+     */
+    public int processBatch() {
+        List<ClaimedIntegrationEvent> batch = queue.claim(batchSize, lease);
+        List<ClaimedIntegrationEvent> delivered = new ArrayList<>(batch.size());
+        for (ClaimedIntegrationEvent event : batch) {
+            try {
+                dispatcher.dispatch(event);
+                delivered.add(event);
+            } catch (RuntimeException ex) {
+                Duration retryIn = backoff(event.attempts());
+                queue.fail(event, String.valueOf(ex.getMessage()), retryIn);
+                if (event.isLastAttempt()) {
+                    log.error("Integration event {} ({}) dead-lettered after {} attempt(s)",
+                            event.eventId(), event.eventType(), event.attempts(), ex);
+                } else {
+                    log.warn("Integration event {} ({}) failed on attempt {}, retrying in {} ms: {}",
+                            event.eventId(), event.eventType(), event.attempts(), retryIn.toMillis(), ex.getMessage());
+                }
+            }
+        }
+        queue.complete(delivered);
+        return batch.size();
+    }
+
+    /**
+     * Delay before the attempt following {@code attempts} failed ones
+     */
+    public Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = Math.min(backoffInitialMillis << doublings, backoffMaxMillis);
+        if (delay < 0 || delay > backoffMaxMillis) {
+            delay = backoffMaxMillis;
+        }
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(delay - half + 1));
+    }
+
+    private void work() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            int claimed;
+            try {
+                claimed = processBatch();
+            } catch (DataAccessException ex) {
+                log.warn("Claiming integration events failed: {}", ex.getMessage());
+                claimed = 0;
+            }
+            if (claimed < batchSize) {
+                pause();
+            }
+        }
+    }
+
+    private void pause() {
+        long jitter = ThreadLocalRandom.current().nextLong(pollIntervalMillis / 4 + 1);
+        synchronized (idle) {
+            if (!running) {
+                return;
+            }
+            try {
+                idle.wait(pollIntervalMillis + jitter);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
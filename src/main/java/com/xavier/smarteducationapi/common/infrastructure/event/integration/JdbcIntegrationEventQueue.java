@@ -0,0 +1,111 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.integration;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Work queue over {@code event_store.integration_events}.
+ *
+ * Rows are claimed with {@code FOR UPDATE SKIP LOCKED} and marked {@code PROCESSING} in the same
+ * statement, so concurrent workers on any number of nodes never claim the same row. Handlers run
+ * outside of that statement; a row whose worker does not report back within the lease is claimed
+ * again. Results are only recorded while the row is still held by the same attempt.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcIntegrationEventQueue {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final String CLAIM_EVENTS = """
+            WITH claimable AS (
+                SELECT event_id, created_at
+                FROM event_store.integration_events
+                WHERE (status IN ('PENDING', 'FAILED') AND next_attempt_at <= LOCALTIMESTAMP)
+                   OR (status = 'PROCESSING' AND last_attempt_at < LOCALTIMESTAMP - make_interval(secs => ?))
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE event_store.integration_events e
+            SET status = 'PROCESSING', attempts = COALESCE(e.attempts, 0) + 1, last_attempt_at = LOCALTIMESTAMP
+            FROM claimable c
+            WHERE e.event_id = c.event_id AND e.created_at = c.created_at
+            RETURNING e.event_id, e.created_at, e.event_type, e.source_context, e.target_contexts,
+                      e.payload::text AS payload, e.attempts, COALESCE(e.max_attempts, 3) AS max_attempts
+            """;
+
+    private static final String COMPLETE_EVENT = """
+            UPDATE event_store.integration_events
+            SET status = 'COMPLETED', processed_at = LOCALTIMESTAMP, error_message = NULL
+            WHERE event_id = ? AND created_at = ? AND status = 'PROCESSING' AND attempts = ?
+            """;
+
+    private static final String FAIL_EVENT = """
+            UPDATE event_store.integration_events
+            SET status = ?, error_message = ?, next_attempt_at = LOCALTIMESTAMP + make_interval(secs => ?)
+            WHERE event_id = ? AND created_at = ? AND status = 'PROCESSING' AND attempts = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcIntegrationEventQueue(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claim up to {@code limit} due rows, oldest schedule first
+     */
+    public List<ClaimedIntegrationEvent> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_EVENTS, (rs, rowNum) -> map(rs), lease.toSeconds(), limit);
+    }
+
+    public void complete(List<ClaimedIntegrationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(COMPLETE_EVENT, events.stream()
+                .map(event -> new Object[] {event.eventId(), Timestamp.valueOf(event.createdAt()), event.attempts()})
+                .toList());
+    }
+
+    /**
+     * Record a failed attempt; the row is retried after {@code retryIn} or, when its attempts are
+     * exhausted, moved to {@code DEAD_LETTER}
+     */
+    public void fail(ClaimedIntegrationEvent event, String error, Duration retryIn) {
+        String message = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update(FAIL_EVENT,
+                event.isLastAttempt() ? "DEAD_LETTER" : "FAILED",
+                message,
+                retryIn.toMillis() / 1000.0,
+                event.eventId(),
+                Timestamp.valueOf(event.createdAt()),
+                event.attempts());
+    }
+
+    private static ClaimedIntegrationEvent map(ResultSet rs) throws SQLException {
+        Array targets = rs.getArray("target_contexts");
+        return new ClaimedIntegrationEvent(
+                UUID.fromString(rs.getString("event_id")),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getString("event_type"),
+                rs.getString("source_context"),
+                targets != null ? Arrays.asList((String[]) targets.getArray()) : List.of("*"),
+                rs.getString("payload"),
+                rs.getInt("attempts"),
+                rs.getInt("max_attempts"));
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Integration event delivery package.
+ * 
+ * Contains the outbox and the workers delivering integration events between bounded contexts:
+ * - IntegrationEventOutbox: Enqueues integration events in the publishing transaction
+ * - JdbcIntegrationEventQueue: Claims rows with FOR UPDATE SKIP LOCKED and records results
+ * - IntegrationEventDispatcher: Fans events out to handlers by target context
+ * - IntegrationEventWorkerPool: Worker threads with exponential backoff and dead-lettering
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+package com.xavier.smarteducationapi.common.infrastructure.event.integration;
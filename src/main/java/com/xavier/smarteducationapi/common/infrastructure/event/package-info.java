@@ -3,8 +3,15 @@
  * 
  * Contains concrete implementations of event publishing and handling:
  * - SpringDomainEventPublisher: Spring-based domain event publisher
- * - Event store implementations
- * - Integration event handlers
+ * - TopicEventRouter: Precompiled topic-based routing to @TopicListener methods
+ * - JdbcEventStore / StoredEventDecoder: JDBC event store and row decoding
+ * - ProjectionReplayEngine: Parallel, checkpointed projection rebuilds
+ * - SnapshottingAggregateLoader / JdbcSnapshotStore: Snapshot-based aggregate loading
+ * - integration: Outbox and worker pool delivering integration events
+ * - dedup: Consumer-side deduplication of redelivered events
+ * - publication: Spring Modulith publication registry purge, resubmission and lag
+ * - partition: Monthly partitions, archival and memory-mapped segments
+ * - stream: Server-Sent Events streams tailing the event store
  * 
  * This package is part of the common module's public API.
  * 
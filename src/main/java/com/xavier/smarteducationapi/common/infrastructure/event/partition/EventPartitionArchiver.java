@@ -0,0 +1,331 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.partition;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventPartitionManager.PartitionState;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventArchiveException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves event table partitions older than the retention period out of PostgreSQL.
+ *
+ * An expired partition is streamed, while still attached, through a server-side cursor into a
+ * gzip-compressed file under {@code spring.event-store.archive.directory}, which is synced and
+ * atomically renamed into place. Domain events are written as {@link EventSegmentWriter segments}
+ * ({@code <partition>.seg.gz}) and handed to the {@link EventSegmentStore}, which reads events
+ * found in both a segment and the database only once; integration events, which are only kept
+ * for auditing, are written as JSON lines ({@code <partition>.ndjson.gz}). Only then is the
+ * partition detached with {@code DETACH PARTITION ... CONCURRENTLY} and dropped, so its events stay
+ * readable throughout.
+ *
+ * The archive directory must be storage shared by all nodes. A segment is left in place for
+ * {@code publish-delay-ms} before its partition is detached, long enough for every node's segment
+ * store to map it; with the daily schedule, the partition is dropped by the run after its export.
+ * Runs are serialized across nodes with a PostgreSQL advisory lock: a node that does not get the
+ * lock neither exports nor drops anything.
+ *
+ * Partitions left exported, or detached, by an interrupted run are picked up again by the next one.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class EventPartitionArchiver {
+
+    public static final String SEGMENT_SUFFIX = ".seg.gz";
+    public static final String JSON_LINES_SUFFIX = ".ndjson.gz";
+
+    private static final String DOMAIN_EVENTS = "domain_events";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String SELECT_SEGMENT_ROWS = """
+            SELECT position, event_id, aggregate_id, aggregate_type, event_type, occurred_on,
+                   payload_format, payload, event_data::text AS event_data
+            FROM event_store.%s
+            ORDER BY position
+            """;
+
+    private static final String SELECT_JSON_ROWS = "SELECT row_to_json(e)::text AS row FROM event_store.%s e ORDER BY created_at";
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtextextended('event_store.archive', 0))";
+
+    private static final String UNLOCK = "SELECT pg_advisory_unlock(hashtextextended('event_store.archive', 0))";
+
+    private static final String DETACH_PARTITION =
+            "ALTER TABLE event_store.%s DETACH PARTITION event_store.%s CONCURRENTLY";
+
+    private static final String FINALIZE_DETACH = "ALTER TABLE event_store.%s DETACH PARTITION event_store.%s FINALIZE";
+
+    private static final String DROP_PARTITION = "DROP TABLE event_store.%s";
+
+    private final EventPartitionManager partitionManager;
+    private final EventSegmentStore segmentStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Path directory;
+    private final int retentionMonths;
+    private final int fetchSize;
+    private final long publishDelayMillis;
+
+    @Autowired
+    public EventPartitionArchiver(
+            EventPartitionManager partitionManager,
+            EventSegmentStore segmentStore,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.event-store.archive.enabled:false}") boolean enabled,
+            @Value("${spring.event-store.archive.directory:./data/event-archive}") Path directory,
+            @Value("${spring.event-store.archive.retention-months:12}") int retentionMonths,
+            @Value("${spring.event-store.archive.fetch-size:1000}") int fetchSize,
+            @Value("${spring.event-store.archive.publish-delay-ms:300000}") long publishDelayMillis) {
+        this(partitionManager, segmentStore, jdbcTemplate, transactionManager, Clock.systemUTC(), enabled, directory,
+                retentionMonths, fetchSize, publishDelayMillis);
+    }
+
+    public EventPartitionArchiver(EventPartitionManager partitionManager, EventSegmentStore segmentStore,
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, Clock clock, boolean enabled,
+            Path directory, int retentionMonths, int fetchSize, long publishDelayMillis) {
+        if (retentionMonths < 1) {
+            throw new IllegalStateException("Event archive retention must be at least one month, was " + retentionMonths);
+        }
+        this.partitionManager = partitionManager;
+        this.segmentStore = segmentStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.retentionMonths = retentionMonths;
+        this.fetchSize = fetchSize;
+        this.publishDelayMillis = publishDelayMillis;
+    }
+
+    /**
+     * Archive every partition whose month lies before the retention period, unless another node
+     * is archiving
+     *
+     * @return files written or completed by this run
+     */
+    @Scheduled(cron = "${spring.event-store.archive.cron:0 30 2 * * *}")
+    public List<Path> archiveExpiredPartitions() {
+        if (!enabled) {
+            return List.of();
+        }
+        return withArchiveLock(() -> {
+            YearMonth oldestRetained = partitionManager.currentMonth().minusMonths(retentionMonths);
+            List<Path> archived = new ArrayList<>();
+            for (String table : EventPartitionManager.PARTITIONED_TABLES) {
+                for (PartitionState state : partitionManager.findPartitions(table)) {
+                    if (!state.partition().month().isBefore(oldestRetained)) {
+                        continue;
+                    }
+                    try {
+                        archived.add(archiveLocked(state));
+                    } catch (EventArchiveException | DataAccessException ex) {
+                        log.error("Partition {} was not archived and will be retried", state.partition().name(), ex);
+                    }
+                }
+            }
+            return archived;
+        }).orElseGet(() -> {
+            log.info("Event partitions are being archived by another node; skipping this run");
+            return List.of();
+        });
+    }
+
+    /**
+     * Export one partition, then detach and drop it once its segment has been published
+     *
+     * @throws EventArchiveException when another node is archiving or the export fails
+     */
+    public Path archive(PartitionState state) {
+        return withArchiveLock(() -> archiveLocked(state)).orElseThrow(() -> new EventArchiveException(
+                state.partition().name(), "Another node is archiving event partitions"));
+    }
+
+    private Path archiveLocked(PartitionState state) {
+        MonthlyPartition partition = state.partition();
+        Path file = fileFor(partition);
+        if (!Files.exists(file)) {
+            file = export(partition);
+        }
+        if (DOMAIN_EVENTS.equals(partition.table())) {
+            if (!segmentStore.load(partition, file)) {
+                throw new EventArchiveException(partition.name(), "Could not load segment file " + file);
+            }
+            if (!isPublished(file)) {
+                log.info("Partition {} is exported; it is dropped once every node had {} ms to map its segment",
+                        partition.name(), publishDelayMillis);
+                return file;
+            }
+        }
+        if (state.detachPending()) {
+            jdbcTemplate.execute(FINALIZE_DETACH.formatted(partition.table(), partition.name()));
+        } else if (state.attached()) {
+            jdbcTemplate.execute(DETACH_PARTITION.formatted(partition.table(), partition.name()));
+        }
+        jdbcTemplate.execute(DROP_PARTITION.formatted(partition.name()));
+        return file;
+    }
+
+    private boolean isPublished(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis() <= clock.millis() - publishDelayMillis;
+        } catch (IOException ex) {
+            throw new EventArchiveException(file.getFileName().toString(), "Could not read segment file", ex);
+        }
+    }
+
+    /**
+     * Run while holding the session-level archive lock on a connection of its own, so that
+     * exports, which can take long, do not hold a transaction open
+     *
+     * @return the result, empty when another node holds the lock
+     */
+    private <T> Optional<T> withArchiveLock(Supplier<T> work) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                boolean acquired;
+                try (ResultSet rs = statement.executeQuery(TRY_LOCK)) {
+                    acquired = rs.next() && rs.getBoolean(1);
+                }
+                if (!acquired) {
+                    return Optional.empty();
+                }
+                try {
+                    return Optional.of(work.get());
+                } finally {
+                    statement.execute(UNLOCK);
+                }
+            }
+        });
+    }
+
+    /**
+     * Archive file of a partition, whether or not it has been written yet
+     */
+    public Path fileFor(MonthlyPartition partition) {
+        String suffix = DOMAIN_EVENTS.equals(partition.table()) ? SEGMENT_SUFFIX : JSON_LINES_SUFFIX;
+        return directory.resolve(partition.name() + suffix);
+    }
+
+    private Path export(MonthlyPartition partition) {
+        Path target = fileFor(partition);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        boolean moved = false;
+        try {
+            Files.createDirectories(directory);
+            long rows;
+            try (OutputStream out = new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), BUFFER_SIZE)) {
+                rows = DOMAIN_EVENTS.equals(partition.table())
+                        ? writeSegment(partition, out)
+                        : writeJsonLines(partition, out);
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+            log.info("Archived {} rows of partition {} to {}", rows, partition.name(), target);
+            return target;
+        } catch (IOException | UncheckedIOException ex) {
+            throw EventArchiveException.writeFailed(partition.name(), ex);
+        } finally {
+            if (!moved) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete {}; the next run overwrites it", file);
+        }
+    }
+
+    private long writeSegment(MonthlyPartition partition, OutputStream out) throws IOException {
+        EventSegmentWriter writer = new EventSegmentWriter(out);
+        stream(SELECT_SEGMENT_ROWS.formatted(partition.name()), rs -> {
+            byte[] payload = rs.getBytes("payload");
+            if (payload == null) {
+                payload = rs.getString("event_data").getBytes(StandardCharsets.UTF_8);
+            }
+            try {
+                writer.append(rs.getLong("position"),
+                        UUID.fromString(rs.getString("event_id")),
+                        rs.getString("aggregate_id"),
+                        rs.getString("aggregate_type"),
+                        rs.getString("event_type"),
+                        rs.getTimestamp("occurred_on").toInstant(),
+                        rs.getString("payload_format"),
+                        payload);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        writer.close();
+        return writer.getRecordCount();
+    }
+
+    private long writeJsonLines(MonthlyPartition partition, OutputStream out) {
+        long[] rows = new long[1];
+        stream(SELECT_JSON_ROWS.formatted(partition.name()), rs -> {
+            try {
+                out.write(rs.getString("row").getBytes(StandardCharsets.UTF_8));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        readTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, handler));
+    }
+}
@@ -0,0 +1,122 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.partition;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps monthly partitions of the event tables created ahead of time.
+ *
+ * {@code event_store.domain_events} is partitioned by {@code occurred_on} and
+ * {@code event_store.integration_events} by {@code created_at}. There is no default partition,
+ * so inserts for a month without a partition fail; partitions for the current month and the
+ * next {@code months-ahead} months are created on startup and by a daily job.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class EventPartitionManager {
+
+    /**
+     * Partitioned tables of the {@code event_store} schema
+     */
+    public static final List<String> PARTITIONED_TABLES = List.of("domain_events", "integration_events");
+
+    private static final String CREATE_PARTITIONS = "SELECT event_store.create_monthly_partitions(?, ?, ?)";
+
+    private static final String SELECT_PARTITIONS = """
+            SELECT c.relname, i.inhrelid IS NOT NULL AS attached,
+                   COALESCE(i.inhdetachpending, FALSE) AS detach_pending
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            LEFT JOIN pg_inherits i ON i.inhrelid = c.oid
+            WHERE n.nspname = 'event_store' AND c.relkind = 'r' AND c.relname ~ ?
+            ORDER BY c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+
+    @Autowired
+    public EventPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.event-store.partitioning.months-ahead:3}") int monthsAhead) {
+        this(jdbcTemplate, Clock.systemDefaultZone(), monthsAhead);
+    }
+
+    public EventPartitionManager(JdbcTemplate jdbcTemplate, Clock clock, int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Create missing partitions from the current month up to {@code months-ahead} months ahead
+     *
+     * @return number of partitions created
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${spring.event-store.partitioning.maintenance-cron:0 0 2 * * *}")
+    public int ensureFuturePartitions() {
+        YearMonth current = YearMonth.now(clock);
+        int created = 0;
+        for (String table : PARTITIONED_TABLES) {
+            Integer count = jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class,
+                    table, current.atDay(1), current.plusMonths(monthsAhead).atDay(1));
+            created += count != null ? count : 0;
+        }
+        if (created > 0) {
+            log.info("Created {} event table partitions up to {}", created, current.plusMonths(monthsAhead));
+        }
+        return created;
+    }
+
+    /**
+     * Monthly partitions of a table, including detached ones that have not been dropped yet
+     */
+    public List<PartitionState> findPartitions(String table) {
+        List<PartitionState> partitions = new ArrayList<>();
+        jdbcTemplate.query(SELECT_PARTITIONS, (RowCallbackHandler) rs -> {
+            boolean attached = rs.getBoolean("attached");
+            boolean detachPending = rs.getBoolean("detach_pending");
+            MonthlyPartition.parse(rs.getString("relname"))
+                    .filter(partition -> partition.table().equals(table))
+                    .ifPresent(partition -> partitions.add(new PartitionState(partition, attached, detachPending)));
+        }, MonthlyPartition.namePattern(table));
+        return partitions;
+    }
+
+    /**
+     * Current month according to the manager's clock
+     */
+    public YearMonth currentMonth() {
+        return YearMonth.now(clock);
+    }
+
+    /**
+     * A partition, whether it is still attached to its parent table and whether a concurrent
+     * detach of it was interrupted before completing
+     */
+    public record PartitionState(MonthlyPartition partition, boolean attached, boolean detachPending) {
+
+        public PartitionState(MonthlyPartition partition, boolean attached) {
+            this(partition, attached, false);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.partition;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read access to domain events archived by {@link EventPartitionArchiver}.
+ *
+ * Archived segments are gzip-compressed; the first time a segment is loaded it is expanded into
+ * {@code spring.event-store.archive.cache-directory} together with its {@link SegmentIndex}, and
+ * from then on it is served from a {@link MappedEventSegment memory mapping}. Queries use the
+ * sparse index to skip blocks and never touch the database.
+ *
+ * {@code spring.event-store.archive.directory} is shared by every node; segments archived by
+ * another node are mapped by the next {@link #refresh()}, every {@code refresh-interval-ms}.
+ * The cache directory is local to each node.
+ *
+ * Month boundaries follow the partition bounds, which are {@code TIMESTAMP} values in the JVM's
+ * default time zone.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class EventSegmentStore {
+
+    private static final String DOMAIN_EVENTS = "domain_events";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final Path cacheDirectory;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private volatile NavigableMap<YearMonth, MappedEventSegment> segments = Collections.emptyNavigableMap();
+
+    public EventSegmentStore(
+            @Value("${spring.event-store.archive.directory:./data/event-archive}") Path directory,
+            @Value("${spring.event-store.archive.cache-directory:./data/event-segments}") Path cacheDirectory) {
+        this.directory = directory;
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Load archived segments that are not mapped yet, including those archived by another node
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${spring.event-store.archive.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EventPartitionArchiver.SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                MonthlyPartition.parse(name.substring(0, name.length() - EventPartitionArchiver.SEGMENT_SUFFIX.length()))
+                        .filter(partition -> partition.table().equals(DOMAIN_EVENTS))
+                        .filter(partition -> !segments.containsKey(partition.month()))
+                        .ifPresent(partition -> load(partition, file));
+            }
+        } catch (IOException ex) {
+            log.error("Could not list archived segments in {}", directory, ex);
+        }
+    }
+
+    /**
+     * Map one archived segment, expanding it first if needed
+     *
+     * @return whether the segment is now available
+     */
+    public synchronized boolean load(MonthlyPartition partition, Path archived) {
+        try {
+            MappedEventSegment segment = open(partition, archived);
+            NavigableMap<YearMonth, MappedEventSegment> updated = new TreeMap<>(segments);
+            updated.put(partition.month(), segment);
+            segments = Collections.unmodifiableNavigableMap(updated);
+            log.info("Mapped archived segment {} ({} blocks)", partition.name(), segment.getIndex().getBlocks().size());
+            return true;
+        } catch (IOException ex) {
+            log.error("Could not load archived segment {}", archived, ex);
+            return false;
+        }
+    }
+
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * Whether every month touched by {@code [start, end)} has been archived, so the range can be
+     * answered from segments alone
+     */
+    public boolean covers(Instant start, Instant end) {
+        NavigableMap<YearMonth, MappedEventSegment> current = segments;
+        if (current.isEmpty() || !end.isAfter(start)) {
+            return false;
+        }
+        YearMonth last = YearMonth.from(LocalDateTime.ofInstant(end, zone).minusNanos(1));
+        for (YearMonth month = monthOf(start); !month.isAfter(last); month = month.plusMonths(1)) {
+            if (!current.containsKey(month)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Archived events of one aggregate in storage order
+     */
+    public List<SegmentRecord> findByAggregate(String aggregateId, String aggregateType) {
+        List<SegmentRecord> records = new ArrayList<>();
+        for (MappedEventSegment segment : segments.values()) {
+            records.addAll(segment.findByAggregate(aggregateId, aggregateType));
+        }
+        return records;
+    }
+
+    /**
+     * Archived events with {@code start <= occurred_on < end}, ordered by occurrence time
+     */
+    public List<SegmentRecord> findByTimeRange(Instant start, Instant end) {
+        List<SegmentRecord> records = new ArrayList<>();
+        if (!end.isAfter(start)) {
+            return records;
+        }
+        YearMonth last = YearMonth.from(LocalDateTime.ofInstant(end, zone).minusNanos(1));
+        for (MappedEventSegment segment : segments.subMap(monthOf(start), true, last, true).values()) {
+            segment.forEach(block -> block.overlaps(start, end), record -> {
+                if (!record.occurredOn().isBefore(start) && record.occurredOn().isBefore(end)) {
+                    records.add(record);
+                }
+            });
+        }
+        records.sort(SegmentRecord.OCCURRENCE_ORDER);
+        return records;
+    }
+
+    /**
+     * Archived events of one topic, ordered by occurrence time
+     */
+    public List<SegmentRecord> findByEventType(String eventType) {
+        List<SegmentRecord> records = new ArrayList<>();
+        for (MappedEventSegment segment : segments.values()) {
+            records.addAll(segment.findByEventType(eventType));
+        }
+        records.sort(SegmentRecord.OCCURRENCE_ORDER);
+        return records;
+    }
+
+    public Optional<SegmentRecord> findById(UUID eventId) {
+        for (MappedEventSegment segment : segments.values()) {
+            Optional<SegmentRecord> record = segment.findById(eventId);
+            if (record.isPresent()) {
+                return record;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Visit archived events stored after a position, optionally restricted to some event types.
+     * Segments are visited month by month and each holds its events in position order; archived
+     * months precede every month still in the database.
+     *
+     * @return The highest position visited, or {@code position} when none was
+     */
+    public long forEachAfter(long position, Set<String> eventTypes, Consumer<SegmentRecord> consumer) {
+        List<String> typeKeys = eventTypes.stream().map(SegmentIndex::eventTypeKey).toList();
+        long highest = position;
+        for (MappedEventSegment segment : segments.values()) {
+            List<SegmentRecord> records = new ArrayList<>();
+            segment.forEach(
+                    block -> typeKeys.isEmpty() || block.mightContainAny(typeKeys),
+                    record -> {
+                        if (record.position() > position
+                                && (eventTypes.isEmpty() || eventTypes.contains(record.eventType()))) {
+                            records.add(record);
+                        }
+                    });
+            records.sort(Comparator.comparingLong(SegmentRecord::position));
+            for (SegmentRecord record : records) {
+                consumer.accept(record);
+                highest = Math.max(highest, record.position());
+            }
+        }
+        return highest;
+    }
+
+    private YearMonth monthOf(Instant instant) {
+        return YearMonth.from(LocalDateTime.ofInstant(instant, zone));
+    }
+
+    private MappedEventSegment open(MonthlyPartition partition, Path archived) throws IOException {
+        Path segmentFile = cacheDirectory.resolve(partition.name() + ".seg");
+        Path indexFile = cacheDirectory.resolve(partition.name() + ".idx");
+        if (Files.exists(segmentFile) && Files.exists(indexFile)
+                && Files.getLastModifiedTime(indexFile).compareTo(Files.getLastModifiedTime(archived)) >= 0) {
+            try {
+                return MappedEventSegment.open(partition, segmentFile, SegmentIndex.read(indexFile));
+            } catch (IOException ex) {
+                log.warn("Expanded segment {} is unusable and is rebuilt: {}", segmentFile, ex.getMessage());
+            }
+        }
+        SegmentIndex index = expand(archived, segmentFile, indexFile);
+        return MappedEventSegment.open(partition, segmentFile, index);
+    }
+
+    /**
+     * Decompress an archived segment and build its index in one pass
+     */
+    private SegmentIndex expand(Path archived, Path segmentFile, Path indexFile) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Path tempSegment = segmentFile.resolveSibling(segmentFile.getFileName() + ".tmp");
+        Path tempIndex = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        SegmentIndex.Builder builder = new SegmentIndex.Builder(EventSegmentWriter.HEADER_BYTES);
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(archived), BUFFER_SIZE), BUFFER_SIZE));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                     Files.newOutputStream(tempSegment), BUFFER_SIZE))) {
+            if (in.readInt() != EventSegmentWriter.MAGIC || in.readByte() != EventSegmentWriter.VERSION) {
+                throw new IOException("Unsupported segment " + archived);
+            }
+            out.writeInt(EventSegmentWriter.MAGIC);
+            out.writeByte(EventSegmentWriter.VERSION);
+
+            byte[] record = new byte[1024];
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException end) {
+                    break;
+                }
+                if (length > record.length) {
+                    record = new byte[Math.max(length, record.length * 2)];
+                }
+                in.readFully(record, 0, length);
+                SegmentRecord parsed = SegmentRecord.read(ByteBuffer.wrap(record, 0, length));
+                out.writeInt(length);
+                out.write(record, 0, length);
+                builder.add(Integer.BYTES + length, parsed.occurredOn(),
+                        SegmentIndex.aggregateKey(parsed.aggregateId(), parsed.aggregateType()),
+                        SegmentIndex.eventTypeKey(parsed.eventType()));
+            }
+        } catch (IOException ex) {
+            Files.deleteIfExists(tempSegment);
+            throw ex;
+        }
+
+        SegmentIndex index = builder.build();
+        index.write(tempIndex);
+        Files.move(tempSegment, segmentFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(tempIndex, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return index;
+    }
+}
@@ -0,0 +1,150 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.partition;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.SegmentIndex.Block;
+
+/**
+ * An uncompressed segment mapped read-only into memory.
+ *
+ * Records are parsed straight from the mapping and payloads are handed out as slices of it, so
+ * reads neither copy the file into the heap nor go through a stream. Files larger than a single
+ * mapping are mapped as several regions, each starting at a block boundary.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public final class MappedEventSegment {
+
+    private static final long MAX_REGION_BYTES = Integer.MAX_VALUE;
+
+    private final MonthlyPartition partition;
+    private final SegmentIndex index;
+    private final ByteBuffer[] regions;
+    private final int[] blockRegion;
+    private final int[] blockOffset;
+
+    private MappedEventSegment(MonthlyPartition partition, SegmentIndex index, ByteBuffer[] regions,
+                               int[] blockRegion, int[] blockOffset) {
+        this.partition = partition;
+        this.index = index;
+        this.regions = regions;
+        this.blockRegion = blockRegion;
+        this.blockOffset = blockOffset;
+    }
+
+    /**
+     * Map an expanded segment file described by its index
+     *
+     * @throws IOException if the file cannot be mapped or does not match the index
+     */
+    public static MappedEventSegment open(MonthlyPartition partition, Path file, SegmentIndex index) throws IOException {
+        List<Block> blocks = index.getBlocks();
+        int[] blockRegion = new int[blocks.size()];
+        int[] blockOffset = new int[blocks.size()];
+        List<ByteBuffer> regions = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != index.getEndOffset()) {
+                throw new IOException("Segment " + file + " does not match its index");
+            }
+            long regionStart = -1;
+            long regionEnd = -1;
+            for (int i = 0; i < blocks.size(); i++) {
+                Block block = blocks.get(i);
+                if (regionStart < 0 || block.end() - regionStart > MAX_REGION_BYTES) {
+                    if (regionStart >= 0) {
+                        regions.add(channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart));
+                    }
+                    regionStart = block.offset();
+                }
+                regionEnd = block.end();
+                blockRegion[i] = regions.size();
+                blockOffset[i] = (int) (block.offset() - regionStart);
+            }
+            if (regionStart >= 0) {
+                regions.add(channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart));
+            }
+        }
+        return new MappedEventSegment(partition, index, regions.toArray(ByteBuffer[]::new), blockRegion, blockOffset);
+    }
+
+    public MonthlyPartition getPartition() {
+        return partition;
+    }
+
+    public SegmentIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Visit the records of every block accepted by {@code blocks}, in storage order
+     */
+    public void forEach(Predicate<Block> blocks, Consumer<SegmentRecord> consumer) {
+        List<Block> all = index.getBlocks();
+        for (int i = 0; i < all.size(); i++) {
+            Block block = all.get(i);
+            if (!blocks.test(block)) {
+                continue;
+            }
+            ByteBuffer buffer = regions[blockRegion[i]].duplicate();
+            int end = blockOffset[i] + block.length();
+            buffer.limit(end).position(blockOffset[i]);
+            while (buffer.position() < end) {
+                int length = buffer.getInt();
+                int next = buffer.position() + length;
+                consumer.accept(SegmentRecord.read(buffer));
+                buffer.position(next);
+            }
+        }
+    }
+
+    /**
+     * Events of one aggregate in storage order
+     */
+    public List<SegmentRecord> findByAggregate(String aggregateId, String aggregateType) {
+        String key = SegmentIndex.aggregateKey(aggregateId, aggregateType);
+        List<SegmentRecord> records = new ArrayList<>();
+        forEach(block -> block.mightContain(key), record -> {
+            if (record.aggregateId().equals(aggregateId) && record.aggregateType().equals(aggregateType)) {
+                records.add(record);
+            }
+        });
+        return records;
+    }
+
+    /**
+     * Events of one topic in storage order
+     */
+    public List<SegmentRecord> findByEventType(String eventType) {
+        String key = SegmentIndex.eventTypeKey(eventType);
+        List<SegmentRecord> records = new ArrayList<>();
+        forEach(block -> block.mightContain(key), record -> {
+            if (record.eventType().equals(eventType)) {
+                records.add(record);
+            }
+        });
+        return records;
+    }
+
+    public Optional<SegmentRecord> findById(UUID eventId) {
+        List<SegmentRecord> found = new ArrayList<>(1);
+        forEach(block -> found.isEmpty(), record -> {
+            if (found.isEmpty() && record.eventId().equals(eventId)) {
+                found.add(record);
+            }
+        });
+        return found.stream().findFirst();
+    }
+}
@@ -0,0 +1,69 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.partition;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One monthly range partition of a partitioned event table.
+ *
+ * Partitions are named {@code <table>_yYYYYmMM} and cover {@code [first day of month, first day
+ * of next month)}, matching {@code event_store.create_monthly_partitions}.
+ *
+ * @param table name of the partitioned parent table, without schema
+ * @param month month covered by the partition
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record MonthlyPartition(String table, YearMonth month) {
+
+    private static final Pattern NAME = Pattern.compile("^([a-z_]+)_y(\\d{4})m(\\d{2})$");
+
+    /**
+     * Table name of the partition, without schema
+     */
+    public String name() {
+        return String.format("%s_y%04dm%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Inclusive lower bound of the partition
+     */
+    public LocalDateTime lowerBound() {
+        return month.atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Exclusive upper bound of the partition
+     */
+    public LocalDateTime upperBound() {
+        return month.plusMonths(1).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Regular expression matching the partition names of a parent table
+     */
+    public static String namePattern(String table) {
+        return "^" + table + "_y[0-9]{4}m[0-9]{2}$";
+    }
+
+    /**
+     * Parse a partition table name; empty if it does not follow the naming scheme
+     */
+    public static Optional<MonthlyPartition> parse(String name) {
+        Matcher matcher = NAME.matcher(name);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        int month = Integer.parseInt(matcher.group(3));
+        if (month < 1 || month > 12) {
+            return Optional.empty();
+        }
+        return Optional.of(new MonthlyPartition(matcher.group(1),
+                YearMonth.of(Integer.parseInt(matcher.group(2)), month)));
+    }
+}
@@ -0,0 +1,229 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.partition;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sparse index of a segment.
+ *
+ * Records are grouped into blocks of {@link #BLOCK_RECORDS} consecutive records. Each block keeps
+ * its byte range, the earliest and latest {@code occurred_on} of its records and a bloom filter of
+ * their aggregates and event types, so lookups by aggregate, time range or topic only scan the
+ * blocks that may contain matches. The index is small enough to be held on the heap while the
+ * records themselves stay in the memory-mapped segment.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public final class SegmentIndex {
+
+    /** "EVSI" */
+    public static final int MAGIC = 0x45565349;
+
+    public static final byte VERSION = 1;
+
+    static final int BLOCK_RECORDS = 128;
+
+    private static final int BLOOM_WORDS = 64;
+    private static final int BLOOM_BITS = BLOOM_WORDS * Long.SIZE;
+    private static final int BLOOM_HASHES = 3;
+
+    private final List<Block> blocks;
+
+    private SegmentIndex(List<Block> blocks) {
+        this.blocks = List.copyOf(blocks);
+    }
+
+    public List<Block> getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * Offset just past the last indexed record
+     */
+    public long getEndOffset() {
+        return blocks.isEmpty() ? EventSegmentWriter.HEADER_BYTES : blocks.get(blocks.size() - 1).end();
+    }
+
+    /**
+     * Bloom filter key of an aggregate
+     */
+    public static String aggregateKey(String aggregateId, String aggregateType) {
+        return "a:" + aggregateType + ":" + aggregateId;
+    }
+
+    /**
+     * Bloom filter key of an event type
+     */
+    public static String eventTypeKey(String eventType) {
+        return "t:" + eventType;
+    }
+
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(BLOOM_WORDS);
+            out.writeInt(blocks.size());
+            for (Block block : blocks) {
+                out.writeLong(block.offset());
+                out.writeInt(block.length());
+                out.writeInt(block.records());
+                out.writeLong(block.minOccurredOn().getEpochSecond());
+                out.writeInt(block.minOccurredOn().getNano());
+                out.writeLong(block.maxOccurredOn().getEpochSecond());
+                out.writeInt(block.maxOccurredOn().getNano());
+                for (long word : block.bloom()) {
+                    out.writeLong(word);
+                }
+            }
+        }
+    }
+
+    public static SegmentIndex read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION || in.readInt() != BLOOM_WORDS) {
+                throw new IOException("Unsupported segment index " + file);
+            }
+            int count = in.readInt();
+            List<Block> blocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long offset = in.readLong();
+                int length = in.readInt();
+                int records = in.readInt();
+                Instant min = Instant.ofEpochSecond(in.readLong(), in.readInt());
+                Instant max = Instant.ofEpochSecond(in.readLong(), in.readInt());
+                long[] bloom = new long[BLOOM_WORDS];
+                for (int word = 0; word < BLOOM_WORDS; word++) {
+                    bloom[word] = in.readLong();
+                }
+                blocks.add(new Block(offset, length, records, min, max, bloom));
+            }
+            return new SegmentIndex(blocks);
+        }
+    }
+
+    private static int[] bloomBits(String key) {
+        int hash = key.hashCode();
+        int step = Integer.reverse(hash * 0x9E3779B9) | 1;
+        int[] bits = new int[BLOOM_HASHES];
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            bits[i] = Math.floorMod(hash + i * step, BLOOM_BITS);
+        }
+        return bits;
+    }
+
+    /**
+     * A run of consecutive records
+     *
+     * @param offset byte offset of the block's first length prefix
+     * @param length bytes covered by the block, length prefixes included
+     * @param records number of records in the block
+     * @param minOccurredOn earliest occurrence time in the block
+     * @param maxOccurredOn latest occurrence time in the block
+     * @param bloom bloom filter over aggregate and event type keys
+     */
+    public record Block(long offset, int length, int records, Instant minOccurredOn, Instant maxOccurredOn,
+            long[] bloom) {
+
+        public long end() {
+            return offset + length;
+        }
+
+        /**
+         * False if no record of the block has the key; true may be a false positive
+         */
+        public boolean mightContain(String key) {
+            for (int bit : bloomBits(key)) {
+                if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public boolean mightContainAny(Collection<String> keys) {
+            for (String key : keys) {
+                if (mightContain(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Whether the block may hold events with {@code from <= occurred_on < to}
+         */
+        public boolean overlaps(Instant from, Instant to) {
+            return maxOccurredOn.compareTo(from) >= 0 && minOccurredOn.isBefore(to);
+        }
+    }
+
+    /**
+     * Builds the index while records are appended in file order
+     */
+    static final class Builder {
+
+        private final List<Block> blocks = new ArrayList<>();
+        private long blockOffset;
+        private int blockLength;
+        private int blockRecords;
+        private Instant min;
+        private Instant max;
+        private long[] bloom = new long[BLOOM_WORDS];
+
+        Builder(long firstOffset) {
+            this.blockOffset = firstOffset;
+        }
+
+        /**
+         * Register the next record
+         *
+         * @param length bytes of the record including its length prefix
+         */
+        void add(int length, Instant occurredOn, String aggregateKey, String eventTypeKey) {
+            blockLength += length;
+            blockRecords++;
+            min = min == null || occurredOn.isBefore(min) ? occurredOn : min;
+            max = max == null || occurredOn.isAfter(max) ? occurredOn : max;
+            set(aggregateKey);
+            set(eventTypeKey);
+            if (blockRecords == BLOCK_RECORDS) {
+                seal();
+            }
+        }
+
+        SegmentIndex build() {
+            if (blockRecords > 0) {
+                seal();
+            }
+            return new SegmentIndex(blocks);
+        }
+
+        private void set(String key) {
+            for (int bit : bloomBits(key)) {
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        private void seal() {
+            blocks.add(new Block(blockOffset, blockLength, blockRecords, min, max, bloom));
+            blockOffset += blockLength;
+            blockLength = 0;
+            blockRecords = 0;
+            min = null;
+            max = null;
+            bloom = new long[BLOOM_WORDS];
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.partition;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * One archived domain event read from a segment.
+ *
+ * The payload is a read-only view into the segment's memory mapping; it is not copied
+ * until a codec that needs an array decodes it.
+ *
+ * @param position storage position of the event in {@code event_store.domain_events}
+ * @param eventId unique event identifier
+ * @param occurredOn when the event occurred
+ * @param aggregateId identifier of the aggregate that raised the event
+ * @param aggregateType type of that aggregate
+ * @param eventType topic of the event
+ * @param payloadFormat codec format of the payload
+ * @param payload encoded event
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record SegmentRecord(long position, UUID eventId, Instant occurredOn, String aggregateId,
+        String aggregateType, String eventType, String payloadFormat, ByteBuffer payload) {
+
+    /**
+     * Occurrence order: occurrence time, then event id compared like PostgreSQL compares UUIDs
+     */
+    public static final Comparator<SegmentRecord> OCCURRENCE_ORDER = Comparator.comparing(SegmentRecord::occurredOn)
+            .thenComparing(SegmentRecord::eventId, SegmentRecord::compareUuids);
+
+    /**
+     * A fresh view of the payload, positioned at its first byte
+     */
+    @Override
+    public ByteBuffer payload() {
+        return payload.duplicate();
+    }
+
+    /**
+     * Compare UUIDs as unsigned 128-bit values, the byte order used by PostgreSQL
+     */
+    public static int compareUuids(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result
+                : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    /**
+     * Read the record body at the buffer's position, after its length prefix.
+     * The payload is sliced, not copied; the buffer is left positioned after the record.
+     */
+    static SegmentRecord read(ByteBuffer buffer) {
+        long position = buffer.getLong();
+        UUID eventId = new UUID(buffer.getLong(), buffer.getLong());
+        Instant occurredOn = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+        String aggregateId = readString(buffer);
+        String aggregateType = readString(buffer);
+        String eventType = readString(buffer);
+        String payloadFormat = readString(buffer);
+        int payloadLength = buffer.getInt();
+        ByteBuffer payload = buffer.slice(buffer.position(), payloadLength).asReadOnlyBuffer();
+        buffer.position(buffer.position() + payloadLength);
+        return new SegmentRecord(position, eventId, occurredOn, aggregateId, aggregateType, eventType,
+                payloadFormat, payload);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Event table partitioning package.
+ * 
+ * Contains the monthly partition lifecycle of the event store tables:
+ * - MonthlyPartition: Naming and bounds of a monthly range partition
+ * - EventPartitionManager: Creates future partitions ahead of time
+ * - EventPartitionArchiver: Detaches expired partitions into compressed files
+ * - EventSegmentWriter: Append-only segment format for archived domain events
+ * - SegmentIndex: Sparse block index by aggregate, topic and occurrence time
+ * - MappedEventSegment / SegmentRecord: Zero-copy reads from memory-mapped segments
+ * - EventSegmentStore: Read access to archived events for the event store and replays
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+package com.xavier.smarteducationapi.common.infrastructure.event.partition;
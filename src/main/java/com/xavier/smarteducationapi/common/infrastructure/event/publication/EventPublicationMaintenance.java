@@ -0,0 +1,248 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.publication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.infrastructure.event.publication.JdbcEventPublicationRegistry.PublicationBacklog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background upkeep of the Spring Modulith event publication registry.
+ *
+ * <ul>
+ * <li>Completed publications are deleted in batches once they are older than the retention
+ * period, so the table only holds recent history and the incomplete backlog.</li>
+ * <li>Incomplete publications older than {@code resubmit-min-age-ms} are resubmitted to their
+ * listeners. Each publication backs off exponentially between resubmissions, so a listener that
+ * keeps failing is not hammered.</li>
+ * <li>The number of incomplete publications and the age of the oldest one (the publication lag)
+ * are refreshed on a fixed delay rather than queried on every read, and exported with the purge
+ * and resubmission counts as Micrometer metrics.</li>
+ * </ul>
+ * Resubmission is off by default: backoff state is held per node, and nodes resubmitting at the
+ * same time would each hand every incomplete publication to its listeners. Enable it on exactly
+ * one node.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class EventPublicationMaintenance implements MeterBinder {
+
+    private final JdbcEventPublicationRegistry registry;
+    private final IncompleteEventPublications incompletePublications;
+    private final Clock clock;
+    private final long retentionSeconds;
+    private final int purgeBatchSize;
+    private final int purgeMaxBatches;
+    private final boolean resubmitEnabled;
+    private final long resubmitMinAgeMillis;
+    private final long backoffInitialMillis;
+    private final long backoffMaxMillis;
+
+    private final Map<UUID, Resubmission> resubmissions = new ConcurrentHashMap<>();
+    private final AtomicLong incomplete = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong purged = new AtomicLong();
+    private final AtomicLong resubmitted = new AtomicLong();
+
+    @Autowired
+    public EventPublicationMaintenance(
+            JdbcEventPublicationRegistry registry,
+            IncompleteEventPublications incompletePublications,
+            @Value("${spring.event-store.publication.completed-retention-hours:24}") long retentionHours,
+            @Value("${spring.event-store.publication.purge-batch-size:1000}") int purgeBatchSize,
+            @Value("${spring.event-store.publication.purge-max-batches:100}") int purgeMaxBatches,
+            @Value("${spring.event-store.publication.resubmit-enabled:false}") boolean resubmitEnabled,
+            @Value("${spring.event-store.publication.resubmit-min-age-ms:60000}") long resubmitMinAgeMillis,
+            @Value("${spring.event-store.publication.backoff-initial-ms:60000}") long backoffInitialMillis,
+            @Value("${spring.event-store.publication.backoff-max-ms:3600000}") long backoffMaxMillis) {
+        this(registry, incompletePublications, Clock.systemUTC(), retentionHours, purgeBatchSize,
+                purgeMaxBatches, resubmitEnabled, resubmitMinAgeMillis, backoffInitialMillis, backoffMaxMillis);
+    }
+
+    public EventPublicationMaintenance(JdbcEventPublicationRegistry registry,
+                                       IncompleteEventPublications incompletePublications,
+                                       Clock clock, long retentionHours,
+                                       int purgeBatchSize, int purgeMaxBatches, boolean resubmitEnabled,
+                                       long resubmitMinAgeMillis, long backoffInitialMillis, long backoffMaxMillis) {
+        this.registry = registry;
+        this.incompletePublications = incompletePublications;
+        this.clock = clock;
+        this.retentionSeconds = TimeUnit.HOURS.toSeconds(retentionHours);
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeMaxBatches = purgeMaxBatches;
+        this.resubmitEnabled = resubmitEnabled;
+        this.resubmitMinAgeMillis = resubmitMinAgeMillis;
+        this.backoffInitialMillis = backoffInitialMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+    }
+
+    /**
+     * Delete completed publications past the retention period, one bounded batch per statement
+     *
+     * @return number of publications deleted
+     */
+    @Scheduled(fixedDelayString = "${spring.event-store.publication.purge-interval-ms:60000}")
+    public int purgeCompleted() {
+        int total = 0;
+        try {
+            for (int batch = 0; batch < purgeMaxBatches; batch++) {
+                int deleted = registry.purgeCompleted(retentionSeconds, purgeBatchSize);
+                total += deleted;
+                if (deleted < purgeBatchSize) {
+                    break;
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Purging completed event publications failed: {}", ex.getMessage());
+        }
+        if (total > 0) {
+            purged.addAndGet(total);
+            log.debug("Purged {} completed event publication(s)", total);
+        }
+        return total;
+    }
+
+    /**
+     * Resubmit incomplete publications whose backoff has elapsed
+     *
+     * @return number of publications resubmitted
+     */
+    @Scheduled(fixedDelayString = "${spring.event-store.publication.resubmit-interval-ms:30000}")
+    public int resubmitIncomplete() {
+        if (!resubmitEnabled) {
+            return 0;
+        }
+        try {
+            if (registry.countDue(TimeUnit.MILLISECONDS.toSeconds(resubmitMinAgeMillis)) == 0) {
+                resubmissions.clear();
+                return 0;
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Checking incomplete event publications failed: {}", ex.getMessage());
+            return 0;
+        }
+
+        Instant now = clock.instant();
+        Set<UUID> seen = new HashSet<>();
+        int[] selected = {0};
+        incompletePublications.resubmitIncompletePublications(publication -> {
+            seen.add(publication.getIdentifier());
+            if (!isDue(publication, now)) {
+                return false;
+            }
+            Resubmission previous = resubmissions.get(publication.getIdentifier());
+            int attempts = previous != null ? previous.attempts() + 1 : 1;
+            resubmissions.put(publication.getIdentifier(),
+                    new Resubmission(attempts, now.plus(backoff(attempts))));
+            selected[0]++;
+            return true;
+        });
+        // Completed publications no longer show up and their state is dropped
+        resubmissions.keySet().retainAll(seen);
+
+        if (selected[0] > 0) {
+            resubmitted.addAndGet(selected[0]);
+            log.info("Resubmitted {} incomplete event publication(s)", selected[0]);
+        }
+        return selected[0];
+    }
+
+    /**
+     * Refresh the backlog gauges
+     */
+    @Scheduled(fixedDelayString = "${spring.event-store.publication.lag-refresh-ms:10000}")
+    public void refreshBacklog() {
+        try {
+            PublicationBacklog backlog = registry.backlog();
+            incomplete.set(backlog.incomplete());
+            lagMillis.set(backlog.lagMillis());
+        } catch (DataAccessException ex) {
+            log.warn("Measuring the event publication backlog failed: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("event.publication.incomplete", this, EventPublicationMaintenance::getIncompletePublications)
+                .description("Event publications not yet completed by their listener")
+                .register(registry);
+        TimeGauge.builder("event.publication.lag", this, TimeUnit.MILLISECONDS,
+                        EventPublicationMaintenance::getPublicationLagMillis)
+                .description("Age of the oldest incomplete event publication")
+                .register(registry);
+        FunctionCounter.builder("event.publication.purged", this, EventPublicationMaintenance::getPurgedPublications)
+                .description("Completed event publications deleted")
+                .register(registry);
+        FunctionCounter.builder("event.publication.resubmitted", this,
+                        EventPublicationMaintenance::getResubmittedPublications)
+                .description("Incomplete event publications resubmitted")
+                .register(registry);
+    }
+
+    public long getIncompletePublications() {
+        return incomplete.get();
+    }
+
+    public long getPublicationLagMillis() {
+        return lagMillis.get();
+    }
+
+    public long getPurgedPublications() {
+        return purged.get();
+    }
+
+    public long getResubmittedPublications() {
+        return resubmitted.get();
+    }
+
+    /**
+     * Delay before the resubmission following {@code attempts} earlier ones
+     */
+    public Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = Math.min(backoffInitialMillis << doublings, backoffMaxMillis);
+        if (delay < 0 || delay > backoffMaxMillis) {
+            delay = backoffMaxMillis;
+        }
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(delay - half + 1));
+    }
+
+    private boolean isDue(EventPublication publication, Instant now) {
+        if (publication.getPublicationDate().plusMillis(resubmitMinAgeMillis).isAfter(now)) {
+            return false;
+        }
+        Resubmission previous = resubmissions.get(publication.getIdentifier());
+        return previous == null || !previous.nextAttempt().isAfter(now);
+    }
+
+    private record Resubmission(int attempts, Instant nextAttempt) {
+    }
+}
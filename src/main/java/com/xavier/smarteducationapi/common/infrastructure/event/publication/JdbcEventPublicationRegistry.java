@@ -0,0 +1,83 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.publication;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Set-based maintenance queries over Spring Modulith's {@code event_publication} table.
+ *
+ * Spring Modulith reads and writes publications through JPA; these statements only cover what
+ * it has no efficient API for, namely deleting completed rows in bounded batches and measuring
+ * the incomplete backlog without loading it. Timestamps are compared with {@code LOCALTIMESTAMP},
+ * the session time zone used when the rows were written.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcEventPublicationRegistry {
+
+    private static final String PURGE_COMPLETED = """
+            DELETE FROM event_publication
+            WHERE id IN (
+                SELECT id FROM event_publication
+                WHERE completion_date IS NOT NULL
+                  AND completion_date < LOCALTIMESTAMP - make_interval(secs => ?)
+                ORDER BY completion_date
+                LIMIT ?
+            )
+            """;
+
+    private static final String SELECT_BACKLOG = """
+            SELECT COUNT(*) AS incomplete,
+                   COALESCE(EXTRACT(EPOCH FROM LOCALTIMESTAMP - MIN(publication_date)) * 1000, 0) AS lag_millis
+            FROM event_publication
+            WHERE completion_date IS NULL
+            """;
+
+    private static final String COUNT_DUE = """
+            SELECT COUNT(*) FROM event_publication
+            WHERE completion_date IS NULL
+              AND publication_date < LOCALTIMESTAMP - make_interval(secs => ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcEventPublicationRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Delete up to {@code limit} publications completed more than {@code retentionSeconds} ago,
+     * oldest first
+     *
+     * @return number of rows deleted
+     */
+    public int purgeCompleted(long retentionSeconds, int limit) {
+        return jdbcTemplate.update(PURGE_COMPLETED, retentionSeconds, limit);
+    }
+
+    /**
+     * Number of incomplete publications and the age of the oldest one
+     */
+    public PublicationBacklog backlog() {
+        PublicationBacklog backlog = jdbcTemplate.queryForObject(SELECT_BACKLOG, (rs, rowNum) ->
+                new PublicationBacklog(rs.getLong("incomplete"), rs.getLong("lag_millis")));
+        return backlog != null ? backlog : new PublicationBacklog(0, 0);
+    }
+
+    /**
+     * Number of incomplete publications older than {@code minAgeSeconds}
+     */
+    public long countDue(long minAgeSeconds) {
+        Long due = jdbcTemplate.queryForObject(COUNT_DUE, Long.class, minAgeSeconds);
+        return due != null ? due : 0;
+    }
+
+    /**
+     * Incomplete publications and the age of the oldest one in milliseconds
+     */
+    public record PublicationBacklog(long incomplete, long lagMillis) {
+    }
+}
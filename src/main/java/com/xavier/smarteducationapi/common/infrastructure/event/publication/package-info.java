@@ -0,0 +1,11 @@
+/**
+ * Spring Modulith event publication registry maintenance package.
+ * 
+ * Keeps the event_publication table small and its backlog visible:
+ * - EventPublicationMaintenance: Batched purge, resubmission with backoff and lag gauges
+ * - JdbcEventPublicationRegistry: Set-based purge and backlog queries
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+package com.xavier.smarteducationapi.common.infrastructure.event.publication;
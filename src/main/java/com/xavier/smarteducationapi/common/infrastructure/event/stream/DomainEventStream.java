@@ -0,0 +1,511 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.stream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.xavier.smarteducationapi.common.application.event.DomainEventSubscriptions;
+import com.xavier.smarteducationapi.common.application.event.EventStreamFilter;
+import com.xavier.smarteducationapi.common.infrastructure.event.StoredEventDecoder;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.DomainEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.JsonEventCodec;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans stored domain events out to Server-Sent Events subscribers.
+ *
+ * One dispatcher per node tails {@code event_store.domain_events} through the {@link JdbcEventFeed},
+ * so subscribers see the events of every node, only after they committed. It polls only while
+ * somebody is subscribed and renders each event to JSON once, however many subscribers receive it.
+ * Subscribers scoped to one aggregate are indexed by its id, so an event is only matched against
+ * the subscribers that can want it.
+ *
+ * <ul>
+ * <li>Every subscriber has a bounded buffer. A subscriber whose buffer is full when an event or
+ * heartbeat arrives is dropped and has to reconnect.</li>
+ * <li>Buffers are written by short-lived virtual threads while they hold messages, so an idle
+ * subscriber costs its emitter and an empty buffer.</li>
+ * <li>SSE ids are event ids. A subscriber reconnecting with {@code Last-Event-ID} first receives
+ * the events stored after that event, up to {@code max-replay}; when the event is unknown or more
+ * events were missed, it receives a {@code reset} event and should reload its state.</li>
+ * <li>A gap in positions is waited for up to {@code gap-timeout-ms}, as it usually belongs to a
+ * transaction that has not committed yet, and skipped afterwards.</li>
+ * <li>Long-polling requests wait for the next matching event with {@link #awaitEvent}, holding
+ * no thread while they wait.</li>
+ * </ul>
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class DomainEventStream implements DomainEventSubscriptions, MeterBinder {
+
+    public static final String RESET_EVENT = "reset";
+
+    private final JdbcEventFeed feed;
+    private final DomainEventCodec jsonCodec;
+    private final Clock clock;
+    private final Executor senders;
+    private final int bufferSize;
+    private final int maxReplay;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final long emitterTimeoutMillis;
+
+    /**
+     * Guards the cursor and subscriber registration, so that a new subscriber sees every event
+     * after the cursor it was registered at exactly once
+     */
+    private final Object lock = new Object();
+    private final Set<Subscriber> unscoped = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Subscriber>> byAggregateId = new ConcurrentHashMap<>();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long cursor = -1;
+    private long gapSince = -1;
+
+    @Autowired
+    public DomainEventStream(
+            JdbcEventFeed feed,
+            StoredEventDecoder decoder,
+            @Value("${spring.event-store.stream.buffer-size:256}") int bufferSize,
+            @Value("${spring.event-store.stream.max-replay:1000}") int maxReplay,
+            @Value("${spring.event-store.stream.batch-size:500}") int batchSize,
+            @Value("${spring.event-store.stream.gap-timeout-ms:5000}") long gapTimeoutMillis,
+            @Value("${spring.event-store.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this(feed, decoder.getCodecs().get(JsonEventCodec.FORMAT), Clock.systemUTC(),
+                Executors.newVirtualThreadPerTaskExecutor(), bufferSize, maxReplay, batchSize,
+                gapTimeoutMillis, emitterTimeoutMillis);
+    }
+
+    public DomainEventStream(JdbcEventFeed feed, DomainEventCodec jsonCodec, Clock clock, Executor senders,
+                             int bufferSize, int maxReplay, int batchSize, long gapTimeoutMillis,
+                             long emitterTimeoutMillis) {
+        this.feed = feed;
+        this.jsonCodec = jsonCodec;
+        this.clock = clock;
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.maxReplay = maxReplay;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    /**
+     * Open a stream of the events matching a filter
+     * @param filter The events to deliver
+     * @param lastEventId The last event the client received, to resume after it
+     * @return The emitter to return from the request handler
+     */
+    @Override
+    public SseEmitter subscribe(EventStreamFilter filter, @Nullable String lastEventId) {
+        SseEmitter emitter = createEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(filter, emitter);
+        Long resumeAfter = lastEventId != null ? resumePosition(lastEventId) : null;
+
+        long registeredAt;
+        synchronized (lock) {
+            if (cursor < 0) {
+                cursor = feed.currentPosition();
+                gapSince = -1;
+            }
+            registeredAt = cursor;
+            register(subscriber);
+        }
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> unregister(subscriber));
+
+        List<Message> replay = new ArrayList<>();
+        if (lastEventId != null) {
+            replay(filter, resumeAfter, registeredAt, replay);
+        }
+        subscriber.start(replay);
+        return emitter;
+    }
+
+    /**
+     * Wait for the next event matching a filter stored after a position.
+     *
+     * The returned future is completed on a sender thread, with {@code true} once such an event has
+     * been stored, or with {@code false} when the timeout elapses first. If the stream has already
+     * moved past the position, it completes with {@code true} right away so that the caller reads
+     * what it may have missed.
+     * @param filter The events to wait for
+     * @param afterPosition The event store position the caller has read up to
+     * @param timeoutMillis How long to wait
+     * @return Whether a matching event arrived
+     */
+    @Override
+    public CompletableFuture<Boolean> awaitEvent(EventStreamFilter filter, long afterPosition, long timeoutMillis) {
+        Waiter waiter = new Waiter(filter, afterPosition, new CompletableFuture<>());
+        synchronized (lock) {
+            if (cursor < 0) {
+                cursor = afterPosition;
+                gapSince = -1;
+            } else if (cursor > afterPosition) {
+                return CompletableFuture.completedFuture(true);
+            }
+            waiters.add(waiter);
+        }
+        waiter.result().whenComplete((arrived, ex) -> waiters.remove(waiter));
+        CompletableFuture.delayedExecutor(timeoutMillis, TimeUnit.MILLISECONDS, senders)
+                .execute(() -> waiter.result().complete(false));
+        return waiter.result();
+    }
+
+    /**
+     * Deliver the events stored since the last poll to the matching subscribers
+     *
+     * @return number of events read
+     */
+    @Scheduled(fixedDelayString = "${spring.event-store.stream.poll-interval-ms:500}")
+    public int poll() {
+        long from;
+        synchronized (lock) {
+            if (subscriberCount.get() == 0 && waiters.isEmpty()) {
+                cursor = -1;
+                return 0;
+            }
+            from = cursor;
+        }
+
+        List<FeedEvent> batch;
+        try {
+            batch = feed.readAfter(from, Long.MAX_VALUE, batchSize);
+        } catch (DataAccessException ex) {
+            log.warn("Reading the event feed after position {} failed: {}", from, ex.getMessage());
+            return 0;
+        }
+
+        int read = 0;
+        synchronized (lock) {
+            if (cursor != from) {
+                // Every subscriber left and the stream restarted meanwhile
+                return 0;
+            }
+            for (FeedEvent event : batch) {
+                if (event.position() != cursor + 1 && !gapExpired()) {
+                    break;
+                }
+                gapSince = -1;
+                cursor = event.position();
+                fanOut(event);
+                read++;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Send a comment to every subscriber, keeping idle connections open through proxies and
+     * detecting clients that went away
+     */
+    @Scheduled(fixedDelayString = "${spring.event-store.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        forEachSubscriber(subscriber -> subscriber.offer(Message.HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forEachSubscriber(Subscriber::close);
+        waiters.forEach(waiter -> waiter.result().complete(false));
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("event.stream.subscribers", this, DomainEventStream::getSubscriberCount)
+                .description("Connected stream subscribers")
+                .register(registry);
+        FunctionCounter.builder("event.stream.delivered", this, DomainEventStream::getDeliveredEvents)
+                .description("Events delivered to subscriber buffers")
+                .register(registry);
+        FunctionCounter.builder("event.stream.dropped.subscribers", this, DomainEventStream::getDroppedSubscribers)
+                .description("Subscribers dropped for falling behind")
+                .register(registry);
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getDeliveredEvents() {
+        return delivered.get();
+    }
+
+    public long getDroppedSubscribers() {
+        return dropped.get();
+    }
+
+    /**
+     * Create the emitter of a new subscriber
+     */
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @Nullable
+    private Long resumePosition(String lastEventId) {
+        try {
+            return feed.positionOf(UUID.fromString(lastEventId.trim()));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        } catch (DataAccessException ex) {
+            log.warn("Looking up the position of event {} failed: {}", lastEventId, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void replay(EventStreamFilter filter, @Nullable Long after, long upTo, List<Message> replay) {
+        if (after == null) {
+            replay.add(Message.RESET);
+            return;
+        }
+        if (after >= upTo) {
+            return;
+        }
+        List<FeedEvent> missed;
+        try {
+            missed = feed.readAfter(after, upTo, maxReplay + 1);
+        } catch (DataAccessException ex) {
+            log.warn("Reading missed events after position {} failed: {}", after, ex.getMessage());
+            replay.add(Message.RESET);
+            return;
+        }
+        if (missed.size() > maxReplay) {
+            replay.add(Message.RESET);
+            return;
+        }
+        for (FeedEvent event : missed) {
+            if (filter.matches(event.aggregateType(), event.aggregateId(), event.topic())) {
+                Message message = render(event);
+                if (message != null) {
+                    replay.add(message);
+                }
+            }
+        }
+    }
+
+    private boolean gapExpired() {
+        long now = clock.millis();
+        if (gapSince < 0) {
+            gapSince = now;
+        }
+        if (now - gapSince < gapTimeoutMillis) {
+            return false;
+        }
+        log.debug("Skipping missing event positions after {}", cursor);
+        return true;
+    }
+
+    private void fanOut(FeedEvent event) {
+        for (Waiter waiter : waiters) {
+            if (event.position() > waiter.afterPosition()
+                    && waiter.filter().matches(event.aggregateType(), event.aggregateId(), event.topic())) {
+                waiters.remove(waiter);
+                senders.execute(() -> waiter.result().complete(true));
+            }
+        }
+        Message message = null;
+        Set<Subscriber> scoped = byAggregateId.get(event.aggregateId());
+        for (Set<Subscriber> candidates : scoped != null ? List.of(unscoped, scoped) : List.of(unscoped)) {
+            for (Subscriber subscriber : candidates) {
+                if (!subscriber.filter.matches(event.aggregateType(), event.aggregateId(), event.topic())) {
+                    continue;
+                }
+                if (message == null) {
+                    message = render(event);
+                    if (message == null) {
+                        return;
+                    }
+                }
+                subscriber.offer(message);
+                delivered.incrementAndGet();
+            }
+        }
+    }
+
+    @Nullable
+    private Message render(FeedEvent event) {
+        try {
+            return new Message(event.eventId().toString(), event.topic(),
+                    new String(jsonCodec.encode(event.event()), StandardCharsets.UTF_8));
+        } catch (RuntimeException ex) {
+            log.warn("Event {} ({}) cannot be streamed: {}", event.eventId(), event.topic(), ex.getMessage());
+            return null;
+        }
+    }
+
+    private void register(Subscriber subscriber) {
+        String aggregateId = subscriber.filter.aggregateId();
+        if (aggregateId == null) {
+            unscoped.add(subscriber);
+        } else {
+            byAggregateId.computeIfAbsent(aggregateId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        subscriberCount.incrementAndGet();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscriber.close();
+        String aggregateId = subscriber.filter.aggregateId();
+        boolean removed;
+        if (aggregateId == null) {
+            removed = unscoped.remove(subscriber);
+        } else {
+            Set<Subscriber> scoped = byAggregateId.get(aggregateId);
+            removed = scoped != null && scoped.remove(subscriber);
+            if (scoped != null && scoped.isEmpty()) {
+                byAggregateId.remove(aggregateId, scoped);
+            }
+        }
+        if (removed) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private void forEachSubscriber(Consumer<Subscriber> action) {
+        unscoped.forEach(action);
+        byAggregateId.values().forEach(subscribers -> subscribers.forEach(action));
+    }
+
+    /**
+     * A long-polling request waiting for its next event
+     */
+    private record Waiter(EventStreamFilter filter, long afterPosition, CompletableFuture<Boolean> result) {
+    }
+
+    /**
+     * A rendered SSE message; heartbeats and resets carry no event id
+     */
+    private record Message(@Nullable String id, @Nullable String name, String data) {
+        static final Message HEARTBEAT = new Message(null, null, "heartbeat");
+        static final Message RESET = new Message(null, RESET_EVENT, "{}");
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(data);
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+            return id != null ? event.id(id) : event;
+        }
+    }
+
+    /**
+     * One connected client. Messages are buffered until a sender drains them; at most one sender
+     * runs per subscriber, so messages are written in order.
+     */
+    private final class Subscriber {
+        private final EventStreamFilter filter;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Message> buffer = new ArrayDeque<>();
+        private int capacity = bufferSize;
+        private boolean started;
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(EventStreamFilter filter, SseEmitter emitter) {
+            this.filter = filter;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queue the replayed messages ahead of those buffered since registration and start sending
+         */
+        synchronized void start(List<Message> replay) {
+            for (int i = replay.size() - 1; i >= 0; i--) {
+                buffer.addFirst(replay.get(i));
+            }
+            capacity = bufferSize + replay.size();
+            started = true;
+            schedule();
+        }
+
+        synchronized void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (buffer.size() >= capacity) {
+                dropped.incrementAndGet();
+                log.debug("Dropping stream subscriber {} after {} unsent messages", filter, buffer.size());
+                unregister(this);
+                return;
+            }
+            buffer.addLast(message);
+            schedule();
+        }
+
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                buffer.clear();
+                emitter.complete();
+            }
+        }
+
+        private void schedule() {
+            if (started && !draining && !closed && !buffer.isEmpty()) {
+                draining = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Message message;
+                synchronized (this) {
+                    message = closed ? null : buffer.pollFirst();
+                    if (message == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(message.toEvent());
+                } catch (IOException | IllegalStateException ex) {
+                    log.debug("Stream subscriber {} went away: {}", filter, ex.getMessage());
+                    unregister(this);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.stream;
+
+import java.util.UUID;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+
+/**
+ * A stored domain event together with its position in {@code event_store.domain_events}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record FeedEvent(long position, UUID eventId, String topic, String aggregateType, String aggregateId,
+                        DomainEvent event) {
+}
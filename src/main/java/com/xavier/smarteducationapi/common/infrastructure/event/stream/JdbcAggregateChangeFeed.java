@@ -0,0 +1,99 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.stream;
+
+import java.time.Clock;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.common.infrastructure.event.PositionGaps;
+
+/**
+ * {@link AggregateChangeFeed} over the positions of {@code event_store.domain_events}.
+ *
+ * Only the position, type and id of each stored event are read, through the position index, so a
+ * call costs in proportion to the events stored since the cursor. The cursor only moves past a
+ * missing position once {@link PositionGaps} considers it settled.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcAggregateChangeFeed implements AggregateChangeFeed {
+
+    private static final String SCAN = """
+            SELECT position, aggregate_type, aggregate_id,
+                   created_at < LOCALTIMESTAMP - make_interval(secs => ?) AS settled
+            FROM event_store.domain_events
+            WHERE position > ?
+            ORDER BY position
+            LIMIT ?
+            """;
+
+    private static final String FIRST_POSITION = "SELECT min(position) FROM event_store.domain_events";
+
+    private static final String LATEST_POSITION = "SELECT coalesce(max(position), 0) FROM event_store.domain_events";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PositionGaps gaps;
+
+    @Autowired
+    public JdbcAggregateChangeFeed(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.event-store.changes.gap-timeout-ms:5000}") long gapTimeoutMillis,
+            @Value("${spring.event-store.changes.settle-seconds:600}") long settleSeconds) {
+        this(jdbcTemplate, Clock.systemUTC(), gapTimeoutMillis, settleSeconds);
+    }
+
+    public JdbcAggregateChangeFeed(JdbcTemplate jdbcTemplate, Clock clock, long gapTimeoutMillis, long settleSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.gaps = new PositionGaps(clock, gapTimeoutMillis, settleSeconds);
+    }
+
+    @Override
+    public AggregateChanges changesAfter(String aggregateType, long position, int maxEvents) {
+        Long first = jdbcTemplate.queryForObject(FIRST_POSITION, Long.class);
+        if (first == null) {
+            return new AggregateChanges(Set.of(), position, false, false);
+        }
+        if (first > position + 1) {
+            return new AggregateChanges(Set.of(), first - 1, false, true);
+        }
+
+        List<StoredPosition> scanned = jdbcTemplate.query(SCAN, (rs, rowNum) -> new StoredPosition(
+                rs.getLong("position"), rs.getString("aggregate_type"), rs.getString("aggregate_id"),
+                rs.getBoolean("settled")), gaps.getSettleSeconds(), position, maxEvents);
+
+        Set<String> changed = new LinkedHashSet<>();
+        long cursor = position;
+        boolean blocked = false;
+        for (StoredPosition stored : scanned) {
+            if (stored.position() != cursor + 1 && !gaps.isSettled(cursor + 1, stored.settled())) {
+                blocked = true;
+                break;
+            }
+            cursor = stored.position();
+            if (aggregateType.equals(stored.aggregateType())) {
+                changed.add(stored.aggregateId());
+            }
+        }
+        gaps.prune();
+        return new AggregateChanges(changed, cursor, !blocked && scanned.size() == maxEvents, false);
+    }
+
+    @Override
+    public long latestPosition() {
+        Long latest = jdbcTemplate.queryForObject(LATEST_POSITION, Long.class);
+        return latest != null ? latest : 0;
+    }
+
+    private record StoredPosition(long position, String aggregateType, String aggregateId, boolean settled) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.xavier.smarteducationapi.common.infrastructure.event.stream;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.xavier.smarteducationapi.common.infrastructure.event.StoredEventDecoder;
+
+/**
+ * Reads {@code event_store.domain_events} in storage order, by {@code position}.
+ *
+ * Positions are drawn from a sequence when a row is inserted, so rows of concurrent transactions
+ * may become visible out of order and rolled back inserts leave permanent gaps. Readers that must
+ * not miss events treat a gap as pending until it has been open for a while.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcEventFeed {
+
+    private static final String CURRENT_POSITION = "SELECT COALESCE(max(position), 0) FROM event_store.domain_events";
+
+    private static final String POSITION_OF = "SELECT position FROM event_store.domain_events WHERE event_id = ?";
+
+    private static final String READ_AFTER = """
+            SELECT position, event_type, aggregate_type, aggregate_id, %s
+            FROM event_store.domain_events
+            WHERE position > ? AND position <= ?
+            ORDER BY position
+            LIMIT ?
+            """.formatted(StoredEventDecoder.PAYLOAD_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<FeedEvent> rowMapper;
+
+    public JdbcEventFeed(JdbcTemplate jdbcTemplate, StoredEventDecoder decoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowMapper = (rs, rowNum) -> new FeedEvent(
+                rs.getLong("position"),
+                rs.getObject("event_id", UUID.class),
+                rs.getString("event_type"),
+                rs.getString("aggregate_type"),
+                rs.getString("aggregate_id"),
+                decoder.decode(rs));
+    }
+
+    /**
+     * Position of the most recently stored visible event, {@code 0} when there is none
+     */
+    public long currentPosition() {
+        Long position = jdbcTemplate.queryForObject(CURRENT_POSITION, Long.class);
+        return position != null ? position : 0;
+    }
+
+    /**
+     * Position of an event still held in the database, or {@code null} if it is unknown or archived
+     */
+    @Nullable
+    public Long positionOf(UUID eventId) {
+        List<Long> positions = jdbcTemplate.queryForList(POSITION_OF, Long.class, eventId);
+        return positions.isEmpty() ? null : positions.get(0);
+    }
+
+    /**
+     * Events stored after {@code after} up to and including {@code upTo}, in position order
+     */
+    public List<FeedEvent> readAfter(long after, long upTo, int limit) {
+        return jdbcTemplate.query(READ_AFTER, rowMapper, after, upTo, limit);
+    }
+}
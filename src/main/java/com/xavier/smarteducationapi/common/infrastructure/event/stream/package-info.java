@@ -0,0 +1,12 @@
+/**
+ * Live streams of stored domain events.
+ * 
+ * Contains the tailing of the event store for push delivery:
+ * - JdbcEventFeed: Position-ordered reads of event_store.domain_events
+ * - JdbcAggregateChangeFeed: Changed aggregates after a position, for change feed cursors
+ * - DomainEventStream: Shared dispatcher fanning events out to Server-Sent Events subscribers
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+package com.xavier.smarteducationapi.common.infrastructure.event.stream;
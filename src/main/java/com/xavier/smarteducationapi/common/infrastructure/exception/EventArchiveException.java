@@ -0,0 +1,40 @@
+package com.xavier.smarteducationapi.common.infrastructure.exception;
+
+/**
+ * Exception thrown when an event table partition cannot be archived.
+ *
+ * A partition is only dropped after its segment file has been written and synced,
+ * so a failed archival leaves the partition (attached or detached) in the database
+ * and is retried by the next run.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public class EventArchiveException extends InfrastructureException {
+
+    private static final String ERROR_CODE = "EVENT_ARCHIVE_FAILED";
+
+    private final String partition;
+
+    public EventArchiveException(String partition, String message) {
+        super(ERROR_CODE, String.format("Archival of partition '%s' failed: %s", partition, message));
+        this.partition = partition;
+    }
+
+    public EventArchiveException(String partition, String message, Throwable cause) {
+        super(ERROR_CODE, String.format("Archival of partition '%s' failed: %s", partition, message), cause);
+        this.partition = partition;
+    }
+
+    public String getPartition() {
+        return partition;
+    }
+
+    /**
+     * Convenience method for I/O failures while writing a segment file.
+     */
+    public static EventArchiveException writeFailed(String partition, Throwable cause) {
+        return new EventArchiveException(partition, "Could not write segment file", cause);
+    }
+}
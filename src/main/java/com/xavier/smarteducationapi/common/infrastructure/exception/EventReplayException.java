@@ -0,0 +1,39 @@
+package com.xavier.smarteducationapi.common.infrastructure.exception;
+
+/**
+ * Exception thrown when a projection replay over the event store fails.
+ *
+ * The last persisted checkpoint is kept, so the replay can be resumed
+ * once the cause has been fixed.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+public class EventReplayException extends InfrastructureException {
+
+    private static final String ERROR_CODE = "EVENT_REPLAY_FAILED";
+
+    private final String projection;
+
+    public EventReplayException(String projection, String message) {
+        super(ERROR_CODE, String.format("Replay of projection '%s' failed: %s", projection, message));
+        this.projection = projection;
+    }
+
+    public EventReplayException(String projection, String message, Throwable cause) {
+        super(ERROR_CODE, String.format("Replay of projection '%s' failed: %s", projection, message), cause);
+        this.projection = projection;
+    }
+
+    public String getProjection() {
+        return projection;
+    }
+
+    /**
+     * Convenience method for replays requested for an unregistered projection.
+     */
+    public static EventReplayException unknownProjection(String projection) {
+        return new EventReplayException(projection, "No projection registered with this name");
+    }
+}
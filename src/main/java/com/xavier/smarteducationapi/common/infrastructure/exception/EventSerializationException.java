@@ -0,0 +1,46 @@
+package com.xavier.smarteducationapi.common.infrastructure.exception;
+
+/**
+ * Exception thrown when a domain event cannot be encoded or decoded.
+ * 
+ * This covers unknown event types, unsupported schema versions and
+ * corrupt or truncated payloads read from the event store.
+ * 
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+public class EventSerializationException extends InfrastructureException {
+    
+    private static final String ERROR_CODE = "EVENT_SERIALIZATION_FAILED";
+    
+    private final String format;
+    private final String eventType;
+    
+    public EventSerializationException(String format, String eventType, String message) {
+        super(ERROR_CODE, String.format("Event codec '%s' failed for type '%s': %s", format, eventType, message));
+        this.format = format;
+        this.eventType = eventType;
+    }
+    
+    public EventSerializationException(String format, String eventType, String message, Throwable cause) {
+        super(ERROR_CODE, String.format("Event codec '%s' failed for type '%s': %s", format, eventType, message), cause);
+        this.format = format;
+        this.eventType = eventType;
+    }
+    
+    public String getFormat() {
+        return format;
+    }
+    
+    public String getEventType() {
+        return eventType;
+    }
+    
+    /**
+     * Convenience method for event types without a registered serializer.
+     */
+    public static EventSerializationException unknownType(String format, String eventType) {
+        return new EventSerializationException(format, eventType, "No serializer registered");
+    }
+}
@@ -5,6 +5,9 @@
  * - InfrastructureException: Base class for infrastructure-layer exceptions
  * - DatabaseException: Database operation failures and connection issues
  * - EventPublishingException: Domain event publishing failures
+ * - EventSerializationException: Domain event encoding/decoding failures
+ * - EventReplayException: Projection replay failures
+ * - EventArchiveException: Event partition archival failures
  * - ExternalServiceException: External service communication failures
  * 
  * These exceptions represent technical issues such as:
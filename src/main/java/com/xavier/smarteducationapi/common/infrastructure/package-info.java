@@ -3,6 +3,7 @@
  * 
  * Contains infrastructure implementations for domain abstractions:
  * - Event publishing infrastructure
+ * - Batched audit log writing
  * - Repository implementations
  * - External service integrations
  * 
@@ -0,0 +1,24 @@
+package com.xavier.smarteducationapi.security.application.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Command carrying a refresh token, to exchange or revoke it.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenCommand {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
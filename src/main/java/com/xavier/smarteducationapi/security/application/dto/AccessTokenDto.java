@@ -0,0 +1,25 @@
+package com.xavier.smarteducationapi.security.application.dto;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Tokens returned to a client. {@code refreshToken} is only set when a new one was issued; a
+ * refresh keeps using the refresh token it was given.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Data
+@Builder
+public class AccessTokenDto {
+    private String accessToken;
+    @Builder.Default
+    private String tokenType = "Bearer";
+    private Instant expiresAt;
+    private String refreshToken;
+    private Instant refreshExpiresAt;
+}
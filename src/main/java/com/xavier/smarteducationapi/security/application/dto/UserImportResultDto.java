@@ -0,0 +1,25 @@
+package com.xavier.smarteducationapi.security.application.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of a user import. Only the first {@code max-reported-errors} problems are listed;
+ * {@code errorsTruncated} tells whether more were left out.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Data
+@Builder
+public class UserImportResultDto {
+    private long received;
+    private long created;
+    private long duplicates;
+    private long rejected;
+    private List<UserImportErrorDto> errors;
+    private boolean errorsTruncated;
+}
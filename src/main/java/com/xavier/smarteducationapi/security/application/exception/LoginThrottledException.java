@@ -0,0 +1,32 @@
+package com.xavier.smarteducationapi.security.application.exception;
+
+import java.time.Duration;
+
+import com.xavier.smarteducationapi.common.application.exception.ApplicationException;
+
+/**
+ * Exception thrown when a login attempt is refused before the password is checked, either because
+ * too many attempts failed for the account or address, or because password hashing is saturated.
+ * Answered with {@code 429 Too Many Requests} and a {@code Retry-After} header.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public class LoginThrottledException extends ApplicationException {
+
+    public static final String ACCOUNT_THROTTLED = "LOGIN_ACCOUNT_THROTTLED";
+    public static final String ADDRESS_THROTTLED = "LOGIN_ADDRESS_THROTTLED";
+    public static final String CAPACITY_EXCEEDED = "LOGIN_CAPACITY_EXCEEDED";
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String errorCode, String message, Duration retryAfter) {
+        super(errorCode, message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
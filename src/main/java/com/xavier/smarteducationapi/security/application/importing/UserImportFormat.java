@@ -0,0 +1,44 @@
+package com.xavier.smarteducationapi.security.application.importing;
+
+import java.util.Locale;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Formats accepted by the user import: CSV with a header row, or one JSON object per line.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public enum UserImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    UserImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return The format of a request body, or {@code null} when the content type is not supported
+     */
+    @Nullable
+    public static UserImportFormat fromContentType(@Nullable String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        for (UserImportFormat format : values()) {
+            if (type.startsWith(format.mediaType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
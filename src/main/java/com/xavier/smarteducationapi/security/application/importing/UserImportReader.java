@@ -0,0 +1,221 @@
+package com.xavier.smarteducationapi.security.application.importing;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.smarteducationapi.common.application.exception.ValidationException;
+
+/**
+ * Reads users from an import one record at a time, so that uploads of any size are parsed in
+ * constant memory.
+ *
+ * CSV needs a header row naming at least the {@code email} and {@code password} columns; the
+ * optional columns are {@code username}, {@code first_name}, {@code last_name}, {@code phone} and
+ * {@code roles}, a list separated by {@code ;}. Quoted fields may contain separators, quotes
+ * written twice and line breaks. NDJSON objects use the same names in camel case, with
+ * {@code roles} as an array. A record that cannot be read is returned with its error, and reading
+ * continues with the next one.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public class UserImportReader implements Closeable {
+
+    private static final int MAX_RECORD_LENGTH = 65536;
+    private static final int MAX_FIELDS = 64;
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+    private long line;
+    private boolean truncated;
+
+    public UserImportReader(InputStream input, UserImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return The next record, or {@code null} at the end of the input
+     * @throws ValidationException when a CSV header lacks a required column
+     */
+    @Nullable
+    public UserImportRow next() throws IOException {
+        return format == UserImportFormat.CSV ? nextCsv() : nextJson();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private UserImportRow nextJson() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+        if (text.length() > MAX_RECORD_LENGTH) {
+            return UserImportRow.invalid(line, "Record exceeds " + MAX_RECORD_LENGTH + " characters");
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return UserImportRow.invalid(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            return UserImportRow.invalid(line, "Expected a JSON object");
+        }
+        List<String> roles = new ArrayList<>();
+        JsonNode roleNode = node.get("roles");
+        if (roleNode != null && roleNode.isArray()) {
+            roleNode.forEach(role -> roles.add(role.asText()));
+        } else if (roleNode != null && roleNode.isTextual()) {
+            roles.addAll(splitRoles(roleNode.asText()));
+        }
+        return new UserImportRow(line, text(node, "email"), text(node, "password"), text(node, "username"),
+                text(node, "firstName"), text(node, "lastName"), text(node, "phone"), roles, null);
+    }
+
+    private UserImportRow nextCsv() throws IOException {
+        if (columns == null) {
+            List<String> header = readRecord();
+            if (header == null) {
+                return null;
+            }
+            columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).trim().toLowerCase(Locale.ROOT).replace(' ', '_').replace('-', '_');
+                columns.putIfAbsent(name, i);
+            }
+            if (!columns.containsKey("email") || !columns.containsKey("password")) {
+                throw new ValidationException("header", "CSV header must name the email and password columns");
+            }
+        }
+        List<String> fields;
+        long start;
+        do {
+            start = line + 1;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+        if (truncated) {
+            return UserImportRow.invalid(start, "Record exceeds " + MAX_RECORD_LENGTH + " characters or "
+                    + MAX_FIELDS + " fields");
+        }
+        return new UserImportRow(start, field(fields, "email"), field(fields, "password"), field(fields, "username"),
+                field(fields, "first_name"), field(fields, "last_name"), field(fields, "phone"),
+                splitRoles(field(fields, "roles")), null);
+    }
+
+    /**
+     * @return The fields of the next CSV record, or {@code null} at the end of the input
+     */
+    @Nullable
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int length = 0;
+        truncated = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (++length > MAX_RECORD_LENGTH) {
+                truncated = true;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    if (!truncated) {
+                        field.append((char) c);
+                    }
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                if (fields.size() < MAX_FIELDS) {
+                    fields.add(field.toString());
+                } else {
+                    truncated = true;
+                }
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                break;
+            } else if (c != '\r' && !truncated) {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Nullable
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    @Nullable
+    private static String text(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        String text = value.asText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static List<String> splitRoles(@Nullable String roles) {
+        if (roles == null || roles.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(";"))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .toList();
+    }
+}
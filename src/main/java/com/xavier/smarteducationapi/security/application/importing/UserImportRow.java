@@ -0,0 +1,36 @@
+package com.xavier.smarteducationapi.security.application.importing;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * One user read from an import, or the reason its record could not be read.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public record UserImportRow(
+        long line,
+        @Nullable String email,
+        @Nullable String password,
+        @Nullable String username,
+        @Nullable String firstName,
+        @Nullable String lastName,
+        @Nullable String phone,
+        List<String> roles,
+        @Nullable String error) {
+
+    public UserImportRow {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    public static UserImportRow invalid(long line, String error) {
+        return new UserImportRow(line, null, null, null, null, null, null, List.of(), error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,288 @@
+package com.xavier.smarteducationapi.security.application.login;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.security.application.exception.LoginThrottledException;
+import com.xavier.smarteducationapi.security.domain.repository.UserCredentialsRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sliding-window counts of failed logins per account and per client address.
+ *
+ * An account whose failures within {@code account.window-seconds} reach
+ * {@code account.max-failures} is refused for {@code account.lock-seconds}; an address whose
+ * failures within {@code ip.window-seconds} reach {@code ip.max-failures} is refused until its
+ * window slides below the limit. Refused attempts are answered before any password is hashed, so a
+ * credential stuffing burst costs little more than a map lookup per request.
+ *
+ * Windows are approximated from the count of the current and the previous fixed window, weighted
+ * by how much of the previous one still overlaps, which takes two counters per key. Counts are kept
+ * in memory; failed attempts of known users are added to {@code failed_login_attempts} every
+ * {@code sync-interval-ms} in one batch, and an account lock is written to {@code locked_until}
+ * immediately so other nodes honour it. At most {@code max-tracked-keys} windows are kept; idle
+ * windows are swept and, when still full, a tenth are dropped in no particular order.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class LoginThrottle implements MeterBinder {
+
+    private final UserCredentialsRepository repository;
+    private final Clock clock;
+    private final Limit accountLimit;
+    private final Duration lockDuration;
+    private final Limit addressLimit;
+    private final int maxTrackedKeys;
+
+    private final Map<String, Window> accounts = new ConcurrentHashMap<>();
+    private final Map<String, Window> addresses = new ConcurrentHashMap<>();
+    private final Map<String, Long> lockedAccounts = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicInteger> pendingFailures = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LoginThrottle(
+            UserCredentialsRepository repository,
+            @Value("${spring.login.account.max-failures:5}") int accountMaxFailures,
+            @Value("${spring.login.account.window-seconds:900}") long accountWindowSeconds,
+            @Value("${spring.login.account.lock-seconds:900}") long lockSeconds,
+            @Value("${spring.login.ip.max-failures:50}") int addressMaxFailures,
+            @Value("${spring.login.ip.window-seconds:300}") long addressWindowSeconds,
+            @Value("${spring.login.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this(repository, Clock.systemUTC(),
+                new Limit(accountMaxFailures, Duration.ofSeconds(accountWindowSeconds)),
+                Duration.ofSeconds(lockSeconds),
+                new Limit(addressMaxFailures, Duration.ofSeconds(addressWindowSeconds)),
+                maxTrackedKeys);
+    }
+
+    public LoginThrottle(UserCredentialsRepository repository, Clock clock, Limit accountLimit, Duration lockDuration,
+            Limit addressLimit, int maxTrackedKeys) {
+        this.repository = repository;
+        this.clock = clock;
+        this.accountLimit = accountLimit;
+        this.lockDuration = lockDuration;
+        this.addressLimit = addressLimit;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    /**
+     * @throws LoginThrottledException when the account or the address has failed too often
+     */
+    public void check(String account, @Nullable String address) {
+        long now = clock.millis();
+        Long lockedUntil = lockedAccounts.get(account);
+        if (lockedUntil != null) {
+            if (lockedUntil > now) {
+                throw new LoginThrottledException(LoginThrottledException.ACCOUNT_THROTTLED,
+                        "Too many failed logins for this account", Duration.ofMillis(lockedUntil - now));
+            }
+            lockedAccounts.remove(account, lockedUntil);
+        }
+        Window window = address != null ? addresses.get(address) : null;
+        if (window != null && window.estimate(now, addressLimit.window()) >= addressLimit.maxFailures()) {
+            throw new LoginThrottledException(LoginThrottledException.ADDRESS_THROTTLED,
+                    "Too many failed logins from this address", window.retryAfter(now, addressLimit.window()));
+        }
+    }
+
+    /**
+     * Count a failed login
+     *
+     * @param userId The user whose password was wrong, {@code null} when no such user exists
+     * @return When the account became locked by this failure, otherwise {@code null}
+     */
+    @Nullable
+    public Instant recordFailure(String account, @Nullable String address, @Nullable UUID userId) {
+        long now = clock.millis();
+        if (address != null) {
+            window(addresses, address, now).add(now, addressLimit.window());
+        }
+        if (userId != null) {
+            pendingFailures.computeIfAbsent(userId, id -> new AtomicInteger()).incrementAndGet();
+        }
+        Window window = window(accounts, account, now);
+        if (window.add(now, accountLimit.window()) < accountLimit.maxFailures()) {
+            return null;
+        }
+        Instant until = Instant.ofEpochMilli(now).plus(lockDuration);
+        lockedAccounts.put(account, until.toEpochMilli());
+        accounts.remove(account, window);
+        if (userId != null) {
+            try {
+                repository.lockUntil(userId, until);
+            } catch (DataAccessException e) {
+                log.warn("Could not lock user {}: {}", userId, e.getMessage());
+            }
+        }
+        return until;
+    }
+
+    /**
+     * Forget the failures of an account after a successful login
+     */
+    public void recordSuccess(String account, UUID userId) {
+        accounts.remove(account);
+        lockedAccounts.remove(account);
+        pendingFailures.remove(userId);
+    }
+
+    /**
+     * Add failed attempts of known users to {@code failed_login_attempts}
+     *
+     * @return number of users updated
+     */
+    @Scheduled(fixedDelayString = "${spring.login.sync-interval-ms:1000}")
+    public int sync() {
+        if (pendingFailures.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, Integer> failures = new HashMap<>();
+        for (UUID userId : pendingFailures.keySet()) {
+            AtomicInteger count = pendingFailures.remove(userId);
+            if (count != null && count.get() > 0) {
+                failures.put(userId, count.get());
+            }
+        }
+        try {
+            repository.addFailedAttempts(failures);
+        } catch (DataAccessException e) {
+            log.warn("Could not record {} failed login(s): {}", failures.size(), e.getMessage());
+            failures.forEach((userId, count) ->
+                    pendingFailures.computeIfAbsent(userId, id -> new AtomicInteger()).addAndGet(count));
+            return 0;
+        }
+        return failures.size();
+    }
+
+    /**
+     * Drop windows without failures in their last two periods and expired locks
+     *
+     * @return number of entries dropped
+     */
+    @Scheduled(fixedDelayString = "${spring.login.sweep-interval-ms:60000}")
+    public int evictIdle() {
+        long now = clock.millis();
+        int before = accounts.size() + addresses.size() + lockedAccounts.size();
+        accounts.values().removeIf(window -> window.isIdle(now, accountLimit.window()));
+        addresses.values().removeIf(window -> window.isIdle(now, addressLimit.window()));
+        lockedAccounts.values().removeIf(until -> until <= now);
+        return before - accounts.size() - addresses.size() - lockedAccounts.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.login.tracked.accounts", this, LoginThrottle::getTrackedAccounts)
+                .description("Accounts with recent failed logins")
+                .register(registry);
+        Gauge.builder("security.login.tracked.addresses", this, LoginThrottle::getTrackedAddresses)
+                .description("Client addresses with recent failed logins")
+                .register(registry);
+        Gauge.builder("security.login.locked.accounts", this, LoginThrottle::getLockedAccounts)
+                .description("Accounts currently locked on this node")
+                .register(registry);
+    }
+
+    public int getTrackedAccounts() {
+        return accounts.size();
+    }
+
+    public int getTrackedAddresses() {
+        return addresses.size();
+    }
+
+    public int getLockedAccounts() {
+        return lockedAccounts.size();
+    }
+
+    private Window window(Map<String, Window> windows, String key, long now) {
+        Window window = windows.get(key);
+        if (window != null) {
+            return window;
+        }
+        if (windows.size() >= maxTrackedKeys) {
+            evictIdle();
+            if (windows.size() >= maxTrackedKeys) {
+                Iterator<String> keys = windows.keySet().iterator();
+                for (int i = 0; i < Math.max(1, maxTrackedKeys / 10) && keys.hasNext(); i++) {
+                    keys.next();
+                    keys.remove();
+                }
+            }
+        }
+        return windows.computeIfAbsent(key, k -> new Window(now));
+    }
+
+    /**
+     * At most {@code maxFailures} failed logins within a sliding {@code window}
+     */
+    public record Limit(int maxFailures, Duration window) {
+    }
+
+    private static final class Window {
+        private long start;
+        private int previous;
+        private int current;
+
+        private Window(long now) {
+            this.start = now;
+        }
+
+        synchronized int add(long now, Duration length) {
+            roll(now, length.toMillis());
+            current++;
+            return weighted(now, length.toMillis());
+        }
+
+        synchronized int estimate(long now, Duration length) {
+            roll(now, length.toMillis());
+            return weighted(now, length.toMillis());
+        }
+
+        synchronized Duration retryAfter(long now, Duration length) {
+            return Duration.ofMillis(Math.max(1000, start + length.toMillis() - now));
+        }
+
+        synchronized boolean isIdle(long now, Duration length) {
+            roll(now, length.toMillis());
+            return current == 0 && previous == 0;
+        }
+
+        private void roll(long now, long length) {
+            long elapsed = now - start;
+            if (elapsed < length) {
+                return;
+            }
+            long periods = elapsed / length;
+            previous = periods == 1 ? current : 0;
+            current = 0;
+            start += periods * length;
+        }
+
+        private int weighted(long now, long length) {
+            double overlap = 1 - (double) (now - start) / length;
+            return current + (int) Math.floor(previous * overlap);
+        }
+    }
+}
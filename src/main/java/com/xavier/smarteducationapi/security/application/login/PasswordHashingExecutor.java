@@ -0,0 +1,194 @@
+package com.xavier.smarteducationapi.security.application.login;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.security.application.exception.LoginThrottledException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs password hashing on a dedicated, bounded pool so that a burst of logins cannot occupy every
+ * request thread with bcrypt.
+ *
+ * At most {@code threads} hashes run at once and at most {@code queue-capacity} wait. A login
+ * arriving when the queue is full, or whose hash is not done within {@code timeout-ms}, is refused
+ * with a {@link LoginThrottledException} instead of queueing without bound: under a credential
+ * stuffing burst logins degrade to {@code 429} while the rest of the API keeps its threads.
+ *
+ * Bulk imports hash on a second pool of {@code bulk-threads}, so an onboarding school does not
+ * take hashing capacity from logins. Its queue is bounded too, but a full queue makes the importing
+ * thread hash the password itself, slowing the import down rather than failing it.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor implements MeterBinder {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final long timeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            @Value("${spring.login.hashing.threads:0}") int threads,
+            @Value("${spring.login.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${spring.login.hashing.timeout-ms:5000}") long timeoutMillis,
+            @Value("${spring.login.hashing.bulk-threads:0}") int bulkThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.executor = pool("password-hashing-", threads > 0 ? threads : processors, queueCapacity,
+                new ThreadPoolExecutor.AbortPolicy());
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, processors / 2);
+        this.bulkExecutor = pool("password-hashing-bulk-", bulkPoolSize, bulkPoolSize * 4,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * @throws LoginThrottledException when hashing is saturated
+     */
+    public boolean matches(CharSequence rawPassword, String passwordHash) {
+        return run(() -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * @throws LoginThrottledException when hashing is saturated
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Hash many passwords in parallel on the bulk pool
+     *
+     * @return The hashes, in the order of the passwords
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (CharSequence rawPassword : rawPasswords) {
+            futures.add(bulkExecutor.submit(() -> passwordEncoder.encode(rawPassword)));
+        }
+        List<String> hashes = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return hashes;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.password.hashing.active", this, PasswordHashingExecutor::getActive)
+                .description("Passwords being hashed")
+                .register(registry);
+        Gauge.builder("security.password.hashing.queued", this, PasswordHashingExecutor::getQueued)
+                .description("Passwords waiting to be hashed")
+                .register(registry);
+        FunctionCounter.builder("security.password.hashing.rejected", this, PasswordHashingExecutor::getRejected)
+                .description("Hashing requests refused because the pool was saturated")
+                .register(registry);
+    }
+
+    public int getActive() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueued() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw saturated();
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw saturated();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw saturated();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static ThreadPoolExecutor pool(String name, int size, int queueCapacity,
+            RejectedExecutionHandler rejection) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                task -> Thread.ofPlatform().daemon().name(name + sequence.getAndIncrement()).unstarted(task),
+                rejection);
+    }
+
+    private LoginThrottledException saturated() {
+        rejected.increment();
+        if (log.isDebugEnabled()) {
+            log.debug("Password hashing saturated: {} active, {} queued", executor.getActiveCount(),
+                    executor.getQueue().size());
+        }
+        return new LoginThrottledException(LoginThrottledException.CAPACITY_EXCEEDED,
+                "Too many logins in progress, try again shortly", RETRY_AFTER);
+    }
+}
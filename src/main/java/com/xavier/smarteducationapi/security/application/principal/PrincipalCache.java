@@ -0,0 +1,276 @@
+package com.xavier.smarteducationapi.security.application.principal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.application.event.TopicListener;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.event.UserChangedEvent;
+import com.xavier.smarteducationapi.security.domain.repository.AuthorizationRepository;
+import com.xavier.smarteducationapi.security.domain.repository.UserAccountRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserAccount;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Principals of authenticated users, keyed by {@code (tenant_id, user_id)}, so that authenticating
+ * a request reads nothing from the database once its user has been seen.
+ *
+ * Each tenant has its own least-recently-used map of at most {@code max-users-per-tenant}
+ * principals, so a large school evicts only its own users; at most {@code max-tenants} tenants are
+ * kept, the least recently used one being dropped. Users not found are cached too, so a token of a
+ * deleted user does not read the database on every request.
+ *
+ * A principal carries the authorization version of its tenant when it was built; once
+ * {@link AuthorizationService} reports a newer version its roles and permissions are rebuilt from
+ * the compiled tenant, keeping the account. Accounts are dropped on {@code security.user.*}
+ * events, and every {@code refresh-interval-ms} for users changed on other nodes.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class PrincipalCache implements MeterBinder {
+
+    private static final UUID SYSTEM_TENANT = AuthorizationRepository.SYSTEM_TENANT;
+    private static final int MAX_EVENTS_PER_POLL = 1000;
+
+    private final UserAccountRepository repository;
+    private final AuthorizationService authorizationService;
+    private final AggregateChangeFeed aggregateChangeFeed;
+    private final int maxTenants;
+    private final int maxUsersPerTenant;
+
+    private final Map<UUID, TenantPrincipals> tenants = new ConcurrentHashMap<>();
+    private final AtomicLong accessClock = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile long cursor = -1;
+
+    public PrincipalCache(
+            UserAccountRepository repository,
+            AuthorizationService authorizationService,
+            AggregateChangeFeed aggregateChangeFeed,
+            @Value("${spring.authorization.principals.max-tenants:1000}") int maxTenants,
+            @Value("${spring.authorization.principals.max-users-per-tenant:10000}") int maxUsersPerTenant) {
+        this.repository = repository;
+        this.authorizationService = authorizationService;
+        this.aggregateChangeFeed = aggregateChangeFeed;
+        this.maxTenants = maxTenants;
+        this.maxUsersPerTenant = maxUsersPerTenant;
+    }
+
+    /**
+     * Current principal of a user, empty when the user does not exist in the tenant
+     */
+    public Optional<UserPrincipal> get(@Nullable UUID tenantId, UUID userId) {
+        long version = authorizationService.versionOf(tenantId);
+        TenantPrincipals principals = principalsOf(tenantId);
+        Entry entry = principals.get(userId);
+        if (entry != null && entry.version == version) {
+            hits.increment();
+            return entry.principal;
+        }
+        misses.increment();
+
+        long generation = principals.generation();
+        Optional<UserAccount> account = entry != null
+                ? entry.principal.map(UserPrincipal::account)
+                : repository.findById(tenantId, userId);
+        Entry built = new Entry(account.map(found -> new UserPrincipal(found,
+                authorizationService.rolesOf(tenantId, userId),
+                authorizationService.permissionsOf(tenantId, userId), version)), version);
+        principals.put(userId, built, generation);
+        return built.principal;
+    }
+
+    /**
+     * Drop the principal of a user, after changing the user on this node
+     */
+    public void invalidate(@Nullable UUID tenantId, UUID userId) {
+        TenantPrincipals principals = tenants.get(key(tenantId));
+        if (principals != null) {
+            principals.remove(userId);
+        }
+        authorizationService.invalidateUser(tenantId, userId);
+    }
+
+    public void invalidateAll() {
+        tenants.clear();
+    }
+
+    @TopicListener("security.user.*")
+    public void onUserEvent(DomainEvent event) {
+        UUID userId = UUID.fromString(event.getAggregateId());
+        if (event instanceof UserChangedEvent changed) {
+            invalidate(changed.getTenantId() != null ? UUID.fromString(changed.getTenantId()) : null, userId);
+        } else {
+            invalidateEverywhere(userId);
+        }
+    }
+
+    /**
+     * Drop the principals of users changed since the last poll, on any node
+     *
+     * @return number of changed users
+     */
+    @Scheduled(fixedDelayString = "${spring.authorization.principals.refresh-interval-ms:2000}")
+    public int refresh() {
+        try {
+            if (cursor < 0) {
+                cursor = aggregateChangeFeed.latestPosition();
+                tenants.clear();
+                return 0;
+            }
+            int changed = 0;
+            AggregateChanges changes;
+            do {
+                changes = aggregateChangeFeed.changesAfter(UserChangedEvent.AGGREGATE_TYPE, cursor,
+                        MAX_EVENTS_PER_POLL);
+                if (changes.truncated()) {
+                    tenants.clear();
+                }
+                changes.aggregateIds().forEach(userId -> invalidateEverywhere(UUID.fromString(userId)));
+                changed += changes.aggregateIds().size();
+                cursor = changes.position();
+            } while (changes.hasMore());
+            return changed;
+        } catch (DataAccessException ex) {
+            log.warn("Could not poll user changes: {}", ex.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.principal.cache.tenants", this, PrincipalCache::getTenantCount)
+                .description("Tenants with cached principals")
+                .register(registry);
+        Gauge.builder("security.principal.cache.size", this, PrincipalCache::getSize)
+                .description("Principals cached across all tenants")
+                .register(registry);
+        FunctionCounter.builder("security.principal.cache.hits", this, PrincipalCache::getHits)
+                .description("Requests whose principal was cached and current")
+                .register(registry);
+        FunctionCounter.builder("security.principal.cache.misses", this, PrincipalCache::getMisses)
+                .description("Requests whose principal had to be built")
+                .register(registry);
+    }
+
+    public int getTenantCount() {
+        return tenants.size();
+    }
+
+    public int getSize() {
+        return tenants.values().stream().mapToInt(TenantPrincipals::size).sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void invalidateEverywhere(UUID userId) {
+        tenants.values().forEach(principals -> principals.remove(userId));
+    }
+
+    private TenantPrincipals principalsOf(@Nullable UUID tenantId) {
+        UUID key = key(tenantId);
+        TenantPrincipals principals = tenants.get(key);
+        if (principals == null) {
+            principals = tenants.computeIfAbsent(key, k -> new TenantPrincipals(maxUsersPerTenant));
+            if (tenants.size() > maxTenants) {
+                evictLeastRecentlyUsed(key);
+            }
+        }
+        principals.lastAccess = accessClock.incrementAndGet();
+        return principals;
+    }
+
+    private void evictLeastRecentlyUsed(UUID keep) {
+        UUID oldest = null;
+        long oldestAccess = Long.MAX_VALUE;
+        for (Map.Entry<UUID, TenantPrincipals> entry : tenants.entrySet()) {
+            if (!entry.getKey().equals(keep) && entry.getValue().lastAccess < oldestAccess) {
+                oldestAccess = entry.getValue().lastAccess;
+                oldest = entry.getKey();
+            }
+        }
+        if (oldest != null) {
+            tenants.remove(oldest);
+        }
+    }
+
+    private static UUID key(@Nullable UUID tenantId) {
+        return tenantId != null ? tenantId : SYSTEM_TENANT;
+    }
+
+    private record Entry(Optional<UserPrincipal> principal, long version) {
+    }
+
+    /**
+     * Least-recently-used principals of one tenant. A principal is only stored if its user was not
+     * invalidated while it was being built.
+     */
+    private static final class TenantPrincipals {
+        private final LinkedHashMap<UUID, Entry> users;
+        private long invalidations;
+        private volatile long lastAccess;
+
+        private TenantPrincipals(int maxUsers) {
+            this.users = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                    return size() > maxUsers;
+                }
+            };
+        }
+
+        synchronized Entry get(UUID userId) {
+            return users.get(userId);
+        }
+
+        synchronized long generation() {
+            return invalidations;
+        }
+
+        synchronized void put(UUID userId, Entry entry, long generation) {
+            if (generation == invalidations) {
+                users.put(userId, entry);
+            }
+        }
+
+        synchronized void remove(UUID userId) {
+            invalidations++;
+            users.remove(userId);
+        }
+
+        synchronized int size() {
+            return users.size();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.xavier.smarteducationapi.security.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import com.xavier.smarteducationapi.common.domain.exception.EntityNotFoundException;
+import com.xavier.smarteducationapi.security.application.token.AccessTokenCodec;
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessToken;
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessTokenClaims;
+import com.xavier.smarteducationapi.tenant.application.api.TenantCapabilitiesApi;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+
+/**
+ * Issues access tokens carrying everything request handling needs about the user and tenant: the
+ * roles, the permission version and the tenant capabilities current at issue time.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+public class AccessTokenService {
+
+    private final AccessTokenCodec codec;
+    private final AuthorizationService authorizationService;
+    private final TenantCapabilitiesApi tenantCapabilitiesApi;
+    private final Clock clock;
+    private final Duration timeToLive;
+
+    @Autowired
+    public AccessTokenService(
+            AccessTokenCodec codec,
+            AuthorizationService authorizationService,
+            TenantCapabilitiesApi tenantCapabilitiesApi,
+            @Value("${spring.jwt.access-token-ttl-seconds:900}") long timeToLiveSeconds) {
+        this(codec, authorizationService, tenantCapabilitiesApi, Clock.systemUTC(),
+                Duration.ofSeconds(timeToLiveSeconds));
+    }
+
+    public AccessTokenService(AccessTokenCodec codec, AuthorizationService authorizationService,
+            TenantCapabilitiesApi tenantCapabilitiesApi, Clock clock, Duration timeToLive) {
+        this.codec = codec;
+        this.authorizationService = authorizationService;
+        this.tenantCapabilitiesApi = tenantCapabilitiesApi;
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Issue an access token for a user
+     *
+     * @param tenantId The user's tenant, {@code null} for system-wide users
+     * @throws EntityNotFoundException when the tenant does not exist
+     */
+    public AccessToken issue(UUID userId, @Nullable UUID tenantId, List<String> roles) {
+        TenantCapabilities tenant = null;
+        if (tenantId != null) {
+            tenant = tenantCapabilitiesApi.capabilitiesOf(tenantId.toString())
+                    .orElseThrow(() -> new EntityNotFoundException("Tenant", tenantId.toString(),
+                            "Cannot issue a token for a missing tenant"));
+        }
+        Instant now = clock.instant();
+        AccessTokenClaims claims = new AccessTokenClaims(UUID.randomUUID().toString(), userId, tenantId, roles,
+                authorizationService.versionOf(tenantId), tenant, now, now.plus(timeToLive));
+        return new AccessToken(codec.encode(claims), claims);
+    }
+}
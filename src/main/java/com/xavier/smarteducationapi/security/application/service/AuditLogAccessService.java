@@ -0,0 +1,56 @@
+package com.xavier.smarteducationapi.security.application.service;
+
+import java.util.UUID;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditLogCriteria;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogScope;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+
+/**
+ * Restricts audit log reads to the caller's tenant.
+ *
+ * Callers holding {@code AUDIT:READ_ALL} may read every tenant's entries and filter by any tenant.
+ * Every other caller reads only the entries of their own tenant: queries without a tenant are
+ * narrowed to it, and queries for another tenant are refused.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+public class AuditLogAccessService implements AuditLogScope {
+
+    private static final Permission AUDIT_READ_ALL = new Permission("AUDIT", "READ_ALL");
+
+    private final AuthorizationService authorizationService;
+
+    public AuditLogAccessService(AuthorizationService authorizationService) {
+        this.authorizationService = authorizationService;
+    }
+
+    @Override
+    public AuditLogCriteria restrict(Authentication caller, AuditLogCriteria criteria) {
+        if (!(caller.getPrincipal() instanceof UserPrincipal principal)) {
+            throw new AccessDeniedException("The audit log is only available to authenticated users");
+        }
+        int readAll = authorizationService.ordinalOf(AUDIT_READ_ALL);
+        if (readAll >= 0 && principal.permissions().contains(readAll)) {
+            return criteria;
+        }
+
+        UUID tenantId = principal.tenantId();
+        if (tenantId == null) {
+            throw new AccessDeniedException("Reading the audit log without a tenant needs " + AUDIT_READ_ALL);
+        }
+        if (criteria.tenantId() != null && !criteria.tenantId().equals(tenantId)) {
+            throw new AccessDeniedException("The audit log of another tenant cannot be read");
+        }
+        return new AuditLogCriteria(tenantId, criteria.entityType(), criteria.entityId(), criteria.userId(),
+                criteria.from(), criteria.to());
+    }
+}
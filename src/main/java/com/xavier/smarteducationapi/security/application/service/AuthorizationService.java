@@ -0,0 +1,291 @@
+package com.xavier.smarteducationapi.security.application.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.xavier.smarteducationapi.common.application.event.TopicListener;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.security.domain.event.RoleChangedEvent;
+import com.xavier.smarteducationapi.security.domain.repository.AuthorizationRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Role-based permission checks against compiled permission bitsets.
+ *
+ * Every permission has a dense ordinal, every role compiles to a {@link PermissionSet} and a
+ * user's effective permissions are the union of their roles' sets. Role sets are compiled once per
+ * tenant and user sets once per user, so a check is a map lookup and a bit test.
+ *
+ * Compiled tenants are cached, at most {@code max-tenants} of them, evicting the least recently
+ * used. Each carries the authorization version it was compiled at, which database triggers bump
+ * whenever roles, role permissions or role assignments of the tenant change. Every
+ * {@code refresh-interval-ms} the versions of the cached tenants are read in one query and stale
+ * tenants are dropped; a change of the system-wide roles drops every tenant. Roles changed on this
+ * node drop their tenant at once, on {@code security.role.*} events.
+ *
+ * Tenant ids are {@code null} for system-wide users.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+@Slf4j
+public class AuthorizationService {
+
+    private static final UUID SYSTEM_TENANT = AuthorizationRepository.SYSTEM_TENANT;
+    private static final long CATALOG_RELOAD_MILLIS = 10_000;
+
+    private final AuthorizationRepository repository;
+    private final int maxTenants;
+    private final int maxUsersPerTenant;
+
+    private final Map<UUID, CompiledTenant> tenants = new ConcurrentHashMap<>();
+    private final AtomicLong accessClock = new AtomicLong();
+    private volatile Map<Permission, Integer> ordinals;
+    private volatile long catalogLoadedAt;
+    private volatile long systemVersion = -1;
+
+    public AuthorizationService(
+            AuthorizationRepository repository,
+            @Value("${spring.authorization.max-tenants:1000}") int maxTenants,
+            @Value("${spring.authorization.max-users-per-tenant:10000}") int maxUsersPerTenant) {
+        this.repository = repository;
+        this.maxTenants = maxTenants;
+        this.maxUsersPerTenant = maxUsersPerTenant;
+    }
+
+    /**
+     * Whether a user holds a permission; unknown permissions are never granted
+     */
+    public boolean isAllowed(@Nullable UUID tenantId, UUID userId, Permission permission) {
+        int ordinal = ordinalOf(permission);
+        return ordinal >= 0 && permissionsOf(tenantId, userId).contains(ordinal);
+    }
+
+    /**
+     * Ordinal of a permission, {@code -1} when it does not exist. Callers checking the same
+     * permission repeatedly can resolve it once and test {@link PermissionSet#contains} directly.
+     */
+    public int ordinalOf(Permission permission) {
+        Integer ordinal = catalog().get(permission);
+        if (ordinal == null && System.currentTimeMillis() - catalogLoadedAt >= CATALOG_RELOAD_MILLIS) {
+            // The permission may have been added since the catalog was loaded
+            ordinal = reloadCatalog().get(permission);
+        }
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Effective permissions of a user: the union of the permissions of their roles
+     */
+    public PermissionSet permissionsOf(@Nullable UUID tenantId, UUID userId) {
+        return grantsOf(compiled(tenantId), tenantId, userId).permissions();
+    }
+
+    /**
+     * Names of the roles assigned to a user
+     */
+    public List<String> rolesOf(@Nullable UUID tenantId, UUID userId) {
+        CompiledTenant tenant = compiled(tenantId);
+        List<String> names = new ArrayList<>();
+        for (UUID roleId : grantsOf(tenant, tenantId, userId).roleIds()) {
+            String name = tenant.roleNames.get(roleId);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Authorization version of a tenant, which changes whenever its effective permissions may have
+     */
+    public long versionOf(@Nullable UUID tenantId) {
+        return compiled(tenantId).version;
+    }
+
+    /**
+     * Drop the compiled permissions of a tenant, after changing its roles on this node
+     */
+    public void invalidate(@Nullable UUID tenantId) {
+        tenants.remove(key(tenantId));
+    }
+
+    /**
+     * Drop the compiled permissions of one user, after changing their role assignments
+     */
+    public void invalidateUser(@Nullable UUID tenantId, UUID userId) {
+        CompiledTenant tenant = tenants.get(key(tenantId));
+        if (tenant != null) {
+            tenant.users.remove(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        tenants.clear();
+    }
+
+    @TopicListener("security.role.*")
+    public void onRoleEvent(DomainEvent event) {
+        if (event instanceof RoleChangedEvent changed && changed.getTenantId() != null) {
+            invalidate(UUID.fromString(changed.getTenantId()));
+        } else {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Drop the cached tenants whose authorization version changed
+     *
+     * @return number of tenants dropped
+     */
+    @Scheduled(fixedDelayString = "${spring.authorization.refresh-interval-ms:2000}")
+    public int refresh() {
+        Set<UUID> cached = new HashSet<>(tenants.keySet());
+        cached.add(SYSTEM_TENANT);
+        Map<UUID, Long> versions;
+        try {
+            versions = repository.findVersions(cached);
+        } catch (DataAccessException ex) {
+            log.warn("Could not read authorization versions: {}", ex.getMessage());
+            return 0;
+        }
+        long system = versions.getOrDefault(SYSTEM_TENANT, 0L);
+        if (systemVersion >= 0 && system != systemVersion) {
+            int dropped = tenants.size();
+            systemVersion = system;
+            tenants.clear();
+            log.info("System roles changed, dropped compiled permissions of {} tenant(s)", dropped);
+            return dropped;
+        }
+        systemVersion = system;
+        int dropped = 0;
+        for (Map.Entry<UUID, CompiledTenant> entry : tenants.entrySet()) {
+            UUID tenantId = entry.getKey();
+            long version = tenantId.equals(SYSTEM_TENANT) ? system : versions.getOrDefault(tenantId, 0L) + system;
+            if (entry.getValue().version != version && tenants.remove(tenantId, entry.getValue())) {
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    public int getCachedTenantCount() {
+        return tenants.size();
+    }
+
+    private CompiledTenant compiled(@Nullable UUID tenantId) {
+        UUID key = key(tenantId);
+        CompiledTenant tenant = tenants.get(key);
+        if (tenant == null) {
+            tenant = compile(tenantId);
+            tenant.lastAccess = accessClock.incrementAndGet();
+            CompiledTenant raced = tenants.putIfAbsent(key, tenant);
+            if (raced != null) {
+                tenant = raced;
+            } else if (tenants.size() > maxTenants) {
+                evictLeastRecentlyUsed();
+            }
+        }
+        tenant.lastAccess = accessClock.incrementAndGet();
+        return tenant;
+    }
+
+    private UserGrants grantsOf(CompiledTenant tenant, @Nullable UUID tenantId, UUID userId) {
+        UserGrants grants = tenant.users.get(userId);
+        if (grants == null) {
+            List<UUID> roleIds = List.copyOf(repository.findRoleIds(tenantId, userId));
+            List<PermissionSet> roles = new ArrayList<>();
+            for (UUID roleId : roleIds) {
+                PermissionSet role = tenant.roles.get(roleId);
+                if (role != null) {
+                    roles.add(role);
+                }
+            }
+            grants = new UserGrants(roleIds, PermissionSet.union(roles));
+            if (tenant.users.size() >= maxUsersPerTenant) {
+                tenant.users.clear();
+            }
+            tenant.users.put(userId, grants);
+        }
+        return grants;
+    }
+
+    private CompiledTenant compile(@Nullable UUID tenantId) {
+        // Read the version first: changes made while compiling then show up as a newer version
+        Map<UUID, Long> versions = repository.findVersions(List.of(key(tenantId), SYSTEM_TENANT));
+        long version = versions.getOrDefault(SYSTEM_TENANT, 0L)
+                + (tenantId != null ? versions.getOrDefault(tenantId, 0L) : 0L);
+        return new CompiledTenant(version, Map.copyOf(repository.findRolePermissions(tenantId)),
+                Map.copyOf(repository.findRoleNames(tenantId)));
+    }
+
+    private void evictLeastRecentlyUsed() {
+        UUID oldest = null;
+        long oldestAccess = Long.MAX_VALUE;
+        for (Map.Entry<UUID, CompiledTenant> entry : tenants.entrySet()) {
+            if (entry.getValue().lastAccess < oldestAccess) {
+                oldestAccess = entry.getValue().lastAccess;
+                oldest = entry.getKey();
+            }
+        }
+        if (oldest != null) {
+            tenants.remove(oldest);
+        }
+    }
+
+    private Map<Permission, Integer> catalog() {
+        Map<Permission, Integer> catalog = ordinals;
+        return catalog != null ? catalog : reloadCatalog();
+    }
+
+    private synchronized Map<Permission, Integer> reloadCatalog() {
+        Map<Permission, Integer> catalog = Map.copyOf(repository.findPermissionOrdinals());
+        ordinals = catalog;
+        catalogLoadedAt = System.currentTimeMillis();
+        return catalog;
+    }
+
+    private static UUID key(@Nullable UUID tenantId) {
+        return tenantId != null ? tenantId : SYSTEM_TENANT;
+    }
+
+    /**
+     * Compiled roles of one tenant and the grants of its users seen so far
+     */
+    private static final class CompiledTenant {
+        private final long version;
+        private final Map<UUID, PermissionSet> roles;
+        private final Map<UUID, String> roleNames;
+        private final Map<UUID, UserGrants> users = new ConcurrentHashMap<>();
+        private volatile long lastAccess;
+
+        private CompiledTenant(long version, Map<UUID, PermissionSet> roles, Map<UUID, String> roleNames) {
+            this.version = version;
+            this.roles = roles;
+            this.roleNames = roleNames;
+        }
+    }
+
+    /**
+     * Roles assigned to a user and the union of their permissions
+     */
+    private record UserGrants(List<UUID> roleIds, PermissionSet permissions) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.xavier.smarteducationapi.security.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.stereotype.Service;
+
+import com.xavier.smarteducationapi.security.application.command.LoginCommand;
+import com.xavier.smarteducationapi.security.application.dto.AccessTokenDto;
+import com.xavier.smarteducationapi.security.application.login.LoginThrottle;
+import com.xavier.smarteducationapi.security.application.login.PasswordHashingExecutor;
+import com.xavier.smarteducationapi.security.domain.repository.UserCredentialsRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserCredentials;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs users in with an email and a password.
+ *
+ * The {@link LoginThrottle} is consulted before anything else, so throttled accounts and addresses
+ * cost neither a database read nor a password hash. Passwords are checked on the bounded
+ * {@link PasswordHashingExecutor}; unknown emails are checked against a fixed hash so that they
+ * take as long as wrong passwords. Accounts locked by another node are refused from their
+ * {@code locked_until}, but only after their password was hashed and with the same error as a
+ * wrong password, so neither the answer nor its timing tells whether an account exists.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+@Slf4j
+public class LoginService {
+
+    private static final String INVALID_CREDENTIALS = "Invalid email or password";
+
+    private final UserCredentialsRepository repository;
+    private final PasswordHashingExecutor passwordHashing;
+    private final LoginThrottle throttle;
+    private final RefreshTokenService refreshTokenService;
+    private final Clock clock;
+    private volatile String unknownUserHash;
+
+    @Autowired
+    public LoginService(UserCredentialsRepository repository, PasswordHashingExecutor passwordHashing,
+            LoginThrottle throttle, RefreshTokenService refreshTokenService) {
+        this(repository, passwordHashing, throttle, refreshTokenService, Clock.systemUTC());
+    }
+
+    public LoginService(UserCredentialsRepository repository, PasswordHashingExecutor passwordHashing,
+            LoginThrottle throttle, RefreshTokenService refreshTokenService, Clock clock) {
+        this.repository = repository;
+        this.passwordHashing = passwordHashing;
+        this.throttle = throttle;
+        this.refreshTokenService = refreshTokenService;
+        this.clock = clock;
+    }
+
+    /**
+     * @throws com.xavier.smarteducationapi.security.application.exception.LoginThrottledException
+     *         when the account or address is throttled, or password hashing is saturated
+     * @throws org.springframework.security.core.AuthenticationException when the credentials are
+     *         wrong or the user may not log in
+     */
+    public AccessTokenDto login(LoginCommand command, @Nullable String ipAddress, @Nullable String userAgent) {
+        String email = command.getEmail().trim().toLowerCase(Locale.ROOT);
+        String account = command.getTenantId() + ":" + email;
+        throttle.check(account, ipAddress);
+
+        Optional<UserCredentials> found = repository.findByEmail(command.getTenantId(), email);
+        if (found.isEmpty()) {
+            passwordHashing.matches(command.getPassword(), unknownUserHash());
+            throttle.recordFailure(account, ipAddress, null);
+            throw new BadCredentialsException(INVALID_CREDENTIALS);
+        }
+
+        UserCredentials user = found.get();
+        boolean matches = passwordHashing.matches(command.getPassword(), user.passwordHash());
+        if (user.isLocked(clock.instant())) {
+            throttle.recordFailure(account, ipAddress, null);
+            throw new BadCredentialsException(INVALID_CREDENTIALS);
+        }
+        if (!matches) {
+            Instant lockedUntil = throttle.recordFailure(account, ipAddress, user.userId());
+            if (lockedUntil != null) {
+                log.info("Locked user {} until {} after repeated failed logins", user.userId(), lockedUntil);
+            }
+            throw new BadCredentialsException(INVALID_CREDENTIALS);
+        }
+        if (!user.isActive()) {
+            throw new DisabledException("Account is " + user.status().toLowerCase(Locale.ROOT));
+        }
+
+        throttle.recordSuccess(account, user.userId());
+        recordLogin(user);
+        return refreshTokenService.issue(user.userId(), user.tenantId(), ipAddress, userAgent);
+    }
+
+    private void recordLogin(UserCredentials user) {
+        try {
+            repository.recordLogin(user.userId());
+        } catch (DataAccessException e) {
+            log.warn("Could not record the login of user {}: {}", user.userId(), e.getMessage());
+        }
+    }
+
+    private String unknownUserHash() {
+        String hash = unknownUserHash;
+        if (hash == null) {
+            hash = passwordHashing.encode("unknown-user-" + System.nanoTime());
+            unknownUserHash = hash;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,203 @@
+package com.xavier.smarteducationapi.security.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import com.xavier.smarteducationapi.security.application.dto.AccessTokenDto;
+import com.xavier.smarteducationapi.security.application.token.RefreshTokenCodec;
+import com.xavier.smarteducationapi.security.application.token.RevokedTokenFilter;
+import com.xavier.smarteducationapi.security.domain.repository.RefreshTokenRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessToken;
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshToken;
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshTokenClaims;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues, exchanges and revokes refresh tokens.
+ *
+ * Refresh tokens are signed, so exchanging one for an access token needs neither a write nor a
+ * read of {@code security.refresh_tokens}: the signature and expiry are checked in memory and the
+ * {@link RevokedTokenFilter} tells which tokens might be revoked, which alone are looked up by
+ * hash. Roles, permission versions and tenant capabilities come from caches that are only reloaded
+ * when they change, so a morning burst of refreshes costs the database little beyond one role read
+ * per user. Tokens are not rotated on refresh.
+ *
+ * Only the SHA-256 hash of a token is stored. Expired tokens are deleted every
+ * {@code sweep-interval-ms}, in batches of {@code sweep-batch-size}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenCodec codec;
+    private final RefreshTokenRepository repository;
+    private final RevokedTokenFilter revokedTokens;
+    private final AccessTokenService accessTokenService;
+    private final AuthorizationService authorizationService;
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final int sweepBatchSize;
+    private final int sweepMaxBatches;
+
+    @Autowired
+    public RefreshTokenService(
+            RefreshTokenCodec codec,
+            RefreshTokenRepository repository,
+            RevokedTokenFilter revokedTokens,
+            AccessTokenService accessTokenService,
+            AuthorizationService authorizationService,
+            @Value("${spring.jwt.refresh.ttl-seconds:2592000}") long timeToLiveSeconds,
+            @Value("${spring.jwt.refresh.sweep-batch-size:500}") int sweepBatchSize,
+            @Value("${spring.jwt.refresh.sweep-max-batches:200}") int sweepMaxBatches) {
+        this(codec, repository, revokedTokens, accessTokenService, authorizationService, Clock.systemUTC(),
+                Duration.ofSeconds(timeToLiveSeconds), sweepBatchSize, sweepMaxBatches);
+    }
+
+    public RefreshTokenService(RefreshTokenCodec codec, RefreshTokenRepository repository,
+            RevokedTokenFilter revokedTokens, AccessTokenService accessTokenService,
+            AuthorizationService authorizationService, Clock clock, Duration timeToLive, int sweepBatchSize,
+            int sweepMaxBatches) {
+        this.codec = codec;
+        this.repository = repository;
+        this.revokedTokens = revokedTokens;
+        this.accessTokenService = accessTokenService;
+        this.authorizationService = authorizationService;
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.sweepBatchSize = sweepBatchSize;
+        this.sweepMaxBatches = sweepMaxBatches;
+    }
+
+    /**
+     * Issue an access token and a new refresh token to a user who just authenticated
+     */
+    public AccessTokenDto issue(UUID userId, @Nullable UUID tenantId, @Nullable String ipAddress,
+            @Nullable String userAgent) {
+        Instant now = clock.instant();
+        RefreshTokenClaims claims = new RefreshTokenClaims(UUID.randomUUID(), userId, tenantId, now,
+                now.plus(timeToLive));
+        String refreshToken = codec.encodeRefresh(claims);
+        repository.save(new RefreshToken(claims.tokenId(), userId, hash(refreshToken), claims.expiresAt(), false,
+                ipAddress, userAgent));
+
+        AccessToken accessToken = accessToken(userId, tenantId);
+        return AccessTokenDto.builder()
+                .accessToken(accessToken.value())
+                .expiresAt(accessToken.claims().expiresAt())
+                .refreshToken(refreshToken)
+                .refreshExpiresAt(claims.expiresAt())
+                .build();
+    }
+
+    /**
+     * Exchange a refresh token for a new access token
+     *
+     * @throws org.springframework.security.core.AuthenticationException when the refresh token is
+     *         invalid, expired or revoked
+     */
+    public AccessTokenDto refresh(String refreshToken) {
+        RefreshTokenClaims claims = codec.decodeRefresh(refreshToken);
+        String hash = hash(refreshToken);
+        if (revokedTokens.mightBeRevoked(hash)) {
+            Optional<RefreshToken> stored = repository.findByHash(hash);
+            if (stored.isEmpty() || stored.get().revoked()) {
+                throw new BadCredentialsException("Refresh token has been revoked");
+            }
+        }
+        AccessToken accessToken = accessToken(claims.userId(), claims.tenantId());
+        return AccessTokenDto.builder()
+                .accessToken(accessToken.value())
+                .expiresAt(accessToken.claims().expiresAt())
+                .build();
+    }
+
+    /**
+     * Revoke one refresh token, e.g. on logout
+     *
+     * Only tokens with a valid signature that were stored and not yet revoked reach the
+     * {@link RevokedTokenFilter}, so arbitrary strings posted to the endpoint cannot saturate it.
+     *
+     * @return Whether the token was valid until now
+     * @throws org.springframework.security.core.AuthenticationException when the refresh token is
+     *         invalid or expired
+     */
+    public boolean revoke(String refreshToken) {
+        codec.decodeRefresh(refreshToken);
+        String hash = hash(refreshToken);
+        boolean revoked = repository.revoke(hash);
+        if (revoked) {
+            revokedTokens.add(hash);
+        }
+        return revoked;
+    }
+
+    /**
+     * Revoke every refresh token of a user, e.g. when the user is disabled or changes password
+     *
+     * @return number of tokens revoked
+     */
+    public int revokeAll(UUID userId) {
+        List<String> hashes = repository.revokeAllOfUser(userId);
+        hashes.forEach(revokedTokens::add);
+        return hashes.size();
+    }
+
+    /**
+     * Delete expired refresh tokens, one bounded batch per statement
+     *
+     * @return number of tokens deleted
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.refresh.sweep-interval-ms:300000}")
+    public int sweepExpired() {
+        int total = 0;
+        try {
+            for (int batch = 0; batch < sweepMaxBatches; batch++) {
+                int deleted = repository.deleteExpired(sweepBatchSize);
+                total += deleted;
+                if (deleted < sweepBatchSize) {
+                    break;
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Deleting expired refresh tokens failed: {}", ex.getMessage());
+        }
+        if (total > 0) {
+            log.debug("Deleted {} expired refresh token(s)", total);
+        }
+        return total;
+    }
+
+    private AccessToken accessToken(UUID userId, @Nullable UUID tenantId) {
+        return accessTokenService.issue(userId, tenantId, authorizationService.rolesOf(tenantId, userId));
+    }
+
+    static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
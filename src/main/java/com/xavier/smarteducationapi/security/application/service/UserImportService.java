@@ -0,0 +1,325 @@
+package com.xavier.smarteducationapi.security.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.smarteducationapi.common.domain.exception.BusinessRuleViolationException;
+import com.xavier.smarteducationapi.common.domain.exception.EntityNotFoundException;
+import com.xavier.smarteducationapi.security.application.dto.UserImportErrorDto;
+import com.xavier.smarteducationapi.security.application.dto.UserImportResultDto;
+import com.xavier.smarteducationapi.security.application.importing.UserImportFormat;
+import com.xavier.smarteducationapi.security.application.importing.UserImportReader;
+import com.xavier.smarteducationapi.security.application.importing.UserImportRow;
+import com.xavier.smarteducationapi.security.application.login.PasswordHashingExecutor;
+import com.xavier.smarteducationapi.security.domain.repository.AuthorizationRepository;
+import com.xavier.smarteducationapi.security.domain.repository.UserProvisioningRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.NewUser;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+import com.xavier.smarteducationapi.tenant.application.api.TenantCapabilitiesApi;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Provisions the users of a tenant in bulk, from a CSV or NDJSON upload.
+ *
+ * The upload is read as a stream and handled in batches of {@code batch-size} records, so beyond
+ * the emails seen so far only one batch is held in memory. For each batch:
+ * <ul>
+ * <li>emails already taken in the tenant are found with one set-based query, and emails repeated
+ * within the upload are skipped after their first occurrence;</li>
+ * <li>the remaining passwords are hashed in parallel on the bulk pool of the
+ * {@link PasswordHashingExecutor}, outside any transaction;</li>
+ * <li>in one transaction the tenant's users are counted under a tenant-scoped lock, the
+ * {@code maxUsers} quota is checked once for the whole batch, and the users and their roles are
+ * inserted with JDBC batches.</li>
+ * </ul>
+ * Each batch commits on its own: a failing upload keeps the users of the batches before it, and
+ * importing the same file again skips them as duplicates.
+ *
+ * Callers may only import into their own tenant and need the {@code USER:CREATE} permission.
+ * Records may only assign the tenant's own roles; system roles are unknown to an import.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private static final Permission USER_CREATE = new Permission("USER", "CREATE");
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_PHONE_LENGTH = 50;
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_PASSWORD_BYTES = 72;
+
+    private final UserProvisioningRepository repository;
+    private final AuthorizationRepository authorizationRepository;
+    private final AuthorizationService authorizationService;
+    private final TenantCapabilitiesApi tenantCapabilitiesApi;
+    private final PasswordHashingExecutor passwordHashing;
+    private final TransactionTemplate transaction;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public UserImportService(
+            UserProvisioningRepository repository,
+            AuthorizationRepository authorizationRepository,
+            AuthorizationService authorizationService,
+            TenantCapabilitiesApi tenantCapabilitiesApi,
+            PasswordHashingExecutor passwordHashing,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${spring.user-import.batch-size:500}") int batchSize,
+            @Value("${spring.user-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.repository = repository;
+        this.authorizationRepository = authorizationRepository;
+        this.authorizationService = authorizationService;
+        this.tenantCapabilitiesApi = tenantCapabilitiesApi;
+        this.passwordHashing = passwordHashing;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Import the users of an upload into a tenant
+     *
+     * @throws AccessDeniedException when the caller belongs to another tenant or may not create users
+     * @throws EntityNotFoundException when the tenant does not exist
+     * @throws BusinessRuleViolationException when the tenant is not active
+     */
+    public UserImportResultDto importUsers(UserPrincipal caller, UUID tenantId, UserImportFormat format,
+            InputStream input) {
+        if (!tenantId.equals(caller.tenantId())
+                || !authorizationService.isAllowed(caller.tenantId(), caller.userId(), USER_CREATE)) {
+            throw new AccessDeniedException("Not allowed to import users into tenant " + tenantId);
+        }
+        TenantCapabilities tenant = tenantCapabilitiesApi.capabilitiesOf(tenantId.toString())
+                .orElseThrow(() -> new EntityNotFoundException("Tenant", tenantId));
+        if (!tenant.isActive()) {
+            throw new BusinessRuleViolationException("ACTIVE_TENANT_IMPORT",
+                    "Users can only be imported into an active tenant", tenant.status());
+        }
+
+        Import run = new Import(tenantId, tenant.maxUsers(), roleIdsByName(tenantId));
+        try (UserImportReader reader = new UserImportReader(input, format, objectMapper)) {
+            List<UserImportRow> batch = new ArrayList<>(batchSize);
+            UserImportRow row;
+            while ((row = reader.next()) != null) {
+                run.received++;
+                if (accept(run, row)) {
+                    batch.add(row);
+                }
+                if (batch.size() == batchSize) {
+                    flush(run, batch);
+                    batch.clear();
+                }
+            }
+            flush(run, batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Reading the user import failed", e);
+        }
+
+        log.info("Imported {} of {} user(s) into tenant {}: {} duplicate(s), {} rejected", run.created, run.received,
+                tenantId, run.duplicates, run.rejected);
+        return UserImportResultDto.builder()
+                .received(run.received)
+                .created(run.created)
+                .duplicates(run.duplicates)
+                .rejected(run.rejected)
+                .errors(run.errors)
+                .errorsTruncated(run.errorsTruncated)
+                .build();
+    }
+
+    /**
+     * Validate a record and skip emails seen earlier in the upload
+     */
+    private boolean accept(Import run, UserImportRow row) {
+        String problem = validate(run, row);
+        if (problem != null) {
+            run.reject(row, problem);
+            return false;
+        }
+        if (!run.seen.add(normalize(row.email()))) {
+            run.duplicate(row, "Email appears earlier in the upload");
+            return false;
+        }
+        return true;
+    }
+
+    @Nullable
+    private String validate(Import run, UserImportRow row) {
+        if (!row.isValid()) {
+            return row.error();
+        }
+        String email = row.email();
+        if (email == null) {
+            return "Email is required";
+        }
+        if (email.length() > MAX_EMAIL_LENGTH || !EMAIL.matcher(email).matches()) {
+            return "Email must be valid";
+        }
+        String password = row.password();
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH) {
+            return "Password must have at least " + MIN_PASSWORD_LENGTH + " characters";
+        }
+        if (password.getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            return "Password must not exceed " + MAX_PASSWORD_BYTES + " bytes";
+        }
+        if (tooLong(row.username(), MAX_NAME_LENGTH) || tooLong(row.firstName(), MAX_NAME_LENGTH)
+                || tooLong(row.lastName(), MAX_NAME_LENGTH) || tooLong(row.phone(), MAX_PHONE_LENGTH)) {
+            return "Names must not exceed " + MAX_NAME_LENGTH + " characters, phones " + MAX_PHONE_LENGTH;
+        }
+        for (String role : row.roles()) {
+            if (!run.roleIds.containsKey(role.toLowerCase(Locale.ROOT))) {
+                return "Unknown role '" + role + "'";
+            }
+        }
+        return null;
+    }
+
+    private void flush(Import run, List<UserImportRow> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (run.quotaReached) {
+            batch.forEach(row -> run.reject(row, quotaMessage(run)));
+            return;
+        }
+
+        Set<String> taken = repository.findExistingEmails(run.tenantId,
+                batch.stream().map(row -> normalize(row.email())).toList());
+        List<UserImportRow> candidates = new ArrayList<>(batch.size());
+        for (UserImportRow row : batch) {
+            if (taken.contains(normalize(row.email()))) {
+                run.duplicate(row, "Email is already registered");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = passwordHashing.encodeAll(candidates.stream().map(UserImportRow::password).toList());
+        List<NewUser> users = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            users.add(newUser(run, candidates.get(i), hashes.get(i)));
+        }
+
+        transaction.executeWithoutResult(status -> {
+            int room = run.maxUsers == null
+                    ? users.size()
+                    : Math.max(0, run.maxUsers - repository.countUsersForUpdate(run.tenantId));
+            int admitted = Math.min(room, users.size());
+            boolean[] inserted = repository.insertAll(users.subList(0, admitted));
+            for (int i = 0; i < users.size(); i++) {
+                if (i >= admitted) {
+                    run.quotaReached = true;
+                    run.reject(candidates.get(i), quotaMessage(run));
+                } else if (inserted[i]) {
+                    run.created++;
+                } else {
+                    run.duplicate(candidates.get(i), "Email is already registered");
+                }
+            }
+        });
+    }
+
+    private NewUser newUser(Import run, UserImportRow row, String passwordHash) {
+        String email = row.email().trim();
+        List<UUID> roleIds = row.roles().stream()
+                .map(role -> run.roleIds.get(role.toLowerCase(Locale.ROOT)))
+                .distinct()
+                .toList();
+        return new NewUser(UUID.randomUUID(), run.tenantId, row.username() != null ? row.username() : email, email,
+                passwordHash, row.firstName(), row.lastName(), row.phone(), roleIds);
+    }
+
+    private Map<String, UUID> roleIdsByName(UUID tenantId) {
+        Map<String, UUID> roleIds = new HashMap<>();
+        authorizationRepository.findAssignableRoleNames(tenantId)
+                .forEach((roleId, name) -> roleIds.putIfAbsent(name.toLowerCase(Locale.ROOT), roleId));
+        return roleIds;
+    }
+
+    private static String quotaMessage(Import run) {
+        return "Tenant user quota of " + run.maxUsers + " reached";
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean tooLong(@Nullable String value, int maxLength) {
+        return value != null && value.length() > maxLength;
+    }
+
+    /**
+     * Progress of one import
+     */
+    private final class Import {
+        private final UUID tenantId;
+        private final Integer maxUsers;
+        private final Map<String, UUID> roleIds;
+        private final Set<String> seen = new HashSet<>();
+        private final List<UserImportErrorDto> errors = new ArrayList<>();
+        private long received;
+        private long created;
+        private long duplicates;
+        private long rejected;
+        private boolean quotaReached;
+        private boolean errorsTruncated;
+
+        private Import(UUID tenantId, @Nullable Integer maxUsers, Map<String, UUID> roleIds) {
+            this.tenantId = tenantId;
+            this.maxUsers = maxUsers;
+            this.roleIds = roleIds;
+        }
+
+        private void reject(UserImportRow row, String reason) {
+            rejected++;
+            report(row, reason);
+        }
+
+        private void duplicate(UserImportRow row, String reason) {
+            duplicates++;
+            report(row, reason);
+        }
+
+        private void report(UserImportRow row, String reason) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportErrorDto(row.line(), row.email(), reason));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
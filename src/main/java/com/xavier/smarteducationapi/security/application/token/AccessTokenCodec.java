@@ -0,0 +1,26 @@
+package com.xavier.smarteducationapi.security.application.token;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessTokenClaims;
+
+/**
+ * Signs access token claims into a bearer token and verifies them back.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface AccessTokenCodec {
+
+    /**
+     * Sign claims into a token
+     */
+    String encode(AccessTokenClaims claims);
+
+    /**
+     * Verify a token and read its claims
+     *
+     * @throws org.springframework.security.core.AuthenticationException when the token is not
+     *         valid
+     */
+    AccessTokenClaims decode(String token);
+}
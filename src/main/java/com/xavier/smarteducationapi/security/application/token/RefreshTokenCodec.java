@@ -0,0 +1,22 @@
+package com.xavier.smarteducationapi.security.application.token;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshTokenClaims;
+
+/**
+ * Signs refresh token claims and verifies them back, so a refresh token can be checked without
+ * reading it from the database.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface RefreshTokenCodec {
+
+    String encodeRefresh(RefreshTokenClaims claims);
+
+    /**
+     * @throws org.springframework.security.core.AuthenticationException when the token is not a
+     *         valid, unexpired refresh token
+     */
+    RefreshTokenClaims decodeRefresh(String token);
+}
@@ -0,0 +1,164 @@
+package com.xavier.smarteducationapi.security.application.token;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.security.domain.repository.RefreshTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bloom filter over the hashes of revoked, unexpired refresh tokens.
+ *
+ * A token the filter has never seen was definitely not revoked and needs no database lookup; only
+ * revoked tokens and the false positive share, {@code bloom-false-positive-rate}, are checked
+ * against the database. Until the filter is first loaded every token is checked.
+ *
+ * Every {@code revocation-sync-interval-ms} the tokens revoked since the last sync, on any node,
+ * are added. Bloom filters cannot forget, so every {@code revocation-rebuild-interval-ms} the filter
+ * is rebuilt from the revoked tokens that have not expired yet, and swapped in once complete.
+ * Revocations on this node are added immediately.
+ *
+ * Hashes are hex SHA-256 digests, already uniformly distributed, so their first 128 bits are used
+ * directly for double hashing.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class RevokedTokenFilter {
+
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private final RefreshTokenRepository repository;
+    private final Clock clock;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final long rebuildIntervalMillis;
+
+    private volatile Bloom bloom;
+    private volatile boolean loaded;
+    private volatile long lastSync;
+    private volatile long lastRebuild;
+
+    @Autowired
+    public RevokedTokenFilter(
+            RefreshTokenRepository repository,
+            @Value("${spring.jwt.refresh.bloom-expected-entries:100000}") long expectedEntries,
+            @Value("${spring.jwt.refresh.bloom-false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${spring.jwt.refresh.revocation-rebuild-interval-ms:3600000}") long rebuildIntervalMillis) {
+        this(repository, Clock.systemUTC(), expectedEntries, falsePositiveRate, rebuildIntervalMillis);
+    }
+
+    public RevokedTokenFilter(RefreshTokenRepository repository, Clock clock, long expectedEntries,
+            double falsePositiveRate, long rebuildIntervalMillis) {
+        this.repository = repository;
+        this.clock = clock;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.bloom = new Bloom(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * False means the token was definitely not revoked
+     */
+    public boolean mightBeRevoked(String tokenHash) {
+        return !loaded || bloom.mightContain(tokenHash);
+    }
+
+    /**
+     * Add a token revoked on this node, after the revocation was stored
+     */
+    public void add(String tokenHash) {
+        bloom.put(tokenHash);
+    }
+
+    /**
+     * Add tokens revoked since the last sync, or rebuild the filter when due
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.refresh.revocation-sync-interval-ms:5000}")
+    public void sync() {
+        long now = clock.millis();
+        try {
+            if (!loaded || now - lastRebuild >= rebuildIntervalMillis) {
+                rebuild(now);
+            } else {
+                Bloom current = bloom;
+                repository.findRevokedWithin((now - lastSync) / 1000 + SYNC_OVERLAP_SECONDS).forEach(current::put);
+                lastSync = now;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not sync revoked refresh tokens: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild(long startedAt) {
+        Bloom next = new Bloom(expectedEntries, falsePositiveRate);
+        AtomicLong count = new AtomicLong();
+        repository.forEachRevokedHash(hash -> {
+            next.put(hash);
+            count.incrementAndGet();
+        });
+        bloom = next;
+        // Revocations committed while the filter was loading
+        repository.findRevokedWithin((clock.millis() - startedAt) / 1000 + SYNC_OVERLAP_SECONDS).forEach(next::put);
+        lastRebuild = startedAt;
+        lastSync = startedAt;
+        loaded = true;
+        if (count.get() > expectedEntries) {
+            log.warn("{} revoked refresh tokens exceed spring.jwt.refresh.bloom-expected-entries ({}); "
+                    + "more refreshes will be checked against the database", count.get(), expectedEntries);
+        }
+    }
+
+    private static final class Bloom {
+        private final AtomicLongArray words;
+        private final long bits;
+        private final int hashes;
+
+        private Bloom(long expectedEntries, double falsePositiveRate) {
+            long entries = Math.max(expectedEntries, 1);
+            long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Math.max((optimalBits + 63) / 64, 1), Integer.MAX_VALUE - 8);
+            this.words = new AtomicLongArray(wordCount);
+            this.bits = (long) wordCount * Long.SIZE;
+            this.hashes = (int) Math.max(1, Math.min(16, Math.round((double) bits / entries * Math.log(2))));
+        }
+
+        private void put(String hash) {
+            long hash1 = Long.parseUnsignedLong(hash, 0, 16, 16);
+            long hash2 = Long.parseUnsignedLong(hash, 16, 32, 16) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bits);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current = words.get(word);
+                while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                    current = words.get(word);
+                }
+            }
+        }
+
+        private boolean mightContain(String hash) {
+            long hash1 = Long.parseUnsignedLong(hash, 0, 16, 16);
+            long hash2 = Long.parseUnsignedLong(hash, 16, 32, 16) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.xavier.smarteducationapi.security.domain.event;
+
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+
+/**
+ * Event raised when a role or its permissions change. The tenant id is {@code null} for
+ * system-wide roles, which affect every tenant.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public class RoleChangedEvent extends AbstractDomainEvent {
+
+    public static final String AGGREGATE_TYPE = "Role";
+
+    private final String tenantId;
+    private final String roleName;
+
+    public RoleChangedEvent(String roleId, String tenantId, String roleName) {
+        super(roleId, AGGREGATE_TYPE);
+        this.tenantId = tenantId;
+        this.roleName = roleName;
+    }
+
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public RoleChangedEvent(EventMetadata metadata, String tenantId, String roleName) {
+        super(metadata);
+        this.tenantId = tenantId;
+        this.roleName = roleName;
+    }
+
+    @Override
+    public String topic() {
+        return "security.role.changed";
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+}
@@ -0,0 +1,48 @@
+package com.xavier.smarteducationapi.security.domain.event;
+
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+
+/**
+ * Event raised when a user's status, profile or role assignments change, or the user is deleted.
+ * The tenant id is {@code null} for system-wide users.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public class UserChangedEvent extends AbstractDomainEvent {
+
+    public static final String AGGREGATE_TYPE = "User";
+
+    private final String tenantId;
+    private final String change;
+
+    public UserChangedEvent(String userId, String tenantId, String change) {
+        super(userId, AGGREGATE_TYPE);
+        this.tenantId = tenantId;
+        this.change = change;
+    }
+
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public UserChangedEvent(EventMetadata metadata, String tenantId, String change) {
+        super(metadata);
+        this.tenantId = tenantId;
+        this.change = change;
+    }
+
+    @Override
+    public String topic() {
+        return "security.user.changed";
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getChange() {
+        return change;
+    }
+}
@@ -0,0 +1,60 @@
+package com.xavier.smarteducationapi.security.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+
+/**
+ * Read access to roles, permissions and their assignments, compiled for permission checks.
+ *
+ * Tenant ids are {@code null} for system-wide roles and users.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface AuthorizationRepository {
+
+    /**
+     * Id under which the version of the system-wide roles is kept
+     */
+    UUID SYSTEM_TENANT = new UUID(0, 0);
+
+    /**
+     * Ordinal of every permission
+     */
+    Map<Permission, Integer> findPermissionOrdinals();
+
+    /**
+     * Compiled permissions of the roles of a tenant and of the system-wide roles, by role id
+     */
+    Map<UUID, PermissionSet> findRolePermissions(@Nullable UUID tenantId);
+
+    /**
+     * Names of the roles of a tenant and of the system-wide roles, by role id
+     */
+    Map<UUID, String> findRoleNames(@Nullable UUID tenantId);
+
+    /**
+     * Names of the roles a tenant may assign to its users, by role id: its own roles, neither
+     * system-wide nor flagged as system roles
+     */
+    Map<UUID, String> findAssignableRoleNames(UUID tenantId);
+
+    /**
+     * Roles assigned to a user of the tenant; empty when the user belongs to another tenant
+     */
+    List<UUID> findRoleIds(@Nullable UUID tenantId, UUID userId);
+
+    /**
+     * Authorization versions of the given tenants, {@link #SYSTEM_TENANT} included; tenants whose
+     * roles never changed are absent
+     */
+    Map<UUID, Long> findVersions(Collection<UUID> tenantIds);
+}
@@ -0,0 +1,51 @@
+package com.xavier.smarteducationapi.security.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshToken;
+
+/**
+ * Issued refresh tokens, looked up by the hash of the token only.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface RefreshTokenRepository {
+
+    void save(RefreshToken token);
+
+    Optional<RefreshToken> findByHash(String tokenHash);
+
+    /**
+     * @return Whether an unrevoked token was revoked
+     */
+    boolean revoke(String tokenHash);
+
+    /**
+     * Revoke every token of a user
+     *
+     * @return Hashes of the tokens revoked
+     */
+    List<String> revokeAllOfUser(UUID userId);
+
+    /**
+     * Stream the hashes of revoked tokens that have not expired yet
+     */
+    void forEachRevokedHash(Consumer<String> action);
+
+    /**
+     * Hashes of tokens revoked within the last {@code seconds}
+     */
+    List<String> findRevokedWithin(long seconds);
+
+    /**
+     * Delete up to {@code limit} expired tokens, oldest first
+     *
+     * @return number of tokens deleted
+     */
+    int deleteExpired(int limit);
+}
@@ -0,0 +1,23 @@
+package com.xavier.smarteducationapi.security.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.UserAccount;
+
+/**
+ * Reads user accounts from {@code security.users}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface UserAccountRepository {
+
+    /**
+     * Find a user of a tenant; system-wide users have no tenant
+     */
+    Optional<UserAccount> findById(@Nullable UUID tenantId, UUID userId);
+}
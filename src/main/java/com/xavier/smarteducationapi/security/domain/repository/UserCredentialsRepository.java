@@ -0,0 +1,40 @@
+package com.xavier.smarteducationapi.security.domain.repository;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.UserCredentials;
+
+/**
+ * Credentials and login bookkeeping of {@code security.users}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface UserCredentialsRepository {
+
+    /**
+     * Find a user by email, case-insensitively; system-wide users have no tenant
+     */
+    Optional<UserCredentials> findByEmail(@Nullable UUID tenantId, String email);
+
+    /**
+     * Reset the failed attempts of a user who logged in and record the login time
+     */
+    void recordLogin(UUID userId);
+
+    /**
+     * Add failed attempts counted in memory since the last sync, in one batch
+     */
+    void addFailedAttempts(Map<UUID, Integer> failures);
+
+    /**
+     * Lock a user until the given time, unless already locked for longer
+     */
+    void lockUntil(UUID userId, Instant until);
+}
@@ -0,0 +1,38 @@
+package com.xavier.smarteducationapi.security.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.NewUser;
+
+/**
+ * Set-based writes of new users into {@code security.users}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface UserProvisioningRepository {
+
+    /**
+     * Find which of the given lower-case emails are already taken in a tenant, in one query
+     *
+     * @return The taken emails, lower-cased
+     */
+    Set<String> findExistingEmails(UUID tenantId, Collection<String> emails);
+
+    /**
+     * Count the users of a tenant and hold off concurrent provisioning of the same tenant until the
+     * current transaction ends, so that a quota checked against the count stays valid
+     */
+    int countUsersForUpdate(UUID tenantId);
+
+    /**
+     * Insert users and their roles in batches; users whose email was taken meanwhile are skipped
+     *
+     * @return Whether each user, in order, was inserted
+     */
+    boolean[] insertAll(List<NewUser> users);
+}
@@ -0,0 +1,17 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.util.Objects;
+
+/**
+ * A signed access token and the claims it carries.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record AccessToken(String value, AccessTokenClaims claims) {
+
+    public AccessToken {
+        Objects.requireNonNull(value, "value is required");
+        Objects.requireNonNull(claims, "claims is required");
+    }
+}
@@ -0,0 +1,45 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+
+/**
+ * Claims of a verified access token.
+ *
+ * The permission version is the {@code AuthorizationService} version of the tenant when the token
+ * was issued; a token whose version is behind the current one was issued before the user's
+ * permissions may have changed and must be refreshed. Likewise the tenant's capabilities, carried
+ * so that handling a request needs no tenant lookup, are stale once the tenant's version moved on.
+ * Tenant ids and capabilities are {@code null} for system-wide users.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record AccessTokenClaims(
+        String tokenId,
+        UUID userId,
+        @Nullable UUID tenantId,
+        List<String> roles,
+        long permissionVersion,
+        @Nullable TenantCapabilities tenant,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    public AccessTokenClaims {
+        Objects.requireNonNull(tokenId, "tokenId is required");
+        Objects.requireNonNull(userId, "userId is required");
+        Objects.requireNonNull(issuedAt, "issuedAt is required");
+        Objects.requireNonNull(expiresAt, "expiresAt is required");
+        roles = List.copyOf(roles);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,35 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A user about to be provisioned, with its password already hashed.
+ *
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record NewUser(
+        UUID id,
+        UUID tenantId,
+        String username,
+        String email,
+        String passwordHash,
+        @Nullable String firstName,
+        @Nullable String lastName,
+        @Nullable String phone,
+        List<UUID> roleIds) {
+
+    public NewUser {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(tenantId, "tenantId is required");
+        Objects.requireNonNull(username, "username is required");
+        Objects.requireNonNull(email, "email is required");
+        Objects.requireNonNull(passwordHash, "passwordHash is required");
+        roleIds = List.copyOf(roleIds);
+    }
+}
@@ -0,0 +1,36 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A {@code (resource, action)} pair of {@code security.permissions}, such as {@code TENANT:UPDATE}.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record Permission(String resource, String action) {
+
+    public Permission {
+        Objects.requireNonNull(resource, "resource is required");
+        Objects.requireNonNull(action, "action is required");
+        resource = resource.toUpperCase(Locale.ROOT);
+        action = action.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Parse the {@code RESOURCE:ACTION} form
+     */
+    public static Permission parse(String permission) {
+        int separator = permission.indexOf(':');
+        if (separator <= 0 || separator == permission.length() - 1) {
+            throw new IllegalArgumentException("Permission must be RESOURCE:ACTION, was " + permission);
+        }
+        return new Permission(permission.substring(0, separator), permission.substring(separator + 1));
+    }
+
+    @Override
+    public String toString() {
+        return resource + ":" + action;
+    }
+}
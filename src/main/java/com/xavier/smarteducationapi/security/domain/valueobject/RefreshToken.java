@@ -0,0 +1,30 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A row of {@code security.refresh_tokens}. Only the hash of the token is stored.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record RefreshToken(
+        UUID id,
+        UUID userId,
+        String tokenHash,
+        Instant expiresAt,
+        boolean revoked,
+        @Nullable String ipAddress,
+        @Nullable String userAgent) {
+
+    public RefreshToken {
+        Objects.requireNonNull(id, "id is required");
+        Objects.requireNonNull(userId, "userId is required");
+        Objects.requireNonNull(tokenHash, "tokenHash is required");
+        Objects.requireNonNull(expiresAt, "expiresAt is required");
+    }
+}
@@ -0,0 +1,33 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Claims of a verified refresh token: whom it was issued to and until when it may be exchanged for
+ * access tokens. Tenant ids are {@code null} for system-wide users.
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record RefreshTokenClaims(
+        UUID tokenId,
+        UUID userId,
+        @Nullable UUID tenantId,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    public RefreshTokenClaims {
+        Objects.requireNonNull(tokenId, "tokenId is required");
+        Objects.requireNonNull(userId, "userId is required");
+        Objects.requireNonNull(issuedAt, "issuedAt is required");
+        Objects.requireNonNull(expiresAt, "expiresAt is required");
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
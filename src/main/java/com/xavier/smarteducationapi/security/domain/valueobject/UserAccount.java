@@ -0,0 +1,32 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Identity and status of a user, without credentials.
+ *
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record UserAccount(
+        UUID userId,
+        @Nullable UUID tenantId,
+        String username,
+        String email,
+        String status) {
+
+    public UserAccount {
+        Objects.requireNonNull(userId, "userId is required");
+        Objects.requireNonNull(username, "username is required");
+        Objects.requireNonNull(email, "email is required");
+        Objects.requireNonNull(status, "status is required");
+    }
+
+    public boolean isActive() {
+        return UserCredentials.ACTIVE.equals(status);
+    }
+}
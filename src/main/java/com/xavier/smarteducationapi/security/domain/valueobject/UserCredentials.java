@@ -0,0 +1,39 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Password hash and lockout state of a user, as read when the user logs in.
+ *
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record UserCredentials(
+        UUID userId,
+        @Nullable UUID tenantId,
+        String passwordHash,
+        String status,
+        int failedLoginAttempts,
+        @Nullable Instant lockedUntil) {
+
+    public static final String ACTIVE = "ACTIVE";
+
+    public UserCredentials {
+        Objects.requireNonNull(userId, "userId is required");
+        Objects.requireNonNull(passwordHash, "passwordHash is required");
+        Objects.requireNonNull(status, "status is required");
+    }
+
+    public boolean isActive() {
+        return ACTIVE.equals(status);
+    }
+
+    public boolean isLocked(Instant now) {
+        return lockedUntil != null && now.isBefore(lockedUntil);
+    }
+}
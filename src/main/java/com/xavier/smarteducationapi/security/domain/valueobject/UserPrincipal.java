@@ -0,0 +1,41 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable snapshot of an authenticated user: their account, role names and effective
+ * permissions, as of authorization version {@code version} of their tenant.
+ *
+ * @version 1.0
+ * @since 2025-09-23
+ * @author Xavier Nhagumbe
+ */
+public record UserPrincipal(
+        UserAccount account,
+        List<String> roles,
+        PermissionSet permissions,
+        long version) {
+
+    public UserPrincipal {
+        Objects.requireNonNull(account, "account is required");
+        Objects.requireNonNull(permissions, "permissions are required");
+        roles = List.copyOf(roles);
+    }
+
+    public UUID userId() {
+        return account.userId();
+    }
+
+    @Nullable
+    public UUID tenantId() {
+        return account.tenantId();
+    }
+
+    public boolean isActive() {
+        return account.isActive();
+    }
+}
@@ -0,0 +1,53 @@
+package com.xavier.smarteducationapi.security.infrastructure.config;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+
+/**
+ * Grants a request when the authenticated {@link UserPrincipal} holds one permission.
+ *
+ * The check is a bit test against the permissions compiled into the principal when its token was
+ * authenticated; the permission's ordinal is a catalog lookup. Permissions missing from the
+ * catalog, and authentications without a {@link UserPrincipal}, are never granted.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public final class PermissionAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final AuthorizationService authorizationService;
+    private final Permission permission;
+
+    public PermissionAuthorizationManager(AuthorizationService authorizationService, Permission permission) {
+        this.authorizationService = authorizationService;
+        this.permission = permission;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isGranted(authentication.get()));
+    }
+
+    private boolean isGranted(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return false;
+        }
+        int ordinal = authorizationService.ordinalOf(permission);
+        return ordinal >= 0 && principal.permissions().contains(ordinal);
+    }
+
+    @Override
+    public String toString() {
+        return "PermissionAuthorizationManager[" + permission + "]";
+    }
+}
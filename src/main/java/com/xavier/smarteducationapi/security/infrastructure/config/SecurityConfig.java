@@ -0,0 +1,92 @@
+package com.xavier.smarteducationapi.security.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import com.xavier.smarteducationapi.security.application.principal.PrincipalCache;
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.BearerAuthenticationEntryPoint;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.JwtAuthenticationFilter;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.JwtCodec;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.VerifiedTokenCache;
+import com.xavier.smarteducationapi.tenant.application.api.TenantCapabilitiesApi;
+
+/**
+ * Stateless bearer-token security: no sessions, no CSRF tokens, no form or basic login. Every
+ * request other than token endpoints, health checks and API documentation needs a valid access
+ * token, and the tenant, audit and user import endpoints also need the permission of their
+ * {@code (resource, action)}, checked by {@link PermissionAuthorizationManager}. Passwords are
+ * hashed with bcrypt, on the bounded {@code PasswordHashingExecutor}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Configuration
+@EnableWebSecurity
+public class SecurityConfig {
+
+    private static final String[] PUBLIC_PATHS = {
+            "/api/v1/auth/**", "/api/v1/tenants/subdomain-availability", "/actuator/health/**", "/v3/api-docs/**",
+            "/swagger-ui/**", "/swagger-ui.html", "/error"
+    };
+
+    private static final String TENANTS = "/api/v1/tenants";
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtCodec codec, VerifiedTokenCache cache,
+            AuthorizationService authorizationService, TenantCapabilitiesApi tenantCapabilitiesApi,
+            PrincipalCache principalCache) throws Exception {
+        BearerAuthenticationEntryPoint entryPoint = new BearerAuthenticationEntryPoint();
+        http.csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(entryPoint))
+                .authorizeHttpRequests(requests -> requests
+                        .requestMatchers(PUBLIC_PATHS).permitAll()
+                        .requestMatchers(HttpMethod.GET, TENANTS + "/audit-log")
+                        .access(require(authorizationService, "AUDIT", "READ"))
+                        .requestMatchers(HttpMethod.POST, TENANTS + "/*/users/import")
+                        .access(require(authorizationService, "USER", "CREATE"))
+                        .requestMatchers(HttpMethod.POST, TENANTS, TENANTS + "/bulk")
+                        .access(require(authorizationService, "TENANT", "CREATE"))
+                        .requestMatchers(HttpMethod.PUT, TENANTS + "/*")
+                        .access(require(authorizationService, "TENANT", "UPDATE"))
+                        .requestMatchers(HttpMethod.POST, TENANTS + "/*/activate", TENANTS + "/*/reactivate")
+                        .access(require(authorizationService, "TENANT", "ACTIVATE"))
+                        .requestMatchers(HttpMethod.POST, TENANTS + "/*/suspend")
+                        .access(require(authorizationService, "TENANT", "SUSPEND"))
+                        .requestMatchers(HttpMethod.GET, TENANTS, TENANTS + "/**")
+                        .access(require(authorizationService, "TENANT", "READ"))
+                        .requestMatchers(TENANTS, TENANTS + "/**").denyAll()
+                        .anyRequest().authenticated())
+                .addFilterBefore(new JwtAuthenticationFilter(
+                        codec, cache, authorizationService, tenantCapabilitiesApi, principalCache, entryPoint),
+                        UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+
+    private static PermissionAuthorizationManager require(AuthorizationService authorizationService,
+            String resource, String action) {
+        return new PermissionAuthorizationManager(authorizationService, new Permission(resource, action));
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${spring.login.hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+}
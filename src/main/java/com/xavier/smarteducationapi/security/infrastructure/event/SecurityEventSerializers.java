@@ -0,0 +1,42 @@
+package com.xavier.smarteducationapi.security.infrastructure.event;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.security.domain.event.RoleChangedEvent;
+import com.xavier.smarteducationapi.security.domain.event.UserChangedEvent;
+
+/**
+ * Event store serializers for the security domain events.
+ * Type names are the event topics and must never change once events are stored.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Configuration
+public class SecurityEventSerializers {
+
+    @Bean
+    public EventSerializer<UserChangedEvent> userChangedEventSerializer() {
+        return EventSerializer.of("security.user.changed", UserChangedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantId", event.getTenantId())
+                        .writeString("change", event.getChange()),
+                (in, metadata, version) -> new UserChangedEvent(metadata,
+                        in.readString("tenantId"),
+                        in.readString("change")));
+    }
+
+    @Bean
+    public EventSerializer<RoleChangedEvent> roleChangedEventSerializer() {
+        return EventSerializer.of("security.role.changed", RoleChangedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantId", event.getTenantId())
+                        .writeString("roleName", event.getRoleName()),
+                (in, metadata, version) -> new RoleChangedEvent(metadata,
+                        in.readString("tenantId"),
+                        in.readString("roleName")));
+    }
+}
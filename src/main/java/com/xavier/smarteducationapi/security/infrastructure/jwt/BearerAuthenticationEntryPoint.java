@@ -0,0 +1,34 @@
+package com.xavier.smarteducationapi.security.infrastructure.jwt;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers unauthenticated requests with {@code 401} and a {@code Bearer} challenge, which carries
+ * {@code error="invalid_token"} when a token was presented but rejected (RFC 6750).
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public class BearerAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+            AuthenticationException authException) throws IOException {
+        String challenge = "Bearer";
+        if (authException instanceof InvalidTokenException) {
+            challenge += " error=\"invalid_token\", error_description=\""
+                    + authException.getMessage().replace('"', '\'') + "\"";
+        }
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, challenge);
+        response.sendError(HttpStatus.UNAUTHORIZED.value(), HttpStatus.UNAUTHORIZED.getReasonPhrase());
+    }
+}
@@ -0,0 +1,22 @@
+package com.xavier.smarteducationapi.security.infrastructure.jwt;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * A bearer token that is malformed, wrongly signed, expired or no longer reflects the user's
+ * permissions.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public class InvalidTokenException extends AuthenticationException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,53 @@
+package com.xavier.smarteducationapi.security.infrastructure.jwt;
+
+import java.util.List;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessTokenClaims;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+
+/**
+ * An authenticated access token. The principal is the user's current {@link UserPrincipal}, the
+ * name is the user id and each of the user's roles is granted as {@code ROLE_<role>}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public final class JwtAuthentication extends AbstractAuthenticationToken {
+
+    private final transient AccessTokenClaims claims;
+    private final transient UserPrincipal principal;
+
+    public JwtAuthentication(AccessTokenClaims claims, UserPrincipal principal) {
+        super(authorities(principal));
+        this.claims = claims;
+        this.principal = principal;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public UserPrincipal getPrincipal() {
+        return principal;
+    }
+
+    public AccessTokenClaims getClaims() {
+        return claims;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return "";
+    }
+
+    @Override
+    public String getName() {
+        return claims.userId().toString();
+    }
+
+    private static List<SimpleGrantedAuthority> authorities(UserPrincipal principal) {
+        return principal.roles().stream().map(role -> new SimpleGrantedAuthority("ROLE_" + role)).toList();
+    }
+}
@@ -0,0 +1,109 @@
+package com.xavier.smarteducationapi.security.infrastructure.jwt;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.xavier.smarteducationapi.security.application.principal.PrincipalCache;
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessTokenClaims;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+import com.xavier.smarteducationapi.tenant.application.api.TenantCapabilitiesApi;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates requests carrying an {@code Authorization: Bearer} access token.
+ *
+ * Tokens are looked up in the {@link VerifiedTokenCache} first and only verified by the
+ * {@link JwtCodec} on a miss. A token is then rejected when its permission version is behind the
+ * tenant's current {@link AuthorizationService#versionOf version}, so clients refresh it after
+ * role changes instead of acting on permissions they may no longer hold, and when the tenant
+ * capabilities it carries are older than the tenant's current version. The user's principal comes
+ * from the {@link PrincipalCache}, and a token of a user who no longer exists or is no longer
+ * active is rejected. Versions and principals are held in memory, so once a user has been seen no
+ * request reads the database to authenticate. Requests without a token
+ * pass through unauthenticated; a rejected token ends the request with the entry point's
+ * challenge.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtCodec codec;
+    private final VerifiedTokenCache cache;
+    private final AuthorizationService authorizationService;
+    private final TenantCapabilitiesApi tenantCapabilitiesApi;
+    private final PrincipalCache principalCache;
+    private final AuthenticationEntryPoint entryPoint;
+
+    public JwtAuthenticationFilter(JwtCodec codec, VerifiedTokenCache cache, AuthorizationService authorizationService,
+            TenantCapabilitiesApi tenantCapabilitiesApi, PrincipalCache principalCache,
+            AuthenticationEntryPoint entryPoint) {
+        this.codec = codec;
+        this.cache = cache;
+        this.authorizationService = authorizationService;
+        this.tenantCapabilitiesApi = tenantCapabilitiesApi;
+        this.principalCache = principalCache;
+        this.entryPoint = entryPoint;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            JwtAuthentication authentication = authenticate(header.substring(BEARER.length()).trim());
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+        } catch (AuthenticationException e) {
+            SecurityContextHolder.clearContext();
+            entryPoint.commence(request, response, e);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Authenticate a valid token whose permissions and tenant capabilities are current
+     *
+     * @throws InvalidTokenException when the token is invalid, its claims are stale or its user is
+     *         no longer active
+     */
+    public JwtAuthentication authenticate(String token) {
+        AccessTokenClaims claims = cache.get(token);
+        if (claims == null) {
+            claims = codec.decode(token);
+            cache.put(token, claims);
+        }
+        if (claims.permissionVersion() < authorizationService.versionOf(claims.tenantId())) {
+            throw new InvalidTokenException("Permissions changed since the token was issued");
+        }
+        if (claims.tenant() != null && claims.tenantId() != null
+                && tenantCapabilitiesApi.isStale(claims.tenantId().toString(), claims.tenant())) {
+            throw new InvalidTokenException("Tenant changed since the token was issued");
+        }
+        UserPrincipal principal = principalCache.get(claims.tenantId(), claims.userId())
+                .filter(UserPrincipal::isActive)
+                .orElseThrow(() -> new InvalidTokenException("User is no longer active"));
+        return new JwtAuthentication(claims, principal);
+    }
+}
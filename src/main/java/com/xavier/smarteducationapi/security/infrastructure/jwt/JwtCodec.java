@@ -0,0 +1,250 @@
+package com.xavier.smarteducationapi.security.infrastructure.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.security.application.token.AccessTokenCodec;
+import com.xavier.smarteducationapi.security.application.token.RefreshTokenCodec;
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessTokenClaims;
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshTokenClaims;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.SubscriptionPlan;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Signs and verifies access tokens as compact HS256 JSON Web Tokens with jjwt.
+ *
+ * Payload claims are the registered {@code jti}, {@code iss}, {@code sub}, {@code iat} and
+ * {@code exp}, plus {@code tid} (tenant id), {@code roles}, {@code pv} (permission version) and
+ * {@code ten}, the tenant capabilities: {@code st} (status), {@code ft} (feature bitmask),
+ * {@code pl} (plan), {@code mu} and {@code ms} (user and student limits) and {@code v} (version).
+ * Verification rejects unsigned tokens and any algorithm other than HS256.
+ *
+ * Refresh tokens are signed the same way with the header type {@code refresh+jwt} and only carry
+ * {@code jti}, {@code iss}, {@code sub}, {@code tid}, {@code iat} and {@code exp}. Neither kind of
+ * token is accepted in place of the other.
+ *
+ * The key is the base64 {@code spring.jwt.secret}, of at least 32 bytes, and must be the same on
+ * every node. Startup fails when it is missing or shorter.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+public class JwtCodec implements AccessTokenCodec, RefreshTokenCodec {
+
+    private static final int MIN_KEY_BYTES = 32;
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS256;
+    private static final String ACCESS_TYPE = "JWT";
+    private static final String REFRESH_TYPE = "refresh+jwt";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final String issuer;
+    private final Clock clock;
+    private final Duration clockSkew;
+
+    @Autowired
+    public JwtCodec(
+            @Value("${spring.jwt.secret:}") String secret,
+            @Value("${spring.jwt.issuer:smart-education-api}") String issuer,
+            @Value("${spring.jwt.clock-skew-seconds:30}") long clockSkewSeconds) {
+        this(secretKey(secret), issuer, Clock.systemUTC(), Duration.ofSeconds(clockSkewSeconds));
+    }
+
+    public JwtCodec(byte[] secret, String issuer, Clock clock, Duration clockSkew) {
+        if (secret.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("spring.jwt.secret must be at least " + MIN_KEY_BYTES + " bytes");
+        }
+        this.key = Keys.hmacShaKeyFor(secret);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireIssuer(issuer)
+                .setClock(() -> Date.from(clock.instant()))
+                .setAllowedClockSkewSeconds(clockSkew.toSeconds())
+                .build();
+        this.issuer = issuer;
+        this.clock = clock;
+        this.clockSkew = clockSkew;
+    }
+
+    @Override
+    public String encode(AccessTokenClaims claims) {
+        JwtBuilder builder = builder(ACCESS_TYPE, claims.tokenId(), claims.userId(), claims.tenantId(),
+                claims.issuedAt(), claims.expiresAt())
+                .claim("roles", claims.roles())
+                .claim("pv", claims.permissionVersion());
+        if (claims.tenant() != null) {
+            builder.claim("ten", capabilities(claims.tenant()));
+        }
+        return builder.compact();
+    }
+
+    /**
+     * @throws InvalidTokenException when the token is malformed, wrongly signed, from another
+     *         issuer or expired
+     */
+    @Override
+    public AccessTokenClaims decode(String token) {
+        AccessTokenClaims claims = claims(verify(token, false));
+        if (claims.isExpired(clock.instant().minus(clockSkew))) {
+            throw new InvalidTokenException("Token has expired");
+        }
+        return claims;
+    }
+
+    @Override
+    public String encodeRefresh(RefreshTokenClaims claims) {
+        return builder(REFRESH_TYPE, claims.tokenId().toString(), claims.userId(), claims.tenantId(),
+                claims.issuedAt(), claims.expiresAt())
+                .compact();
+    }
+
+    /**
+     * @throws InvalidTokenException when the token is not a valid, unexpired refresh token
+     */
+    @Override
+    public RefreshTokenClaims decodeRefresh(String token) {
+        Claims payload = verify(token, true);
+        RefreshTokenClaims claims;
+        try {
+            claims = new RefreshTokenClaims(
+                    UUID.fromString(payload.getId()),
+                    UUID.fromString(payload.getSubject()),
+                    tenantId(payload),
+                    payload.getIssuedAt().toInstant(),
+                    payload.getExpiration().toInstant());
+        } catch (RuntimeException e) {
+            throw new InvalidTokenException("Refresh token claims are incomplete", e);
+        }
+        if (claims.isExpired(clock.instant().minus(clockSkew))) {
+            throw new InvalidTokenException("Refresh token has expired");
+        }
+        return claims;
+    }
+
+    private JwtBuilder builder(String type, String tokenId, UUID userId, @Nullable UUID tenantId, Instant issuedAt,
+            Instant expiresAt) {
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.TYPE, type)
+                .setId(tokenId)
+                .setIssuer(issuer)
+                .setSubject(userId.toString());
+        if (tenantId != null) {
+            builder.claim("tid", tenantId.toString());
+        }
+        return builder
+                .setIssuedAt(Date.from(issuedAt))
+                .setExpiration(Date.from(expiresAt))
+                .signWith(key, ALGORITHM);
+    }
+
+    /**
+     * Check the signature, issuer and expiry of a token, then its algorithm and type
+     */
+    private Claims verify(String token, boolean refresh) {
+        Jws<Claims> jws;
+        try {
+            jws = parser.parseClaimsJws(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Token is invalid: " + e.getMessage(), e);
+        }
+        JwsHeader<?> header = jws.getHeader();
+        if (!ALGORITHM.getValue().equals(header.getAlgorithm())) {
+            throw new InvalidTokenException("Token is not signed with " + ALGORITHM.getValue());
+        }
+        if (refresh != REFRESH_TYPE.equals(header.getType())) {
+            throw new InvalidTokenException(refresh ? "Token is not a refresh token" : "Token is not an access token");
+        }
+        return jws.getBody();
+    }
+
+    private AccessTokenClaims claims(Claims payload) {
+        try {
+            List<String> roles = new ArrayList<>();
+            if (payload.get("roles") instanceof List<?> values) {
+                values.forEach(role -> roles.add(role.toString()));
+            }
+            return new AccessTokenClaims(
+                    payload.getId(),
+                    UUID.fromString(payload.getSubject()),
+                    tenantId(payload),
+                    roles,
+                    ((Number) payload.get("pv")).longValue(),
+                    payload.get("ten") instanceof Map<?, ?> tenant ? capabilities(tenant) : null,
+                    payload.getIssuedAt().toInstant(),
+                    payload.getExpiration().toInstant());
+        } catch (RuntimeException e) {
+            throw new InvalidTokenException("Token claims are incomplete", e);
+        }
+    }
+
+    @Nullable
+    private static UUID tenantId(Claims payload) {
+        Object tenantId = payload.get("tid");
+        return tenantId != null ? UUID.fromString(tenantId.toString()) : null;
+    }
+
+    private static Map<String, Object> capabilities(TenantCapabilities capabilities) {
+        Map<String, Object> claim = new LinkedHashMap<>();
+        claim.put("st", capabilities.status().name());
+        claim.put("ft", capabilities.features());
+        claim.put("pl", capabilities.plan().name());
+        if (capabilities.maxUsers() != null) {
+            claim.put("mu", capabilities.maxUsers());
+        }
+        if (capabilities.maxStudents() != null) {
+            claim.put("ms", capabilities.maxStudents());
+        }
+        claim.put("v", capabilities.version());
+        return claim;
+    }
+
+    private static TenantCapabilities capabilities(Map<?, ?> claim) {
+        return new TenantCapabilities(
+                TenantStatus.valueOf((String) claim.get("st")),
+                ((Number) claim.get("ft")).longValue(),
+                SubscriptionPlan.valueOf((String) claim.get("pl")),
+                claim.get("mu") instanceof Number maxUsers ? maxUsers.intValue() : null,
+                claim.get("ms") instanceof Number maxStudents ? maxStudents.intValue() : null,
+                ((Number) claim.get("v")).longValue());
+    }
+
+    private static byte[] secretKey(String secret) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("spring.jwt.secret is not set; configure a base64 key of at least "
+                    + MIN_KEY_BYTES + " bytes shared by every node");
+        }
+        try {
+            return Base64.getDecoder().decode(secret.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("spring.jwt.secret is not valid base64", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.xavier.smarteducationapi.security.infrastructure.jwt;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessTokenClaims;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Claims of tokens whose signature has already been verified, so a client repeating a token skips
+ * signature verification and JSON parsing.
+ *
+ * Entries are keyed by the token's signature segment, which is already a keyed hash of the rest
+ * of the token, and keep the token itself: a hit requires the whole token to match, so a forged
+ * token reusing a cached signature is verified like any other. An entry is dropped once its token
+ * expires.
+ *
+ * At most {@code max-entries} tokens are kept. When full, expired entries are swept and, if that
+ * does not free enough room, a tenth of the entries are evicted in no particular order; evicted
+ * tokens are simply verified again on their next use.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int maxEntries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${spring.jwt.cache.max-entries:50000}") int maxEntries) {
+        this(Clock.systemUTC(), maxEntries);
+    }
+
+    public VerifiedTokenCache(Clock clock, int maxEntries) {
+        this.clock = clock;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return The claims of a verified, unexpired token, or {@code null} when it must be verified
+     */
+    @Nullable
+    public AccessTokenClaims get(String token) {
+        String key = key(token);
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.token.equals(token)) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.claims;
+    }
+
+    /**
+     * Remember the claims of a token whose signature was just verified
+     */
+    public void put(String token, AccessTokenClaims claims) {
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                evict(Math.max(1, maxEntries / 10));
+            }
+        }
+        entries.put(key(token), new Entry(token, claims, claims.expiresAt().toEpochMilli()));
+    }
+
+    /**
+     * Drop the entries of expired tokens
+     *
+     * @return number of entries dropped
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.cache.sweep-interval-ms:60000}")
+    public int evictExpired() {
+        long now = clock.millis();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        return before - entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.token.cache.size", this, VerifiedTokenCache::getSize)
+                .description("Tokens currently cached")
+                .register(registry);
+        FunctionCounter.builder("security.token.cache.hits", this, VerifiedTokenCache::getHits)
+                .description("Requests whose token was found verified")
+                .register(registry);
+        FunctionCounter.builder("security.token.cache.misses", this, VerifiedTokenCache::getMisses)
+                .description("Requests whose token had to be verified")
+                .register(registry);
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void evict(int count) {
+        Iterator<String> keys = entries.keySet().iterator();
+        for (int i = 0; i < count && keys.hasNext(); i++) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String key(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    private record Entry(String token, AccessTokenClaims claims, long expiresAt) {
+    }
+}
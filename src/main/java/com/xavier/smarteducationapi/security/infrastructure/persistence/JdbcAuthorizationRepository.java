@@ -0,0 +1,129 @@
+package com.xavier.smarteducationapi.security.infrastructure.persistence;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.xavier.smarteducationapi.security.domain.repository.AuthorizationRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+
+/**
+ * {@link AuthorizationRepository} over the {@code security} schema.
+ *
+ * Role permissions are aggregated to ordinal arrays in the database, so compiling all roles of a
+ * tenant is one query returning one row per role.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcAuthorizationRepository implements AuthorizationRepository {
+
+    private static final String SELECT_ORDINALS = "SELECT resource, action, ordinal FROM security.permissions";
+
+    private static final String SELECT_ROLE_PERMISSIONS = """
+            SELECT r.id, array_remove(array_agg(p.ordinal), NULL) AS ordinals
+            FROM security.roles r
+            LEFT JOIN security.role_permissions rp ON rp.role_id = r.id
+            LEFT JOIN security.permissions p ON p.id = rp.permission_id
+            WHERE r.tenant_id IS NULL OR r.tenant_id = ?
+            GROUP BY r.id
+            """;
+
+    private static final String SELECT_ROLE_NAMES = """
+            SELECT id, name
+            FROM security.roles
+            WHERE tenant_id IS NULL OR tenant_id = ?
+            """;
+
+    private static final String SELECT_ASSIGNABLE_ROLE_NAMES = """
+            SELECT id, name
+            FROM security.roles
+            WHERE tenant_id = ? AND is_system IS NOT TRUE
+            """;
+
+    private static final String SELECT_ROLE_IDS = """
+            SELECT ur.role_id
+            FROM security.user_roles ur
+            JOIN security.users u ON u.id = ur.user_id
+            WHERE ur.user_id = ? AND u.tenant_id IS NOT DISTINCT FROM ?
+            """;
+
+    private static final String SELECT_VERSIONS = """
+            SELECT tenant_id, version
+            FROM security.permission_versions
+            WHERE tenant_id = ANY(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcAuthorizationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<Permission, Integer> findPermissionOrdinals() {
+        Map<Permission, Integer> ordinals = new HashMap<>();
+        jdbcTemplate.query(SELECT_ORDINALS, (RowCallbackHandler) rs -> ordinals.put(
+                new Permission(rs.getString("resource"), rs.getString("action")), rs.getInt("ordinal")));
+        return ordinals;
+    }
+
+    @Override
+    public Map<UUID, PermissionSet> findRolePermissions(@Nullable UUID tenantId) {
+        Map<UUID, PermissionSet> roles = new HashMap<>();
+        jdbcTemplate.query(SELECT_ROLE_PERMISSIONS, (RowCallbackHandler) rs -> {
+            Array array = rs.getArray("ordinals");
+            Integer[] ordinals = (Integer[]) array.getArray();
+            int[] values = new int[ordinals.length];
+            for (int i = 0; i < ordinals.length; i++) {
+                values[i] = ordinals[i];
+            }
+            roles.put(rs.getObject("id", UUID.class), PermissionSet.of(values));
+        }, tenantId);
+        return roles;
+    }
+
+    @Override
+    public Map<UUID, String> findRoleNames(@Nullable UUID tenantId) {
+        Map<UUID, String> names = new HashMap<>();
+        jdbcTemplate.query(SELECT_ROLE_NAMES, (RowCallbackHandler) rs -> names.put(
+                rs.getObject("id", UUID.class), rs.getString("name")), tenantId);
+        return names;
+    }
+
+    @Override
+    public Map<UUID, String> findAssignableRoleNames(UUID tenantId) {
+        Map<UUID, String> names = new HashMap<>();
+        jdbcTemplate.query(SELECT_ASSIGNABLE_ROLE_NAMES, (RowCallbackHandler) rs -> names.put(
+                rs.getObject("id", UUID.class), rs.getString("name")), tenantId);
+        return names;
+    }
+
+    @Override
+    public List<UUID> findRoleIds(@Nullable UUID tenantId, UUID userId) {
+        return jdbcTemplate.queryForList(SELECT_ROLE_IDS, UUID.class, userId, tenantId);
+    }
+
+    @Override
+    public Map<UUID, Long> findVersions(Collection<UUID> tenantIds) {
+        Map<UUID, Long> versions = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_VERSIONS);
+            statement.setArray(1, connection.createArrayOf("uuid", tenantIds.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> versions.put(rs.getObject("tenant_id", UUID.class), rs.getLong("version")));
+        return versions;
+    }
+}
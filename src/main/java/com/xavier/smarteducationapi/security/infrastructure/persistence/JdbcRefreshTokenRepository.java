@@ -0,0 +1,146 @@
+package com.xavier.smarteducationapi.security.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.smarteducationapi.security.domain.repository.RefreshTokenRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshToken;
+
+/**
+ * {@link RefreshTokenRepository} over {@code security.refresh_tokens}.
+ *
+ * Tokens are found through the unique {@code token_hash} index, revoked tokens through the partial
+ * index on revoked rows. Expired tokens are deleted in bounded batches, each its own statement, so
+ * no sweep holds row locks for long. Timestamps are compared with {@code LOCALTIMESTAMP}, the
+ * session time zone used when the rows were written.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcRefreshTokenRepository implements RefreshTokenRepository {
+
+    private static final String INSERT = """
+            INSERT INTO security.refresh_tokens (id, user_id, token_hash, expires_at, ip_address, user_agent)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_BY_HASH = """
+            SELECT id, user_id, token_hash, expires_at, revoked, ip_address, user_agent
+            FROM security.refresh_tokens
+            WHERE token_hash = ?
+            """;
+
+    private static final String REVOKE = """
+            UPDATE security.refresh_tokens
+            SET revoked = TRUE, revoked_at = LOCALTIMESTAMP
+            WHERE token_hash = ? AND revoked IS NOT TRUE
+            """;
+
+    private static final String REVOKE_USER = """
+            UPDATE security.refresh_tokens
+            SET revoked = TRUE, revoked_at = LOCALTIMESTAMP
+            WHERE user_id = ? AND revoked IS NOT TRUE AND expires_at > LOCALTIMESTAMP
+            RETURNING token_hash
+            """;
+
+    private static final String SELECT_REVOKED = """
+            SELECT token_hash
+            FROM security.refresh_tokens
+            WHERE revoked AND expires_at > LOCALTIMESTAMP
+            """;
+
+    private static final String SELECT_REVOKED_WITHIN = """
+            SELECT token_hash
+            FROM security.refresh_tokens
+            WHERE revoked AND revoked_at >= LOCALTIMESTAMP - make_interval(secs => ?)
+            """;
+
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM security.refresh_tokens
+            WHERE id IN (
+                SELECT id FROM security.refresh_tokens
+                WHERE expires_at < LOCALTIMESTAMP
+                ORDER BY expires_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private static final int USER_AGENT_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final int fetchSize;
+
+    public JdbcRefreshTokenRepository(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.jwt.refresh.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        String userAgent = token.userAgent();
+        jdbcTemplate.update(INSERT, token.id(), token.userId(), token.tokenHash(), Timestamp.from(token.expiresAt()),
+                token.ipAddress(), userAgent != null && userAgent.length() > USER_AGENT_LENGTH
+                        ? userAgent.substring(0, USER_AGENT_LENGTH) : userAgent);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByHash(String tokenHash) {
+        return jdbcTemplate.query(SELECT_BY_HASH, (rs, rowNum) -> new RefreshToken(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("token_hash"),
+                rs.getTimestamp("expires_at").toInstant(),
+                rs.getBoolean("revoked"),
+                rs.getString("ip_address"),
+                rs.getString("user_agent")), tokenHash).stream().findFirst();
+    }
+
+    @Override
+    public boolean revoke(String tokenHash) {
+        return jdbcTemplate.update(REVOKE, tokenHash) > 0;
+    }
+
+    @Override
+    public List<String> revokeAllOfUser(UUID userId) {
+        return jdbcTemplate.queryForList(REVOKE_USER, String.class, userId);
+    }
+
+    @Override
+    public void forEachRevokedHash(Consumer<String> action) {
+        readTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_REVOKED);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> action.accept(rs.getString("token_hash"))));
+    }
+
+    @Override
+    public List<String> findRevokedWithin(long seconds) {
+        return jdbcTemplate.queryForList(SELECT_REVOKED_WITHIN, String.class, seconds);
+    }
+
+    @Override
+    public int deleteExpired(int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED, limit);
+    }
+}
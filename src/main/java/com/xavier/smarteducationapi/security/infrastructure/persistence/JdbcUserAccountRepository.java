@@ -0,0 +1,44 @@
+package com.xavier.smarteducationapi.security.infrastructure.persistence;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.xavier.smarteducationapi.security.domain.repository.UserAccountRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserAccount;
+
+/**
+ * {@link UserAccountRepository} over {@code security.users}, by primary key.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcUserAccountRepository implements UserAccountRepository {
+
+    private static final String SELECT_BY_ID = """
+            SELECT id, tenant_id, username, email, status
+            FROM security.users
+            WHERE id = ? AND tenant_id IS NOT DISTINCT FROM ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcUserAccountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<UserAccount> findById(@Nullable UUID tenantId, UUID userId) {
+        return jdbcTemplate.query(SELECT_BY_ID, (rs, rowNum) -> new UserAccount(
+                rs.getObject("id", UUID.class),
+                rs.getObject("tenant_id", UUID.class),
+                rs.getString("username"),
+                rs.getString("email"),
+                rs.getString("status")), userId, tenantId).stream().findFirst();
+    }
+}
@@ -0,0 +1,97 @@
+package com.xavier.smarteducationapi.security.infrastructure.persistence;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.xavier.smarteducationapi.security.domain.repository.UserCredentialsRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserCredentials;
+
+/**
+ * {@link UserCredentialsRepository} over {@code security.users}.
+ *
+ * Users are found through the {@code lower(email)} index. Failed attempts counted in memory are
+ * added in one JDBC batch per sync rather than one update per attempt.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcUserCredentialsRepository implements UserCredentialsRepository {
+
+    private static final String SELECT_BY_EMAIL = """
+            SELECT id, tenant_id, password_hash, status, failed_login_attempts, locked_until
+            FROM security.users
+            WHERE lower(email) = ? AND tenant_id IS NOT DISTINCT FROM ?
+            """;
+
+    private static final String RECORD_LOGIN = """
+            UPDATE security.users
+            SET last_login_at = LOCALTIMESTAMP, failed_login_attempts = 0, locked_until = NULL
+            WHERE id = ?
+            """;
+
+    private static final String ADD_FAILED_ATTEMPTS = """
+            UPDATE security.users
+            SET failed_login_attempts = coalesce(failed_login_attempts, 0) + ?
+            WHERE id = ?
+            """;
+
+    private static final String LOCK = """
+            UPDATE security.users
+            SET locked_until = ?
+            WHERE id = ? AND (locked_until IS NULL OR locked_until < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcUserCredentialsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<UserCredentials> findByEmail(@Nullable UUID tenantId, String email) {
+        List<UserCredentials> users = jdbcTemplate.query(SELECT_BY_EMAIL, (rs, rowNum) -> {
+            Timestamp lockedUntil = rs.getTimestamp("locked_until");
+            return new UserCredentials(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("tenant_id", UUID.class),
+                    rs.getString("password_hash"),
+                    rs.getString("status"),
+                    rs.getInt("failed_login_attempts"),
+                    lockedUntil != null ? lockedUntil.toInstant() : null);
+        }, email.toLowerCase(Locale.ROOT), tenantId);
+        return users.stream().findFirst();
+    }
+
+    @Override
+    public void recordLogin(UUID userId) {
+        jdbcTemplate.update(RECORD_LOGIN, userId);
+    }
+
+    @Override
+    public void addFailedAttempts(Map<UUID, Integer> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        List<Object[]> arguments = new ArrayList<>(failures.size());
+        failures.forEach((userId, count) -> arguments.add(new Object[] { count, userId }));
+        jdbcTemplate.batchUpdate(ADD_FAILED_ATTEMPTS, arguments);
+    }
+
+    @Override
+    public void lockUntil(UUID userId, Instant until) {
+        Timestamp timestamp = Timestamp.from(until);
+        jdbcTemplate.update(LOCK, timestamp, userId, timestamp);
+    }
+}
@@ -0,0 +1,111 @@
+package com.xavier.smarteducationapi.security.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.xavier.smarteducationapi.security.domain.repository.UserProvisioningRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.NewUser;
+
+/**
+ * {@link UserProvisioningRepository} over {@code security.users} and {@code security.user_roles}.
+ *
+ * Taken emails are found with one {@code = ANY(?)} query over the {@code lower(email)} index.
+ * Provisioning of a tenant is serialized with a transaction-scoped advisory lock on the tenant id,
+ * which leaves the tenant row itself unlocked. Users are inserted with {@code ON CONFLICT DO
+ * NOTHING}, so an email taken by a concurrent registration skips its row instead of failing the
+ * batch.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Repository
+public class JdbcUserProvisioningRepository implements UserProvisioningRepository {
+
+    private static final String SELECT_EXISTING = """
+            SELECT lower(email) AS email
+            FROM security.users
+            WHERE lower(email) = ANY(?) AND tenant_id = ?
+            """;
+
+    private static final String COUNT_FOR_UPDATE = """
+            WITH tenant_lock AS (SELECT pg_advisory_xact_lock(hashtextextended(?::text, 0)))
+            SELECT (SELECT count(*) FROM security.users WHERE tenant_id = ?)
+            FROM tenant_lock
+            """;
+
+    private static final String INSERT_USER = """
+            INSERT INTO security.users
+                (id, tenant_id, username, email, password_hash, first_name, last_name, phone, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'import')
+            ON CONFLICT (email, tenant_id) DO NOTHING
+            """;
+
+    private static final String INSERT_ROLE = """
+            INSERT INTO security.user_roles (user_id, role_id, assigned_by)
+            VALUES (?, ?, 'import')
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcUserProvisioningRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(UUID tenantId, Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        if (emails.isEmpty()) {
+            return existing;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_EXISTING);
+            statement.setArray(1, connection.createArrayOf("text", emails.toArray()));
+            statement.setObject(2, tenantId);
+            return statement;
+        }, (RowCallbackHandler) rs -> existing.add(rs.getString("email")));
+        return existing;
+    }
+
+    @Override
+    public int countUsersForUpdate(UUID tenantId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_FOR_UPDATE, Integer.class, tenantId.toString(), tenantId);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public boolean[] insertAll(List<NewUser> users) {
+        boolean[] inserted = new boolean[users.size()];
+        if (users.isEmpty()) {
+            return inserted;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_USER, users.stream()
+                .map(user -> new Object[] {user.id(), user.tenantId(), user.username(), user.email(),
+                        user.passwordHash(), user.firstName(), user.lastName(), user.phone()})
+                .toList());
+
+        List<Object[]> roles = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            inserted[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+            if (inserted[i]) {
+                UUID userId = users.get(i).id();
+                users.get(i).roleIds().forEach(roleId -> roles.add(new Object[] {userId, roleId}));
+            }
+        }
+        if (!roles.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROLE, roles);
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,61 @@
+package com.xavier.smarteducationapi.security.presentation.controller;
+
+import com.xavier.smarteducationapi.security.application.command.LoginCommand;
+import com.xavier.smarteducationapi.security.application.command.RefreshTokenCommand;
+import com.xavier.smarteducationapi.security.application.dto.AccessTokenDto;
+import com.xavier.smarteducationapi.security.application.exception.LoginThrottledException;
+import com.xavier.smarteducationapi.security.application.service.LoginService;
+import com.xavier.smarteducationapi.security.application.service.RefreshTokenService;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import lombok.RequiredArgsConstructor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+/**
+ * Login and token endpoints. These are reachable without an access token; wrong credentials and
+ * invalid, expired or revoked refresh tokens are answered with {@code 401}, throttled logins with
+ * {@code 429} and a {@code Retry-After} header.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+@Validated
+public class AuthController {
+
+    private final LoginService loginService;
+    private final RefreshTokenService refreshTokenService;
+
+    @PostMapping("/login")
+    public ResponseEntity<AccessTokenDto> login(@Valid @RequestBody LoginCommand command, HttpServletRequest request) {
+        return ResponseEntity.ok(loginService.login(command, request.getRemoteAddr(),
+                request.getHeader(HttpHeaders.USER_AGENT)));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AccessTokenDto> refresh(@Valid @RequestBody RefreshTokenCommand command) {
+        return ResponseEntity.ok(refreshTokenService.refresh(command.getRefreshToken()));
+    }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@Valid @RequestBody RefreshTokenCommand command) {
+        refreshTokenService.revoke(command.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<Void> throttled(LoginThrottledException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.xavier.smarteducationapi.security.presentation.controller;
+
+import com.xavier.smarteducationapi.security.application.dto.UserImportResultDto;
+import com.xavier.smarteducationapi.security.application.importing.UserImportFormat;
+import com.xavier.smarteducationapi.security.application.service.UserImportService;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import lombok.RequiredArgsConstructor;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Bulk user provisioning. The request body is a CSV file with a header row
+ * ({@code text/csv}) or one JSON object per line ({@code application/x-ndjson}), read as it
+ * arrives. Users can only be imported into the caller's own tenant.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@RestController
+@RequestMapping("/api/v1/tenants/{tenantId}/users")
+@RequiredArgsConstructor
+@Validated
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<UserImportResultDto> importUsers(
+            @AuthenticationPrincipal UserPrincipal caller,
+            @PathVariable UUID tenantId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        UserImportFormat format = UserImportFormat.fromContentType(contentType);
+        return ResponseEntity.ok(userImportService.importUsers(caller, tenantId, format, body));
+    }
+}
@@ -0,0 +1,41 @@
+package com.xavier.smarteducationapi.tenant.application.api;
+
+import java.util.Optional;
+
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+
+/**
+ * API facade for the capabilities of tenants carried in access tokens.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+public interface TenantCapabilitiesApi {
+
+    /**
+     * Current capabilities of a tenant, with the plan of its active subscription
+     *
+     * @param tenantId the tenant to look up
+     * @return the capabilities, empty when the tenant does not exist
+     */
+    Optional<TenantCapabilities> capabilitiesOf(String tenantId);
+
+    /**
+     * Whether capabilities were read before the tenant's latest change
+     *
+     * @param tenantId the tenant the capabilities belong to
+     * @param capabilities the capabilities carried by a token
+     * @return true when the token has to be refreshed
+     */
+    boolean isStale(String tenantId, TenantCapabilities capabilities);
+
+    /**
+     * Whether capabilities include a feature of the feature catalogue
+     *
+     * @param capabilities the capabilities to check
+     * @param featureCode the feature code
+     * @return true when the feature is enabled
+     */
+    boolean hasFeature(TenantCapabilities capabilities, String featureCode);
+}
@@ -0,0 +1,14 @@
+/**
+ * Tenant module API package.
+ * 
+ * Contains what other modules may use of the tenant module:
+ * - TenantCapabilitiesApi: Current capabilities of a tenant, for access tokens
+ * 
+ * The capability types it returns (TenantCapabilities, TenantStatus and SubscriptionPlan) stay in
+ * the domain value objects and are exposed through the same named interface.
+ * 
+ * @author Xavier Nhagumbe
+ */
+@org.springframework.lang.NonNullApi
+@org.springframework.modulith.NamedInterface("api")
+package com.xavier.smarteducationapi.tenant.application.api;
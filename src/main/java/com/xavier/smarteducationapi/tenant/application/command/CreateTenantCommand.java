@@ -1,8 +1,10 @@
 package com.xavier.smarteducationapi.tenant.application.command;
 
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import jakarta.validation.constraints.*;
 
 /**
@@ -14,6 +16,8 @@ import jakarta.validation.constraints.*;
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class CreateTenantCommand {
 
     @NotBlank(message = "Tenant name is required")
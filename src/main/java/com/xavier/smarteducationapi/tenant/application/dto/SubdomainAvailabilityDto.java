@@ -0,0 +1,29 @@
+package com.xavier.smarteducationapi.tenant.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * Whether a subdomain can be used for a new tenant.
+ *
+ * {@code subdomain} is the requested name as normalized for the check. When it is not available,
+ * {@code reason} is {@code INVALID}, {@code RESERVED} or {@code TAKEN} and {@code suggestions}
+ * lists similar names that were available at the time of the check.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Data
+@Builder
+public class SubdomainAvailabilityDto {
+    public static final String INVALID = "INVALID";
+    public static final String RESERVED = "RESERVED";
+    public static final String TAKEN = "TAKEN";
+
+    private String subdomain;
+    private boolean available;
+    private String reason;
+    private List<String> suggestions;
+}
@@ -0,0 +1,27 @@
+package com.xavier.smarteducationapi.tenant.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * Tenants changed after a change feed cursor.
+ *
+ * Changed tenants are returned in their current state, with their version. {@code cursor} is
+ * passed as {@code since} on the next request. When {@code resetRequired} is set, the changes
+ * after {@code since} are no longer held; the client should reload every tenant and continue
+ * from {@code cursor}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Data
+@Builder
+public class TenantChangesDto {
+    private List<TenantDto> tenants;
+    private List<String> removedTenantIds;
+    private long cursor;
+    private boolean hasMore;
+    private boolean resetRequired;
+}
@@ -29,4 +29,5 @@ public class TenantDto {
     private Integer maxStudents;
     private Instant createdAt;
     private Instant activatedAt;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.xavier.smarteducationapi.tenant.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one record of a bulk tenant onboarding, by line of the upload.
+ *
+ * {@code status} is {@code CREATED}, with the new {@code tenantId}, {@code DUPLICATE} when the
+ * subdomain or email is already taken or appears earlier in the upload, or {@code REJECTED} when
+ * the record is invalid; {@code reason} explains the last two.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantOnboardingResultDto {
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String REJECTED = "REJECTED";
+
+    private long line;
+    private String subdomain;
+    private String primaryEmail;
+    private String tenantId;
+    private String status;
+    private String reason;
+}
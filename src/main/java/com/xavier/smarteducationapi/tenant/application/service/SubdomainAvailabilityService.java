@@ -0,0 +1,308 @@
+package com.xavier.smarteducationapi.tenant.application.service;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.xavier.smarteducationapi.common.application.bloom.StringBloomFilter;
+import com.xavier.smarteducationapi.common.application.event.TopicListener;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.exception.BusinessRuleViolationException;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.tenant.application.dto.SubdomainAvailabilityDto;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantCreatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Subdomain availability checks for signup forms, answered from memory for most names.
+ *
+ * A name is unavailable when it is malformed, listed in
+ * {@code spring.tenant.module.reserved-subdomains}, or taken. Taken subdomains are held in a bloom
+ * filter: a name the filter has never seen is definitely free, and only possible hits, taken names
+ * and the {@code bloom-false-positive-rate} share of free ones, are looked up in the database.
+ * Until the filter is first loaded every name is looked up. Suggestions for unavailable names are
+ * checked the same way, their possible hits in a single query.
+ *
+ * Subdomains of tenants created on this node are added as they are created, those created on
+ * other nodes every {@code sync-interval-ms} from the tenant change feed. Bloom filters cannot
+ * forget, so every {@code rebuild-interval-ms} the filter is rebuilt from the current tenants to
+ * drop deleted ones, and swapped in once complete. Availability is advisory: creating a tenant
+ * still checks its subdomain against the database.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+@Slf4j
+public class SubdomainAvailabilityService implements MeterBinder {
+
+    private static final int MAX_EVENTS_PER_POLL = 1000;
+    private static final int MIN_LENGTH = 3;
+    private static final int CANDIDATES_PER_SUGGESTION = 3;
+    private static final List<String> SUFFIXES = List.of("school", "academy", "edu");
+    private static final Pattern INVALID_CHARACTERS = Pattern.compile("[^a-z0-9]+");
+
+    private final TenantRepository tenantRepository;
+    private final AggregateChangeFeed aggregateChangeFeed;
+    private final Clock clock;
+    private final Set<String> reservedSubdomains;
+    private final int maxLength;
+    private final int suggestionCount;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final long rebuildIntervalMillis;
+    private final Pattern validSubdomain;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder databaseLookups = new LongAdder();
+    private volatile StringBloomFilter bloom;
+    private volatile boolean loaded;
+    private volatile long lastRebuild;
+    private volatile long cursor = -1;
+
+    @Autowired
+    public SubdomainAvailabilityService(
+            TenantRepository tenantRepository,
+            AggregateChangeFeed aggregateChangeFeed,
+            @Value("${spring.tenant.module.reserved-subdomains:}") String reservedSubdomains,
+            @Value("${spring.tenant.module.max-subdomain-length:63}") int maxLength,
+            @Value("${spring.tenant.module.subdomain-availability.suggestions:3}") int suggestionCount,
+            @Value("${spring.tenant.module.subdomain-availability.bloom-expected-entries:100000}") long expectedEntries,
+            @Value("${spring.tenant.module.subdomain-availability.bloom-false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${spring.tenant.module.subdomain-availability.rebuild-interval-ms:3600000}") long rebuildIntervalMillis) {
+        this(tenantRepository, aggregateChangeFeed, Clock.systemUTC(), reservedSubdomains, maxLength, suggestionCount,
+                expectedEntries, falsePositiveRate, rebuildIntervalMillis);
+    }
+
+    public SubdomainAvailabilityService(TenantRepository tenantRepository, AggregateChangeFeed aggregateChangeFeed,
+            Clock clock, String reservedSubdomains, int maxLength, int suggestionCount, long expectedEntries,
+            double falsePositiveRate, long rebuildIntervalMillis) {
+        this.tenantRepository = tenantRepository;
+        this.aggregateChangeFeed = aggregateChangeFeed;
+        this.clock = clock;
+        this.reservedSubdomains = Arrays.stream(reservedSubdomains.split(","))
+                .map(SubdomainAvailabilityService::normalize)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxLength = maxLength;
+        this.suggestionCount = suggestionCount;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.validSubdomain = Pattern.compile("^[a-z0-9](?:[a-z0-9-]{" + (MIN_LENGTH - 2) + "," + (maxLength - 2)
+                + "})[a-z0-9]$");
+        this.bloom = new StringBloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * Whether a subdomain can be used for a new tenant, with available alternatives when not
+     */
+    public SubdomainAvailabilityDto check(String requested) {
+        checks.increment();
+        String subdomain = normalize(requested);
+        String reason;
+        String base = subdomain;
+        if (!validSubdomain.matcher(subdomain).matches()) {
+            reason = SubdomainAvailabilityDto.INVALID;
+            base = sanitize(subdomain);
+        } else if (reservedSubdomains.contains(subdomain)) {
+            reason = SubdomainAvailabilityDto.RESERVED;
+        } else if (isTaken(subdomain)) {
+            reason = SubdomainAvailabilityDto.TAKEN;
+        } else {
+            return SubdomainAvailabilityDto.builder()
+                    .subdomain(subdomain)
+                    .available(true)
+                    .suggestions(List.of())
+                    .build();
+        }
+        return SubdomainAvailabilityDto.builder()
+                .subdomain(subdomain)
+                .available(false)
+                .reason(reason)
+                .suggestions(suggestionsFor(base, !reason.equals(SubdomainAvailabilityDto.INVALID)))
+                .build();
+    }
+
+    public boolean isReserved(String subdomain) {
+        return reservedSubdomains.contains(normalize(subdomain));
+    }
+
+    /**
+     * @throws BusinessRuleViolationException when the subdomain is reserved
+     */
+    public void validateNotReserved(String subdomain) {
+        if (isReserved(subdomain)) {
+            throw new BusinessRuleViolationException(
+                    "ReservedSubdomain",
+                    "Subdomain is reserved",
+                    subdomain
+            );
+        }
+    }
+
+    /**
+     * Those of the given normalized subdomains that are taken, looking up only the filter's
+     * possible hits, in a single query
+     */
+    public Set<String> takenAmong(Collection<String> subdomains) {
+        StringBloomFilter current = bloom;
+        List<String> possiblyTaken = subdomains.stream()
+                .distinct()
+                .filter(subdomain -> !loaded || current.mightContain(subdomain))
+                .toList();
+        if (possiblyTaken.isEmpty()) {
+            return Set.of();
+        }
+        databaseLookups.increment();
+        return tenantRepository.findExistingSubdomains(possiblyTaken);
+    }
+
+    @TopicListener("tenant.created")
+    public void onTenantCreated(DomainEvent event) {
+        if (event instanceof TenantCreatedEvent created && created.getSubdomain() != null) {
+            bloom.put(normalize(created.getSubdomain()));
+        }
+    }
+
+    /**
+     * Add subdomains of tenants created since the last sync, on any node, or rebuild the filter
+     * when due
+     */
+    @Scheduled(fixedDelayString = "${spring.tenant.module.subdomain-availability.sync-interval-ms:2000}")
+    public void sync() {
+        long now = clock.millis();
+        try {
+            if (!loaded || now - lastRebuild >= rebuildIntervalMillis) {
+                rebuild(now);
+                return;
+            }
+            AggregateChanges changes;
+            do {
+                changes = aggregateChangeFeed.changesAfter(
+                        TenantApplicationService.TENANT_AGGREGATE_TYPE, cursor, MAX_EVENTS_PER_POLL);
+                if (changes.truncated()) {
+                    rebuild(now);
+                    return;
+                }
+                if (!changes.aggregateIds().isEmpty()) {
+                    StringBloomFilter current = bloom;
+                    tenantRepository.findAllById(changes.aggregateIds().stream().map(TenantId::of).toList())
+                            .forEach(tenant -> current.put(normalize(tenant.getSubdomain())));
+                }
+                cursor = changes.position();
+            } while (changes.hasMore());
+        } catch (DataAccessException e) {
+            log.warn("Could not sync taken subdomains: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tenant.subdomain.checks", this, SubdomainAvailabilityService::getChecks)
+                .description("Subdomain availability checks")
+                .register(registry);
+        FunctionCounter.builder("tenant.subdomain.database.lookups", this,
+                        SubdomainAvailabilityService::getDatabaseLookups)
+                .description("Subdomain checks and suggestions looked up in the database")
+                .register(registry);
+    }
+
+    public long getChecks() {
+        return checks.sum();
+    }
+
+    public long getDatabaseLookups() {
+        return databaseLookups.sum();
+    }
+
+    private boolean isTaken(String subdomain) {
+        if (loaded && !bloom.mightContain(subdomain)) {
+            return false;
+        }
+        databaseLookups.increment();
+        return tenantRepository.existsBySubdomain(subdomain);
+    }
+
+    private List<String> suggestionsFor(String base, boolean baseChecked) {
+        if (base.length() < MIN_LENGTH || suggestionCount <= 0) {
+            return List.of();
+        }
+        Set<String> candidates = new LinkedHashSet<>();
+        if (!baseChecked) {
+            candidates.add(base);
+        }
+        SUFFIXES.forEach(suffix -> candidates.add(withSuffix(base, "-" + suffix)));
+        for (int n = 1; candidates.size() < suggestionCount * CANDIDATES_PER_SUGGESTION; n++) {
+            candidates.add(withSuffix(base, "-" + n));
+        }
+        candidates.removeIf(candidate -> !validSubdomain.matcher(candidate).matches()
+                || reservedSubdomains.contains(candidate));
+
+        candidates.removeAll(takenAmong(candidates));
+        return candidates.stream().limit(suggestionCount).toList();
+    }
+
+    private String withSuffix(String base, String suffix) {
+        String head = base.substring(0, Math.min(base.length(), maxLength - suffix.length()));
+        while (head.endsWith("-")) {
+            head = head.substring(0, head.length() - 1);
+        }
+        return head + suffix;
+    }
+
+    private String sanitize(String subdomain) {
+        String sanitized = INVALID_CHARACTERS.matcher(subdomain).replaceAll("-");
+        sanitized = sanitized.substring(0, Math.min(sanitized.length(), maxLength));
+        int start = 0;
+        int end = sanitized.length();
+        while (start < end && sanitized.charAt(start) == '-') {
+            start++;
+        }
+        while (end > start && sanitized.charAt(end - 1) == '-') {
+            end--;
+        }
+        return sanitized.substring(start, end);
+    }
+
+    private void rebuild(long startedAt) {
+        long position = aggregateChangeFeed.latestPosition();
+        StringBloomFilter next = new StringBloomFilter(expectedEntries, falsePositiveRate);
+        List<String> subdomains = tenantRepository.findAllSubdomains();
+        subdomains.forEach(subdomain -> next.put(normalize(subdomain)));
+        bloom = next;
+        // Tenants created while the filter was loading are picked up from the change feed
+        cursor = position;
+        lastRebuild = startedAt;
+        loaded = true;
+        if (subdomains.size() > expectedEntries) {
+            log.warn("{} tenants exceed spring.tenant.module.subdomain-availability.bloom-expected-entries ({}); "
+                    + "more checks will be looked up in the database", subdomains.size(), expectedEntries);
+        }
+    }
+
+    private static String normalize(String subdomain) {
+        return subdomain == null ? "" : subdomain.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,10 +1,15 @@
 package com.xavier.smarteducationapi.tenant.application.service;
 
+import com.xavier.smarteducationapi.common.application.audit.AuditRecord;
+import com.xavier.smarteducationapi.common.application.audit.AuditTrail;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
 import com.xavier.smarteducationapi.common.domain.valueobject.*;
 import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
 import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
 import com.xavier.smarteducationapi.tenant.domain.service.TenantDomainService;
 import com.xavier.smarteducationapi.tenant.application.command.*;
+import com.xavier.smarteducationapi.tenant.application.dto.TenantChangesDto;
 import com.xavier.smarteducationapi.tenant.application.dto.TenantDto;
 import com.xavier.smarteducationapi.common.domain.exception.EntityNotFoundException;
 
@@ -13,7 +18,10 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -29,13 +37,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TenantApplicationService {
 
+    public static final String TENANT_AGGREGATE_TYPE = "Tenant";
+
     private final TenantRepository tenantRepository;
     private final TenantDomainService tenantDomainService;
+    private final SubdomainAvailabilityService subdomainAvailabilityService;
+    private final AggregateChangeFeed aggregateChangeFeed;
+    private final AuditTrail auditTrail;
 
     public TenantDto createTenant(CreateTenantCommand command) {
         log.info("Creating tenant with name: {} and subdomain: {}",
                 command.getName(), command.getSubdomain());
 
+        subdomainAvailabilityService.validateNotReserved(command.getSubdomain());
+
         // Create value objects
         Email email = new Email(command.getPrimaryEmail());
         Phone phone = new Phone(command.getPrimaryPhone());
@@ -64,7 +79,9 @@ public class TenantApplicationService {
         }
 
         log.info("Tenant created successfully with ID: {}", tenant.getId());
-        return mapToDto(tenant);
+        TenantDto created = mapToDto(tenant);
+        audit("CREATE", null, created);
+        return created;
     }
 
     public TenantDto updateTenant(String tenantId, UpdateTenantCommand command) {
@@ -72,6 +89,7 @@ public class TenantApplicationService {
 
         Tenant tenant = tenantRepository.findById(TenantId.of(tenantId))
                 .orElseThrow(() -> EntityNotFoundException.forEntity(Tenant.class, tenantId));
+        TenantDto before = mapToDto(tenant);
 
         // Check if contact info needs updating
         boolean needsContactUpdate = false;
@@ -125,7 +143,7 @@ public class TenantApplicationService {
 
         tenant = tenantRepository.save(tenant);
         log.info("Tenant updated successfully");
-        return mapToDto(tenant);
+        return audit("UPDATE", before, mapToDto(tenant));
     }
 
     private boolean hasAddressUpdate(UpdateTenantCommand command) {
@@ -142,12 +160,13 @@ public class TenantApplicationService {
 
         Tenant tenant = tenantRepository.findById(TenantId.of(tenantId))
                 .orElseThrow(() -> EntityNotFoundException.forEntity(Tenant.class, tenantId));
+        TenantDto before = mapToDto(tenant);
 
         tenant.activate();
         tenant = tenantRepository.save(tenant);
 
         log.info("Tenant activated successfully");
-        return mapToDto(tenant);
+        return audit("ACTIVATE", before, mapToDto(tenant));
     }
 
     public TenantDto suspendTenant(String tenantId, String reason) {
@@ -155,12 +174,13 @@ public class TenantApplicationService {
 
         Tenant tenant = tenantRepository.findById(TenantId.of(tenantId))
                 .orElseThrow(() -> EntityNotFoundException.forEntity(Tenant.class, tenantId));
+        TenantDto before = mapToDto(tenant);
 
         tenant.suspend(reason);
         tenant = tenantRepository.save(tenant);
 
         log.info("Tenant suspended successfully");
-        return mapToDto(tenant);
+        return audit("SUSPEND", before, mapToDto(tenant));
     }
 
     public TenantDto reactivateTenant(String tenantId) {
@@ -168,12 +188,13 @@ public class TenantApplicationService {
 
         Tenant tenant = tenantRepository.findById(TenantId.of(tenantId))
                 .orElseThrow(() -> EntityNotFoundException.forEntity(Tenant.class, tenantId));
+        TenantDto before = mapToDto(tenant);
 
         tenant.reactivate();
         tenant = tenantRepository.save(tenant);
 
         log.info("Tenant reactivated successfully");
-        return mapToDto(tenant);
+        return audit("REACTIVATE", before, mapToDto(tenant));
     }
 
     public TenantDto getTenantById(String tenantId) {
@@ -195,6 +216,52 @@ public class TenantApplicationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Tenants changed after a change feed cursor, reading only the events stored since
+     */
+    @Transactional(readOnly = true)
+    public TenantChangesDto getChangesSince(long since, int maxEvents) {
+        AggregateChanges changes = aggregateChangeFeed.changesAfter(TENANT_AGGREGATE_TYPE, since, maxEvents);
+        List<TenantDto> tenants = changes.aggregateIds().isEmpty() ? List.of()
+                : tenantRepository.findAllById(changes.aggregateIds().stream().map(TenantId::of).toList()).stream()
+                        .map(this::mapToDto)
+                        .collect(Collectors.toList());
+        Set<String> found = tenants.stream().map(TenantDto::getId).collect(Collectors.toSet());
+        return TenantChangesDto.builder()
+                .tenants(tenants)
+                .removedTenantIds(changes.aggregateIds().stream().filter(id -> !found.contains(id)).toList())
+                .cursor(changes.position())
+                .hasMore(changes.hasMore())
+                .resetRequired(changes.truncated())
+                .build();
+    }
+
+    /**
+     * Record the fields a command changed; the audit trail writes them after the commit
+     */
+    private TenantDto audit(String action, TenantDto before, TenantDto after) {
+        auditTrail.record(AuditRecord.diff(after.getId(), TENANT_AGGREGATE_TYPE, after.getId(), action,
+                before != null ? auditState(before) : Map.of(), auditState(after)));
+        return after;
+    }
+
+    private static Map<String, Object> auditState(TenantDto tenant) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("name", tenant.getName());
+        state.put("subdomain", tenant.getSubdomain());
+        state.put("status", tenant.getStatus());
+        state.put("primaryEmail", tenant.getPrimaryEmail());
+        state.put("primaryPhone", tenant.getPrimaryPhone());
+        state.put("address", tenant.getAddress());
+        state.put("taxId", tenant.getTaxId());
+        state.put("registrationNumber", tenant.getRegistrationNumber());
+        state.put("features", tenant.getFeatures() != null ? Set.copyOf(tenant.getFeatures()) : null);
+        state.put("maxUsers", tenant.getMaxUsers());
+        state.put("maxStudents", tenant.getMaxStudents());
+        state.put("activatedAt", tenant.getActivatedAt() != null ? tenant.getActivatedAt().toString() : null);
+        return state;
+    }
+
     private TenantDto mapToDto(Tenant tenant) {
         return TenantDto.builder()
                 .id(tenant.getId().toString())
@@ -211,6 +278,7 @@ public class TenantApplicationService {
                 .maxStudents(tenant.getMaxStudents())
                 .createdAt(tenant.getCreatedAt())
                 .activatedAt(tenant.getActivatedAt())
+                .version(tenant.getVersion())
                 .build();
     }
 }
\ No newline at end of file
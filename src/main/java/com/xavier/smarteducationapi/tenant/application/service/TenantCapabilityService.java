@@ -0,0 +1,173 @@
+package com.xavier.smarteducationapi.tenant.application.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.xavier.smarteducationapi.common.application.event.TopicListener;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.tenant.application.api.TenantCapabilitiesApi;
+import com.xavier.smarteducationapi.tenant.domain.entity.Subscription;
+import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
+import com.xavier.smarteducationapi.tenant.domain.repository.SubscriptionRepository;
+import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.SubscriptionPlan;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tenant capabilities for access tokens, and the current tenant versions to tell whether a token's
+ * capabilities are stale.
+ *
+ * Current capabilities are kept per tenant on this node: they are read the first time a token of
+ * the tenant is issued or checked, and dropped when the tenant changes, either through a tenant
+ * event published here or, for changes made on other nodes, through the tenant change feed polled
+ * every {@code refresh-interval-ms}. Issuing and checking tokens therefore reads the database once
+ * per tenant change, not once per request.
+ *
+ * Features are numbered by their position in {@code spring.tenant.module.feature-flags}; codes
+ * must only ever be appended to it, and codes missing from it cannot be carried in tokens.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+@Slf4j
+public class TenantCapabilityService implements TenantCapabilitiesApi {
+
+    private static final int MAX_EVENTS_PER_POLL = 1000;
+
+    private final TenantRepository tenantRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final AggregateChangeFeed aggregateChangeFeed;
+    private final List<String> featureFlags;
+    private final SubscriptionPlan defaultPlan;
+
+    private final Map<String, Optional<TenantCapabilities>> current = new ConcurrentHashMap<>();
+    private volatile long cursor = -1;
+
+    public TenantCapabilityService(
+            TenantRepository tenantRepository,
+            SubscriptionRepository subscriptionRepository,
+            AggregateChangeFeed aggregateChangeFeed,
+            @Value("${spring.tenant.module.feature-flags:}") String featureFlags,
+            @Value("${spring.tenant.module.default-plan:BASIC}") SubscriptionPlan defaultPlan) {
+        this.tenantRepository = tenantRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.aggregateChangeFeed = aggregateChangeFeed;
+        this.featureFlags = Arrays.stream(featureFlags.split(",")).map(String::trim).filter(f -> !f.isEmpty()).toList();
+        this.defaultPlan = defaultPlan;
+        if (this.featureFlags.size() > Long.SIZE) {
+            throw new IllegalStateException("At most " + Long.SIZE + " feature flags fit in a capability claim");
+        }
+    }
+
+    /**
+     * Current capabilities of a tenant, with the plan of its active subscription
+     */
+    @Override
+    public Optional<TenantCapabilities> capabilitiesOf(String tenantId) {
+        Optional<TenantCapabilities> capabilities = current.get(tenantId);
+        if (capabilities == null) {
+            capabilities = load(tenantId);
+            current.put(tenantId, capabilities);
+        }
+        return capabilities;
+    }
+
+    /**
+     * Current version of a tenant; {@link Long#MAX_VALUE} once it no longer exists, so that all of
+     * its capabilities are stale
+     */
+    public long currentVersion(String tenantId) {
+        return capabilitiesOf(tenantId).map(TenantCapabilities::version).orElse(Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isStale(String tenantId, TenantCapabilities capabilities) {
+        return capabilities.version() < currentVersion(tenantId);
+    }
+
+    /**
+     * @return Position of a feature in the feature catalogue, {@code -1} when it is not listed
+     */
+    public int featureBit(String featureCode) {
+        return featureFlags.indexOf(featureCode);
+    }
+
+    @Override
+    public boolean hasFeature(TenantCapabilities capabilities, String featureCode) {
+        return capabilities.hasFeature(featureBit(featureCode));
+    }
+
+    @TopicListener("tenant.*")
+    public void onTenantEvent(DomainEvent event) {
+        current.remove(event.getAggregateId());
+    }
+
+    /**
+     * Drop the capabilities of tenants changed since the last poll, on any node
+     *
+     * @return number of changed tenants
+     */
+    @Scheduled(fixedDelayString = "${spring.tenant.module.capabilities.refresh-interval-ms:2000}")
+    public int refresh() {
+        try {
+            if (cursor < 0) {
+                cursor = aggregateChangeFeed.latestPosition();
+                current.clear();
+                return 0;
+            }
+            int changed = 0;
+            AggregateChanges changes;
+            do {
+                changes = aggregateChangeFeed.changesAfter(
+                        TenantApplicationService.TENANT_AGGREGATE_TYPE, cursor, MAX_EVENTS_PER_POLL);
+                if (changes.truncated()) {
+                    current.clear();
+                }
+                changes.aggregateIds().forEach(current::remove);
+                changed += changes.aggregateIds().size();
+                cursor = changes.position();
+            } while (changes.hasMore());
+            return changed;
+        } catch (DataAccessException e) {
+            log.warn("Could not poll tenant changes: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private Optional<TenantCapabilities> load(String tenantId) {
+        TenantId id = TenantId.of(tenantId);
+        return tenantRepository.findById(id).map(tenant -> {
+            SubscriptionPlan plan = subscriptionRepository.findActiveByTenantId(id)
+                    .map(Subscription::getPlan)
+                    .orElse(defaultPlan);
+            return new TenantCapabilities(tenant.getStatus(), featureMask(tenant), plan, tenant.getMaxUsers(),
+                    tenant.getMaxStudents(), tenant.getVersion() != null ? tenant.getVersion() : 0);
+        });
+    }
+
+    private long featureMask(Tenant tenant) {
+        long mask = 0;
+        for (String feature : tenant.getFeatures()) {
+            int bit = featureBit(feature);
+            if (bit >= 0) {
+                mask |= 1L << bit;
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,290 @@
+package com.xavier.smarteducationapi.tenant.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.json.JsonParseException;
+import org.springframework.boot.json.JsonParser;
+import org.springframework.boot.json.JsonParserFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.smarteducationapi.common.domain.valueobject.Address;
+import com.xavier.smarteducationapi.common.domain.valueobject.Email;
+import com.xavier.smarteducationapi.common.domain.valueobject.Phone;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.tenant.application.command.CreateTenantCommand;
+import com.xavier.smarteducationapi.tenant.application.dto.TenantOnboardingResultDto;
+import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
+import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Onboards tenants in bulk, from an upload of one {@link CreateTenantCommand} per line (NDJSON).
+ *
+ * The upload is read as a stream and handled in chunks of {@code batch-size} records, so beyond
+ * the subdomains and emails seen so far only one chunk is held in memory. For each chunk:
+ * <ul>
+ * <li>records are validated as {@link TenantApplicationService#createTenant} would, and subdomains
+ * or emails repeated within the upload are skipped after their first occurrence;</li>
+ * <li>taken subdomains and emails are each found with at most one set-based query, looking up only
+ * the possible hits of the subdomain and email bloom filters;</li>
+ * <li>the remaining tenants are inserted with JDBC batches in one transaction, where the unique
+ * indexes refuse tenants created concurrently since the check.</li>
+ * </ul>
+ * The result of every record is handed to the caller once its chunk is done, in upload order.
+ * Each chunk commits on its own: a failing upload keeps the tenants of the chunks before it, and
+ * onboarding the same file again reports them as duplicates.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Service
+@Slf4j
+public class TenantOnboardingService {
+
+    private static final int MAX_RECORD_LENGTH = 65536;
+
+    private final TenantRepository tenantRepository;
+    private final SubdomainAvailabilityService subdomainAvailabilityService;
+    private final TransactionTemplate transaction;
+    private final JsonParser jsonParser = JsonParserFactory.getJsonParser();
+    private final Validator validator;
+    private final int batchSize;
+
+    public TenantOnboardingService(
+            TenantRepository tenantRepository,
+            SubdomainAvailabilityService subdomainAvailabilityService,
+            PlatformTransactionManager transactionManager,
+            Validator validator,
+            @Value("${spring.tenant.module.onboarding.batch-size:500}") int batchSize) {
+        this.tenantRepository = tenantRepository;
+        this.subdomainAvailabilityService = subdomainAvailabilityService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Onboard the tenants of an upload, handing the results of each chunk to {@code results}
+     */
+    public void onboard(InputStream input, Consumer<List<TenantOnboardingResultDto>> results) {
+        Onboarding run = new Onboarding(results);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String text;
+            long line = 0;
+            int read = 0;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                run.received++;
+                accept(run, line, text);
+                if (++read == batchSize) {
+                    flush(run);
+                    read = 0;
+                }
+            }
+            flush(run);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Reading the tenant onboarding failed", e);
+        }
+
+        log.info("Onboarded {} of {} tenant(s): {} duplicate(s), {} rejected", run.created, run.received,
+                run.duplicates, run.rejected);
+    }
+
+    /**
+     * Parse and validate a record, and skip subdomains and emails seen earlier in the upload
+     */
+    private void accept(Onboarding run, long line, String text) {
+        if (text.length() > MAX_RECORD_LENGTH) {
+            run.reject(line, null, "Record exceeds " + MAX_RECORD_LENGTH + " characters");
+            return;
+        }
+        CreateTenantCommand command = new CreateTenantCommand();
+        try {
+            new BeanWrapperImpl(command).setPropertyValues(
+                    new MutablePropertyValues(jsonParser.parseMap(text)), true, true);
+        } catch (JsonParseException e) {
+            run.reject(line, null, "Expected a JSON object");
+            return;
+        } catch (BeansException e) {
+            run.reject(line, null, "Fields must be text");
+            return;
+        }
+        String problem = validate(command);
+        if (problem != null) {
+            run.reject(line, command, problem);
+            return;
+        }
+
+        Tenant tenant;
+        try {
+            tenant = newTenant(command);
+        } catch (IllegalArgumentException e) {
+            run.reject(line, command, e.getMessage());
+            return;
+        }
+        if (!run.seenSubdomains.add(tenant.getSubdomain())) {
+            run.duplicate(line, command, "Subdomain appears earlier in the upload");
+            return;
+        }
+        if (!run.seenEmails.add(normalize(command.getPrimaryEmail()))) {
+            run.duplicate(line, command, "Email appears earlier in the upload");
+            return;
+        }
+        run.batch.add(new Candidate(line, command, tenant));
+    }
+
+    @Nullable
+    private String validate(CreateTenantCommand command) {
+        Set<ConstraintViolation<CreateTenantCommand>> violations = validator.validate(command);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .reduce((first, second) -> first + "; " + second)
+                    .orElseThrow();
+        }
+        if (subdomainAvailabilityService.isReserved(command.getSubdomain())) {
+            return "Subdomain is reserved";
+        }
+        return null;
+    }
+
+    private void flush(Onboarding run) {
+        List<Candidate> batch = run.batch;
+        if (!batch.isEmpty()) {
+            Set<String> takenSubdomains = subdomainAvailabilityService.takenAmong(
+                    batch.stream().map(candidate -> candidate.tenant().getSubdomain()).toList());
+            Set<String> takenEmails = tenantRepository.findExistingEmails(
+                    batch.stream().map(candidate -> normalize(candidate.command().getPrimaryEmail())).toList());
+
+            List<Candidate> candidates = new ArrayList<>(batch.size());
+            for (Candidate candidate : batch) {
+                if (takenSubdomains.contains(candidate.tenant().getSubdomain())) {
+                    run.duplicate(candidate.line(), candidate.command(), "Subdomain is already taken");
+                } else if (takenEmails.contains(normalize(candidate.command().getPrimaryEmail()))) {
+                    run.duplicate(candidate.line(), candidate.command(), "Email is already registered");
+                } else {
+                    candidates.add(candidate);
+                }
+            }
+
+            if (!candidates.isEmpty()) {
+                transaction.executeWithoutResult(status -> {
+                    boolean[] inserted = tenantRepository.insertAll(
+                            candidates.stream().map(Candidate::tenant).toList());
+                    for (int i = 0; i < candidates.size(); i++) {
+                        Candidate candidate = candidates.get(i);
+                        if (inserted[i]) {
+                            run.create(candidate);
+                        } else {
+                            run.duplicate(candidate.line(), candidate.command(),
+                                    "Subdomain or email is already taken");
+                        }
+                    }
+                });
+            }
+            batch.clear();
+        }
+        if (!run.pending.isEmpty()) {
+            run.pending.sort(Comparator.comparingLong(TenantOnboardingResultDto::getLine));
+            run.results.accept(List.copyOf(run.pending));
+            run.pending.clear();
+        }
+    }
+
+    private static Tenant newTenant(CreateTenantCommand command) {
+        Address address = Address.builder()
+                .street(command.getStreet())
+                .neighborhood(command.getNeighborhood())
+                .city(command.getCity())
+                .province(command.getProvince())
+                .postalCode(command.getPostalCode())
+                .country(command.getCountry())
+                .build();
+        Tenant tenant = Tenant.create(TenantId.generate(), command.getName(), command.getSubdomain(),
+                new Email(command.getPrimaryEmail()), new Phone(command.getPrimaryPhone()), address);
+        if (command.getTaxId() != null || command.getRegistrationNumber() != null) {
+            tenant.setBusinessRegistration(command.getTaxId(), command.getRegistrationNumber());
+        }
+        return tenant;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Candidate(long line, CreateTenantCommand command, Tenant tenant) {
+    }
+
+    /**
+     * Progress of one onboarding
+     */
+    private static final class Onboarding {
+        private final Consumer<List<TenantOnboardingResultDto>> results;
+        private final Set<String> seenSubdomains = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<Candidate> batch = new ArrayList<>();
+        private final List<TenantOnboardingResultDto> pending = new ArrayList<>();
+        private long received;
+        private long created;
+        private long duplicates;
+        private long rejected;
+
+        private Onboarding(Consumer<List<TenantOnboardingResultDto>> results) {
+            this.results = results;
+        }
+
+        private void create(Candidate candidate) {
+            created++;
+            pending.add(result(candidate.line(), candidate.command(), TenantOnboardingResultDto.CREATED, null)
+                    .tenantId(candidate.tenant().getId().toString())
+                    .build());
+        }
+
+        private void reject(long line, @Nullable CreateTenantCommand command, String reason) {
+            rejected++;
+            pending.add(result(line, command, TenantOnboardingResultDto.REJECTED, reason).build());
+        }
+
+        private void duplicate(long line, CreateTenantCommand command, String reason) {
+            duplicates++;
+            pending.add(result(line, command, TenantOnboardingResultDto.DUPLICATE, reason).build());
+        }
+
+        private static TenantOnboardingResultDto.TenantOnboardingResultDtoBuilder result(long line,
+                @Nullable CreateTenantCommand command, String status, @Nullable String reason) {
+            return TenantOnboardingResultDto.builder()
+                    .line(line)
+                    .subdomain(command != null ? command.getSubdomain() : null)
+                    .primaryEmail(command != null ? command.getPrimaryEmail() : null)
+                    .status(status)
+                    .reason(reason);
+        }
+    }
+}
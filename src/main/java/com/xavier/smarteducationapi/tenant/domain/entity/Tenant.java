@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.xavier.smarteducationapi.common.domain.entity.AggregateRoot;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
 import com.xavier.smarteducationapi.common.domain.exception.BusinessRuleViolationException;
 import com.xavier.smarteducationapi.common.domain.valueobject.Address;
 import com.xavier.smarteducationapi.common.domain.valueobject.Email;
@@ -12,6 +13,8 @@ import com.xavier.smarteducationapi.common.domain.valueobject.Phone;
 import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
 import com.xavier.smarteducationapi.tenant.domain.event.TenantActivatedEvent;
 import com.xavier.smarteducationapi.tenant.domain.event.TenantCreatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantDeactivatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantDeletedEvent;
 import com.xavier.smarteducationapi.tenant.domain.event.TenantFeatureDisabledEvent;
 import com.xavier.smarteducationapi.tenant.domain.event.TenantFeatureEnabledEvent;
 import com.xavier.smarteducationapi.tenant.domain.event.TenantLimitsUpdatedEvent;
@@ -29,6 +32,9 @@ import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
  */
 public class Tenant extends AggregateRoot<TenantId> {
 
+    private static final int DEFAULT_MAX_USERS = 10;
+    private static final int DEFAULT_MAX_STUDENTS = 100;
+
     private String name;
     private String subdomain;
     private TenantStatus status;
@@ -94,6 +100,66 @@ public class Tenant extends AggregateRoot<TenantId> {
 
         return tenant;
     }
+
+    /**
+     * Recreates a tenant from its creation event when rebuilding state from the event store.
+     * Contact details not carried by the event are left empty.
+     */
+    public static Tenant fromCreatedEvent(TenantCreatedEvent event) {
+        return reconstruct(
+                TenantId.of(event.getAggregateId()),
+                event.getTenantName(),
+                event.getSubdomain(),
+                TenantStatus.PENDING,
+                event.getPrimaryEmail() != null ? new Email(event.getPrimaryEmail()) : null,
+                null,
+                null,
+                null,
+                null,
+                Set.of(),
+                DEFAULT_MAX_USERS,
+                DEFAULT_MAX_STUDENTS,
+                event.occurredOn(),
+                null,
+                null,
+                null,
+                0L);
+    }
+
+    /**
+     * Applies a stored event without registering new events.
+     * Used to bring a restored snapshot up to date with the events recorded after it.
+     */
+    public void replay(DomainEvent event) {
+        if (event instanceof TenantActivatedEvent activated) {
+            if (status == TenantStatus.SUSPENDED) {
+                this.suspendedAt = null;
+                this.suspensionReason = null;
+            } else {
+                this.activatedAt = activated.getActivatedAt();
+            }
+            this.status = TenantStatus.ACTIVE;
+        } else if (event instanceof TenantSuspendedEvent suspended) {
+            this.status = TenantStatus.SUSPENDED;
+            this.suspendedAt = suspended.getSuspendedAt();
+            this.suspensionReason = suspended.getReason();
+        } else if (event instanceof TenantDeactivatedEvent) {
+            this.status = TenantStatus.INACTIVE;
+        } else if (event instanceof TenantDeletedEvent) {
+            this.status = TenantStatus.DELETED;
+        } else if (event instanceof TenantFeatureEnabledEvent enabled) {
+            features.add(enabled.getFeatureCode());
+        } else if (event instanceof TenantFeatureDisabledEvent disabled) {
+            features.remove(disabled.getFeatureCode());
+        } else if (event instanceof TenantLimitsUpdatedEvent limits) {
+            this.maxUsers = limits.getNewMaxUsers();
+            this.maxStudents = limits.getNewMaxStudents();
+        } else if (!(event instanceof TenantUpdatedEvent)) {
+            throw new IllegalArgumentException("Cannot replay " + event.topic() + " on a tenant");
+        }
+        incrementVersion();
+    }
+
     // Factory method
     public static Tenant create(
             TenantId tenantId,
@@ -113,8 +179,8 @@ public class Tenant extends AggregateRoot<TenantId> {
         tenant.address = address;
         tenant.createdAt = Instant.now();
         tenant.features = new HashSet<>();
-        tenant.maxUsers = 10; // Default limit
-        tenant.maxStudents = 100; // Default limit
+        tenant.maxUsers = DEFAULT_MAX_USERS;
+        tenant.maxStudents = DEFAULT_MAX_STUDENTS;
 
         tenant.registerEvent(new TenantCreatedEvent(
                 tenantId.toString(),
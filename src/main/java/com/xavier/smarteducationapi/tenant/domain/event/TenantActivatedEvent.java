@@ -1,6 +1,7 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
 import java.time.Instant;
 
 /**
@@ -21,6 +22,15 @@ public class TenantActivatedEvent extends AbstractDomainEvent {
         this.activatedAt = activatedAt;
     }
 
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public TenantActivatedEvent(EventMetadata metadata, String tenantName, Instant activatedAt) {
+        super(metadata);
+        this.tenantName = tenantName;
+        this.activatedAt = activatedAt;
+    }
+
     @Override
     public String topic() {
         return "tenant.activated";
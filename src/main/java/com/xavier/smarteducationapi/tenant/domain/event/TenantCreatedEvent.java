@@ -1,6 +1,7 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
 
 /**
  * Event raised when a new tenant is created.
@@ -22,6 +23,20 @@ public class TenantCreatedEvent extends AbstractDomainEvent {
         this.primaryEmail = primaryEmail;
     }
 
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public TenantCreatedEvent(
+            EventMetadata metadata,
+            String tenantName,
+            String subdomain,
+            String primaryEmail) {
+        super(metadata);
+        this.tenantName = tenantName;
+        this.subdomain = subdomain;
+        this.primaryEmail = primaryEmail;
+    }
+
     @Override
     public String topic() {
         return "tenant.created";
@@ -1,6 +1,7 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
 import java.time.Instant;
 
 /**
@@ -21,6 +22,15 @@ public class TenantDeactivatedEvent extends AbstractDomainEvent {
         this.deactivatedAt = deactivatedAt;
     }
 
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public TenantDeactivatedEvent(EventMetadata metadata, String tenantName, Instant deactivatedAt) {
+        super(metadata);
+        this.tenantName = tenantName;
+        this.deactivatedAt = deactivatedAt;
+    }
+
     @Override
     public String topic() {
         return "tenant.deactivated";
@@ -1,6 +1,7 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
 import java.time.Instant;
 
 /**
@@ -23,6 +24,20 @@ public class TenantDeletedEvent extends AbstractDomainEvent {
         this.deletedAt = Instant.now();
     }
 
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public TenantDeletedEvent(
+            EventMetadata metadata,
+            String tenantName,
+            String subdomain,
+            Instant deletedAt) {
+        super(metadata);
+        this.tenantName = tenantName;
+        this.subdomain = subdomain;
+        this.deletedAt = deletedAt;
+    }
+
     @Override
     public String topic() {
         return "tenant.deleted";
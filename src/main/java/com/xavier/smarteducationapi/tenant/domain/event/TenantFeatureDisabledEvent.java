@@ -1,7 +1,11 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.CoalescibleEvent;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
 import java.time.Instant;
+import java.util.Optional;
 
 /**
  * Event raised when a feature is disabled for a tenant.
@@ -10,7 +14,7 @@ import java.time.Instant;
  * @version 1.0
  * @since 2025-09-16
  */
-public class TenantFeatureDisabledEvent extends AbstractDomainEvent {
+public class TenantFeatureDisabledEvent extends AbstractDomainEvent implements CoalescibleEvent {
 
     private final String tenantName;
     private final String featureCode;
@@ -23,6 +27,20 @@ public class TenantFeatureDisabledEvent extends AbstractDomainEvent {
         this.disabledAt = Instant.now();
     }
 
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public TenantFeatureDisabledEvent(
+            EventMetadata metadata,
+            String tenantName,
+            String featureCode,
+            Instant disabledAt) {
+        super(metadata);
+        this.tenantName = tenantName;
+        this.featureCode = featureCode;
+        this.disabledAt = disabledAt;
+    }
+
     @Override
     public String topic() {
         return "tenant.feature.disabled";
@@ -39,4 +57,12 @@ public class TenantFeatureDisabledEvent extends AbstractDomainEvent {
     public Instant getDisabledAt() {
         return disabledAt;
     }
+
+    @Override
+    public Optional<DomainEvent> coalesceWith(DomainEvent later) {
+        if (later instanceof TenantFeatureDisabledEvent next && next.featureCode.equals(featureCode)) {
+            return Optional.of(next);
+        }
+        return Optional.empty();
+    }
 }
\ No newline at end of file
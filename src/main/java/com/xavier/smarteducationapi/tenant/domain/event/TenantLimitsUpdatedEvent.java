@@ -1,15 +1,21 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.CoalescibleEvent;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+import java.util.Optional;
 
 /**
  * Event raised when tenant limits are updated.
+ * Successive changes within one transaction coalesce into a single change from the first
+ * previous limits to the last new ones.
  *
  * @author Xavier Nhagumbe
  * @version 1.0
  * @since 2025-09-16
  */
-public class TenantLimitsUpdatedEvent extends AbstractDomainEvent {
+public class TenantLimitsUpdatedEvent extends AbstractDomainEvent implements CoalescibleEvent {
 
     private final String tenantName;
     private final Integer newMaxUsers;
@@ -32,6 +38,24 @@ public class TenantLimitsUpdatedEvent extends AbstractDomainEvent {
         this.previousMaxStudents = previousMaxStudents;
     }
 
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public TenantLimitsUpdatedEvent(
+            EventMetadata metadata,
+            String tenantName,
+            Integer newMaxUsers,
+            Integer newMaxStudents,
+            Integer previousMaxUsers,
+            Integer previousMaxStudents) {
+        super(metadata);
+        this.tenantName = tenantName;
+        this.newMaxUsers = newMaxUsers;
+        this.newMaxStudents = newMaxStudents;
+        this.previousMaxUsers = previousMaxUsers;
+        this.previousMaxStudents = previousMaxStudents;
+    }
+
     @Override
     public String topic() {
         return "tenant.limits.updated";
@@ -56,4 +80,13 @@ public class TenantLimitsUpdatedEvent extends AbstractDomainEvent {
     public Integer getPreviousMaxStudents() {
         return previousMaxStudents;
     }
+
+    @Override
+    public Optional<DomainEvent> coalesceWith(DomainEvent later) {
+        if (!(later instanceof TenantLimitsUpdatedEvent next)) {
+            return Optional.empty();
+        }
+        return Optional.of(new TenantLimitsUpdatedEvent(EventMetadata.of(next), next.tenantName,
+                next.newMaxUsers, next.newMaxStudents, previousMaxUsers, previousMaxStudents));
+    }
 }
\ No newline at end of file
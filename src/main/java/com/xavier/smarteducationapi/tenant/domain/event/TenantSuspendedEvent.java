@@ -1,6 +1,7 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
 import java.time.Instant;
 
 /**
@@ -23,6 +24,20 @@ public class TenantSuspendedEvent extends AbstractDomainEvent {
         this.suspendedAt = suspendedAt;
     }
 
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public TenantSuspendedEvent(
+            EventMetadata metadata,
+            String tenantName,
+            String reason,
+            Instant suspendedAt) {
+        super(metadata);
+        this.tenantName = tenantName;
+        this.reason = reason;
+        this.suspendedAt = suspendedAt;
+    }
+
     @Override
     public String topic() {
         return "tenant.suspended";
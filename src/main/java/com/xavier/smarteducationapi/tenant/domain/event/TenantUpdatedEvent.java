@@ -1,16 +1,24 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.CoalescibleEvent;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Event raised when tenant information is updated.
+ * Successive updates within one transaction coalesce into the last one, listing every update type.
  *
  * @author Xavier Nhagumbe
  * @version 1.0
  * @since 2025-09-16
  */
-public class TenantUpdatedEvent extends AbstractDomainEvent {
+public class TenantUpdatedEvent extends AbstractDomainEvent implements CoalescibleEvent {
 
     private final String tenantName;
     private final String updateType;
@@ -23,6 +31,20 @@ public class TenantUpdatedEvent extends AbstractDomainEvent {
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * Restores a stored event with its original identity.
+     */
+    public TenantUpdatedEvent(
+            EventMetadata metadata,
+            String tenantName,
+            String updateType,
+            Instant updatedAt) {
+        super(metadata);
+        this.tenantName = tenantName;
+        this.updateType = updateType;
+        this.updatedAt = updatedAt;
+    }
+
     @Override
     public String topic() {
         return "tenant.updated";
@@ -39,4 +61,15 @@ public class TenantUpdatedEvent extends AbstractDomainEvent {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    @Override
+    public Optional<DomainEvent> coalesceWith(DomainEvent later) {
+        if (!(later instanceof TenantUpdatedEvent next)) {
+            return Optional.empty();
+        }
+        Set<String> updateTypes = new LinkedHashSet<>(Arrays.asList(updateType.split(",")));
+        updateTypes.addAll(Arrays.asList(next.updateType.split(",")));
+        return Optional.of(new TenantUpdatedEvent(EventMetadata.of(next), next.tenantName,
+                String.join(",", updateTypes), next.updatedAt));
+    }
 }
\ No newline at end of file
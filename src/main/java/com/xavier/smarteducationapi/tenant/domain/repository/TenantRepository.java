@@ -4,8 +4,10 @@ import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
 import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
 import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Tenant aggregate.
@@ -18,16 +20,41 @@ public interface TenantRepository {
 
     Tenant save(Tenant tenant);
 
+    /**
+     * Insert new tenants with JDBC batches and publish the events of those inserted. A tenant whose
+     * id, subdomain or email was taken in the meantime is skipped.
+     *
+     * @return Whether each tenant was inserted
+     */
+    boolean[] insertAll(List<Tenant> tenants);
+
     Optional<Tenant> findById(TenantId tenantId);
 
+    List<Tenant> findAllById(Collection<TenantId> tenantIds);
+
     Optional<Tenant> findBySubdomain(String subdomain);
 
     List<Tenant> findByStatus(TenantStatus status);
 
     boolean existsBySubdomain(String subdomain);
 
+    /**
+     * @return Those of the given subdomains that are taken
+     */
+    Set<String> findExistingSubdomains(Collection<String> subdomains);
+
+    List<String> findAllSubdomains();
+
+    /**
+     * Whether a tenant has the email, compared case-insensitively
+     */
     boolean existsByEmail(String email);
 
+    /**
+     * @return Those of the given emails, lowercased, that some tenant has
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
     void delete(Tenant tenant);
 
     List<Tenant> findAll();
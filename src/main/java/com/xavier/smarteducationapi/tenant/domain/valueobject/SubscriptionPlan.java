@@ -1,5 +1,7 @@
 package com.xavier.smarteducationapi.tenant.domain.valueobject;
 
+import org.springframework.modulith.NamedInterface;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -12,6 +14,7 @@ import lombok.RequiredArgsConstructor;
  */
 @Getter
 @RequiredArgsConstructor
+@NamedInterface("api")
 public enum SubscriptionPlan {
     BASIC("Basic", "Essential features for small schools"),
     STANDARD("Standard", "Advanced features for growing institutions"),
@@ -0,0 +1,43 @@
+package com.xavier.smarteducationapi.tenant.domain.valueobject;
+
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.NamedInterface;
+
+/**
+ * What a tenant may do, compact enough to travel in every access token: its status, enabled
+ * features as a bitmask over the configured feature catalogue, plan and limits.
+ *
+ * The version is the tenant's version when the capabilities were read; capabilities with an older
+ * version than the tenant's current one are stale.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@NamedInterface("api")
+public record TenantCapabilities(
+        TenantStatus status,
+        long features,
+        SubscriptionPlan plan,
+        @Nullable Integer maxUsers,
+        @Nullable Integer maxStudents,
+        long version) {
+
+    public TenantCapabilities {
+        Objects.requireNonNull(status, "status is required");
+        Objects.requireNonNull(plan, "plan is required");
+    }
+
+    public boolean isActive() {
+        return status == TenantStatus.ACTIVE;
+    }
+
+    /**
+     * @param bit Position of the feature in the feature catalogue
+     */
+    public boolean hasFeature(int bit) {
+        return bit >= 0 && bit < Long.SIZE && (features & 1L << bit) != 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.xavier.smarteducationapi.tenant.domain.valueobject;
 
+import org.springframework.modulith.NamedInterface;
 
 /**
  * Tenant status enumeration.
@@ -8,6 +9,7 @@ package com.xavier.smarteducationapi.tenant.domain.valueobject;
  * @version 1.0
  * @since 2025-09-16
  */
+@NamedInterface("api")
 public enum TenantStatus {
     PENDING,     // Newly created, awaiting activation
     ACTIVE,      // Active and operational
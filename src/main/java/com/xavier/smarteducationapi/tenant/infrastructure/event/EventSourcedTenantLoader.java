@@ -0,0 +1,31 @@
+package com.xavier.smarteducationapi.tenant.infrastructure.event;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateLoader;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rebuilds {@link Tenant} state from the event store, starting from the latest snapshot.
+ * A snapshot is taken every {@code spring.event-store.snapshot.interval} events.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@Component
+@RequiredArgsConstructor
+public class EventSourcedTenantLoader {
+
+    private final AggregateLoader loader;
+    private final TenantSnapshotter snapshotter;
+
+    public Optional<Tenant> load(TenantId tenantId) {
+        return loader.load(tenantId.toString(), snapshotter);
+    }
+}
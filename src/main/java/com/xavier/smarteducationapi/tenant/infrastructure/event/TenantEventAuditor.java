@@ -0,0 +1,35 @@
+package com.xavier.smarteducationapi.tenant.infrastructure.event;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditRecord;
+import com.xavier.smarteducationapi.common.application.audit.AuditTrail;
+import com.xavier.smarteducationapi.common.application.event.TopicListener;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventFields;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records every tenant domain event in the audit trail, with the event topic as action and the
+ * event payload as new values.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantEventAuditor {
+
+    private final AuditTrail auditTrail;
+    private final EventFields eventFields;
+
+    @TopicListener("tenant.*")
+    public void onTenantEvent(DomainEvent event) {
+        auditTrail.record(AuditRecord.diff(event.getAggregateId(), event.getAggregateType(), event.getAggregateId(),
+                event.topic(), Map.of(), eventFields.fields(event)));
+    }
+}
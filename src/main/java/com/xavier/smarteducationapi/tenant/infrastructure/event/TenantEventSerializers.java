@@ -0,0 +1,144 @@
+package com.xavier.smarteducationapi.tenant.infrastructure.event;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantActivatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantCreatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantDeactivatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantDeletedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantFeatureDisabledEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantFeatureEnabledEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantLimitsUpdatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantSuspendedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantUpdatedEvent;
+
+/**
+ * Event store serializers for the tenant domain events.
+ * Type names are the event topics and must never change once events are stored.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-21
+ */
+@Configuration
+public class TenantEventSerializers {
+
+    @Bean
+    public EventSerializer<TenantCreatedEvent> tenantCreatedEventSerializer() {
+        return EventSerializer.of("tenant.created", TenantCreatedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeString("subdomain", event.getSubdomain())
+                        .writeString("primaryEmail", event.getPrimaryEmail()),
+                (in, metadata, version) -> new TenantCreatedEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readString("subdomain"),
+                        in.readString("primaryEmail")));
+    }
+
+    @Bean
+    public EventSerializer<TenantActivatedEvent> tenantActivatedEventSerializer() {
+        return EventSerializer.of("tenant.activated", TenantActivatedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeInstant("activatedAt", event.getActivatedAt()),
+                (in, metadata, version) -> new TenantActivatedEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readInstant("activatedAt")));
+    }
+
+    @Bean
+    public EventSerializer<TenantSuspendedEvent> tenantSuspendedEventSerializer() {
+        return EventSerializer.of("tenant.suspended", TenantSuspendedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeString("reason", event.getReason())
+                        .writeInstant("suspendedAt", event.getSuspendedAt()),
+                (in, metadata, version) -> new TenantSuspendedEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readString("reason"),
+                        in.readInstant("suspendedAt")));
+    }
+
+    @Bean
+    public EventSerializer<TenantDeactivatedEvent> tenantDeactivatedEventSerializer() {
+        return EventSerializer.of("tenant.deactivated", TenantDeactivatedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeInstant("deactivatedAt", event.getDeactivatedAt()),
+                (in, metadata, version) -> new TenantDeactivatedEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readInstant("deactivatedAt")));
+    }
+
+    @Bean
+    public EventSerializer<TenantDeletedEvent> tenantDeletedEventSerializer() {
+        return EventSerializer.of("tenant.deleted", TenantDeletedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeString("subdomain", event.getSubdomain())
+                        .writeInstant("deletedAt", event.getDeletedAt()),
+                (in, metadata, version) -> new TenantDeletedEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readString("subdomain"),
+                        in.readInstant("deletedAt")));
+    }
+
+    @Bean
+    public EventSerializer<TenantFeatureEnabledEvent> tenantFeatureEnabledEventSerializer() {
+        return EventSerializer.of("tenant.feature.enabled", TenantFeatureEnabledEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeString("featureCode", event.getFeatureCode())
+                        .writeInstant("enabledAt", event.getEnabledAt()),
+                (in, metadata, version) -> new TenantFeatureEnabledEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readString("featureCode"),
+                        in.readInstant("enabledAt")));
+    }
+
+    @Bean
+    public EventSerializer<TenantFeatureDisabledEvent> tenantFeatureDisabledEventSerializer() {
+        return EventSerializer.of("tenant.feature.disabled", TenantFeatureDisabledEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeString("featureCode", event.getFeatureCode())
+                        .writeInstant("disabledAt", event.getDisabledAt()),
+                (in, metadata, version) -> new TenantFeatureDisabledEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readString("featureCode"),
+                        in.readInstant("disabledAt")));
+    }
+
+    @Bean
+    public EventSerializer<TenantLimitsUpdatedEvent> tenantLimitsUpdatedEventSerializer() {
+        return EventSerializer.of("tenant.limits.updated", TenantLimitsUpdatedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeInteger("newMaxUsers", event.getNewMaxUsers())
+                        .writeInteger("newMaxStudents", event.getNewMaxStudents())
+                        .writeInteger("previousMaxUsers", event.getPreviousMaxUsers())
+                        .writeInteger("previousMaxStudents", event.getPreviousMaxStudents()),
+                (in, metadata, version) -> new TenantLimitsUpdatedEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readInteger("newMaxUsers"),
+                        in.readInteger("newMaxStudents"),
+                        in.readInteger("previousMaxUsers"),
+                        in.readInteger("previousMaxStudents")));
+    }
+
+    @Bean
+    public EventSerializer<TenantUpdatedEvent> tenantUpdatedEventSerializer() {
+        return EventSerializer.of("tenant.updated", TenantUpdatedEvent.class,
+                (event, out) -> out
+                        .writeString("tenantName", event.getTenantName())
+                        .writeString("updateType", event.getUpdateType())
+                        .writeInstant("updatedAt", event.getUpdatedAt()),
+                (in, metadata, version) -> new TenantUpdatedEvent(metadata,
+                        in.readString("tenantName"),
+                        in.readString("updateType"),
+                        in.readInstant("updatedAt")));
+    }
+}
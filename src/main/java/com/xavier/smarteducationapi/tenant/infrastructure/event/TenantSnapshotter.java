@@ -0,0 +1,146 @@
+package com.xavier.smarteducationapi.tenant.infrastructure.event;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateSnapshotter;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventReader;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventWriter;
+import com.xavier.smarteducationapi.common.domain.valueobject.Address;
+import com.xavier.smarteducationapi.common.domain.valueobject.Email;
+import com.xavier.smarteducationapi.common.domain.valueobject.Phone;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantCreatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
+
+/**
+ * Snapshot format of the {@link Tenant} aggregate.
+ * State is written as event fields and restored through
+ * {@link Tenant#reconstruct}; stored events are applied with {@link Tenant#replay}.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@Component
+public class TenantSnapshotter implements AggregateSnapshotter<Tenant> {
+
+    public static final String AGGREGATE_TYPE = "Tenant";
+
+    private static final int SCHEMA_VERSION = 1;
+
+    @Override
+    public String getAggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public int getSchemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    public void snapshot(Tenant tenant, EventWriter out) {
+        out.writeString("id", tenant.getId().toString())
+                .writeString("name", tenant.getName())
+                .writeString("subdomain", tenant.getSubdomain())
+                .writeString("status", tenant.getStatus().name())
+                .writeString("primaryEmail", tenant.getPrimaryEmail() != null ? tenant.getPrimaryEmail().getValue() : null)
+                .writeString("primaryPhone", tenant.getPrimaryPhone() != null ? tenant.getPrimaryPhone().getValue() : null);
+        writeAddress(out, tenant.getAddress());
+        out.writeString("taxId", tenant.getTaxId())
+                .writeString("registrationNumber", tenant.getRegistrationNumber())
+                .writeInteger("featureCount", tenant.getFeatures().size());
+        for (String feature : tenant.getFeatures()) {
+            out.writeString("feature", feature);
+        }
+        out.writeInteger("maxUsers", tenant.getMaxUsers())
+                .writeInteger("maxStudents", tenant.getMaxStudents())
+                .writeInstant("createdAt", tenant.getCreatedAt())
+                .writeInstant("activatedAt", tenant.getActivatedAt())
+                .writeInstant("suspendedAt", tenant.getSuspendedAt())
+                .writeString("suspensionReason", tenant.getSuspensionReason())
+                .writeLong("version", tenant.getVersion());
+    }
+
+    @Override
+    public Tenant restore(EventReader in) {
+        TenantId id = TenantId.of(in.readString("id"));
+        String name = in.readString("name");
+        String subdomain = in.readString("subdomain");
+        TenantStatus status = TenantStatus.valueOf(in.readString("status"));
+        String email = in.readString("primaryEmail");
+        String phone = in.readString("primaryPhone");
+        Address address = readAddress(in);
+        String taxId = in.readString("taxId");
+        String registrationNumber = in.readString("registrationNumber");
+        int featureCount = in.readInteger("featureCount");
+        Set<String> features = new HashSet<>(featureCount);
+        for (int i = 0; i < featureCount; i++) {
+            features.add(in.readString("feature"));
+        }
+        return Tenant.reconstruct(
+                id,
+                name,
+                subdomain,
+                status,
+                email != null ? new Email(email) : null,
+                phone != null ? new Phone(phone) : null,
+                address,
+                taxId,
+                registrationNumber,
+                features,
+                in.readInteger("maxUsers"),
+                in.readInteger("maxStudents"),
+                in.readInstant("createdAt"),
+                in.readInstant("activatedAt"),
+                in.readInstant("suspendedAt"),
+                in.readString("suspensionReason"),
+                in.readLong("version"));
+    }
+
+    @Override
+    public Tenant apply(@Nullable Tenant tenant, DomainEvent event) {
+        if (tenant == null) {
+            if (!(event instanceof TenantCreatedEvent created)) {
+                throw new IllegalStateException("Tenant history for " + event.getAggregateId()
+                        + " must start with " + TenantCreatedEvent.class.getSimpleName() + ", found " + event.topic());
+            }
+            return Tenant.fromCreatedEvent(created);
+        }
+        tenant.replay(event);
+        return tenant;
+    }
+
+    private static void writeAddress(EventWriter out, @Nullable Address address) {
+        out.writeBoolean("hasAddress", address != null);
+        if (address != null) {
+            out.writeString("street", address.getStreet())
+                    .writeString("neighborhood", address.getNeighborhood())
+                    .writeString("city", address.getCity())
+                    .writeString("province", address.getProvince())
+                    .writeString("postalCode", address.getPostalCode())
+                    .writeString("country", address.getCountry());
+        }
+    }
+
+    @Nullable
+    private static Address readAddress(EventReader in) {
+        if (!Boolean.TRUE.equals(in.readBoolean("hasAddress"))) {
+            return null;
+        }
+        return Address.builder()
+                .street(in.readString("street"))
+                .neighborhood(in.readString("neighborhood"))
+                .city(in.readString("city"))
+                .province(in.readString("province"))
+                .postalCode(in.readString("postalCode"))
+                .country(in.readString("country"))
+                .build();
+    }
+}
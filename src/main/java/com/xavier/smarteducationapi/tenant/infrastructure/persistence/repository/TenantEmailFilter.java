@@ -0,0 +1,182 @@
+package com.xavier.smarteducationapi.tenant.infrastructure.persistence.repository;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.xavier.smarteducationapi.common.application.bloom.StringBloomFilter;
+import com.xavier.smarteducationapi.common.application.event.TopicListener;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.tenant.application.service.TenantApplicationService;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantCreatedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bloom filter over the normalized primary emails of all tenants, consulted by
+ * {@link TenantRepositoryImpl} before looking an email up.
+ *
+ * An email the filter has never seen is definitely not registered and needs no database lookup;
+ * possible hits are looked up against the {@code lower(primary_email)} unique index, which stays
+ * the authority. Until the filter is first loaded every email is looked up.
+ *
+ * Emails of tenants saved on this node are added as they are saved and on {@code tenant.created}
+ * events; tenants created or changed on other nodes are read from the tenant change feed every
+ * {@code sync-interval-ms}. A tenant created elsewhere within the last sync interval may pass the
+ * filter, in which case its insert is refused by the unique index. Bloom filters cannot forget,
+ * so every {@code rebuild-interval-ms} the filter is rebuilt from the current tenants, and swapped
+ * in once complete.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@Component
+@Slf4j
+public class TenantEmailFilter implements MeterBinder {
+
+    private static final int MAX_EVENTS_PER_POLL = 1000;
+
+    private final TenantJpaRepository jpaRepository;
+    private final AggregateChangeFeed aggregateChangeFeed;
+    private final Clock clock;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final long rebuildIntervalMillis;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder passed = new LongAdder();
+    private volatile StringBloomFilter bloom;
+    private volatile boolean loaded;
+    private volatile long lastRebuild;
+    private volatile long cursor = -1;
+
+    @Autowired
+    public TenantEmailFilter(
+            TenantJpaRepository jpaRepository,
+            AggregateChangeFeed aggregateChangeFeed,
+            @Value("${spring.tenant.module.email-filter.bloom-expected-entries:100000}") long expectedEntries,
+            @Value("${spring.tenant.module.email-filter.bloom-false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${spring.tenant.module.email-filter.rebuild-interval-ms:3600000}") long rebuildIntervalMillis) {
+        this(jpaRepository, aggregateChangeFeed, Clock.systemUTC(), expectedEntries, falsePositiveRate,
+                rebuildIntervalMillis);
+    }
+
+    public TenantEmailFilter(TenantJpaRepository jpaRepository, AggregateChangeFeed aggregateChangeFeed, Clock clock,
+            long expectedEntries, double falsePositiveRate, long rebuildIntervalMillis) {
+        this.jpaRepository = jpaRepository;
+        this.aggregateChangeFeed = aggregateChangeFeed;
+        this.clock = clock;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.bloom = new StringBloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * False means no tenant has the normalized email
+     */
+    public boolean mightBeRegistered(String normalizedEmail) {
+        checks.increment();
+        if (loaded && !bloom.mightContain(normalizedEmail)) {
+            return false;
+        }
+        passed.increment();
+        return true;
+    }
+
+    /**
+     * Add the email of a tenant saved on this node
+     */
+    public void add(String email) {
+        bloom.put(normalize(email));
+    }
+
+    @TopicListener("tenant.created")
+    public void onTenantCreated(DomainEvent event) {
+        if (event instanceof TenantCreatedEvent created && created.getPrimaryEmail() != null) {
+            add(created.getPrimaryEmail());
+        }
+    }
+
+    /**
+     * Add the emails of tenants changed since the last sync, on any node, or rebuild the filter
+     * when due
+     */
+    @Scheduled(fixedDelayString = "${spring.tenant.module.email-filter.sync-interval-ms:2000}")
+    public void sync() {
+        long now = clock.millis();
+        try {
+            if (!loaded || now - lastRebuild >= rebuildIntervalMillis) {
+                rebuild(now);
+                return;
+            }
+            AggregateChanges changes;
+            do {
+                changes = aggregateChangeFeed.changesAfter(
+                        TenantApplicationService.TENANT_AGGREGATE_TYPE, cursor, MAX_EVENTS_PER_POLL);
+                if (changes.truncated()) {
+                    rebuild(now);
+                    return;
+                }
+                if (!changes.aggregateIds().isEmpty()) {
+                    StringBloomFilter current = bloom;
+                    jpaRepository.findPrimaryEmailsByIdIn(changes.aggregateIds()).forEach(current::put);
+                }
+                cursor = changes.position();
+            } while (changes.hasMore());
+        } catch (DataAccessException e) {
+            log.warn("Could not sync tenant emails: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tenant.email.filter.checks", this, TenantEmailFilter::getChecks)
+                .description("Tenant emails checked against the filter")
+                .register(registry);
+        FunctionCounter.builder("tenant.email.filter.passed", this, TenantEmailFilter::getPassed)
+                .description("Tenant emails that passed the filter and were looked up in the database")
+                .register(registry);
+    }
+
+    public long getChecks() {
+        return checks.sum();
+    }
+
+    public long getPassed() {
+        return passed.sum();
+    }
+
+    private void rebuild(long startedAt) {
+        long position = aggregateChangeFeed.latestPosition();
+        StringBloomFilter next = new StringBloomFilter(expectedEntries, falsePositiveRate);
+        List<String> emails = jpaRepository.findAllPrimaryEmails();
+        emails.forEach(next::put);
+        bloom = next;
+        // Tenants created while the filter was loading are picked up from the change feed
+        cursor = position;
+        lastRebuild = startedAt;
+        loaded = true;
+        if (emails.size() > expectedEntries) {
+            log.warn("{} tenants exceed spring.tenant.module.email-filter.bloom-expected-entries ({}); "
+                    + "more emails will be looked up in the database", emails.size(), expectedEntries);
+        }
+    }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +28,30 @@ public interface TenantJpaRepository extends JpaRepository<TenantJpaEntity, Stri
 
     boolean existsByPrimaryEmail(String primaryEmail);
 
+    @Query("""
+            SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END
+            FROM TenantJpaEntity t WHERE lower(t.primaryEmail) = :email""")
+    boolean existsByNormalizedEmail(@Param("email") String normalizedEmail);
+
+    @Query("SELECT lower(t.primaryEmail) FROM TenantJpaEntity t WHERE lower(t.primaryEmail) IN :emails")
+    List<String> findNormalizedEmailsIn(@Param("emails") Collection<String> normalizedEmails);
+
+    /**
+     * Ids are text here and UUIDs in the table, so they are cast as one array to keep the primary key lookup
+     */
+    @Query(value = "SELECT lower(primary_email) FROM tenants WHERE id = ANY(CAST(ARRAY[:ids] AS uuid[]))",
+            nativeQuery = true)
+    List<String> findPrimaryEmailsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT lower(t.primaryEmail) FROM TenantJpaEntity t")
+    List<String> findAllPrimaryEmails();
+
+    @Query("SELECT t.subdomain FROM TenantJpaEntity t WHERE t.subdomain IN :subdomains")
+    List<String> findSubdomainsIn(@Param("subdomains") Collection<String> subdomains);
+
+    @Query("SELECT t.subdomain FROM TenantJpaEntity t")
+    List<String> findAllSubdomains();
+
     @Query("SELECT t FROM TenantJpaEntity t WHERE t.status = 'ACTIVE'")
     List<TenantJpaEntity> findAllActiveTenants();
 
@@ -1,15 +1,23 @@
 package com.xavier.smarteducationapi.tenant.infrastructure.persistence.repository;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import com.xavier.smarteducationapi.common.application.event.DomainEventListener;
 import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
 import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
 import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
 import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
+import com.xavier.smarteducationapi.tenant.infrastructure.persistence.entity.AddressEmbeddable;
 import com.xavier.smarteducationapi.tenant.infrastructure.persistence.entity.TenantJpaEntity;
 import com.xavier.smarteducationapi.tenant.infrastructure.persistence.mapper.TenantMapper;
 
@@ -17,7 +25,12 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Implementation of TenantRepository using JPA.
- * Adapts between domain and persistence layers.
+ * Adapts between domain and persistence layers. The persistence entity is
+ * not the aggregate, so saved tenants are handed to the
+ * {@link DomainEventListener} to publish their uncommitted domain events.
+ * Email lookups are case-insensitive and skip the database for emails
+ * the {@link TenantEmailFilter} has never seen. Bulk inserts bypass JPA
+ * and are written with JDBC batches.
  *
  * @author Xavier Nhagumbe
  * @version 1.0
@@ -27,22 +40,88 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TenantRepositoryImpl implements TenantRepository {
 
+    private static final String INSERT_TENANT = """
+            INSERT INTO tenants
+                (id, name, subdomain, status, primary_email, primary_phone, street, neighborhood, city,
+                 province, postal_code, country, tax_id, registration_number, max_users, max_students,
+                 created_at, version)
+            VALUES (CAST(? AS uuid), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INSERT_FEATURE = """
+            INSERT INTO tenant_features (tenant_id, feature_code)
+            VALUES (CAST(? AS uuid), ?)
+            """;
+
     private final TenantJpaRepository jpaRepository;
     private final TenantMapper mapper;
+    private final DomainEventListener eventListener;
+    private final TenantEmailFilter emailFilter;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Tenant save(Tenant tenant) {
         TenantJpaEntity entity = mapper.toJpaEntity(tenant);
         TenantJpaEntity savedEntity = jpaRepository.save(entity);
+        emailFilter.add(savedEntity.getPrimaryEmail());
+        eventListener.publishEvents(tenant);
         return mapper.toDomainEntity(savedEntity);
     }
 
+    @Override
+    public boolean[] insertAll(List<Tenant> tenants) {
+        boolean[] inserted = new boolean[tenants.size()];
+        if (tenants.isEmpty()) {
+            return inserted;
+        }
+        List<TenantJpaEntity> entities = tenants.stream().map(mapper::toJpaEntity).toList();
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_TENANT, entities.stream()
+                .map(TenantRepositoryImpl::insertValues)
+                .toList());
+
+        List<Object[]> features = new ArrayList<>();
+        List<Tenant> insertedTenants = new ArrayList<>();
+        for (int i = 0; i < tenants.size(); i++) {
+            inserted[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+            if (inserted[i]) {
+                TenantJpaEntity entity = entities.get(i);
+                if (entity.getFeatures() != null) {
+                    entity.getFeatures().forEach(feature -> features.add(new Object[] {entity.getId(), feature}));
+                }
+                emailFilter.add(entity.getPrimaryEmail());
+                insertedTenants.add(tenants.get(i));
+            }
+        }
+        if (!features.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_FEATURE, features);
+        }
+        eventListener.publishEvents(insertedTenants);
+        return inserted;
+    }
+
+    private static Object[] insertValues(TenantJpaEntity entity) {
+        AddressEmbeddable address = entity.getAddress() != null ? entity.getAddress() : new AddressEmbeddable();
+        return new Object[] {entity.getId(), entity.getName(), entity.getSubdomain(), entity.getStatus(),
+                entity.getPrimaryEmail(), entity.getPrimaryPhone(), address.getStreet(), address.getNeighborhood(),
+                address.getCity(), address.getProvince(), address.getPostalCode(), address.getCountry(),
+                entity.getTaxId(), entity.getRegistrationNumber(), entity.getMaxUsers(), entity.getMaxStudents(),
+                Timestamp.from(entity.getCreatedAt()), entity.getVersion() != null ? entity.getVersion() : 0L};
+    }
+
     @Override
     public Optional<Tenant> findById(TenantId tenantId) {
         return jpaRepository.findById(tenantId.toString())
                 .map(mapper::toDomainEntity);
     }
 
+    @Override
+    public List<Tenant> findAllById(Collection<TenantId> tenantIds) {
+        return jpaRepository.findAllById(tenantIds.stream().map(TenantId::toString).toList()).stream()
+                .map(mapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Tenant> findBySubdomain(String subdomain) {
         return jpaRepository.findBySubdomain(subdomain)
@@ -61,9 +140,36 @@ public class TenantRepositoryImpl implements TenantRepository {
         return jpaRepository.existsBySubdomain(subdomain);
     }
 
+    @Override
+    public Set<String> findExistingSubdomains(Collection<String> subdomains) {
+        if (subdomains.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(jpaRepository.findSubdomainsIn(subdomains));
+    }
+
+    @Override
+    public List<String> findAllSubdomains() {
+        return jpaRepository.findAllSubdomains();
+    }
+
     @Override
     public boolean existsByEmail(String email) {
-        return jpaRepository.existsByPrimaryEmail(email);
+        String normalized = TenantEmailFilter.normalize(email);
+        return emailFilter.mightBeRegistered(normalized) && jpaRepository.existsByNormalizedEmail(normalized);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        List<String> candidates = emails.stream()
+                .map(TenantEmailFilter::normalize)
+                .distinct()
+                .filter(emailFilter::mightBeRegistered)
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(jpaRepository.findNormalizedEmailsIn(candidates));
     }
 
     @Override
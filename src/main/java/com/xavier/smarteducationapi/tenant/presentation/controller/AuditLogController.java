@@ -0,0 +1,58 @@
+package com.xavier.smarteducationapi.tenant.presentation.controller;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditLogCriteria;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogCursor;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogPage;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogQuery;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogScope;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Audit log of tenants, newest first, for compliance reviews and exports.
+ *
+ * Results are paginated by cursor: each page carries the {@code nextCursor} to pass back as
+ * {@code cursor}, and the last page none. Exporting a long period means following the cursors;
+ * every page costs the same, however far into the period it lies.
+ *
+ * Reading needs {@code AUDIT:READ}; callers only see their own tenant's entries unless the
+ * {@link AuditLogScope} lets them read every tenant's.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@RestController
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+public class AuditLogController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final AuditLogQuery auditLogQuery;
+    private final AuditLogScope auditLogScope;
+
+    @GetMapping("/audit-log")
+    public ResponseEntity<AuditLogPage> getAuditLog(
+            Authentication caller,
+            @RequestParam(required = false) UUID tenantId,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        AuditLogCriteria criteria = auditLogScope.restrict(caller,
+                new AuditLogCriteria(tenantId, entityType, entityId, userId, from, to));
+        AuditLogCursor after = cursor != null && !cursor.isBlank() ? AuditLogCursor.decode(cursor) : null;
+        return ResponseEntity.ok(auditLogQuery.find(criteria, after, Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
@@ -0,0 +1,69 @@
+package com.xavier.smarteducationapi.tenant.presentation.controller;
+
+import com.xavier.smarteducationapi.common.application.event.DomainEventSubscriptions;
+import com.xavier.smarteducationapi.common.application.event.EventStreamFilter;
+import com.xavier.smarteducationapi.tenant.application.dto.TenantChangesDto;
+import com.xavier.smarteducationapi.tenant.application.service.TenantApplicationService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Incremental change feed of tenants for downstream synchronization.
+ *
+ * {@code since} is the cursor returned by the previous response ({@code 0} on the first one).
+ * With {@code waitSeconds}, a request that finds no changes is held until a tenant changes or the
+ * wait elapses, without holding a request thread.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@RestController
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+public class TenantChangesController {
+
+    private static final int MAX_EVENTS = 5000;
+    private static final long MAX_WAIT_SECONDS = 60;
+    private static final EventStreamFilter TENANT_EVENTS =
+            new EventStreamFilter(TenantApplicationService.TENANT_AGGREGATE_TYPE, null, Set.of());
+
+    private final TenantApplicationService tenantApplicationService;
+    private final DomainEventSubscriptions eventSubscriptions;
+
+    @GetMapping("/changes")
+    public DeferredResult<ResponseEntity<TenantChangesDto>> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit,
+            @RequestParam(defaultValue = "0") long waitSeconds) {
+        int maxEvents = Math.max(1, Math.min(limit, MAX_EVENTS));
+        long waitMillis = TimeUnit.SECONDS.toMillis(Math.max(0, Math.min(waitSeconds, MAX_WAIT_SECONDS)));
+        TenantChangesDto changes = tenantApplicationService.getChangesSince(Math.max(0, since), maxEvents);
+
+        // The async timeout only backs up the wait, which completes the result itself
+        DeferredResult<ResponseEntity<TenantChangesDto>> result = new DeferredResult<>(waitMillis + 10_000);
+        boolean unchanged = changes.getTenants().isEmpty() && changes.getRemovedTenantIds().isEmpty();
+        if (!unchanged || waitMillis == 0 || changes.isHasMore() || changes.isResetRequired()) {
+            result.setResult(ResponseEntity.ok(changes));
+            return result;
+        }
+
+        long cursor = changes.getCursor();
+        eventSubscriptions.awaitEvent(TENANT_EVENTS, cursor, waitMillis)
+                .thenApply(arrived -> arrived ? tenantApplicationService.getChangesSince(cursor, maxEvents) : changes)
+                .whenComplete((latest, ex) -> {
+                    if (ex != null) {
+                        result.setErrorResult(ex);
+                    } else {
+                        result.setResult(ResponseEntity.ok(latest));
+                    }
+                });
+        return result;
+    }
+}
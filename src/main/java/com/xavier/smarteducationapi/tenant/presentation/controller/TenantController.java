@@ -1,16 +1,25 @@
 package com.xavier.smarteducationapi.tenant.presentation.controller;
 
 import com.xavier.smarteducationapi.tenant.application.command.*;
+import com.xavier.smarteducationapi.tenant.application.dto.SubdomainAvailabilityDto;
 import com.xavier.smarteducationapi.tenant.application.dto.TenantDto;
+import com.xavier.smarteducationapi.tenant.application.dto.TenantOnboardingResultDto;
+import com.xavier.smarteducationapi.tenant.application.service.SubdomainAvailabilityService;
 import com.xavier.smarteducationapi.tenant.application.service.TenantApplicationService;
+import com.xavier.smarteducationapi.tenant.application.service.TenantOnboardingService;
 
+import org.springframework.boot.json.JsonWriter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.RequiredArgsConstructor;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -26,7 +35,18 @@ import java.util.List;
 @Validated
 public class TenantController {
 
+    private static final JsonWriter<TenantOnboardingResultDto> ONBOARDING_RESULT = JsonWriter.<TenantOnboardingResultDto>of(members -> {
+        members.add("line", TenantOnboardingResultDto::getLine);
+        members.add("subdomain", TenantOnboardingResultDto::getSubdomain).whenNotNull();
+        members.add("primaryEmail", TenantOnboardingResultDto::getPrimaryEmail).whenNotNull();
+        members.add("tenantId", TenantOnboardingResultDto::getTenantId).whenNotNull();
+        members.add("status", TenantOnboardingResultDto::getStatus);
+        members.add("reason", TenantOnboardingResultDto::getReason).whenNotNull();
+    }).withNewLineAtEnd();
+
     private final TenantApplicationService tenantApplicationService;
+    private final SubdomainAvailabilityService subdomainAvailabilityService;
+    private final TenantOnboardingService tenantOnboardingService;
 
     @PostMapping
     public ResponseEntity<TenantDto> createTenant(@Valid @RequestBody CreateTenantCommand command) {
@@ -34,6 +54,25 @@ public class TenantController {
         return new ResponseEntity<>(tenant, HttpStatus.CREATED);
     }
 
+    /**
+     * Create tenants from one {@link CreateTenantCommand} per line, streaming back one result per
+     * line as each batch completes
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> createTenants(InputStream body) {
+        StreamingResponseBody stream = output -> tenantOnboardingService.onboard(body, results -> {
+            try {
+                for (TenantOnboardingResultDto result : results) {
+                    ONBOARDING_RESULT.write(result).toOutputStream(output);
+                }
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Writing the onboarding results failed", e);
+            }
+        });
+        return ResponseEntity.ok(stream);
+    }
+
     @PutMapping("/{tenantId}")
     public ResponseEntity<TenantDto> updateTenant(
             @PathVariable String tenantId,
@@ -74,6 +113,12 @@ public class TenantController {
         return ResponseEntity.ok(tenant);
     }
 
+    @GetMapping("/subdomain-availability")
+    public ResponseEntity<SubdomainAvailabilityDto> checkSubdomainAvailability(@RequestParam String subdomain) {
+        SubdomainAvailabilityDto availability = subdomainAvailabilityService.check(subdomain);
+        return ResponseEntity.ok(availability);
+    }
+
     @GetMapping
     public ResponseEntity<List<TenantDto>> getAllTenants() {
         List<TenantDto> tenants = tenantApplicationService.getAllTenants();
@@ -0,0 +1,47 @@
+package com.xavier.smarteducationapi.tenant.presentation.controller;
+
+import com.xavier.smarteducationapi.common.application.event.DomainEventSubscriptions;
+import com.xavier.smarteducationapi.common.application.event.EventStreamFilter;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Server-Sent Events stream of tenant domain events, for dashboards that would otherwise poll
+ * the tenant list.
+ *
+ * Events can be narrowed to topics ({@code tenant.suspended}, {@code tenant.feature.*}, ...) and
+ * to one tenant. Each SSE message is named after the event topic, carries the event id as its id
+ * and the event as JSON. Clients reconnecting with {@code Last-Event-ID} receive the events they
+ * missed, or a {@code reset} event when they should reload the tenants instead.
+ *
+ * @author Xavier Nhagumbe
+ * @version 1.0
+ * @since 2025-09-23
+ */
+@RestController
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+public class TenantEventStreamController {
+
+    private static final String TENANT_AGGREGATE = "Tenant";
+
+    private final DomainEventSubscriptions eventSubscriptions;
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(name = "topic", required = false) List<String> topics,
+            @RequestParam(required = false) String tenantId,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        String aggregateId = tenantId != null ? TenantId.of(tenantId).toString() : null;
+        EventStreamFilter filter = new EventStreamFilter(TENANT_AGGREGATE, aggregateId,
+                topics != null ? Set.copyOf(topics) : Set.of());
+        return eventSubscriptions.subscribe(filter, lastEventId);
+    }
+}
@@ -0,0 +1,14 @@
+-- ========= src/main/resources/db/migration/V009__add_binary_event_payload.sql =========
+-- Binary payloads for domain events
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-21
+
+-- Events encoded with the binary codec are stored in payload; event_data keeps JSON payloads
+ALTER TABLE event_store.domain_events
+    ADD COLUMN IF NOT EXISTS payload BYTEA,
+    ADD COLUMN IF NOT EXISTS payload_format VARCHAR(20) NOT NULL DEFAULT 'json';
+
+ALTER TABLE event_store.domain_events ALTER COLUMN event_data DROP NOT NULL;
+
+ALTER TABLE event_store.domain_events
+    ADD CONSTRAINT chk_domain_events_payload CHECK (event_data IS NOT NULL OR payload IS NOT NULL);
@@ -0,0 +1,14 @@
+-- ========= src/main/resources/db/migration/V010__create_projection_checkpoints.sql =========
+-- Checkpoints for projection replays over the domain event store
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-22
+
+CREATE TABLE IF NOT EXISTS event_store.projection_checkpoints (
+    projection_name VARCHAR(100) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    last_position BIGINT,
+    events_applied BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_projection_checkpoint_status CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
@@ -0,0 +1,23 @@
+-- ========= src/main/resources/db/migration/V011__create_aggregate_snapshots.sql =========
+-- Aggregate snapshots for event-sourced loading
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-22
+
+-- Storage order of domain events; events of one transaction may share occurred_on
+ALTER TABLE event_store.domain_events
+    ADD COLUMN IF NOT EXISTS position BIGINT GENERATED ALWAYS AS IDENTITY;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_domain_events_position ON event_store.domain_events(position);
+CREATE INDEX IF NOT EXISTS idx_domain_events_aggregate_position
+    ON event_store.domain_events(aggregate_id, aggregate_type, position);
+
+CREATE TABLE IF NOT EXISTS event_store.aggregate_snapshots (
+    aggregate_id VARCHAR(255) NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    event_count BIGINT NOT NULL,
+    last_event_id UUID NOT NULL,
+    schema_version INTEGER NOT NULL,
+    state BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (aggregate_id, aggregate_type, event_count)
+);
@@ -0,0 +1,123 @@
+-- ========= src/main/resources/db/migration/V012__partition_event_tables_by_month.sql =========
+-- Monthly range partitioning of domain and integration events
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+-- Creates the monthly partitions of an event table between two months (inclusive).
+-- Partitions are named <table>_yYYYYmMM; existing ones, including detached partitions
+-- still waiting to be archived, are left untouched.
+CREATE OR REPLACE FUNCTION event_store.create_monthly_partitions(parent_table TEXT, from_month DATE, to_month DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        partition_name := format('%s_y%sm%s', parent_table, to_char(month_start, 'YYYY'), to_char(month_start, 'MM'));
+        IF to_regclass(format('event_store.%I', partition_name)) IS NULL THEN
+            EXECUTE format('CREATE TABLE event_store.%I PARTITION OF event_store.%I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent_table, month_start, (month_start + INTERVAL '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- ========= Domain events =========
+-- The primary key must contain the partition key; event ids stay unique by generation.
+-- Identity columns are not supported on partitioned tables before PostgreSQL 17, so the
+-- storage position is drawn from a plain sequence.
+ALTER TABLE event_store.domain_events RENAME TO domain_events_unpartitioned;
+ALTER INDEX event_store.domain_events_pkey RENAME TO domain_events_unpartitioned_pkey;
+
+CREATE SEQUENCE IF NOT EXISTS event_store.domain_event_position_seq;
+
+CREATE TABLE event_store.domain_events (
+    event_id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    aggregate_id VARCHAR(255) NOT NULL,
+    aggregate_type VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    event_version INTEGER DEFAULT 1,
+    event_data JSONB,
+    metadata JSONB,
+    occurred_on TIMESTAMP NOT NULL,
+    published BOOLEAN DEFAULT FALSE,
+    published_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    payload BYTEA,
+    payload_format VARCHAR(20) NOT NULL DEFAULT 'json',
+    position BIGINT NOT NULL DEFAULT nextval('event_store.domain_event_position_seq'),
+
+    CONSTRAINT domain_events_pkey PRIMARY KEY (event_id, occurred_on),
+    CONSTRAINT chk_domain_events_payload CHECK (event_data IS NOT NULL OR payload IS NOT NULL)
+) PARTITION BY RANGE (occurred_on);
+
+ALTER SEQUENCE event_store.domain_event_position_seq OWNED BY event_store.domain_events.position;
+
+SELECT event_store.create_monthly_partitions('domain_events',
+    COALESCE((SELECT min(occurred_on) FROM event_store.domain_events_unpartitioned)::date, CURRENT_DATE),
+    GREATEST((SELECT max(occurred_on) FROM event_store.domain_events_unpartitioned)::date,
+             (CURRENT_DATE + INTERVAL '3 months')::date));
+
+INSERT INTO event_store.domain_events
+    (event_id, aggregate_id, aggregate_type, event_type, event_version, event_data, metadata,
+     occurred_on, published, published_at, created_at, payload, payload_format, position)
+SELECT event_id, aggregate_id, aggregate_type, event_type, event_version, event_data, metadata,
+       occurred_on, published, published_at, created_at, payload, payload_format, position
+FROM event_store.domain_events_unpartitioned
+ORDER BY position;
+
+SELECT setval('event_store.domain_event_position_seq',
+              COALESCE((SELECT max(position) FROM event_store.domain_events), 0) + 1, false);
+
+DROP TABLE event_store.domain_events_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS idx_domain_events_aggregate ON event_store.domain_events(aggregate_id, aggregate_type);
+CREATE INDEX IF NOT EXISTS idx_domain_events_occurred ON event_store.domain_events(occurred_on DESC);
+CREATE INDEX IF NOT EXISTS idx_domain_events_published ON event_store.domain_events(published);
+CREATE INDEX IF NOT EXISTS idx_domain_events_type ON event_store.domain_events(event_type);
+CREATE INDEX IF NOT EXISTS idx_domain_events_position ON event_store.domain_events(position);
+CREATE INDEX IF NOT EXISTS idx_domain_events_aggregate_position
+    ON event_store.domain_events(aggregate_id, aggregate_type, position);
+
+-- ========= Integration events =========
+ALTER TABLE event_store.integration_events RENAME TO integration_events_unpartitioned;
+ALTER INDEX event_store.integration_events_pkey RENAME TO integration_events_unpartitioned_pkey;
+
+CREATE TABLE event_store.integration_events (
+    event_id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    event_type VARCHAR(255) NOT NULL,
+    source_context VARCHAR(100) NOT NULL,
+    target_contexts TEXT[],
+    payload JSONB NOT NULL,
+    status VARCHAR(30) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER DEFAULT 0,
+    max_attempts INTEGER DEFAULT 3,
+    last_attempt_at TIMESTAMP,
+    error_message TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+
+    CONSTRAINT integration_events_pkey PRIMARY KEY (event_id, created_at),
+    CONSTRAINT chk_integration_status CHECK (status IN ('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'DEAD_LETTER'))
+) PARTITION BY RANGE (created_at);
+
+SELECT event_store.create_monthly_partitions('integration_events',
+    COALESCE((SELECT min(created_at) FROM event_store.integration_events_unpartitioned)::date, CURRENT_DATE),
+    GREATEST((SELECT max(created_at) FROM event_store.integration_events_unpartitioned)::date,
+             (CURRENT_DATE + INTERVAL '3 months')::date));
+
+INSERT INTO event_store.integration_events
+SELECT event_id, event_type, source_context, target_contexts, payload, status, attempts, max_attempts,
+       last_attempt_at, error_message, created_at, processed_at
+FROM event_store.integration_events_unpartitioned;
+
+DROP TABLE event_store.integration_events_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS idx_integration_events_status ON event_store.integration_events(status);
+CREATE INDEX IF NOT EXISTS idx_integration_events_created ON event_store.integration_events(created_at);
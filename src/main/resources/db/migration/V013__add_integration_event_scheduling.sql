@@ -0,0 +1,18 @@
+-- ========= src/main/resources/db/migration/V013__add_integration_event_scheduling.sql =========
+-- Retry scheduling for integration event workers
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+-- Earliest time a PENDING or FAILED row may be claimed; failures push it back with backoff
+ALTER TABLE event_store.integration_events
+    ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Claim order for workers; only rows that can still be claimed are indexed
+CREATE INDEX IF NOT EXISTS idx_integration_events_claimable
+    ON event_store.integration_events(next_attempt_at)
+    WHERE status IN ('PENDING', 'FAILED');
+
+-- Rows whose worker stopped without reporting back are reclaimed after the lease expires
+CREATE INDEX IF NOT EXISTS idx_integration_events_leased
+    ON event_store.integration_events(last_attempt_at)
+    WHERE status = 'PROCESSING';
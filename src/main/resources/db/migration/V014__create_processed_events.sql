@@ -0,0 +1,43 @@
+-- ========= src/main/resources/db/migration/V014__create_processed_events.sql =========
+-- Processed event log for idempotent consumers, partitioned by day
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+-- Creates the daily partitions of a table between two days (inclusive).
+-- Partitions are named <table>_yYYYYmMMdDD; existing ones are left untouched.
+CREATE OR REPLACE FUNCTION event_store.create_daily_partitions(parent_table TEXT, from_day DATE, to_day DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    day_start DATE := from_day;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE day_start <= to_day LOOP
+        partition_name := format('%s_y%sm%sd%s', parent_table,
+                                 to_char(day_start, 'YYYY'), to_char(day_start, 'MM'), to_char(day_start, 'DD'));
+        IF to_regclass(format('event_store.%I', partition_name)) IS NULL THEN
+            EXECUTE format('CREATE TABLE event_store.%I PARTITION OF event_store.%I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent_table, day_start, day_start + 1);
+            created := created + 1;
+        END IF;
+        day_start := day_start + 1;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- One row per event a consumer has handled. Rows only need to outlive the redelivery window,
+-- so whole days are dropped once they fall out of the retention period.
+CREATE TABLE IF NOT EXISTS event_store.processed_events (
+    consumer VARCHAR(200) NOT NULL,
+    event_id UUID NOT NULL,
+    processed_on DATE NOT NULL DEFAULT CURRENT_DATE,
+
+    CONSTRAINT processed_events_pkey PRIMARY KEY (consumer, event_id, processed_on)
+) PARTITION BY RANGE (processed_on);
+
+SELECT event_store.create_daily_partitions('processed_events', CURRENT_DATE - 1, CURRENT_DATE + 2);
+
+COMMENT ON TABLE event_store.processed_events IS 'Events handled per consumer, used to drop redeliveries';
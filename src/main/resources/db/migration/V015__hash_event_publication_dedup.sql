@@ -0,0 +1,27 @@
+-- ========= src/main/resources/db/migration/V015__hash_event_publication_dedup.sql =========
+-- Hash-based deduplication and maintenance indexes for the Spring Modulith publication registry
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+-- The unique constraint over the full serialized_event text made every insert maintain
+-- index entries as large as the event itself. A generated 128-bit digest deduplicates the
+-- same publications with fixed-size entries; Spring Modulith never writes the column.
+ALTER TABLE event_publication
+    ADD COLUMN IF NOT EXISTS serialized_event_hash UUID
+        GENERATED ALWAYS AS (md5(serialized_event)::uuid) STORED;
+
+ALTER TABLE event_publication DROP CONSTRAINT IF EXISTS uk_event_publication;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_event_publication_hash
+    ON event_publication(listener_id, event_type, serialized_event_hash);
+
+-- Incomplete publications are scanned oldest first for resubmission and lag
+DROP INDEX IF EXISTS idx_event_publication_incomplete;
+CREATE INDEX idx_event_publication_incomplete
+    ON event_publication(publication_date)
+    WHERE completion_date IS NULL;
+
+-- Completed publications are purged in completion order
+CREATE INDEX IF NOT EXISTS idx_event_publication_completed
+    ON event_publication(completion_date)
+    WHERE completion_date IS NOT NULL;
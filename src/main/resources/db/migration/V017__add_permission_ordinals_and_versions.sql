@@ -0,0 +1,103 @@
+-- ========= src/main/resources/db/migration/V017__add_permission_ordinals_and_versions.sql =========
+-- Dense permission ordinals and per-tenant authorization versions
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+-- Every (resource, action) pair gets a stable bit position; new permissions take the next one,
+-- so compiled permission bitsets stay valid when permissions are added.
+CREATE SEQUENCE IF NOT EXISTS security.permission_ordinal_seq MINVALUE 0 START WITH 0;
+
+ALTER TABLE security.permissions ADD COLUMN IF NOT EXISTS ordinal INTEGER;
+
+UPDATE security.permissions p
+SET ordinal = numbered.ordinal
+FROM (SELECT id, row_number() OVER (ORDER BY resource, action) - 1 AS ordinal FROM security.permissions) numbered
+WHERE p.id = numbered.id;
+
+SELECT setval('security.permission_ordinal_seq',
+              COALESCE((SELECT max(ordinal) + 1 FROM security.permissions), 0), false);
+
+ALTER TABLE security.permissions
+    ALTER COLUMN ordinal SET DEFAULT nextval('security.permission_ordinal_seq'),
+    ALTER COLUMN ordinal SET NOT NULL,
+    ADD CONSTRAINT uq_permission_ordinal UNIQUE (ordinal);
+
+ALTER SEQUENCE security.permission_ordinal_seq OWNED BY security.permissions.ordinal;
+
+-- Version of the roles and role assignments of each tenant, bumped by the triggers below.
+-- System-wide roles (tenant_id NULL) are versioned under the nil UUID.
+CREATE TABLE IF NOT EXISTS security.permission_versions (
+    tenant_id UUID PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 1,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE security.permission_versions IS 'Authorization version per tenant, for permission cache invalidation';
+
+CREATE OR REPLACE FUNCTION security.bump_permission_versions(tenant_ids UUID[])
+RETURNS VOID
+LANGUAGE sql
+AS $$
+    INSERT INTO security.permission_versions AS v (tenant_id, version, changed_at)
+    SELECT DISTINCT COALESCE(t, '00000000-0000-0000-0000-000000000000'::uuid), 1, LOCALTIMESTAMP
+    FROM unnest(tenant_ids) AS t
+    ON CONFLICT (tenant_id) DO UPDATE SET version = v.version + 1, changed_at = LOCALTIMESTAMP;
+$$;
+
+-- Statement-level triggers: a bulk change bumps each affected tenant once.
+CREATE OR REPLACE FUNCTION security.roles_changed()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM security.bump_permission_versions(ARRAY(SELECT DISTINCT tenant_id FROM changed_rows));
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION security.role_permissions_changed()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM security.bump_permission_versions(ARRAY(
+        SELECT DISTINCT r.tenant_id FROM changed_rows c JOIN security.roles r ON r.id = c.role_id));
+    RETURN NULL;
+END;
+$$;
+
+-- A role assignment changes the permissions of the user's tenant, even for system roles
+CREATE OR REPLACE FUNCTION security.user_roles_changed()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM security.bump_permission_versions(ARRAY(
+        SELECT DISTINCT u.tenant_id FROM changed_rows c JOIN security.users u ON u.id = c.user_id));
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_roles_inserted AFTER INSERT ON security.roles
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.roles_changed();
+CREATE TRIGGER trg_roles_updated AFTER UPDATE ON security.roles
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.roles_changed();
+CREATE TRIGGER trg_roles_deleted AFTER DELETE ON security.roles
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.roles_changed();
+
+CREATE TRIGGER trg_role_permissions_inserted AFTER INSERT ON security.role_permissions
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.role_permissions_changed();
+CREATE TRIGGER trg_role_permissions_updated AFTER UPDATE ON security.role_permissions
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.role_permissions_changed();
+CREATE TRIGGER trg_role_permissions_deleted AFTER DELETE ON security.role_permissions
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.role_permissions_changed();
+
+CREATE TRIGGER trg_user_roles_inserted AFTER INSERT ON security.user_roles
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.user_roles_changed();
+CREATE TRIGGER trg_user_roles_updated AFTER UPDATE ON security.user_roles
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.user_roles_changed();
+CREATE TRIGGER trg_user_roles_deleted AFTER DELETE ON security.user_roles
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION security.user_roles_changed();
+
+-- Assignments of a role, for cascading role deletes
+CREATE INDEX IF NOT EXISTS idx_user_roles_role ON security.user_roles(role_id);
@@ -0,0 +1,6 @@
+-- ========= src/main/resources/db/migration/V019__index_users_login_email.sql =========
+-- Case-insensitive email lookup of users logging in
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+CREATE INDEX IF NOT EXISTS idx_users_email_lower ON security.users (lower(email), tenant_id);
@@ -0,0 +1,47 @@
+-- ========= src/main/resources/db/migration/V020__align_tenants_with_entity.sql =========
+-- Align the tenants table with the tenant entity
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+-- V002 named the columns after an earlier model; the entity, its queries and the bulk onboarding
+-- inserts use these names.
+ALTER TABLE tenants RENAME COLUMN tenant_name TO name;
+ALTER TABLE tenants RENAME COLUMN contact_email TO primary_email;
+ALTER TABLE tenants RENAME COLUMN contact_phone TO primary_phone;
+ALTER TABLE tenants RENAME COLUMN address_street TO street;
+ALTER TABLE tenants RENAME COLUMN address_neighborhood TO neighborhood;
+ALTER TABLE tenants RENAME COLUMN address_city TO city;
+ALTER TABLE tenants RENAME COLUMN address_province TO province;
+ALTER TABLE tenants RENAME COLUMN address_postal_code TO postal_code;
+ALTER TABLE tenants RENAME COLUMN address_country TO country;
+
+ALTER TABLE tenants
+    ADD COLUMN IF NOT EXISTS tax_id VARCHAR(50),
+    ADD COLUMN IF NOT EXISTS registration_number VARCHAR(50),
+    ADD COLUMN IF NOT EXISTS max_users INTEGER,
+    ADD COLUMN IF NOT EXISTS max_students INTEGER,
+    ADD COLUMN IF NOT EXISTS suspension_reason VARCHAR(500);
+
+-- Subdomains are DNS labels of up to 63 characters
+ALTER TABLE tenants ALTER COLUMN subdomain TYPE VARCHAR(63);
+
+-- Plans are kept per subscription and tenants share one schema; the entity writes neither, nor
+-- the creating user
+ALTER TABLE tenants
+    ALTER COLUMN plan DROP NOT NULL,
+    ALTER COLUMN schema_name DROP NOT NULL,
+    ALTER COLUMN created_by DROP NOT NULL;
+
+-- Statuses of the tenant entity
+ALTER TABLE tenants DROP CONSTRAINT IF EXISTS chk_tenant_status;
+UPDATE tenants SET status = 'PENDING' WHERE status = 'PENDING_ACTIVATION';
+UPDATE tenants SET status = 'DELETED' WHERE status = 'TERMINATED';
+ALTER TABLE tenants ADD CONSTRAINT chk_tenant_status
+    CHECK (status IN ('PENDING', 'ACTIVE', 'SUSPENDED', 'INACTIVE', 'DELETED'));
+
+-- Enabled features of each tenant
+CREATE TABLE IF NOT EXISTS tenant_features (
+    tenant_id UUID NOT NULL REFERENCES tenants(id) ON DELETE CASCADE,
+    feature_code VARCHAR(100) NOT NULL,
+    PRIMARY KEY (tenant_id, feature_code)
+);
@@ -0,0 +1,10 @@
+-- ========= src/main/resources/db/migration/V021__index_tenant_email_lower.sql =========
+-- Case-insensitive uniqueness of tenant primary emails
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+-- Emails are compared lowercased, both by the in-memory email filter and by the lookups behind it.
+-- The unique index makes those lookups index-only and stays the authority when a tenant created
+-- on another node has not reached this node's filter yet.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_tenants_primary_email_lower
+    ON tenants (lower(primary_email));
@@ -0,0 +1,16 @@
+-- ========= src/main/resources/db/migration/V023__insert_audit_permissions.sql =========
+-- Permission to read the audit log
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+INSERT INTO security.permissions (resource, action, description) VALUES
+    ('AUDIT', 'READ', 'View the audit log')
+ON CONFLICT (resource, action) DO NOTHING;
+
+-- SUPER_ADMIN holds every permission
+INSERT INTO security.role_permissions (role_id, permission_id)
+SELECT r.id, p.id
+FROM security.roles r
+         CROSS JOIN security.permissions p
+WHERE r.name = 'SUPER_ADMIN' AND r.is_system AND p.resource = 'AUDIT'
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,16 @@
+-- ========= src/main/resources/db/migration/V024__insert_audit_read_all_permission.sql =========
+-- Permission to read the audit log of every tenant
+-- Author: Xavier Nhagumbe
+-- Date: 2025-09-23
+
+INSERT INTO security.permissions (resource, action, description) VALUES
+    ('AUDIT', 'READ_ALL', 'View the audit log of every tenant')
+ON CONFLICT (resource, action) DO NOTHING;
+
+-- SUPER_ADMIN holds every permission
+INSERT INTO security.role_permissions (role_id, permission_id)
+SELECT r.id, p.id
+FROM security.roles r
+         CROSS JOIN security.permissions p
+WHERE r.name = 'SUPER_ADMIN' AND r.is_system AND p.resource = 'AUDIT' AND p.action = 'READ_ALL'
+ON CONFLICT DO NOTHING;
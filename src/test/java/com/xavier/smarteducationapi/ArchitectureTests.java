@@ -67,10 +67,13 @@ class ArchitectureTests {
                         "..application..",
                         "..infrastructure..",
                         "java..",
+                        "javax..",
                         "org.springframework..",
                         "lombok..",
                         "jakarta..",
-                        "org.slf4j.."
+                        "org.slf4j..",
+                        "io.micrometer..",
+                        "io.jsonwebtoken.."
                 );
 
         rule.check(importedClasses);
@@ -165,6 +168,7 @@ class ArchitectureTests {
                         "lombok..",
                         "jakarta..",
                         "org.slf4j..",
+                        "io.micrometer..",
                         "org.junit..",
                         "org.mockito.."
                 );
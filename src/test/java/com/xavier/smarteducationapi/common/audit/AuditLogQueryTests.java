@@ -0,0 +1,161 @@
+package com.xavier.smarteducationapi.common.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditLogCriteria;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogCursor;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogPage;
+import com.xavier.smarteducationapi.common.application.audit.AuditLogView;
+import com.xavier.smarteducationapi.common.application.exception.ValidationException;
+import com.xavier.smarteducationapi.common.infrastructure.audit.AuditLogPartitionManager;
+import com.xavier.smarteducationapi.common.infrastructure.audit.JdbcAuditLogQuery;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.MonthlyPartition;
+
+/**
+ * Unit tests for audit log pagination and partition retention.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Audit Log Query Tests")
+class AuditLogQueryTests {
+
+    private static final UUID TENANT_ID = UUID.fromString("4f1d7c52-8a9e-4b0c-9a57-2f3f0a8d1e11");
+
+    private JdbcTemplate jdbcTemplate;
+    private String sql;
+    private Object[] parameters;
+    private List<AuditLogView> rows;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        rows = new ArrayList<>();
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            sql = (String) arguments[0];
+            parameters = Arrays.copyOfRange(arguments, 2, arguments.length);
+            return rows;
+        });
+    }
+
+    private static AuditLogView entry(String createdAt) {
+        return new AuditLogView(UUID.randomUUID(), TENANT_ID, null, "Tenant", TENANT_ID.toString(), "UPDATE",
+                Map.of(), Map.of("status", "ACTIVE"), null, null, Instant.parse(createdAt));
+    }
+
+    @Test
+    @DisplayName("Should round-trip cursors and reject malformed ones")
+    void shouldRoundTripCursors() {
+        // Given
+        AuditLogCursor cursor = new AuditLogCursor(Instant.parse("2025-09-23T10:00:00.123456Z"), UUID.randomUUID());
+
+        // When
+        AuditLogCursor decoded = AuditLogCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+        assertThrows(ValidationException.class, () -> AuditLogCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("Should require an entity type when filtering by entity id")
+    void shouldRequireEntityTypeForEntityId() {
+        assertThrows(ValidationException.class, () -> new AuditLogCriteria(null, null, "42", null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should read one row beyond the limit and return a cursor to the last entry")
+    void shouldReturnCursorWhenMoreEntriesExist() {
+        // Given
+        rows.addAll(List.of(entry("2025-09-23T10:00:03Z"), entry("2025-09-23T10:00:02Z"), entry("2025-09-23T10:00:01Z")));
+        JdbcAuditLogQuery query = new JdbcAuditLogQuery(jdbcTemplate);
+
+        // When
+        AuditLogPage page = query.find(new AuditLogCriteria(TENANT_ID, null, null, null, null, null), null, 2);
+
+        // Then
+        assertEquals(2, page.entries().size());
+        assertEquals(3, parameters[parameters.length - 1]);
+        AuditLogCursor next = AuditLogCursor.decode(page.nextCursor());
+        assertEquals(rows.get(1).id(), next.id());
+        assertEquals(rows.get(1).createdAt(), next.createdAt());
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor with a keyset condition bounding the partitions")
+    void shouldUseKeysetCondition() {
+        // Given
+        rows.add(entry("2025-09-01T08:00:00Z"));
+        JdbcAuditLogQuery query = new JdbcAuditLogQuery(jdbcTemplate);
+        AuditLogCursor after = new AuditLogCursor(Instant.parse("2025-09-02T00:00:00Z"), UUID.randomUUID());
+        Instant from = Instant.parse("2025-08-01T00:00:00Z");
+
+        // When
+        AuditLogPage page = query.find(new AuditLogCriteria(TENANT_ID, "Tenant", TENANT_ID.toString(), null,
+                from, null), after, 50);
+
+        // Then
+        assertNull(page.nextCursor());
+        assertTrue(sql.contains("created_at >= ?"));
+        assertTrue(sql.contains("created_at <= ? AND (created_at, id) < (?, ?)"));
+        assertTrue(sql.contains("ORDER BY created_at DESC, id DESC"));
+        assertFalse(sql.contains("OFFSET"));
+        assertEquals(List.of(TENANT_ID, "Tenant", TENANT_ID.toString(), Timestamp.from(from),
+                Timestamp.from(after.createdAt()), Timestamp.from(after.createdAt()), after.id(), 51),
+                Arrays.asList(parameters));
+    }
+
+    @Test
+    @DisplayName("Should drop only the partitions older than the retention period")
+    void shouldDropExpiredPartitions() throws Exception {
+        // Given
+        AuditLogPartitionManager manager = new AuditLogPartitionManager(jdbcTemplate,
+                Clock.fixed(Instant.parse("2025-09-23T10:00:00Z"), ZoneOffset.UTC), 3, 12);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String name : List.of("audit_log_y2024m09", "audit_log_y2024m10", "audit_log_y2025m09")) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("relname")).thenReturn(name);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        // When
+        List<MonthlyPartition> dropped = manager.dropExpiredPartitions();
+
+        // Then
+        assertEquals(List.of("audit_log_y2024m09"), dropped.stream().map(MonthlyPartition::name).toList());
+        verify(jdbcTemplate).execute(eq("DROP TABLE IF EXISTS audit.audit_log_y2024m09"));
+    }
+}
@@ -0,0 +1,295 @@
+package com.xavier.smarteducationapi.common.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditRecord;
+import com.xavier.smarteducationapi.common.infrastructure.audit.AsyncAuditTrail;
+import com.xavier.smarteducationapi.common.infrastructure.audit.JdbcAuditLogWriter;
+
+/**
+ * Unit tests for the batched audit trail.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Audit Trail Tests")
+class AuditTrailTests {
+
+    private static final String TENANT_ID = "4f1d7c52-8a9e-4b0c-9a57-2f3f0a8d1e11";
+
+    private JdbcTemplate jdbcTemplate;
+    private List<Object[]> statements;
+    private List<Runnable> flushes;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        statements = new ArrayList<>();
+        flushes = new ArrayList<>();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] parameters = parameters(invocation);
+            statements.add(parameters);
+            return parameters.length / 10;
+        });
+    }
+
+    /**
+     * Statement parameters; Mockito expands the varargs into separate arguments
+     */
+    private static Object[] parameters(InvocationOnMock invocation) {
+        Object[] arguments = invocation.getArguments();
+        return Arrays.copyOfRange(arguments, 1, arguments.length);
+    }
+
+    private AsyncAuditTrail trail(int queueCapacity, int batchSize) {
+        return new AsyncAuditTrail(new JdbcAuditLogWriter(jdbcTemplate),
+                Clock.fixed(Instant.parse("2025-09-23T10:00:00Z"), ZoneOffset.UTC), flushes::add,
+                queueCapacity, batchSize, 0);
+    }
+
+    private static AuditRecord change(String entityId) {
+        return AuditRecord.diff(TENANT_ID, "Tenant", entityId, "UPDATE",
+                Map.of("status", "PENDING"), Map.of("status", "ACTIVE"));
+    }
+
+    @Nested
+    @DisplayName("Diffs")
+    class Diffs {
+
+        @Test
+        @DisplayName("Should keep only the fields that changed")
+        void shouldKeepChangedFields() {
+            // Given
+            Map<String, Object> before = new LinkedHashMap<>();
+            before.put("name", "Test School");
+            before.put("status", "PENDING");
+            before.put("taxId", "123");
+            Map<String, Object> after = new LinkedHashMap<>();
+            after.put("name", "Test School");
+            after.put("status", "ACTIVE");
+            after.put("taxId", null);
+            after.put("activatedAt", "2025-09-23T10:00:00Z");
+
+            // When
+            AuditRecord record = AuditRecord.diff(TENANT_ID, "Tenant", TENANT_ID, "ACTIVATE", before, after);
+
+            // Then
+            assertEquals(Map.of("status", "PENDING", "taxId", "123"), record.oldValues());
+            assertEquals(Map.of("status", "ACTIVE", "activatedAt", "2025-09-23T10:00:00Z"), record.newValues());
+        }
+
+        @Test
+        @DisplayName("Should ignore records without changes")
+        void shouldIgnoreUnchangedRecords() {
+            // Given
+            AsyncAuditTrail trail = trail(10, 10);
+
+            // When
+            trail.record(AuditRecord.diff(TENANT_ID, "Tenant", TENANT_ID, "UPDATE",
+                    Map.of("name", "Test School"), Map.of("name", "Test School")));
+
+            // Then
+            assertEquals(0, trail.getPendingEntries());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching")
+    class Batching {
+
+        @Test
+        @DisplayName("Should write a full batch in one multi-row statement off the caller thread")
+        void shouldWriteFullBatchAsynchronously() {
+            // Given
+            AsyncAuditTrail trail = trail(10, 3);
+
+            // When
+            trail.record(change("a"));
+            trail.record(change("b"));
+            trail.record(change("c"));
+
+            // Then nothing is written until the flusher runs
+            assertTrue(statements.isEmpty());
+            assertEquals(1, flushes.size());
+            flushes.get(0).run();
+            assertEquals(1, statements.size());
+            assertEquals(30, statements.get(0).length);
+            assertEquals(3, trail.getWrittenEntries());
+        }
+
+        @Test
+        @DisplayName("Should store the changed fields as JSON")
+        void shouldStoreChangedFieldsAsJson() {
+            // Given
+            AsyncAuditTrail trail = trail(10, 10);
+            trail.record(AuditRecord.diff(TENANT_ID, "Tenant", TENANT_ID, "CREATE",
+                    Map.of(), Map.of("status", "PENDING")));
+
+            // When
+            trail.flush();
+
+            // Then
+            Object[] row = statements.get(0);
+            assertEquals(UUID.fromString(TENANT_ID), row[0]);
+            assertNull(row[5]);
+            assertEquals("{\"status\":\"PENDING\"}", row[6]);
+        }
+
+        @Test
+        @DisplayName("Should write partial batches on the scheduled flush")
+        void shouldWritePartialBatchOnFlush() {
+            // Given
+            AsyncAuditTrail trail = trail(10, 3);
+            trail.record(change("a"));
+
+            // When
+            int written = trail.flush();
+
+            // Then
+            assertTrue(flushes.isEmpty());
+            assertEquals(1, written);
+            assertEquals(10, statements.get(0).length);
+        }
+
+        @Test
+        @DisplayName("Should retry a failed batch before newer entries")
+        void shouldRetryFailedBatch() {
+            // Given
+            AsyncAuditTrail trail = trail(10, 2);
+            when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                    .thenThrow(new DataAccessResourceFailureException("down"))
+                    .thenAnswer(invocation -> {
+                        statements.add(parameters(invocation));
+                        return 1;
+                    });
+            trail.record(change("a"));
+            trail.record(change("b"));
+            trail.record(change("c"));
+
+            // When
+            int first = trail.flush();
+            int second = trail.flush();
+
+            // Then
+            assertEquals(0, first);
+            assertEquals(3, second);
+            assertEquals("a", statements.get(0)[3]);
+            assertEquals("c", statements.get(1)[3]);
+        }
+
+        @Test
+        @DisplayName("Should drop only the entries the database refuses and write the rest")
+        void shouldIsolateRefusedEntries() {
+            // Given the database refuses every statement holding entry "c"
+            AsyncAuditTrail trail = trail(10, 5);
+            when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+                Object[] parameters = parameters(invocation);
+                for (int i = 3; i < parameters.length; i += 10) {
+                    if ("c".equals(parameters[i])) {
+                        throw new DataIntegrityViolationException("invalid input syntax for type json");
+                    }
+                }
+                statements.add(parameters);
+                return parameters.length / 10;
+            });
+            for (String entityId : List.of("a", "b", "c", "d", "e")) {
+                trail.record(change(entityId));
+            }
+
+            // When
+            int written = trail.flush();
+
+            // Then
+            assertEquals(4, written);
+            assertEquals(4, trail.getWrittenEntries());
+            assertEquals(1, trail.getRejectedEntries());
+            assertEquals(0, trail.getPendingEntries());
+            assertEquals(List.of("a", "b", "d", "e"), statements.stream()
+                    .flatMap(parameters -> IntStream.range(0, parameters.length / 10)
+                            .mapToObj(row -> (String) parameters[row * 10 + 3]))
+                    .toList());
+        }
+
+        @Test
+        @DisplayName("Should drop entries when the queue stays full")
+        void shouldDropWhenQueueFull() {
+            // Given
+            AsyncAuditTrail trail = trail(1, 10);
+
+            // When
+            trail.record(change("a"));
+            trail.record(change("b"));
+
+            // Then
+            assertEquals(1, trail.getPendingEntries());
+            assertEquals(1, trail.getDroppedEntries());
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle")
+    class Lifecycle {
+
+        @Test
+        @DisplayName("Should only queue changes once their transaction commits")
+        void shouldQueueAfterCommit() {
+            // Given
+            AsyncAuditTrail trail = trail(10, 10);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                trail.record(change("a"));
+
+                // Then
+                assertEquals(0, trail.getPendingEntries());
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                assertEquals(1, trail.getPendingEntries());
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Should drain the queue on shutdown")
+        void shouldDrainOnShutdown() {
+            // Given
+            AsyncAuditTrail trail = trail(10, 10);
+            trail.record(change("a"));
+            trail.record(change("b"));
+
+            // When
+            trail.shutdown();
+
+            // Then
+            assertEquals(0, trail.getPendingEntries());
+            assertEquals(2, trail.getWrittenEntries());
+        }
+    }
+}
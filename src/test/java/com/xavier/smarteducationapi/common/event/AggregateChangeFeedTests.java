@@ -0,0 +1,157 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.common.infrastructure.event.stream.JdbcAggregateChangeFeed;
+
+/**
+ * Unit tests for the aggregate change feed cursor.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Aggregate Change Feed Tests")
+class AggregateChangeFeedTests {
+
+    private JdbcTemplate jdbcTemplate;
+    private MutableClock clock;
+    private JdbcAggregateChangeFeed feed;
+
+    static class MutableClock extends Clock {
+        long millis = Instant.parse("2025-09-23T10:00:00Z").toEpochMilli();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    /**
+     * A stored event position: (position, aggregate type, aggregate id, settled)
+     */
+    record Row(long position, String type, String id, boolean settled) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        clock = new MutableClock();
+        feed = new JdbcAggregateChangeFeed(jdbcTemplate, clock, 5_000, 600);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stored(Row... rows) throws Exception {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(600L), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    RowMapper<Object> mapper = invocation.getArgument(1);
+                    long after = invocation.getArgument(3);
+                    List<Object> mapped = new ArrayList<>();
+                    for (Row row : rows) {
+                        if (row.position() > after) {
+                            ResultSet rs = mock(ResultSet.class);
+                            when(rs.getLong("position")).thenReturn(row.position());
+                            when(rs.getString("aggregate_type")).thenReturn(row.type());
+                            when(rs.getString("aggregate_id")).thenReturn(row.id());
+                            when(rs.getBoolean("settled")).thenReturn(row.settled());
+                            mapped.add(mapper.mapRow(rs, mapped.size()));
+                        }
+                    }
+                    return mapped;
+                });
+    }
+
+    @Test
+    @DisplayName("Should report each changed aggregate of the requested type once")
+    void shouldReportChangedAggregates() throws Exception {
+        stored(new Row(4, "Tenant", "t-1", false),
+                new Row(5, "User", "u-1", false),
+                new Row(6, "Tenant", "t-1", false),
+                new Row(7, "Tenant", "t-2", false));
+
+        AggregateChanges changes = feed.changesAfter("Tenant", 3, 100);
+
+        assertEquals(Set.of("t-1", "t-2"), changes.aggregateIds());
+        assertEquals(7, changes.position());
+        assertFalse(changes.hasMore());
+        assertFalse(changes.truncated());
+    }
+
+    @Test
+    @DisplayName("Should not move the cursor past a recent gap until it times out")
+    void shouldHoldCursorAtRecentGap() throws Exception {
+        stored(new Row(4, "Tenant", "t-1", false), new Row(6, "Tenant", "t-2", false));
+
+        AggregateChanges first = feed.changesAfter("Tenant", 3, 100);
+        assertEquals(Set.of("t-1"), first.aggregateIds());
+        assertEquals(4, first.position());
+
+        clock.millis += 5_000;
+        AggregateChanges later = feed.changesAfter("Tenant", 4, 100);
+        assertEquals(Set.of("t-2"), later.aggregateIds());
+        assertEquals(6, later.position());
+    }
+
+    @Test
+    @DisplayName("Should skip gaps before settled events at once")
+    void shouldSkipSettledGaps() throws Exception {
+        stored(new Row(4, "Tenant", "t-1", true), new Row(9, "Tenant", "t-2", true));
+
+        assertEquals(9, feed.changesAfter("Tenant", 3, 100).position());
+    }
+
+    @Test
+    @DisplayName("Should flag more changes when the scan hits its limit")
+    void shouldFlagMore() throws Exception {
+        stored(new Row(4, "Tenant", "t-1", false), new Row(5, "Tenant", "t-2", false));
+
+        AggregateChanges changes = feed.changesAfter("Tenant", 3, 2);
+
+        assertTrue(changes.hasMore());
+        assertEquals(5, changes.position());
+    }
+
+    @Test
+    @DisplayName("Should require a reset when the events after the cursor are gone")
+    void shouldRequireResetWhenTruncated() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(120L);
+
+        AggregateChanges changes = feed.changesAfter("Tenant", 3, 100);
+
+        assertTrue(changes.truncated());
+        assertEquals(119, changes.position());
+    }
+}
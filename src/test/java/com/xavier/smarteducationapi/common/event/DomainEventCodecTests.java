@@ -0,0 +1,283 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.BinaryEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.DomainEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.EventCodecRegistry;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.JsonEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventSerializationException;
+
+/**
+ * Unit tests for the domain event codecs.
+ *
+ * Verifies round trips for every field type, null handling,
+ * schema-version upcasting and corrupt payload detection.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Domain Event Codec Tests")
+class DomainEventCodecTests {
+
+    static class SampleEvent extends AbstractDomainEvent {
+        private final int version;
+        private final String label;
+        private final Integer count;
+        private final Long total;
+        private final Boolean flag;
+        private final Instant when;
+
+        SampleEvent(int version, String label, Integer count, Long total, Boolean flag, Instant when) {
+            super("aggregate-1", "Sample");
+            this.version = version;
+            this.label = label;
+            this.count = count;
+            this.total = total;
+            this.flag = flag;
+            this.when = when;
+        }
+
+        SampleEvent(EventMetadata metadata, int version, String label, Integer count, Long total, Boolean flag, Instant when) {
+            super(metadata);
+            this.version = version;
+            this.label = label;
+            this.count = count;
+            this.total = total;
+            this.flag = flag;
+            this.when = when;
+        }
+
+        @Override
+        public String topic() {
+            return "sample.happened";
+        }
+
+        @Override
+        public int getEventVersion() {
+            return version;
+        }
+    }
+
+    private static EventSerializer<SampleEvent> versionOneSerializer() {
+        return EventSerializer.of("sample.happened", SampleEvent.class,
+                (event, out) -> out
+                        .writeString("label", event.label)
+                        .writeInteger("count", event.count)
+                        .writeLong("total", event.total)
+                        .writeBoolean("flag", event.flag)
+                        .writeInstant("when", event.when),
+                (in, metadata, version) -> new SampleEvent(metadata, version,
+                        in.readString("label"),
+                        in.readInteger("count"),
+                        in.readLong("total"),
+                        in.readBoolean("flag"),
+                        in.readInstant("when")));
+    }
+
+    /**
+     * Version 2 drops the count field and derives total from it for version 1 payloads.
+     */
+    private static EventSerializer<SampleEvent> versionTwoSerializer() {
+        return EventSerializer.of("sample.happened", SampleEvent.class,
+                (event, out) -> out
+                        .writeString("label", event.label)
+                        .writeLong("total", event.total)
+                        .writeBoolean("flag", event.flag)
+                        .writeInstant("when", event.when),
+                (in, metadata, version) -> {
+                    String label = in.readString("label");
+                    Long total;
+                    if (version < 2) {
+                        Integer count = in.readInteger("count");
+                        in.readLong("total");
+                        total = count != null ? count.longValue() : null;
+                    } else {
+                        total = in.readLong("total");
+                    }
+                    return new SampleEvent(metadata, 2, label, null, total, in.readBoolean("flag"), in.readInstant("when"));
+                });
+    }
+
+    private static void assertSameEvent(SampleEvent expected, DomainEvent actual) {
+        SampleEvent decoded = assertInstanceOf(SampleEvent.class, actual);
+        assertEquals(expected.getEventId(), decoded.getEventId());
+        assertEquals(expected.occurredOn(), decoded.occurredOn());
+        assertEquals(expected.getAggregateId(), decoded.getAggregateId());
+        assertEquals(expected.getAggregateType(), decoded.getAggregateType());
+        assertEquals(expected.getEventVersion(), decoded.getEventVersion());
+        assertEquals(expected.label, decoded.label);
+        assertEquals(expected.count, decoded.count);
+        assertEquals(expected.total, decoded.total);
+        assertEquals(expected.flag, decoded.flag);
+        assertEquals(expected.when, decoded.when);
+    }
+
+    private static List<SampleEvent> samples() {
+        return List.of(
+                new SampleEvent(1, "Escola Primária Maputo", 42, 1_234_567_890_123L, true, Instant.parse("2025-09-21T10:15:30.123456789Z")),
+                new SampleEvent(1, "", Integer.MIN_VALUE, Long.MIN_VALUE, false, Instant.parse("1969-12-31T23:59:59Z")),
+                new SampleEvent(1, null, null, null, null, null));
+    }
+
+    @Nested
+    @DisplayName("Round trips")
+    class RoundTripTests {
+
+        private final EventCodecRegistry registry = new EventCodecRegistry(List.of(versionOneSerializer()));
+
+        @Test
+        @DisplayName("Binary codec should restore every field and the event identity")
+        void binaryCodecShouldRoundTrip() {
+            DomainEventCodec codec = new BinaryEventCodec(registry);
+
+            for (SampleEvent event : samples()) {
+                assertSameEvent(event, codec.decode(codec.encode(event)));
+            }
+        }
+
+        @Test
+        @DisplayName("Binary codec should decode from an offset buffer slice")
+        void binaryCodecShouldDecodeFromBufferSlice() {
+            DomainEventCodec codec = new BinaryEventCodec(registry);
+            SampleEvent event = samples().get(0);
+            byte[] encoded = codec.encode(event);
+
+            byte[] framed = new byte[encoded.length + 8];
+            System.arraycopy(encoded, 0, framed, 4, encoded.length);
+            ByteBuffer slice = ByteBuffer.wrap(framed, 4, encoded.length).slice();
+
+            assertSameEvent(event, codec.decode(slice));
+        }
+
+        @Test
+        @DisplayName("JSON codec should restore every field and the event identity")
+        void jsonCodecShouldRoundTrip() {
+            JsonEventCodec codec = new JsonEventCodec(registry);
+
+            for (SampleEvent event : samples()) {
+                assertSameEvent(event, codec.decode(codec.encode(event)));
+            }
+        }
+
+        @Test
+        @DisplayName("JSON codec should produce a readable envelope")
+        void jsonCodecShouldProduceReadableEnvelope() {
+            JsonEventCodec codec = new JsonEventCodec(registry);
+
+            String json = codec.encodeToString(samples().get(0));
+
+            assertTrue(json.contains("\"type\":\"sample.happened\""));
+            assertTrue(json.contains("\"label\":\"Escola Primária Maputo\""));
+        }
+
+        @Test
+        @DisplayName("Binary payloads should be smaller than JSON payloads")
+        void binaryPayloadShouldBeSmallerThanJson() {
+            SampleEvent event = samples().get(0);
+
+            int binary = new BinaryEventCodec(registry).encode(event).length;
+            int json = new JsonEventCodec(registry).encode(event).length;
+
+            assertTrue(binary * 2 < json, "binary=" + binary + " json=" + json);
+        }
+    }
+
+    @Nested
+    @DisplayName("Schema versions")
+    class UpcastingTests {
+
+        @Test
+        @DisplayName("Should upcast version 1 binary payloads with a version 2 serializer")
+        void shouldUpcastBinaryPayloads() {
+            SampleEvent original = samples().get(0);
+            byte[] stored = new BinaryEventCodec(new EventCodecRegistry(List.of(versionOneSerializer()))).encode(original);
+
+            DomainEvent upcast = new BinaryEventCodec(new EventCodecRegistry(List.of(versionTwoSerializer()))).decode(stored);
+
+            SampleEvent decoded = assertInstanceOf(SampleEvent.class, upcast);
+            assertEquals(2, decoded.getEventVersion());
+            assertEquals(original.getEventId(), decoded.getEventId());
+            assertEquals(42L, decoded.total);
+            assertNull(decoded.count);
+            assertEquals(original.flag, decoded.flag);
+            assertEquals(original.when, decoded.when);
+        }
+
+        @Test
+        @DisplayName("Should upcast version 1 JSON payloads with a version 2 serializer")
+        void shouldUpcastJsonPayloads() {
+            SampleEvent original = samples().get(0);
+            byte[] stored = new JsonEventCodec(new EventCodecRegistry(List.of(versionOneSerializer()))).encode(original);
+
+            DomainEvent upcast = new JsonEventCodec(new EventCodecRegistry(List.of(versionTwoSerializer()))).decode(stored);
+
+            SampleEvent decoded = assertInstanceOf(SampleEvent.class, upcast);
+            assertEquals(2, decoded.getEventVersion());
+            assertEquals(42L, decoded.total);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class FailureTests {
+
+        private final EventCodecRegistry registry = new EventCodecRegistry(List.of(versionOneSerializer()));
+
+        @Test
+        @DisplayName("Should reject events without a registered serializer")
+        void shouldRejectUnknownEvents() {
+            DomainEvent unknown = new AbstractDomainEvent("aggregate-1", "Other") {
+                @Override
+                public String topic() {
+                    return "other.happened";
+                }
+            };
+
+            assertThrows(EventSerializationException.class, () -> new BinaryEventCodec(registry).encode(unknown));
+        }
+
+        @Test
+        @DisplayName("Should reject truncated binary payloads")
+        void shouldRejectTruncatedPayloads() {
+            BinaryEventCodec codec = new BinaryEventCodec(registry);
+            byte[] encoded = codec.encode(samples().get(0));
+
+            assertThrows(EventSerializationException.class,
+                    () -> codec.decode(Arrays.copyOf(encoded, encoded.length / 2)));
+        }
+
+        @Test
+        @DisplayName("Should reject payloads that are not binary events")
+        void shouldRejectForeignPayloads() {
+            BinaryEventCodec codec = new BinaryEventCodec(registry);
+
+            assertThrows(EventSerializationException.class,
+                    () -> codec.decode("{\"type\":\"sample.happened\"}".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Test
+        @DisplayName("Should reject duplicate type names")
+        void shouldRejectDuplicateTypeNames() {
+            assertThrows(IllegalStateException.class,
+                    () -> new EventCodecRegistry(List.of(versionOneSerializer(), versionTwoSerializer())));
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.xavier.smarteducationapi.common.application.event.EventStreamFilter;
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.DomainEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.stream.DomainEventStream;
+import com.xavier.smarteducationapi.common.infrastructure.event.stream.FeedEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.stream.JdbcEventFeed;
+
+/**
+ * Unit tests for the Server-Sent Events stream of stored domain events.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Domain Event Stream Tests")
+class DomainEventStreamTests {
+
+    private static final EventStreamFilter ALL_TENANTS = new EventStreamFilter("Tenant", null, Set.of());
+
+    private JdbcEventFeed feed;
+    private DomainEventCodec codec;
+    private MutableClock clock;
+    private List<RecordingEmitter> emitters;
+
+    static class MutableClock extends Clock {
+        long millis = Instant.parse("2025-09-23T10:00:00Z").toEpochMilli();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    static class TenantChangedEvent extends AbstractDomainEvent {
+        private final String topic;
+
+        TenantChangedEvent(String tenantId, String topic) {
+            super(tenantId, "Tenant");
+            this.topic = topic;
+        }
+
+        @Override
+        public String topic() {
+            return topic;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        feed = mock(JdbcEventFeed.class);
+        codec = mock(DomainEventCodec.class);
+        when(codec.encode(any())).thenAnswer(invocation -> ("{\"topic\":\""
+                + invocation.<TenantChangedEvent>getArgument(0).topic() + "\"}").getBytes(StandardCharsets.UTF_8));
+        clock = new MutableClock();
+        emitters = new ArrayList<>();
+        when(feed.currentPosition()).thenReturn(10L);
+    }
+
+    private DomainEventStream stream(Executor senders, int bufferSize) {
+        return new DomainEventStream(feed, codec, clock, senders, bufferSize, 3, 100, 5_000, 60_000) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private DomainEventStream stream() {
+        return stream(Runnable::run, 16);
+    }
+
+    private static FeedEvent stored(long position, String tenantId, String topic) {
+        TenantChangedEvent event = new TenantChangedEvent(tenantId, topic);
+        return new FeedEvent(position, event.getEventId(), topic, "Tenant", tenantId, event);
+    }
+
+    private static boolean mentions(List<String> sent, String text) {
+        return sent.stream().anyMatch(message -> message.contains(text));
+    }
+
+    @Nested
+    @DisplayName("Fan-out Tests")
+    class FanOutTests {
+
+        @Test
+        @DisplayName("Should deliver matching events and render each event once")
+        void shouldFanOut() {
+            DomainEventStream stream = stream();
+            stream.subscribe(ALL_TENANTS, null);
+            stream.subscribe(new EventStreamFilter("Tenant", "tenant-1", Set.of("tenant.feature.*")), null);
+            stream.subscribe(new EventStreamFilter("Tenant", "tenant-2", Set.of()), null);
+            when(feed.readAfter(10, Long.MAX_VALUE, 100)).thenReturn(List.of(
+                    stored(11, "tenant-1", "tenant.feature.enabled"),
+                    stored(12, "tenant-1", "tenant.suspended")));
+
+            // When
+            assertEquals(2, stream.poll());
+
+            // Then
+            assertEquals(2, emitters.get(0).sent.size());
+            assertEquals(1, emitters.get(1).sent.size());
+            assertTrue(mentions(emitters.get(1).sent, "tenant.feature.enabled"));
+            assertTrue(emitters.get(2).sent.isEmpty());
+            verify(codec, times(2)).encode(any());
+            assertEquals(3, stream.getDeliveredEvents());
+        }
+
+        @Test
+        @DisplayName("Should not read the store while nobody is subscribed")
+        void shouldStayIdleWithoutSubscribers() {
+            assertEquals(0, stream().poll());
+
+            verify(feed, never()).readAfter(anyLong(), anyLong(), anyInt());
+            verify(feed, never()).currentPosition();
+        }
+
+        @Test
+        @DisplayName("Should wait for a missing position before skipping it")
+        void shouldWaitForGaps() {
+            DomainEventStream stream = stream();
+            stream.subscribe(ALL_TENANTS, null);
+            when(feed.readAfter(10, Long.MAX_VALUE, 100)).thenReturn(List.of(
+                    stored(11, "tenant-1", "tenant.updated"),
+                    stored(13, "tenant-1", "tenant.suspended")));
+            when(feed.readAfter(11, Long.MAX_VALUE, 100)).thenReturn(List.of(
+                    stored(13, "tenant-1", "tenant.suspended")));
+
+            // Given position 12 is not visible yet
+            assertEquals(1, stream.poll());
+            clock.millis += 1_000;
+            assertEquals(0, stream.poll());
+
+            // When it stays missing past the timeout
+            clock.millis += 5_000;
+
+            // Then
+            assertEquals(1, stream.poll());
+            assertEquals(2, emitters.get(0).sent.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure Tests")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("Should drop a subscriber whose buffer is full")
+        void shouldDropSlowSubscriber() {
+            List<Runnable> pendingSends = new ArrayList<>();
+            DomainEventStream stream = stream(pendingSends::add, 2);
+            stream.subscribe(ALL_TENANTS, null);
+            when(feed.readAfter(10, Long.MAX_VALUE, 100)).thenReturn(List.of(
+                    stored(11, "tenant-1", "tenant.updated"),
+                    stored(12, "tenant-1", "tenant.updated"),
+                    stored(13, "tenant-1", "tenant.updated")));
+
+            // When the sender never gets to run
+            stream.poll();
+
+            // Then
+            assertEquals(1, stream.getDroppedSubscribers());
+            assertEquals(0, stream.getSubscriberCount());
+            pendingSends.forEach(Runnable::run);
+            assertTrue(emitters.get(0).sent.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Resume Tests")
+    class ResumeTests {
+
+        @Test
+        @DisplayName("Should replay the events stored after Last-Event-ID before live ones")
+        void shouldReplayMissedEvents() {
+            UUID lastSeen = UUID.randomUUID();
+            when(feed.positionOf(lastSeen)).thenReturn(8L);
+            when(feed.readAfter(8, 10, 4)).thenReturn(List.of(
+                    stored(9, "tenant-1", "tenant.updated"),
+                    stored(10, "tenant-2", "tenant.activated")));
+            DomainEventStream stream = stream();
+
+            stream.subscribe(ALL_TENANTS, lastSeen.toString());
+            when(feed.readAfter(10, Long.MAX_VALUE, 100)).thenReturn(List.of(
+                    stored(11, "tenant-1", "tenant.suspended")));
+            stream.poll();
+
+            List<String> sent = emitters.get(0).sent;
+            assertEquals(3, sent.size());
+            assertTrue(sent.get(0).contains("tenant.updated"));
+            assertTrue(sent.get(1).contains("tenant.activated"));
+            assertTrue(sent.get(2).contains("tenant.suspended"));
+        }
+
+        @Test
+        @DisplayName("Should send a reset when the last event is unknown")
+        void shouldResetUnknownEvent() {
+            UUID unknown = UUID.randomUUID();
+            when(feed.positionOf(unknown)).thenReturn(null);
+
+            stream().subscribe(ALL_TENANTS, unknown.toString());
+
+            assertTrue(mentions(emitters.get(0).sent, "event:" + DomainEventStream.RESET_EVENT));
+        }
+
+        @Test
+        @DisplayName("Should send a reset when more events were missed than can be replayed")
+        void shouldResetWhenTooFarBehind() {
+            UUID lastSeen = UUID.randomUUID();
+            when(feed.positionOf(lastSeen)).thenReturn(2L);
+            when(feed.readAfter(eq(2L), eq(10L), eq(4))).thenReturn(List.of(
+                    stored(3, "tenant-1", "tenant.updated"),
+                    stored(4, "tenant-1", "tenant.updated"),
+                    stored(5, "tenant-1", "tenant.updated"),
+                    stored(6, "tenant-1", "tenant.updated")));
+
+            stream().subscribe(ALL_TENANTS, lastSeen.toString());
+
+            List<String> sent = emitters.get(0).sent;
+            assertEquals(1, sent.size());
+            assertTrue(sent.get(0).contains("event:" + DomainEventStream.RESET_EVENT));
+        }
+    }
+
+    @Nested
+    @DisplayName("Long-polling Tests")
+    class LongPollingTests {
+
+        @Test
+        @DisplayName("Should complete a waiter when a matching event is stored")
+        void shouldWakeWaiter() throws Exception {
+            DomainEventStream stream = stream();
+            var arrived = stream.awaitEvent(ALL_TENANTS, 20, 60_000);
+            when(feed.readAfter(20, Long.MAX_VALUE, 100)).thenReturn(List.of(stored(21, "tenant-1", "tenant.updated")));
+
+            assertFalse(arrived.isDone());
+            stream.poll();
+
+            assertTrue(arrived.get());
+            verify(feed, never()).currentPosition();
+        }
+
+        @Test
+        @DisplayName("Should complete at once when the stream is already past the position")
+        void shouldNotWaitWhenBehind() throws Exception {
+            DomainEventStream stream = stream();
+            stream.subscribe(ALL_TENANTS, null);
+
+            assertTrue(stream.awaitEvent(ALL_TENANTS, 5, 60_000).get());
+        }
+
+        @Test
+        @DisplayName("Should report false when the wait elapses")
+        void shouldTimeOut() throws Exception {
+            assertFalse(stream().awaitEvent(ALL_TENANTS, 20, 10).get());
+        }
+    }
+}
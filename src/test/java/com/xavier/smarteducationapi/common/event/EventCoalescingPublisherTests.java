@@ -0,0 +1,198 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.CoalescibleEvent;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+import com.xavier.smarteducationapi.common.domain.event.EventStore;
+import com.xavier.smarteducationapi.common.infrastructure.event.SpringDomainEventPublisher;
+import com.xavier.smarteducationapi.common.infrastructure.event.TopicEventRouter;
+import com.xavier.smarteducationapi.common.infrastructure.event.integration.IntegrationEventOutbox;
+
+/**
+ * Unit tests for transaction-scoped event coalescing in the publisher.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Event Coalescing Publisher Tests")
+class EventCoalescingPublisherTests {
+
+    private List<DomainEvent> stored;
+    private List<Object> published;
+
+    static class CounterChangedEvent extends AbstractDomainEvent implements CoalescibleEvent {
+        final int from;
+        final int to;
+
+        CounterChangedEvent(String aggregateId, int from, int to) {
+            super(aggregateId, "Counter");
+            this.from = from;
+            this.to = to;
+        }
+
+        CounterChangedEvent(EventMetadata metadata, int from, int to) {
+            super(metadata);
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String topic() {
+            return "counter.changed";
+        }
+
+        @Override
+        public Optional<DomainEvent> coalesceWith(DomainEvent later) {
+            if (later instanceof CounterChangedEvent next) {
+                return Optional.of(new CounterChangedEvent(EventMetadata.of(next), from, next.to));
+            }
+            return Optional.empty();
+        }
+    }
+
+    static class CounterResetEvent extends AbstractDomainEvent {
+        CounterResetEvent(String aggregateId) {
+            super(aggregateId, "Counter");
+        }
+
+        @Override
+        public String topic() {
+            return "counter.reset";
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        stored = new ArrayList<>();
+        published = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SpringDomainEventPublisher publisher(boolean coalescing) {
+        EventStore store = mock(EventStore.class);
+        doAnswer(invocation -> stored.add(invocation.getArgument(0))).when(store).store(any());
+        ObjectProvider<EventStore> storeProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<EventStore>>getArgument(0).accept(store);
+            return null;
+        }).when(storeProvider).ifAvailable(any());
+        ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        doAnswer(invocation -> published.add(invocation.getArgument(0)))
+                .when(applicationEventPublisher).publishEvent(any(Object.class));
+        return new SpringDomainEventPublisher(applicationEventPublisher, new TopicEventRouter(), storeProvider,
+                mock(ObjectProvider.class), coalescing);
+    }
+
+    private static void completeTransaction(boolean commit) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (commit) {
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(commit
+                ? TransactionSynchronization.STATUS_COMMITTED
+                : TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Nested
+    @DisplayName("Inside a Transaction")
+    class TransactionTests {
+
+        @Test
+        @DisplayName("Should hold events until commit and store only the net change")
+        void shouldCoalesceAcrossSaves() {
+            SpringDomainEventPublisher publisher = publisher(true);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // Given two saves of the same aggregate in one transaction
+            CounterChangedEvent first = new CounterChangedEvent("counter-1", 0, 1);
+            CounterResetEvent reset = new CounterResetEvent("counter-1");
+            CounterChangedEvent second = new CounterChangedEvent("counter-1", 1, 5);
+            publisher.publishAll(List.of(first, reset));
+            publisher.publish(second);
+            assertTrue(stored.isEmpty());
+
+            // When the transaction commits
+            completeTransaction(true);
+
+            // Then
+            assertEquals(2, stored.size());
+            assertEquals(reset, stored.get(0));
+            CounterChangedEvent merged = (CounterChangedEvent) stored.get(1);
+            assertEquals(second.getEventId(), merged.getEventId());
+            assertEquals(0, merged.from);
+            assertEquals(5, merged.to);
+            assertEquals(stored, published);
+        }
+
+        @Test
+        @DisplayName("Should discard held events on rollback")
+        void shouldDiscardOnRollback() {
+            SpringDomainEventPublisher publisher = publisher(true);
+            TransactionSynchronizationManager.initSynchronization();
+            publisher.publish(new CounterChangedEvent("counter-1", 0, 1));
+
+            completeTransaction(false);
+
+            assertTrue(stored.isEmpty());
+            assertTrue(published.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Without a Transaction")
+    class NonTransactionalTests {
+
+        @Test
+        @DisplayName("Should coalesce each batch on its own")
+        void shouldCoalesceBatch() {
+            publisher(true).publishAll(List.of(
+                    new CounterChangedEvent("counter-1", 0, 1),
+                    new CounterChangedEvent("counter-2", 0, 1),
+                    new CounterChangedEvent("counter-1", 1, 2)));
+
+            assertEquals(2, stored.size());
+        }
+
+        @Test
+        @DisplayName("Should publish every event when coalescing is disabled")
+        void shouldPublishEverythingWhenDisabled() {
+            SpringDomainEventPublisher publisher = publisher(false);
+            TransactionSynchronizationManager.initSynchronization();
+
+            publisher.publishAll(List.of(
+                    new CounterChangedEvent("counter-1", 0, 1),
+                    new CounterChangedEvent("counter-1", 1, 2)));
+
+            assertEquals(2, stored.size());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.xavier.smarteducationapi.common.infrastructure.event.dedup.EventDeduplicator;
+import com.xavier.smarteducationapi.common.infrastructure.event.dedup.EventIdBloomFilter;
+import com.xavier.smarteducationapi.common.infrastructure.event.dedup.JdbcProcessedEventStore;
+import com.xavier.smarteducationapi.common.infrastructure.event.dedup.ProcessedEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.dedup.RecentEventWindow;
+
+/**
+ * Unit tests for consumer-side event deduplication.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Event Deduplicator Tests")
+class EventDeduplicatorTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 23);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-09-23T10:00:00Z"), ZoneOffset.UTC);
+
+    private JdbcProcessedEventStore store;
+    private EventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(JdbcProcessedEventStore.class);
+        deduplicator = new EventDeduplicator(store, CLOCK, 1_000, 10_000, 0.01, 7, 2, 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void storeContains(List<ProcessedEvent> events) {
+        doAnswer(invocation -> {
+            events.forEach(invocation.<Consumer<ProcessedEvent>>getArgument(1));
+            return null;
+        }).when(store).forEachSince(eq(TODAY.minusDays(7)), any(Consumer.class));
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should answer recent duplicates from memory")
+        void shouldAnswerRecentDuplicatesFromMemory() {
+            UUID eventId = UUID.randomUUID();
+            deduplicator.markProcessed("academic:Handler", eventId);
+
+            assertTrue(deduplicator.isDuplicate("academic:Handler", eventId));
+            verify(store, never()).exists(anyString(), any(UUID.class), any(LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("Should keep consumers apart")
+        void shouldKeepConsumersApart() {
+            UUID eventId = UUID.randomUUID();
+            deduplicator.markProcessed("academic:Handler", eventId);
+            storeContains(List.of());
+            deduplicator.rebuildBloomFilter();
+
+            assertFalse(deduplicator.isDuplicate("billing:Handler", eventId));
+        }
+
+        @Test
+        @DisplayName("Should skip the database for events the bloom filter has never seen")
+        void shouldSkipDatabaseForUnseenEvents() {
+            storeContains(List.of(new ProcessedEvent("academic:Handler", UUID.randomUUID())));
+            deduplicator.rebuildBloomFilter();
+
+            for (int i = 0; i < 100; i++) {
+                assertFalse(deduplicator.isDuplicate("academic:Handler", UUID.randomUUID()));
+            }
+            verify(store, never()).exists(anyString(), any(UUID.class), any(LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("Should confirm possible matches against the database")
+        void shouldConfirmBloomMatchesInDatabase() {
+            UUID persisted = UUID.randomUUID();
+            storeContains(List.of(new ProcessedEvent("academic:Handler", persisted)));
+            when(store.exists("academic:Handler", persisted, TODAY.minusDays(7))).thenReturn(true);
+            deduplicator.rebuildBloomFilter();
+
+            assertTrue(deduplicator.isDuplicate("academic:Handler", persisted));
+            assertTrue(deduplicator.isDuplicate("academic:Handler", persisted));
+            // The second lookup is served by the window
+            verify(store, times(1)).exists("academic:Handler", persisted, TODAY.minusDays(7));
+        }
+
+        @Test
+        @DisplayName("Should check redeliveries against the database despite a bloom filter miss")
+        void shouldQueryDatabaseForRedeliveries() {
+            // Given another node handled the event after this node loaded its bloom filter
+            UUID eventId = UUID.randomUUID();
+            storeContains(List.of());
+            deduplicator.rebuildBloomFilter();
+            when(store.exists("academic:Handler", eventId, TODAY.minusDays(7))).thenReturn(true);
+
+            assertFalse(deduplicator.isDuplicate("academic:Handler", eventId));
+            assertTrue(deduplicator.isDuplicate("academic:Handler", eventId, true));
+        }
+
+        @Test
+        @DisplayName("Should query the database until the bloom filter is loaded")
+        void shouldQueryDatabaseBeforeLoad() {
+            UUID eventId = UUID.randomUUID();
+
+            assertFalse(deduplicator.isBloomFilterLoaded());
+            assertFalse(deduplicator.isDuplicate("academic:Handler", eventId));
+            verify(store).exists("academic:Handler", eventId, TODAY.minusDays(7));
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("Should write processed events in batches")
+        void shouldWriteInBatches() {
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                ids.add(UUID.randomUUID());
+                deduplicator.markProcessed("academic:Handler", ids.get(i));
+            }
+
+            // Two full batches were written as they filled up
+            verify(store, times(2)).recordAll(anyList(), eq(TODAY));
+            assertEquals(1, deduplicator.getPendingCount());
+
+            assertEquals(1, deduplicator.flush());
+            assertEquals(0, deduplicator.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("Should keep pending events when a flush fails")
+        void shouldRetryFailedFlush() {
+            deduplicator.flush();
+            doThrow(new DataAccessResourceFailureException("down")).when(store).recordAll(anyList(), eq(TODAY));
+            deduplicator.markProcessed("academic:Handler", UUID.randomUUID());
+            deduplicator.markProcessed("academic:Handler", UUID.randomUUID());
+
+            assertEquals(0, deduplicator.flush());
+            assertEquals(2, deduplicator.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("Should create upcoming partitions and drop expired ones")
+        void shouldMaintainPartitions() {
+            storeContains(List.of());
+
+            deduplicator.maintain();
+
+            verify(store).createPartitions(TODAY, TODAY.plusDays(2));
+            verify(store).dropPartitionsBefore(TODAY.minusDays(7));
+            assertTrue(deduplicator.isBloomFilterLoaded());
+        }
+    }
+
+    @Nested
+    @DisplayName("Structure Tests")
+    class StructureTests {
+
+        @Test
+        @DisplayName("Should stay close to the configured false positive rate")
+        void shouldBoundFalsePositives() {
+            EventIdBloomFilter filter = new EventIdBloomFilter(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                filter.put("academic:Handler", UUID.randomUUID());
+            }
+
+            int falsePositives = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (filter.mightContain("academic:Handler", UUID.randomUUID())) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        }
+
+        @Test
+        @DisplayName("Should evict the least recently used events")
+        void shouldEvictLeastRecentlyUsed() {
+            RecentEventWindow window = new RecentEventWindow(1_600);
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                ids.add(UUID.randomUUID());
+                window.add("academic:Handler", ids.get(i));
+            }
+
+            assertTrue(window.size() <= 1_600);
+            assertTrue(window.contains("academic:Handler", ids.get(ids.size() - 1)));
+            assertFalse(window.contains("academic:Handler", ids.get(0)));
+        }
+    }
+}
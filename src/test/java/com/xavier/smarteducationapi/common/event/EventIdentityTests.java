@@ -0,0 +1,215 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventIdentity;
+import com.xavier.smarteducationapi.common.domain.event.EventIdentityProvider;
+import com.xavier.smarteducationapi.common.domain.event.MonotonicEventIdentityProvider;
+
+/**
+ * Unit tests for event identity generation.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Event Identity Tests")
+class EventIdentityTests {
+
+    private static final long NOW = Instant.parse("2025-09-23T10:00:00Z").toEpochMilli();
+
+    private final EventIdentityProvider original = EventIdentity.provider();
+
+    static class PingEvent extends AbstractDomainEvent {
+        PingEvent() {
+            super("ping-1", "Ping");
+        }
+
+        @Override
+        public String topic() {
+            return "ping";
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        EventIdentity.use(original);
+    }
+
+    private static long millisOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    @Nested
+    @DisplayName("Monotonic Provider Tests")
+    class MonotonicTests {
+
+        @Test
+        @DisplayName("Should generate time-ordered version 7 identifiers")
+        void shouldGenerateVersion7Identifiers() {
+            MonotonicEventIdentityProvider provider = new MonotonicEventIdentityProvider(() -> NOW);
+
+            UUID id = provider.nextEventId();
+
+            assertEquals(7, id.version());
+            assertEquals(2, id.variant());
+            assertEquals(NOW, millisOf(id));
+            assertEquals(Instant.ofEpochMilli(NOW), provider.now());
+        }
+
+        @Test
+        @DisplayName("Should keep identifiers of one thread strictly increasing within a millisecond")
+        void shouldIncreaseWithinMillisecond() {
+            MonotonicEventIdentityProvider provider = new MonotonicEventIdentityProvider(() -> NOW);
+
+            // Given more identifiers than the counter holds in one millisecond
+            UUID previous = provider.nextEventId();
+            for (int i = 0; i < 10_000; i++) {
+                UUID next = provider.nextEventId();
+                assertTrue(next.compareTo(previous) > 0);
+                previous = next;
+            }
+
+            // Then the overflow borrowed the following milliseconds
+            assertEquals(NOW + 2, millisOf(previous));
+        }
+
+        @Test
+        @DisplayName("Should not move backwards with the wall clock")
+        void shouldNotMoveBackwards() {
+            AtomicLong wallClock = new AtomicLong(NOW);
+            MonotonicEventIdentityProvider provider = new MonotonicEventIdentityProvider(wallClock::get);
+            UUID before = provider.nextEventId();
+            Instant occurredBefore = provider.now();
+
+            // When the wall clock is set back
+            wallClock.set(NOW - 5_000);
+
+            // Then
+            assertTrue(provider.nextEventId().compareTo(before) > 0);
+            assertEquals(occurredBefore, provider.now());
+            wallClock.set(NOW + 1);
+            assertEquals(Instant.ofEpochMilli(NOW + 1), provider.now());
+        }
+
+        @Test
+        @DisplayName("Should reuse the cached instant within a tick")
+        void shouldCacheInstant() {
+            MonotonicEventIdentityProvider provider = new MonotonicEventIdentityProvider(() -> NOW);
+
+            assertSame(provider.now(), provider.now());
+        }
+
+        @Test
+        @DisplayName("Should follow the system clock through the coarse clock timer")
+        void shouldFollowSystemClock() throws InterruptedException {
+            MonotonicEventIdentityProvider provider = new MonotonicEventIdentityProvider();
+            Instant first = provider.now();
+
+            Thread.sleep(50);
+
+            assertTrue(provider.now().isAfter(first));
+            assertTrue(Math.abs(provider.now().toEpochMilli() - System.currentTimeMillis()) < 1_000);
+        }
+
+        @Test
+        @DisplayName("Should generate unique, per-thread ordered identifiers across threads")
+        void shouldStayUniqueAcrossThreads() throws Exception {
+            MonotonicEventIdentityProvider provider = new MonotonicEventIdentityProvider();
+            int threads = 8;
+            int perThread = 20_000;
+            Set<UUID> all = ConcurrentHashMap.newKeySet();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        UUID previous = provider.nextEventId();
+                        Instant previousInstant = provider.now();
+                        boolean ordered = all.add(previous);
+                        for (int i = 1; i < perThread; i++) {
+                            UUID next = provider.nextEventId();
+                            Instant instant = provider.now();
+                            ordered &= next.compareTo(previous) > 0 && !instant.isBefore(previousInstant);
+                            all.add(next);
+                            previous = next;
+                            previousInstant = instant;
+                        }
+                        return ordered;
+                    }));
+                }
+                start.countDown();
+                for (Future<Boolean> result : results) {
+                    assertTrue(result.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(threads * perThread, all.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Provider Selection Tests")
+    class SelectionTests {
+
+        @Test
+        @DisplayName("Should create events with the configured provider")
+        void shouldUseConfiguredProvider() {
+            UUID id = UUID.randomUUID();
+            Instant occurredOn = Instant.ofEpochMilli(NOW);
+            EventIdentity.use(new EventIdentityProvider() {
+                @Override
+                public UUID nextEventId() {
+                    return id;
+                }
+
+                @Override
+                public Instant now() {
+                    return occurredOn;
+                }
+            });
+
+            PingEvent event = new PingEvent();
+
+            assertEquals(id, event.getEventId());
+            assertEquals(occurredOn, event.occurredOn());
+        }
+
+        @Test
+        @DisplayName("Should fall back to random identifiers")
+        void shouldSupportRandomProvider() {
+            EventIdentity.use(EventIdentityProvider.random());
+
+            Set<UUID> ids = new HashSet<>();
+            for (int i = 0; i < 100; i++) {
+                PingEvent event = new PingEvent();
+                assertEquals(4, event.getEventId().version());
+                ids.add(event.getEventId());
+            }
+            assertEquals(100, ids.size());
+        }
+    }
+}
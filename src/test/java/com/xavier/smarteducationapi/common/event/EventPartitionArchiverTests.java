@@ -0,0 +1,327 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventPartitionArchiver;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventPartitionManager;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventPartitionManager.PartitionState;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventSegmentStore;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventSegmentWriter;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.MonthlyPartition;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventArchiveException;
+
+/**
+ * Unit tests for monthly event partitions and their archival.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Event Partition Archiver Tests")
+class EventPartitionArchiverTests {
+
+    private static final YearMonth CURRENT = YearMonth.of(2025, 9);
+
+    @TempDir
+    Path directory;
+
+    private JdbcTemplate jdbcTemplate;
+    private EventPartitionManager partitionManager;
+    private EventSegmentStore segmentStore;
+    private List<ResultSet> rows;
+    private boolean lockAvailable;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        partitionManager = mock(EventPartitionManager.class);
+        when(partitionManager.currentMonth()).thenReturn(CURRENT);
+        segmentStore = mock(EventSegmentStore.class);
+        when(segmentStore.load(any(), any())).thenReturn(true);
+        lockAvailable = true;
+        rows = List.of(eventRow(1L, "tenant-1", "binary", new byte[] {1, 2, 3}),
+                eventRow(2L, "tenant-2", "json", null));
+
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            Connection connection = mock(Connection.class);
+            when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+            creator.createPreparedStatement(connection);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        doAnswer(invocation -> {
+            ResultSet lock = mock(ResultSet.class);
+            when(lock.next()).thenReturn(true);
+            when(lock.getBoolean(1)).thenReturn(lockAvailable);
+            Statement statement = mock(Statement.class);
+            when(statement.executeQuery(startsWith("SELECT pg_try_advisory_lock"))).thenReturn(lock);
+            Connection connection = mock(Connection.class);
+            when(connection.createStatement()).thenReturn(statement);
+            ConnectionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInConnection(connection);
+        }).when(jdbcTemplate).execute(any(ConnectionCallback.class));
+    }
+
+    private ResultSet eventRow(long position, String aggregateId, String format, byte[] payload) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("position")).thenReturn(position);
+        when(rs.getString("event_id")).thenReturn(UUID.randomUUID().toString());
+        when(rs.getString("aggregate_id")).thenReturn(aggregateId);
+        when(rs.getString("aggregate_type")).thenReturn("Tenant");
+        when(rs.getString("event_type")).thenReturn("tenant.created");
+        when(rs.getTimestamp("occurred_on")).thenReturn(Timestamp.from(Instant.parse("2024-01-15T10:00:00Z")));
+        when(rs.getString("payload_format")).thenReturn(format);
+        when(rs.getBytes("payload")).thenReturn(payload);
+        when(rs.getString("event_data")).thenReturn("{\"a\":1}");
+        when(rs.getString("row")).thenReturn("{\"event_id\":\"" + position + "\"}");
+        return rs;
+    }
+
+    private EventPartitionArchiver archiver(boolean enabled) {
+        return archiver(enabled, 0);
+    }
+
+    private EventPartitionArchiver archiver(boolean enabled, long publishDelayMillis) {
+        return new EventPartitionArchiver(partitionManager, segmentStore, jdbcTemplate, mock(PlatformTransactionManager.class),
+                Clock.systemUTC(), enabled, directory, 12, 100, publishDelayMillis);
+    }
+
+    private PartitionState partition(String table, YearMonth month, boolean attached) {
+        return new PartitionState(new MonthlyPartition(table, month), attached);
+    }
+
+    @Nested
+    @DisplayName("Monthly Partition Tests")
+    class MonthlyPartitionTests {
+
+        @Test
+        @DisplayName("Should name partitions and compute their bounds")
+        void shouldNamePartitions() {
+            MonthlyPartition partition = new MonthlyPartition("domain_events", YearMonth.of(2025, 12));
+
+            assertEquals("domain_events_y2025m12", partition.name());
+            assertEquals("2025-12-01T00:00", partition.lowerBound().toString());
+            assertEquals("2026-01-01T00:00", partition.upperBound().toString());
+            assertEquals(partition, MonthlyPartition.parse("domain_events_y2025m12").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should ignore tables outside the naming scheme")
+        void shouldIgnoreUnrelatedTables() {
+            assertTrue(MonthlyPartition.parse("projection_checkpoints").isEmpty());
+            assertTrue(MonthlyPartition.parse("domain_events_y2025m13").isEmpty());
+            assertTrue("domain_events_y2025m01".matches(MonthlyPartition.namePattern("domain_events")));
+            assertFalse("integration_events_y2025m01".matches(MonthlyPartition.namePattern("domain_events")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Archival Tests")
+    class ArchivalTests {
+
+        @Test
+        @DisplayName("Should export, detach and drop only partitions older than the retention")
+        void shouldArchiveExpiredPartitions() throws IOException {
+            // Given a retention of 12 months in September 2025
+            when(partitionManager.findPartitions("domain_events")).thenReturn(List.of(
+                    partition("domain_events", YearMonth.of(2024, 8), true),
+                    partition("domain_events", YearMonth.of(2024, 9), true)));
+            when(partitionManager.findPartitions("integration_events")).thenReturn(List.of());
+
+            // When
+            List<Path> archived = archiver(true).archiveExpiredPartitions();
+
+            // Then
+            assertEquals(List.of(directory.resolve("domain_events_y2024m08.seg.gz")), archived);
+            InOrder order = inOrder(jdbcTemplate, segmentStore);
+            order.verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+            order.verify(segmentStore).load(new MonthlyPartition("domain_events", YearMonth.of(2024, 8)),
+                    directory.resolve("domain_events_y2024m08.seg.gz"));
+            order.verify(jdbcTemplate).execute("ALTER TABLE event_store.domain_events"
+                    + " DETACH PARTITION event_store.domain_events_y2024m08 CONCURRENTLY");
+            order.verify(jdbcTemplate).execute("DROP TABLE event_store.domain_events_y2024m08");
+            verify(jdbcTemplate, never()).execute("DROP TABLE event_store.domain_events_y2024m09");
+            assertFalse(Files.exists(directory.resolve("domain_events_y2024m08.seg.gz.tmp")));
+        }
+
+        @Test
+        @DisplayName("Should write stored payloads as length-prefixed segment records")
+        void shouldWriteSegmentRecords() throws IOException {
+            PartitionState state = partition("domain_events", YearMonth.of(2024, 1), true);
+
+            Path file = archiver(true).archive(state);
+
+            try (InputStream raw = new GZIPInputStream(Files.newInputStream(file));
+                 DataInputStream in = new DataInputStream(raw)) {
+                assertEquals(EventSegmentWriter.MAGIC, in.readInt());
+                assertEquals(EventSegmentWriter.VERSION, in.readByte());
+
+                in.readInt();
+                assertEquals(1L, in.readLong());
+                in.skipNBytes(8 + 8 + 8 + 4);
+                assertEquals("tenant-1", readString(in));
+                assertEquals("Tenant", readString(in));
+                assertEquals("tenant.created", readString(in));
+                assertEquals("binary", readString(in));
+                assertEquals(3, in.readInt());
+                in.skipNBytes(3);
+
+                int length = in.readInt();
+                byte[] record = in.readNBytes(length);
+                assertEquals(length, record.length);
+                String json = "{\"a\":1}";
+                assertEquals(json, new String(record, record.length - json.length(), json.length(), StandardCharsets.UTF_8));
+                assertEquals(-1, in.read());
+            }
+        }
+
+        @Test
+        @DisplayName("Should export integration events as compressed JSON lines")
+        void shouldExportIntegrationEventsAsJsonLines() throws IOException {
+            PartitionState state = partition("integration_events", YearMonth.of(2024, 1), true);
+
+            Path file = archiver(true).archive(state);
+
+            assertEquals("integration_events_y2024m01.ndjson.gz", file.getFileName().toString());
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                assertEquals("{\"event_id\":\"1\"}\n{\"event_id\":\"2\"}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+
+        @Test
+        @DisplayName("Should finish partitions left detached without detaching them again")
+        void shouldResumeDetachedPartitions() {
+            archiver(true).archive(partition("domain_events", YearMonth.of(2024, 1), false));
+
+            verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE"));
+            verify(jdbcTemplate).execute("DROP TABLE event_store.domain_events_y2024m01");
+        }
+
+        @Test
+        @DisplayName("Should finalize a concurrent detach that was interrupted")
+        void shouldFinalizePendingDetach() {
+            archiver(true).archive(new PartitionState(
+                    new MonthlyPartition("domain_events", YearMonth.of(2024, 1)), true, true));
+
+            verify(jdbcTemplate).execute(
+                    "ALTER TABLE event_store.domain_events DETACH PARTITION event_store.domain_events_y2024m01 FINALIZE");
+            verify(jdbcTemplate, never()).execute(endsWith("CONCURRENTLY"));
+            verify(jdbcTemplate).execute("DROP TABLE event_store.domain_events_y2024m01");
+        }
+
+        @Test
+        @DisplayName("Should keep the partition attached until its segment has been published")
+        void shouldKeepPartitionUntilSegmentIsPublished() {
+            PartitionState state = partition("domain_events", YearMonth.of(2024, 1), true);
+
+            Path file = archiver(true, 60_000).archive(state);
+
+            assertTrue(Files.exists(file));
+            verify(segmentStore).load(state.partition(), file);
+            verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE"));
+            verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+        }
+
+        @Test
+        @DisplayName("Should drop a published segment's partition without exporting it again")
+        void shouldDropPublishedPartitionWithoutExport() throws IOException {
+            PartitionState state = partition("domain_events", YearMonth.of(2024, 1), true);
+            Files.write(directory.resolve("domain_events_y2024m01.seg.gz"), new byte[] {1});
+
+            archiver(true).archive(state);
+
+            verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+            verify(jdbcTemplate).execute("DROP TABLE event_store.domain_events_y2024m01");
+        }
+
+        @Test
+        @DisplayName("Should neither export nor drop while another node holds the archive lock")
+        void shouldSkipWhileAnotherNodeArchives() {
+            lockAvailable = false;
+            PartitionState state = partition("domain_events", YearMonth.of(2024, 1), true);
+
+            assertTrue(archiver(true).archiveExpiredPartitions().isEmpty());
+            assertThrows(EventArchiveException.class, () -> archiver(true).archive(state));
+
+            verify(partitionManager, never()).findPartitions(anyString());
+            verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+            verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+        }
+
+        @Test
+        @DisplayName("Should keep the partition when its export fails")
+        void shouldKeepPartitionWhenExportFails() {
+            doThrow(new DataAccessResourceFailureException("connection lost"))
+                    .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+            when(partitionManager.findPartitions("domain_events")).thenReturn(List.of(
+                    partition("domain_events", YearMonth.of(2024, 1), true)));
+            when(partitionManager.findPartitions("integration_events")).thenReturn(List.of());
+
+            List<Path> archived = archiver(true).archiveExpiredPartitions();
+
+            assertTrue(archived.isEmpty());
+            assertFalse(Files.exists(directory.resolve("domain_events_y2024m01.seg.gz.tmp")));
+            verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+        }
+
+        @Test
+        @DisplayName("Should do nothing when archival is disabled")
+        void shouldSkipWhenDisabled() {
+            assertTrue(archiver(false).archiveExpiredPartitions().isEmpty());
+
+            verify(partitionManager, never()).findPartitions(anyString());
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(in.readNBytes(in.readUnsignedShort()), StandardCharsets.UTF_8);
+    }
+}
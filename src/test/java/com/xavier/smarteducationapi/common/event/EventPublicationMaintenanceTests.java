@@ -0,0 +1,235 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.IncompleteEventPublications;
+
+import com.xavier.smarteducationapi.common.infrastructure.event.publication.EventPublicationMaintenance;
+import com.xavier.smarteducationapi.common.infrastructure.event.publication.JdbcEventPublicationRegistry;
+import com.xavier.smarteducationapi.common.infrastructure.event.publication.JdbcEventPublicationRegistry.PublicationBacklog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for Spring Modulith publication registry maintenance.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Event Publication Maintenance Tests")
+class EventPublicationMaintenanceTests {
+
+    private static final Instant NOW = Instant.parse("2025-09-23T10:00:00Z");
+
+    private JdbcEventPublicationRegistry registry;
+    private IncompleteEventPublications incompletePublications;
+    private MutableClock clock;
+    private EventPublicationMaintenance maintenance;
+
+    static class MutableClock extends Clock {
+        Instant instant = NOW;
+
+        @Override
+        public java.time.ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    record TestPublication(UUID getIdentifier, Instant getPublicationDate) implements EventPublication {
+        @Override
+        public Object getEvent() {
+            return "event";
+        }
+
+        @Override
+        public Optional<Instant> getCompletionDate() {
+            return Optional.empty();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(JdbcEventPublicationRegistry.class);
+        incompletePublications = mock(IncompleteEventPublications.class);
+        clock = new MutableClock();
+        maintenance = new EventPublicationMaintenance(registry, incompletePublications, clock,
+                24, 100, 5, true, 60_000, 60_000, 3_600_000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> resubmit(List<EventPublication> incomplete) {
+        List<UUID> selected = new ArrayList<>();
+        doAnswer(invocation -> {
+            Predicate<EventPublication> filter = invocation.getArgument(0);
+            incomplete.stream().filter(filter).forEach(publication -> selected.add(publication.getIdentifier()));
+            return null;
+        }).when(incompletePublications).resubmitIncompletePublications(any(Predicate.class));
+        maintenance.resubmitIncomplete();
+        return selected;
+    }
+
+    @Nested
+    @DisplayName("Purge Tests")
+    class PurgeTests {
+
+        @Test
+        @DisplayName("Should delete in batches until a batch comes back short")
+        void shouldPurgeInBatches() {
+            when(registry.purgeCompleted(86_400, 100)).thenReturn(100, 100, 37);
+
+            assertEquals(237, maintenance.purgeCompleted());
+            verify(registry, times(3)).purgeCompleted(86_400, 100);
+            assertEquals(237, maintenance.getPurgedPublications());
+        }
+
+        @Test
+        @DisplayName("Should stop after the maximum number of batches per run")
+        void shouldBoundBatchesPerRun() {
+            when(registry.purgeCompleted(86_400, 100)).thenReturn(100);
+
+            assertEquals(500, maintenance.purgeCompleted());
+            verify(registry, times(5)).purgeCompleted(86_400, 100);
+        }
+
+        @Test
+        @DisplayName("Should survive database failures")
+        void shouldSurviveFailures() {
+            when(registry.purgeCompleted(86_400, 100)).thenReturn(100)
+                    .thenThrow(new DataAccessResourceFailureException("down"));
+
+            assertEquals(100, maintenance.purgeCompleted());
+        }
+    }
+
+    @Nested
+    @DisplayName("Resubmission Tests")
+    class ResubmissionTests {
+
+        @BeforeEach
+        void setUp() {
+            when(registry.countDue(60)).thenReturn(1L);
+        }
+
+        @Test
+        @DisplayName("Should not load publications when none are due")
+        void shouldSkipWhenNothingIsDue() {
+            when(registry.countDue(60)).thenReturn(0L);
+
+            assertEquals(0, maintenance.resubmitIncomplete());
+            verify(incompletePublications, never()).resubmitIncompletePublications(any());
+        }
+
+        @Test
+        @DisplayName("Should leave recent publications alone")
+        void shouldLeaveRecentPublications() {
+            EventPublication old = new TestPublication(UUID.randomUUID(), NOW.minusSeconds(120));
+            EventPublication recent = new TestPublication(UUID.randomUUID(), NOW.minusSeconds(10));
+
+            assertEquals(List.of(old.getIdentifier()), resubmit(List.of(old, recent)));
+        }
+
+        @Test
+        @DisplayName("Should back off between resubmissions of the same publication")
+        void shouldBackOffPerPublication() {
+            EventPublication stuck = new TestPublication(UUID.randomUUID(), NOW.minusSeconds(120));
+
+            assertEquals(1, resubmit(List.of(stuck)).size());
+            // Still inside the first backoff period (30 to 60 seconds)
+            clock.instant = NOW.plusSeconds(25);
+            assertEquals(0, resubmit(List.of(stuck)).size());
+            clock.instant = NOW.plusSeconds(61);
+            assertEquals(1, resubmit(List.of(stuck)).size());
+            // The second period is between 60 and 120 seconds
+            clock.instant = NOW.plusSeconds(61 + 55);
+            assertEquals(0, resubmit(List.of(stuck)).size());
+            assertEquals(2, maintenance.getResubmittedPublications());
+        }
+
+        @Test
+        @DisplayName("Should cap the backoff")
+        void shouldCapBackoff() {
+            Duration capped = maintenance.backoff(30);
+
+            assertTrue(capped.toMillis() >= 1_800_000 && capped.toMillis() <= 3_600_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metric Tests")
+    class MetricTests {
+
+        @Test
+        @DisplayName("Should export the backlog and its lag")
+        void shouldExportLag() {
+            when(registry.backlog()).thenReturn(new PublicationBacklog(42, 90_000));
+
+            maintenance.refreshBacklog();
+
+            assertEquals(42, maintenance.getIncompletePublications());
+            assertEquals(90_000, maintenance.getPublicationLagMillis());
+        }
+
+        @Test
+        @DisplayName("Should publish the backlog gauges to a meter registry")
+        void shouldBindMeters() {
+            SimpleMeterRegistry meters = new SimpleMeterRegistry();
+            maintenance.bindTo(meters);
+            when(registry.backlog()).thenReturn(new PublicationBacklog(42, 90_000));
+
+            maintenance.refreshBacklog();
+
+            assertEquals(42, meters.get("event.publication.incomplete").gauge().value());
+            assertEquals(90, meters.get("event.publication.lag").timeGauge().value(TimeUnit.SECONDS));
+            assertEquals(0, meters.get("event.publication.purged").functionCounter().count());
+        }
+
+        @Test
+        @DisplayName("Should keep the last values when measuring fails")
+        void shouldKeepLastValues() {
+            when(registry.backlog()).thenReturn(new PublicationBacklog(3, 1_000))
+                    .thenThrow(new DataAccessResourceFailureException("down"));
+
+            maintenance.refreshBacklog();
+            maintenance.refreshBacklog();
+
+            assertEquals(3, maintenance.getIncompletePublications());
+            verify(registry, times(2)).backlog();
+            verify(registry, never()).countDue(anyLong());
+        }
+    }
+}
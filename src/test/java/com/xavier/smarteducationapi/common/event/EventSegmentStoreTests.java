@@ -0,0 +1,259 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+import com.xavier.smarteducationapi.common.infrastructure.event.JdbcEventStore;
+import com.xavier.smarteducationapi.common.infrastructure.event.StoredEventDecoder;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.BinaryEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.EventCodecRegistry;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventSegmentStore;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventSegmentWriter;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.SegmentRecord;
+
+/**
+ * Unit tests for reading archived domain events from memory-mapped segments.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Event Segment Store Tests")
+class EventSegmentStoreTests {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final int AGGREGATES = 5;
+    private static final int EVENTS_PER_MONTH = 300;
+
+    @TempDir
+    Path directory;
+
+    private BinaryEventCodec codec;
+    private EventSegmentStore store;
+    private List<SampleEvent> archived;
+
+    static class SampleEvent extends AbstractDomainEvent {
+        private final int sequence;
+
+        SampleEvent(EventMetadata metadata, int sequence) {
+            super(metadata);
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String topic() {
+            return sequence % 10 == 0 ? "sample.milestone" : "sample.step";
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        codec = new BinaryEventCodec(new EventCodecRegistry(List.of(
+                EventSerializer.of("sample.event", SampleEvent.class,
+                        (event, out) -> out.writeInteger("sequence", event.sequence),
+                        (in, metadata, version) -> new SampleEvent(metadata, in.readInteger("sequence"))))));
+        archived = new ArrayList<>();
+        writeMonth("domain_events_y2024m01", LocalDateTime.of(2024, 1, 1, 0, 0), 0);
+        writeMonth("domain_events_y2024m02", LocalDateTime.of(2024, 2, 1, 0, 0), EVENTS_PER_MONTH);
+        store = new EventSegmentStore(directory, directory.resolve("mapped"));
+        store.refresh();
+    }
+
+    private void writeMonth(String partition, LocalDateTime start, int firstPosition) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(directory.resolve(partition + ".seg.gz")));
+             EventSegmentWriter writer = new EventSegmentWriter(out)) {
+            for (int i = 0; i < EVENTS_PER_MONTH; i++) {
+                int sequence = firstPosition + i;
+                // Occurrence times are not strictly increasing, as with concurrent writers
+                Instant occurredOn = start.plusMinutes(i + (i % 3 == 0 ? 2 : 0)).atZone(ZONE).toInstant();
+                SampleEvent event = new SampleEvent(new EventMetadata(UUID.randomUUID(), occurredOn,
+                        "aggregate-" + (sequence % AGGREGATES), "Sample"), sequence);
+                writer.append(sequence + 1, event.getEventId(), event.getAggregateId(), event.getAggregateType(),
+                        event.topic(), occurredOn, codec.getFormat(), codec.encode(event));
+                archived.add(event);
+            }
+        }
+    }
+
+    private static List<Integer> sequences(List<? extends DomainEvent> events) {
+        return events.stream().map(event -> ((SampleEvent) event).sequence).toList();
+    }
+
+    private List<Integer> decode(List<SegmentRecord> records) {
+        return records.stream().map(record -> ((SampleEvent) codec.decode(record.payload())).sequence).toList();
+    }
+
+    @Nested
+    @DisplayName("Segment Reads")
+    class SegmentReadTests {
+
+        @Test
+        @DisplayName("Should return an aggregate's archived events across segments in storage order")
+        void shouldFindByAggregate() {
+            List<SegmentRecord> records = store.findByAggregate("aggregate-3", "Sample");
+
+            List<Integer> expected = new ArrayList<>();
+            for (int sequence = 3; sequence < 2 * EVENTS_PER_MONTH; sequence += AGGREGATES) {
+                expected.add(sequence);
+            }
+            assertEquals(expected, decode(records));
+            assertTrue(store.findByAggregate("aggregate-3", "Other").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should hand out payloads as views of the mapping")
+        void shouldSlicePayloadsFromTheMapping() {
+            SegmentRecord record = store.findByAggregate("aggregate-0", "Sample").get(0);
+
+            assertTrue(record.payload().isDirect());
+            assertTrue(record.payload().isReadOnly());
+        }
+
+        @Test
+        @DisplayName("Should return archived events in a time range ordered by occurrence")
+        void shouldFindByTimeRange() {
+            Instant from = LocalDateTime.of(2024, 1, 1, 1, 0).atZone(ZONE).toInstant();
+            Instant to = LocalDateTime.of(2024, 2, 1, 1, 0).atZone(ZONE).toInstant();
+
+            List<SegmentRecord> records = store.findByTimeRange(from, to);
+
+            long expected = archived.stream()
+                    .filter(event -> !event.occurredOn().isBefore(from) && event.occurredOn().isBefore(to))
+                    .count();
+            assertEquals(expected, records.size());
+            for (int i = 1; i < records.size(); i++) {
+                assertTrue(SegmentRecord.OCCURRENCE_ORDER.compare(records.get(i - 1), records.get(i)) < 0);
+            }
+        }
+
+        @Test
+        @DisplayName("Should tell whether a range lies entirely in archived months")
+        void shouldReportCoverage() {
+            Instant january = LocalDateTime.of(2024, 1, 10, 0, 0).atZone(ZONE).toInstant();
+            Instant march = LocalDateTime.of(2024, 3, 1, 0, 0).atZone(ZONE).toInstant();
+
+            assertTrue(store.covers(january, march));
+            assertFalse(store.covers(january, march.plusSeconds(1)));
+        }
+
+        @Test
+        @DisplayName("Should find events by topic and id")
+        void shouldFindByTopicAndId() {
+            assertEquals(2 * EVENTS_PER_MONTH / 10, store.findByEventType("sample.milestone").size());
+            SampleEvent event = archived.get(EVENTS_PER_MONTH + 7);
+            assertEquals(List.of(event.sequence), decode(List.of(store.findById(event.getEventId()).orElseThrow())));
+        }
+
+        @Test
+        @DisplayName("Should visit events after a position in position order")
+        void shouldVisitAfterPosition() {
+            // Given positions are assigned in storage order, starting at 1
+            List<SegmentRecord> visited = new ArrayList<>();
+            long highest = store.forEachAfter(101, Set.of(), visited::add);
+
+            assertEquals(sequences(archived.subList(101, archived.size())), decode(visited));
+            assertEquals(archived.size(), highest);
+        }
+
+        @Test
+        @DisplayName("Should reuse expanded segments and their indexes")
+        void shouldReuseExpandedSegments() {
+            assertTrue(Files.exists(directory.resolve("mapped").resolve("domain_events_y2024m01.seg")));
+            assertTrue(Files.exists(directory.resolve("mapped").resolve("domain_events_y2024m01.idx")));
+
+            EventSegmentStore reopened = new EventSegmentStore(directory, directory.resolve("mapped"));
+            reopened.refresh();
+
+            assertEquals(store.findByAggregate("aggregate-1", "Sample").size(),
+                    reopened.findByAggregate("aggregate-1", "Sample").size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Event Store Merge")
+    class EventStoreMergeTests {
+
+        private JdbcTemplate jdbcTemplate;
+        private JdbcEventStore eventStore;
+
+        @BeforeEach
+        void setUp() {
+            jdbcTemplate = mock(JdbcTemplate.class);
+            eventStore = new JdbcEventStore(jdbcTemplate, new EventCodecRegistry(List.of()),
+                    new StoredEventDecoder(List.of(codec)), store, "binary");
+        }
+
+        @Test
+        @DisplayName("Should put archived events before live rows and skip duplicates")
+        @SuppressWarnings("unchecked")
+        void shouldMergeColdAndHotEvents() {
+            SampleEvent duplicate = archived.get(2 * EVENTS_PER_MONTH - AGGREGATES);
+            SampleEvent live = new SampleEvent(new EventMetadata(UUID.randomUUID(), Instant.now(),
+                    "aggregate-0", "Sample"), 10_000);
+            when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("aggregate-0"), eq("Sample")))
+                    .thenReturn(List.of(duplicate, live));
+
+            List<DomainEvent> events = eventStore.getEventsForAggregate("aggregate-0", "Sample");
+
+            assertEquals(2 * EVENTS_PER_MONTH / AGGREGATES + 1, events.size());
+            assertEquals(10_000, ((SampleEvent) events.get(events.size() - 1)).sequence);
+        }
+
+        @Test
+        @DisplayName("Should answer archived time ranges without querying the database")
+        @SuppressWarnings("unchecked")
+        void shouldNotQueryDatabaseForArchivedRanges() {
+            Instant from = LocalDateTime.of(2024, 1, 1, 0, 0).atZone(ZONE).toInstant();
+            Instant to = LocalDateTime.of(2024, 2, 1, 0, 0).atZone(ZONE).toInstant();
+
+            assertEquals(EVENTS_PER_MONTH, eventStore.getEventsByTimeRange(from, to).size());
+
+            verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should continue from an archived event into live rows")
+        @SuppressWarnings("unchecked")
+        void shouldContinueFromArchivedEvent() {
+            List<SegmentRecord> history = store.findByAggregate("aggregate-2", "Sample");
+            SegmentRecord last = history.get(history.size() - 3);
+            when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("aggregate-2"), eq("Sample")))
+                    .thenReturn(List.of());
+
+            assertEquals(2, eventStore.getEventsForAggregateAfter("aggregate-2", "Sample", last.eventId()).orElseThrow().size());
+            assertNull(eventStore.getEventById(UUID.randomUUID()));
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.xavier.smarteducationapi.common.application.event.IntegrationEventHandler;
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+import com.xavier.smarteducationapi.common.domain.event.IntegrationEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.StoredEventDecoder;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.EventCodecRegistry;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.JsonEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.dedup.EventDeduplicator;
+import com.xavier.smarteducationapi.common.infrastructure.event.dedup.JdbcProcessedEventStore;
+import com.xavier.smarteducationapi.common.infrastructure.event.integration.ClaimedIntegrationEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.integration.IntegrationEventDispatcher;
+import com.xavier.smarteducationapi.common.infrastructure.event.integration.IntegrationEventWorkerPool;
+import com.xavier.smarteducationapi.common.infrastructure.event.integration.JdbcIntegrationEventQueue;
+
+/**
+ * Unit tests for integration event delivery.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Integration Event Worker Pool Tests")
+class IntegrationEventWorkerPoolTests {
+
+    private JsonEventCodec codec;
+    private StoredEventDecoder decoder;
+    private EventDeduplicator deduplicator;
+
+    static class SchoolLinkedEvent extends AbstractDomainEvent implements IntegrationEvent {
+        private final String[] targets;
+
+        SchoolLinkedEvent(String aggregateId, String... targets) {
+            super(aggregateId, "Tenant");
+            this.targets = targets;
+        }
+
+        SchoolLinkedEvent(EventMetadata metadata) {
+            super(metadata);
+            this.targets = new String[] {"*"};
+        }
+
+        @Override
+        public String topic() {
+            return "tenant.school.linked";
+        }
+
+        @Override
+        public String getSourceContext() {
+            return "tenant";
+        }
+
+        @Override
+        public String[] getTargetContexts() {
+            return targets;
+        }
+    }
+
+    static class RecordingHandler implements IntegrationEventHandler {
+        final String context;
+        final Set<String> eventTypes;
+        final List<UUID> handled = new CopyOnWriteArrayList<>();
+        volatile RuntimeException failure;
+
+        RecordingHandler(String context, Set<String> eventTypes) {
+            this.context = context;
+            this.eventTypes = eventTypes;
+        }
+
+        @Override
+        public String getContext() {
+            return context;
+        }
+
+        @Override
+        public Set<String> getEventTypes() {
+            return eventTypes;
+        }
+
+        @Override
+        public void handle(IntegrationEvent event) {
+            if (failure != null) {
+                throw failure;
+            }
+            handled.add(event.getEventId());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        codec = new JsonEventCodec(new EventCodecRegistry(List.of(
+                EventSerializer.of("tenant.school.linked", SchoolLinkedEvent.class,
+                        (event, out) -> { },
+                        (in, metadata, version) -> new SchoolLinkedEvent(metadata)))));
+        decoder = new StoredEventDecoder(List.of(codec));
+        deduplicator = new EventDeduplicator(mock(JdbcProcessedEventStore.class), 10_000, 10_000, 0.01, 7, 2, 1000);
+    }
+
+    private ClaimedIntegrationEvent claimed(SchoolLinkedEvent event, int attempts, int maxAttempts) {
+        return new ClaimedIntegrationEvent(event.getEventId(), LocalDateTime.now(), event.topic(), "tenant",
+                List.of(event.getTargetContexts()), codec.encodeToString(event), attempts, maxAttempts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private IntegrationEventDispatcher dispatcher(IntegrationEventHandler... handlers) {
+        ObjectProvider<IntegrationEventHandler> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(handlers));
+        return new IntegrationEventDispatcher(decoder, deduplicator, provider);
+    }
+
+    private IntegrationEventWorkerPool pool(JdbcIntegrationEventQueue queue, IntegrationEventDispatcher dispatcher,
+                                            int workers, int batchSize) {
+        return new IntegrationEventWorkerPool(queue, dispatcher, true, workers, batchSize, 5, 300, 1000, 60_000);
+    }
+
+    @Nested
+    @DisplayName("Dispatch Tests")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("Should fan out only to handlers of the target contexts")
+        void shouldFanOutByTargetContext() {
+            RecordingHandler academic = new RecordingHandler("academic", Set.of());
+            RecordingHandler billing = new RecordingHandler("billing", Set.of());
+            RecordingHandler reporting = new RecordingHandler("reporting", Set.of());
+            SchoolLinkedEvent event = new SchoolLinkedEvent("tenant-1", "academic", "billing");
+
+            int delivered = dispatcher(academic, billing, reporting).dispatch(claimed(event, 1, 5));
+
+            assertEquals(2, delivered);
+            assertEquals(List.of(event.getEventId()), academic.handled);
+            assertEquals(List.of(event.getEventId()), billing.handled);
+            assertTrue(reporting.handled.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should broadcast to every handler accepting the topic")
+        void shouldBroadcastToMatchingTopics() {
+            RecordingHandler all = new RecordingHandler("academic", Set.of());
+            RecordingHandler other = new RecordingHandler("billing", Set.of("tenant.plan.changed"));
+
+            int delivered = dispatcher(all, other).dispatch(claimed(new SchoolLinkedEvent("tenant-1", "*"), 1, 5));
+
+            assertEquals(1, delivered);
+            assertTrue(other.handled.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should skip handlers that completed the event before a retry")
+        void shouldSkipCompletedHandlersOnRetry() {
+            RecordingHandler academic = new RecordingHandler("academic", Set.of());
+            RecordingHandler billing = new RecordingHandler("billing", Set.of());
+            billing.failure = new IllegalStateException("down");
+            SchoolLinkedEvent event = new SchoolLinkedEvent("tenant-1", "academic", "billing");
+            IntegrationEventDispatcher dispatcher = dispatcher(academic, billing);
+
+            // Given a first attempt that failed after academic handled the event
+            assertThrows(IllegalStateException.class, () -> dispatcher.dispatch(claimed(event, 1, 5)));
+            billing.failure = null;
+
+            // When the event is retried
+            int delivered = dispatcher.dispatch(claimed(event, 2, 5));
+
+            // Then only the failed handler sees it again
+            assertEquals(1, delivered);
+            assertEquals(1, academic.handled.size());
+            assertEquals(1, billing.handled.size());
+        }
+
+        @Test
+        @DisplayName("Should propagate handler failures")
+        void shouldPropagateFailures() {
+            RecordingHandler failing = new RecordingHandler("academic", Set.of());
+            failing.failure = new IllegalStateException("down");
+
+            assertThrows(IllegalStateException.class,
+                    () -> dispatcher(failing).dispatch(claimed(new SchoolLinkedEvent("tenant-1", "*"), 1, 5)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry Tests")
+    class RetryTests {
+
+        private JdbcIntegrationEventQueue queue;
+
+        @BeforeEach
+        void setUp() {
+            queue = mock(JdbcIntegrationEventQueue.class);
+        }
+
+        @Test
+        @DisplayName("Should complete delivered events and reschedule failed ones")
+        void shouldCompleteAndReschedule() {
+            RecordingHandler handler = new RecordingHandler("academic", Set.of());
+            ClaimedIntegrationEvent ok = claimed(new SchoolLinkedEvent("tenant-1", "academic"), 1, 5);
+            ClaimedIntegrationEvent bad = new ClaimedIntegrationEvent(UUID.randomUUID(), LocalDateTime.now(),
+                    "tenant.school.linked", "tenant", List.of("academic"), "{not json", 2, 5);
+            when(queue.claim(eq(10), any(Duration.class))).thenReturn(List.of(ok, bad));
+
+            int claimed = pool(queue, dispatcher(handler), 1, 10).processBatch();
+
+            assertEquals(2, claimed);
+            verify(queue).complete(List.of(ok));
+            verify(queue).fail(eq(bad), anyString(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("Should grow the backoff exponentially up to the maximum")
+        void shouldBackOffExponentially() {
+            IntegrationEventWorkerPool pool = pool(queue, dispatcher(), 1, 10);
+
+            for (int attempt = 1; attempt <= 5; attempt++) {
+                long full = 1000L << (attempt - 1);
+                long delay = pool.backoff(attempt).toMillis();
+                assertTrue(delay >= full / 2 && delay <= full, "attempt " + attempt + ": " + delay);
+            }
+            long capped = pool.backoff(40).toMillis();
+            assertTrue(capped >= 30_000 && capped <= 60_000);
+        }
+
+        @Test
+        @DisplayName("Should dead-letter on the last attempt")
+        void shouldDeadLetterOnLastAttempt() {
+            ClaimedIntegrationEvent last = claimed(new SchoolLinkedEvent("tenant-1", "academic"), 5, 5);
+            RecordingHandler failing = new RecordingHandler("academic", Set.of());
+            failing.failure = new IllegalStateException("down");
+            when(queue.claim(anyInt(), any(Duration.class))).thenReturn(List.of(last));
+
+            pool(queue, dispatcher(failing), 1, 10).processBatch();
+
+            assertTrue(last.isLastAttempt());
+            verify(queue).fail(eq(last), eq("down"), any(Duration.class));
+            verify(queue).complete(List.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        /**
+         * In-memory queue with the claim semantics of {@code FOR UPDATE SKIP LOCKED}: a claimed
+         * row is invisible to every other claimer until its result is recorded
+         */
+        static class InMemoryQueue extends JdbcIntegrationEventQueue {
+            final Deque<ClaimedIntegrationEvent> pending = new ArrayDeque<>();
+            final AtomicInteger completed = new AtomicInteger();
+
+            InMemoryQueue() {
+                super(null);
+            }
+
+            @Override
+            public synchronized List<ClaimedIntegrationEvent> claim(int limit, Duration lease) {
+                List<ClaimedIntegrationEvent> batch = new ArrayList<>();
+                while (batch.size() < limit && !pending.isEmpty()) {
+                    batch.add(pending.poll());
+                }
+                return batch;
+            }
+
+            @Override
+            public void complete(List<ClaimedIntegrationEvent> events) {
+                completed.addAndGet(events.size());
+            }
+
+            @Override
+            public synchronized void fail(ClaimedIntegrationEvent event, String error, Duration retryIn) {
+                pending.add(event);
+            }
+        }
+
+        @Test
+        @DisplayName("Should deliver every event exactly once across nodes and workers")
+        void shouldDeliverEachEventOnce() throws InterruptedException {
+            InMemoryQueue queue = new InMemoryQueue();
+            for (int i = 0; i < 2000; i++) {
+                queue.pending.add(claimed(new SchoolLinkedEvent("tenant-" + i, "academic"), 1, 5));
+            }
+            Map<UUID, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+            IntegrationEventHandler handler = new RecordingHandler("academic", Set.of()) {
+                @Override
+                public void handle(IntegrationEvent event) {
+                    deliveries.computeIfAbsent(event.getEventId(), id -> new AtomicInteger()).incrementAndGet();
+                }
+            };
+
+            // Given two nodes with three workers each
+            List<IntegrationEventWorkerPool> nodes = List.of(
+                    pool(queue, dispatcher(handler), 3, 25),
+                    pool(queue, dispatcher(handler), 3, 25));
+            nodes.forEach(IntegrationEventWorkerPool::start);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (queue.completed.get() < 2000 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            nodes.forEach(IntegrationEventWorkerPool::stop);
+
+            assertEquals(2000, queue.completed.get());
+            assertEquals(2000, deliveries.size());
+            assertTrue(deliveries.values().stream().allMatch(count -> count.get() == 1));
+        }
+
+        @Test
+        @DisplayName("Should interrupt busy workers on stop instead of waiting out their lease")
+        void shouldInterruptBusyWorkersOnStop() throws InterruptedException {
+            InMemoryQueue queue = new InMemoryQueue();
+            queue.pending.add(claimed(new SchoolLinkedEvent("tenant-1", "academic"), 1, 5));
+            CountDownLatch busy = new CountDownLatch(1);
+            IntegrationEventHandler handler = new RecordingHandler("academic", Set.of()) {
+                @Override
+                public void handle(IntegrationEvent event) {
+                    busy.countDown();
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("interrupted", ex);
+                    }
+                }
+            };
+            IntegrationEventWorkerPool pool = pool(queue, dispatcher(handler), 2, 25);
+
+            // Given a worker blocked in a handler
+            pool.start();
+            assertTrue(busy.await(5, TimeUnit.SECONDS));
+
+            // When the pool stops
+            long started = System.nanoTime();
+            pool.stop();
+
+            // Then it returns well before the handler would have finished
+            assertTrue(Duration.ofNanos(System.nanoTime() - started).toSeconds() < 5);
+            assertEquals(1, queue.pending.size());
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.xavier.smarteducationapi.common.application.event.Projection;
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventMetadata;
+import com.xavier.smarteducationapi.common.infrastructure.event.ProjectionReplayEngine;
+import com.xavier.smarteducationapi.common.infrastructure.event.ReplayResult;
+import com.xavier.smarteducationapi.common.infrastructure.event.StoredEventDecoder;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.BinaryEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.EventCodecRegistry;
+import com.xavier.smarteducationapi.common.domain.event.codec.EventSerializer;
+import com.xavier.smarteducationapi.common.infrastructure.event.partition.EventSegmentStore;
+import com.xavier.smarteducationapi.common.infrastructure.exception.EventReplayException;
+
+/**
+ * Unit tests for the projection replay engine.
+ *
+ * The event store cursor is simulated with a mocked {@link JdbcTemplate}, so these tests
+ * verify partitioning, per-aggregate ordering and checkpointing without a database.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Projection Replay Engine Tests")
+class ProjectionReplayEngineTests {
+
+    private static final int AGGREGATES = 8;
+    private static final int EVENTS_PER_AGGREGATE = 50;
+
+    private JdbcTemplate jdbcTemplate;
+    private BinaryEventCodec codec;
+    private RecordingProjection projection;
+    private List<SequencedEvent> stored;
+    private List<Long> positions;
+    private boolean settled;
+    private EventSegmentStore segmentStore;
+
+    static class SequencedEvent extends AbstractDomainEvent {
+        private final int sequence;
+
+        SequencedEvent(String aggregateId, int sequence) {
+            super(aggregateId, "Sample");
+            this.sequence = sequence;
+        }
+
+        SequencedEvent(EventMetadata metadata, int sequence) {
+            super(metadata);
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String topic() {
+            return "sample.sequenced";
+        }
+    }
+
+    static class RecordingProjection implements Projection {
+        final Map<String, List<Integer>> applied = new ConcurrentHashMap<>();
+        final AtomicInteger resets = new AtomicInteger();
+        volatile int failOnSequence = -1;
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void reset() {
+            resets.incrementAndGet();
+            applied.clear();
+        }
+
+        @Override
+        public void apply(DomainEvent event) {
+            SequencedEvent sequenced = (SequencedEvent) event;
+            if (sequenced.sequence == failOnSequence) {
+                throw new IllegalStateException("projection bug");
+            }
+            applied.computeIfAbsent(event.getAggregateId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(sequenced.sequence);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        EventSerializer<SequencedEvent> serializer = EventSerializer.of("sample.sequenced", SequencedEvent.class,
+                (event, out) -> out.writeInteger("sequence", event.sequence),
+                (in, metadata, version) -> new SequencedEvent(metadata, in.readInteger("sequence")));
+        codec = new BinaryEventCodec(new EventCodecRegistry(List.of(serializer)));
+        jdbcTemplate = mock(JdbcTemplate.class);
+        projection = new RecordingProjection();
+        segmentStore = new EventSegmentStore(Path.of("target", "no-archive"), Path.of("target", "no-archive", "mapped"));
+
+        stored = new ArrayList<>();
+        positions = new ArrayList<>();
+        settled = true;
+        for (int sequence = 0; sequence < EVENTS_PER_AGGREGATE; sequence++) {
+            for (int aggregate = 0; aggregate < AGGREGATES; aggregate++) {
+                stored.add(new SequencedEvent("aggregate-" + aggregate, sequence));
+                positions.add((long) positions.size() + 1);
+            }
+        }
+
+        doAnswer(invocation -> {
+            ResultSetExtractor<?> extractor = invocation.getArgument(1);
+            return extractor.extractData(cursor());
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class));
+    }
+
+    /**
+     * A forward-only cursor over the stored events, at their positions
+     */
+    private ResultSet cursor() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        AtomicInteger current = new AtomicInteger(-1);
+        when(rs.next()).thenAnswer(invocation -> current.incrementAndGet() < stored.size());
+        when(rs.getLong("position")).thenAnswer(invocation -> positions.get(current.get()));
+        when(rs.getBoolean("wanted")).thenReturn(true);
+        when(rs.getBoolean("settled")).thenAnswer(invocation -> settled);
+        when(rs.getString("event_id")).thenAnswer(invocation -> stored.get(current.get()).getEventId().toString());
+        when(rs.getString("aggregate_id")).thenAnswer(invocation -> stored.get(current.get()).getAggregateId());
+        when(rs.getString("payload_format")).thenReturn(BinaryEventCodec.FORMAT);
+        when(rs.getBytes("payload")).thenAnswer(invocation -> codec.encode(stored.get(current.get())));
+        return rs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProjectionReplayEngine engine(int workers, int checkpointInterval) {
+        ObjectProvider<Projection> projections = mock(ObjectProvider.class);
+        when(projections.orderedStream()).thenAnswer(invocation -> Stream.of(projection));
+        return new ProjectionReplayEngine(jdbcTemplate, mock(PlatformTransactionManager.class),
+                new StoredEventDecoder(List.of(codec)), segmentStore, projections,
+                Clock.fixed(Instant.parse("2025-09-23T10:00:00Z"), ZoneOffset.UTC), workers, 100, checkpointInterval, 16,
+                5000, 600);
+    }
+
+    @Test
+    @DisplayName("Should apply every event in per-aggregate order across workers")
+    void shouldApplyEveryEventInAggregateOrder() {
+        ReplayResult result = engine(4, 64).rebuild("recording");
+
+        assertEquals(AGGREGATES * EVENTS_PER_AGGREGATE, result.eventsApplied());
+        assertFalse(result.resumed());
+        assertEquals(1, projection.resets.get());
+        assertEquals(AGGREGATES, projection.applied.size());
+        List<Integer> expected = new ArrayList<>();
+        for (int sequence = 0; sequence < EVENTS_PER_AGGREGATE; sequence++) {
+            expected.add(sequence);
+        }
+        projection.applied.values().forEach(sequences -> assertEquals(expected, sequences));
+    }
+
+    @Test
+    @DisplayName("Should persist checkpoints and the final position")
+    void shouldPersistCheckpoints() {
+        engine(3, 100).rebuild("recording");
+
+        // Given 400 events and an interval of 100, the last checkpoint covers every event
+        verify(jdbcTemplate, atLeastOnce()).update(contains("SET last_position"),
+                eq((long) AGGREGATES * EVENTS_PER_AGGREGATE), eq((long) AGGREGATES * EVENTS_PER_AGGREGATE),
+                eq("recording"));
+        verify(jdbcTemplate).update(contains("SET status"), eq("COMPLETED"), eq("recording"));
+    }
+
+    @Test
+    @DisplayName("Should mark the replay failed and keep earlier checkpoints when a projection throws")
+    void shouldFailWithoutAdvancingPastTheFailure() {
+        projection.failOnSequence = EVENTS_PER_AGGREGATE - 1;
+        ProjectionReplayEngine engine = engine(2, 40);
+
+        assertThrows(EventReplayException.class, () -> engine.rebuild("recording"));
+
+        verify(jdbcTemplate).update(contains("SET status"), eq("FAILED"), eq("recording"));
+        verify(jdbcTemplate, never()).update(contains("SET status"), eq("COMPLETED"), anyString());
+        verify(jdbcTemplate, never()).update(contains("SET last_position"),
+                any(), eq((long) AGGREGATES * EVENTS_PER_AGGREGATE), anyString());
+    }
+
+    @Test
+    @DisplayName("Should resume from a stored checkpoint without resetting the projection")
+    @SuppressWarnings("unchecked")
+    void shouldResumeFromCheckpoint() throws Exception {
+        ResultSet checkpoint = mock(ResultSet.class);
+        when(checkpoint.getLong("last_position")).thenReturn(0L);
+        when(checkpoint.getLong("events_applied")).thenReturn(1000L);
+        when(jdbcTemplate.query(contains("projection_checkpoints"), any(RowMapper.class), eq("recording")))
+                .thenAnswer(invocation -> List.of(((RowMapper<Object>) invocation.getArgument(1)).mapRow(checkpoint, 0)));
+
+        ReplayResult result = engine(2, 1000).resume("recording");
+
+        assertTrue(result.resumed());
+        assertEquals(0, projection.resets.get());
+        assertEquals(1000L + AGGREGATES * EVENTS_PER_AGGREGATE, result.eventsApplied());
+    }
+
+    @Test
+    @DisplayName("Should stop before a position that may still be committed and resume from it later")
+    void shouldStopBeforeUnsettledGaps() {
+        // Given position 101 is missing and the events after it are recent
+        for (int i = 100; i < positions.size(); i++) {
+            positions.set(i, positions.get(i) + 1);
+        }
+        settled = false;
+
+        ReplayResult result = engine(2, 1000).rebuild("recording");
+
+        // Then the replay ends at position 100, and records it as the place to resume from
+        assertEquals(100, result.eventsApplied());
+        verify(jdbcTemplate).update(contains("SET last_position"), eq(100L), eq(100L), eq("recording"));
+    }
+
+    @Test
+    @DisplayName("Should replay past gaps before settled events")
+    void shouldReplayPastSettledGaps() {
+        // Given position 101 is missing but the events after it are old
+        for (int i = 100; i < positions.size(); i++) {
+            positions.set(i, positions.get(i) + 1);
+        }
+
+        ReplayResult result = engine(2, 1000).rebuild("recording");
+
+        assertEquals(AGGREGATES * EVENTS_PER_AGGREGATE, result.eventsApplied());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown projections")
+    void shouldRejectUnknownProjections() {
+        assertThrows(EventReplayException.class, () -> engine(1, 10).rebuild("missing"));
+    }
+
+    @Test
+    @DisplayName("Should not run the same projection twice concurrently")
+    void shouldRejectConcurrentReplays() {
+        AtomicReference<ProjectionReplayEngine> engine = new AtomicReference<>();
+        List<Throwable> rejected = new CopyOnWriteArrayList<>();
+        projection = new RecordingProjection() {
+            @Override
+            public void reset() {
+                // When a second rebuild is requested while the first one is running
+                try {
+                    engine.get().rebuild("recording");
+                } catch (EventReplayException ex) {
+                    rejected.add(ex);
+                }
+            }
+        };
+        engine.set(engine(1, 10));
+
+        engine.get().rebuild("recording");
+
+        assertEquals(1, rejected.size());
+    }
+}
@@ -0,0 +1,131 @@
+package com.xavier.smarteducationapi.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.application.event.TopicListener;
+import com.xavier.smarteducationapi.common.domain.event.AbstractDomainEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.TopicEventRouter;
+
+/**
+ * Unit tests for the topic-based event router.
+ *
+ * Verifies exact and wildcard topic resolution, handler binding
+ * and late subscriptions without starting a Spring context.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Topic Event Router Tests")
+class TopicEventRouterTests {
+
+    private TopicEventRouter router;
+    private RecordingListener listener;
+
+    static class SampleEvent extends AbstractDomainEvent {
+        private final String topic;
+
+        SampleEvent(String topic) {
+            super("aggregate-1", "Sample");
+            this.topic = topic;
+        }
+
+        @Override
+        public String topic() {
+            return topic;
+        }
+    }
+
+    static class RecordingListener {
+        final List<String> received = new ArrayList<>();
+
+        @TopicListener("tenant.created")
+        public void onCreated(SampleEvent event) {
+            received.add("created:" + event.topic());
+        }
+
+        @TopicListener({"tenant.*"})
+        void onAnyTenantEvent(SampleEvent event) {
+            received.add("tenant:" + event.topic());
+        }
+
+        @TopicListener("*")
+        public void onEverything(AbstractDomainEvent event) {
+            received.add("all:" + event.topic());
+        }
+    }
+
+    static class InvalidListener {
+        @TopicListener("tenant.created")
+        public void onCreated(String notAnEvent) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        router = new TopicEventRouter();
+        listener = new RecordingListener();
+        router.postProcessAfterInitialization(listener, "recordingListener");
+        router.afterSingletonsInstantiated();
+    }
+
+    @Test
+    @DisplayName("Should precompile exact topics at startup")
+    void shouldPrecompileExactTopics() {
+        assertTrue(router.getCompiledTopics().contains("tenant.created"));
+    }
+
+    @Test
+    @DisplayName("Should dispatch to exact and wildcard handlers")
+    void shouldDispatchToExactAndWildcardHandlers() {
+        router.route(new SampleEvent("tenant.created"));
+
+        assertEquals(List.of("created:tenant.created", "tenant:tenant.created", "all:tenant.created"),
+                listener.received);
+    }
+
+    @Test
+    @DisplayName("Should match nested topics with a trailing wildcard")
+    void shouldMatchNestedTopicsWithWildcard() {
+        router.route(new SampleEvent("tenant.limits.updated"));
+
+        assertEquals(List.of("tenant:tenant.limits.updated", "all:tenant.limits.updated"), listener.received);
+        assertTrue(router.getCompiledTopics().contains("tenant.limits.updated"));
+    }
+
+    @Test
+    @DisplayName("Should not match the wildcard prefix itself")
+    void shouldNotMatchWildcardPrefixItself() {
+        router.route(new SampleEvent("tenant"));
+
+        assertEquals(List.of("all:tenant"), listener.received);
+    }
+
+    @Test
+    @DisplayName("Should include subscriptions registered after startup")
+    void shouldIncludeLateSubscriptions() {
+        List<String> late = new ArrayList<>();
+        router.route(new SampleEvent("tenant.created"));
+
+        router.subscribe("tenant.created", SampleEvent.class, "late", event -> late.add(event.topic()));
+        router.route(new SampleEvent("tenant.created"));
+
+        assertEquals(List.of("tenant.created"), late);
+    }
+
+    @Test
+    @DisplayName("Should reject listener methods without a domain event parameter")
+    void shouldRejectInvalidListenerMethods() {
+        TopicEventRouter fresh = new TopicEventRouter();
+
+        assertThrows(IllegalStateException.class,
+                () -> fresh.postProcessAfterInitialization(new InvalidListener(), "invalidListener"));
+    }
+}
@@ -228,7 +228,12 @@ class GlobalExceptionSystemTests {
         public Class<com.xavier.smarteducationapi.common.infrastructure.exception.EventPublishingException> getEventPublishingExceptionClass() {
             return com.xavier.smarteducationapi.common.infrastructure.exception.EventPublishingException.class;
         }
-        
+
+        @Override
+        public Class<com.xavier.smarteducationapi.common.infrastructure.exception.EventSerializationException> getEventSerializationExceptionClass() {
+            return com.xavier.smarteducationapi.common.infrastructure.exception.EventSerializationException.class;
+        }
+
         @Override
         public Class<com.xavier.smarteducationapi.common.infrastructure.exception.ExternalServiceException> getExternalServiceExceptionClass() {
             return com.xavier.smarteducationapi.common.infrastructure.exception.ExternalServiceException.class;
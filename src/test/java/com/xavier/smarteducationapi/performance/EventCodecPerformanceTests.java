@@ -0,0 +1,125 @@
+package com.xavier.smarteducationapi.performance;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.BinaryEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.DomainEventCodec;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.EventCodecRegistry;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.JsonEventCodec;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantActivatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantCreatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantDeactivatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantDeletedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantFeatureDisabledEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantFeatureEnabledEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantLimitsUpdatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantSuspendedEvent;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantUpdatedEvent;
+import com.xavier.smarteducationapi.tenant.infrastructure.event.TenantEventSerializers;
+
+/**
+ * Encode/decode throughput and payload size of the event codecs for every tenant event.
+ *
+ * Runs without a Spring context; results are printed per event type so the binary
+ * and JSON codecs can be compared.
+ *
+ * @author Xavier Nhagumbe
+ */
+class EventCodecPerformanceTests {
+
+    private static final int WARMUP_ITERATIONS = 10_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    private final EventCodecRegistry registry = createRegistry();
+    private final DomainEventCodec binary = new BinaryEventCodec(registry);
+    private final DomainEventCodec json = new JsonEventCodec(registry);
+
+    private static EventCodecRegistry createRegistry() {
+        TenantEventSerializers serializers = new TenantEventSerializers();
+        return new EventCodecRegistry(List.of(
+                serializers.tenantCreatedEventSerializer(),
+                serializers.tenantActivatedEventSerializer(),
+                serializers.tenantSuspendedEventSerializer(),
+                serializers.tenantDeactivatedEventSerializer(),
+                serializers.tenantDeletedEventSerializer(),
+                serializers.tenantFeatureEnabledEventSerializer(),
+                serializers.tenantFeatureDisabledEventSerializer(),
+                serializers.tenantLimitsUpdatedEventSerializer(),
+                serializers.tenantUpdatedEventSerializer()));
+    }
+
+    private static List<DomainEvent> tenantEvents() {
+        String tenantId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        return List.of(
+                new TenantCreatedEvent(tenantId, "Escola Secundária da Matola", "matola", "admin@matola.edu.mz"),
+                new TenantActivatedEvent(tenantId, "Escola Secundária da Matola", now),
+                new TenantSuspendedEvent(tenantId, "Escola Secundária da Matola", "Payment overdue", now),
+                new TenantDeactivatedEvent(tenantId, "Escola Secundária da Matola", now),
+                new TenantDeletedEvent(tenantId, "Escola Secundária da Matola", "matola"),
+                new TenantFeatureEnabledEvent(tenantId, "Escola Secundária da Matola", "ATTENDANCE"),
+                new TenantFeatureDisabledEvent(tenantId, "Escola Secundária da Matola", "ATTENDANCE"),
+                new TenantLimitsUpdatedEvent(tenantId, "Escola Secundária da Matola", 250, 5000, 100, 2000),
+                new TenantUpdatedEvent(tenantId, "Escola Secundária da Matola", "CONTACT_INFO"));
+    }
+
+    @Test
+    void shouldEncodeAndDecodeEveryTenantEventFasterAndSmallerInBinary() {
+        System.out.printf("%-28s %10s %10s %14s %14s %14s %14s%n", "event", "bin bytes", "json bytes",
+                "bin enc op/s", "json enc op/s", "bin dec op/s", "json dec op/s");
+
+        for (DomainEvent event : tenantEvents()) {
+            byte[] binaryPayload = binary.encode(event);
+            byte[] jsonPayload = json.encode(event);
+
+            // Decoded events must re-encode to identical payloads
+            assertArrayEquals(binaryPayload, binary.encode(binary.decode(binaryPayload)));
+            assertArrayEquals(binaryPayload, binary.encode(json.decode(jsonPayload)));
+            assertTrue(binaryPayload.length < jsonPayload.length,
+                    event.topic() + ": binary=" + binaryPayload.length + " json=" + jsonPayload.length);
+
+            System.out.printf("%-28s %10d %10d %14.0f %14.0f %14.0f %14.0f%n", event.topic(),
+                    binaryPayload.length, jsonPayload.length,
+                    measureEncode(binary, event), measureEncode(json, event),
+                    measureDecode(binary, binaryPayload), measureDecode(json, jsonPayload));
+        }
+    }
+
+    private static double measureEncode(DomainEventCodec codec, DomainEvent event) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += codec.encode(event).length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += codec.encode(event).length;
+        }
+        return opsPerSecond(start, sink);
+    }
+
+    private static double measureDecode(DomainEventCodec codec, byte[] payload) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += codec.decode(payload).getEventVersion();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += codec.decode(payload).getEventVersion();
+        }
+        return opsPerSecond(start, sink);
+    }
+
+    private static double opsPerSecond(long startNanos, long sink) {
+        long elapsed = Math.max(1, System.nanoTime() - startNanos);
+        assertTrue(sink > 0);
+        return MEASURED_ITERATIONS * 1_000_000_000.0 / elapsed;
+    }
+}
@@ -0,0 +1,76 @@
+package com.xavier.smarteducationapi.performance;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.domain.event.EventIdentityProvider;
+import com.xavier.smarteducationapi.common.domain.event.MonotonicEventIdentityProvider;
+
+/**
+ * Throughput of event identity generation (one identifier and one timestamp per event) with
+ * random UUIDs and the system clock against the monotonic provider, on one thread and under
+ * contention.
+ *
+ * Runs without a Spring context; results are printed per provider.
+ *
+ * @author Xavier Nhagumbe
+ */
+class EventIdentityPerformanceTests {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+    private static final int THREADS = 8;
+
+    @Test
+    void shouldMeasureEventIdentityThroughput() throws Exception {
+        System.out.printf("%-12s %16s %16s%n", "provider", "1 thread op/s", THREADS + " threads op/s");
+        measure("random", EventIdentityProvider.random());
+        measure("monotonic", new MonotonicEventIdentityProvider());
+    }
+
+    private static void measure(String name, EventIdentityProvider provider) throws Exception {
+        run(provider, 1, WARMUP_ITERATIONS);
+        double single = run(provider, 1, MEASURED_ITERATIONS);
+        run(provider, THREADS, WARMUP_ITERATIONS);
+        double contended = run(provider, THREADS, MEASURED_ITERATIONS);
+        System.out.printf("%-12s %16.0f %16.0f%n", name, single, contended);
+    }
+
+    private static double run(EventIdentityProvider provider, int threads, int iterationsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> sinks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                sinks.add(executor.submit(() -> {
+                    start.await();
+                    long sink = 0;
+                    for (int i = 0; i < iterationsPerThread; i++) {
+                        sink += provider.nextEventId().getLeastSignificantBits() | 1;
+                        sink += provider.now().getNano();
+                    }
+                    return sink;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            long sink = 0;
+            for (Future<Long> future : sinks) {
+                sink |= future.get();
+            }
+            long elapsed = Math.max(1, System.nanoTime() - begin);
+            assertTrue(sink != 0);
+            return (double) threads * iterationsPerThread * 1_000_000_000.0 / elapsed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.xavier.smarteducationapi.security.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.xavier.smarteducationapi.common.application.audit.AuditLogCriteria;
+import com.xavier.smarteducationapi.security.application.service.AuditLogAccessService;
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserAccount;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+
+/**
+ * Unit tests for restricting audit log reads to the caller's tenant.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Audit Log Access Service Tests")
+class AuditLogAccessServiceTests {
+
+    private static final int READ_ALL = 7;
+
+    private AuditLogAccessService service;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        AuthorizationService authorizationService = mock(AuthorizationService.class);
+        when(authorizationService.ordinalOf(new Permission("AUDIT", "READ_ALL"))).thenReturn(READ_ALL);
+        service = new AuditLogAccessService(authorizationService);
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should narrow queries without a tenant to the caller's tenant")
+    void shouldNarrowToCallerTenant() {
+        AuditLogCriteria restricted = service.restrict(caller(tenantId, PermissionSet.of(1)), criteria(null));
+
+        assertEquals(tenantId, restricted.tenantId());
+        assertEquals("Tenant", restricted.entityType());
+    }
+
+    @Test
+    @DisplayName("Should refuse queries for another tenant")
+    void shouldRefuseOtherTenants() {
+        Authentication caller = caller(tenantId, PermissionSet.of(1));
+
+        assertThrows(AccessDeniedException.class, () -> service.restrict(caller, criteria(UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("Should let callers holding AUDIT:READ_ALL read any tenant")
+    void shouldLetSystemAuditorsReadAnyTenant() {
+        Authentication caller = caller(null, PermissionSet.of(READ_ALL));
+        UUID other = UUID.randomUUID();
+
+        assertEquals(other, service.restrict(caller, criteria(other)).tenantId());
+        assertNull(service.restrict(caller, criteria(null)).tenantId());
+    }
+
+    @Test
+    @DisplayName("Should refuse callers without a tenant or AUDIT:READ_ALL")
+    void shouldRefuseSystemUsersWithoutReadAll() {
+        Authentication caller = caller(null, PermissionSet.of(1));
+
+        assertThrows(AccessDeniedException.class, () -> service.restrict(caller, criteria(null)));
+    }
+
+    private static AuditLogCriteria criteria(@Nullable UUID tenantId) {
+        return new AuditLogCriteria(tenantId, "Tenant", null, null, null, null);
+    }
+
+    private static Authentication caller(@Nullable UUID tenantId, PermissionSet permissions) {
+        UserAccount account = new UserAccount(UUID.randomUUID(), tenantId, "auditor", "auditor@school.test", "ACTIVE");
+        return new TestingAuthenticationToken(new UserPrincipal(account, List.of("AUDITOR"), permissions, 1L), "");
+    }
+}
@@ -0,0 +1,152 @@
+package com.xavier.smarteducationapi.security.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.repository.AuthorizationRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+
+/**
+ * Unit tests for the AuthorizationService.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Authorization Service Tests")
+class AuthorizationServiceTests {
+
+    private static final Permission TENANT_READ = new Permission("TENANT", "READ");
+    private static final Permission TENANT_UPDATE = new Permission("TENANT", "UPDATE");
+    private static final Permission USER_DELETE = new Permission("USER", "DELETE");
+
+    private AuthorizationRepository repository;
+    private AuthorizationService service;
+    private UUID tenantId;
+    private UUID userId;
+    private UUID readerRole;
+    private UUID editorRole;
+    private Map<UUID, Long> versions;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(AuthorizationRepository.class);
+        service = new AuthorizationService(repository, 2, 100);
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        readerRole = UUID.randomUUID();
+        editorRole = UUID.randomUUID();
+        versions = new HashMap<>();
+
+        when(repository.findPermissionOrdinals()).thenReturn(Map.of(TENANT_READ, 0, TENANT_UPDATE, 1, USER_DELETE, 2));
+        when(repository.findRolePermissions(any())).thenReturn(Map.of(
+                readerRole, PermissionSet.of(0),
+                editorRole, PermissionSet.of(0, 1)));
+        when(repository.findRoleIds(tenantId, userId)).thenReturn(List.of(readerRole, editorRole));
+        when(repository.findVersions(anyCollection())).thenAnswer(invocation -> Map.copyOf(versions));
+    }
+
+    @Test
+    @DisplayName("Should grant the union of the user's roles")
+    void shouldGrantUnionOfRoles() {
+        assertTrue(service.isAllowed(tenantId, userId, TENANT_READ));
+        assertTrue(service.isAllowed(tenantId, userId, TENANT_UPDATE));
+        assertFalse(service.isAllowed(tenantId, userId, USER_DELETE));
+        assertFalse(service.isAllowed(tenantId, userId, new Permission("UNKNOWN", "READ")));
+    }
+
+    @Test
+    @DisplayName("Should resolve the names of the user's roles")
+    void shouldResolveRoleNames() {
+        // Given
+        when(repository.findRoleNames(tenantId)).thenReturn(Map.of(readerRole, "READER", editorRole, "EDITOR"));
+
+        // Then
+        assertEquals(List.of("READER", "EDITOR"), service.rolesOf(tenantId, userId));
+    }
+
+    @Test
+    @DisplayName("Should compile a tenant and a user once")
+    void shouldCacheCompiledPermissions() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            service.isAllowed(tenantId, userId, TENANT_UPDATE);
+        }
+
+        // Then
+        verify(repository, times(1)).findRolePermissions(tenantId);
+        verify(repository, times(1)).findRoleIds(tenantId, userId);
+    }
+
+    @Test
+    @DisplayName("Should recompile a tenant whose roles changed")
+    void shouldDropStaleTenants() {
+        // Given
+        service.refresh();
+        service.isAllowed(tenantId, userId, TENANT_UPDATE);
+        long before = service.versionOf(tenantId);
+
+        // When the roles of the tenant change
+        versions.put(tenantId, 3L);
+        int dropped = service.refresh();
+        when(repository.findRoleIds(tenantId, userId)).thenReturn(List.of(readerRole));
+
+        // Then
+        assertEquals(1, dropped);
+        assertFalse(service.isAllowed(tenantId, userId, TENANT_UPDATE));
+        assertEquals(before + 3, service.versionOf(tenantId));
+    }
+
+    @Test
+    @DisplayName("Should drop every tenant when system roles change")
+    void shouldDropAllTenantsOnSystemChange() {
+        // Given
+        service.refresh();
+        service.isAllowed(tenantId, userId, TENANT_READ);
+        service.refresh();
+        assertEquals(1, service.getCachedTenantCount());
+
+        // When
+        versions.put(AuthorizationRepository.SYSTEM_TENANT, 2L);
+        service.refresh();
+
+        // Then
+        assertEquals(0, service.getCachedTenantCount());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used tenant")
+    void shouldEvictLeastRecentlyUsedTenant() {
+        // Given a cache of two tenants
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        service.permissionsOf(tenantId, userId);
+        service.permissionsOf(second, userId);
+        service.permissionsOf(tenantId, userId);
+
+        // When
+        service.permissionsOf(third, userId);
+
+        // Then the second tenant is compiled again on its next use
+        assertEquals(2, service.getCachedTenantCount());
+        service.permissionsOf(second, userId);
+        verify(repository, times(2)).findRolePermissions(second);
+        verify(repository, times(1)).findRolePermissions(tenantId);
+    }
+}
@@ -0,0 +1,302 @@
+package com.xavier.smarteducationapi.security.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.xavier.smarteducationapi.security.application.command.LoginCommand;
+import com.xavier.smarteducationapi.security.application.dto.AccessTokenDto;
+import com.xavier.smarteducationapi.security.application.exception.LoginThrottledException;
+import com.xavier.smarteducationapi.security.application.login.LoginThrottle;
+import com.xavier.smarteducationapi.security.application.login.PasswordHashingExecutor;
+import com.xavier.smarteducationapi.security.application.service.LoginService;
+import com.xavier.smarteducationapi.security.application.service.RefreshTokenService;
+import com.xavier.smarteducationapi.security.domain.repository.UserCredentialsRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserCredentials;
+
+/**
+ * Unit tests for password logins, their throttling and the bounded hashing pool.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Login Service Tests")
+class LoginServiceTests {
+
+    private static final String ADDRESS = "203.0.113.7";
+
+    private UserCredentialsRepository repository;
+    private RefreshTokenService refreshTokenService;
+    private MutableClock clock;
+    private AtomicInteger hashes;
+    private PasswordHashingExecutor passwordHashing;
+    private LoginThrottle throttle;
+    private LoginService service;
+    private UUID tenantId;
+    private UserCredentials user;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserCredentialsRepository.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        clock = new MutableClock(Instant.parse("2025-09-23T08:00:00Z"));
+        hashes = new AtomicInteger();
+        passwordHashing = new PasswordHashingExecutor(new CountingEncoder(), 2, 8, 5000, 2);
+        throttle = new LoginThrottle(repository, clock, new LoginThrottle.Limit(3, Duration.ofMinutes(15)),
+                Duration.ofMinutes(15), new LoginThrottle.Limit(10, Duration.ofMinutes(5)), 1000);
+        service = new LoginService(repository, passwordHashing, throttle, refreshTokenService, clock);
+        tenantId = UUID.randomUUID();
+        user = new UserCredentials(UUID.randomUUID(), tenantId, "hash:secret", UserCredentials.ACTIVE, 0, null);
+
+        when(repository.findByEmail(tenantId, "ana@school.mz")).thenReturn(Optional.of(user));
+        when(refreshTokenService.issue(eq(user.userId()), eq(tenantId), any(), any()))
+                .thenReturn(AccessTokenDto.builder().accessToken("access").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashing.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Accounts")
+    class Accounts {
+
+        @Test
+        @DisplayName("Should log in with a case-insensitive email")
+        void shouldLogIn() {
+            // When
+            AccessTokenDto tokens = service.login(command(" Ana@School.mz", "secret"), ADDRESS, "test");
+
+            // Then
+            assertEquals("access", tokens.getAccessToken());
+            verify(repository).recordLogin(user.userId());
+        }
+
+        @Test
+        @DisplayName("Should lock an account after repeated failures without hashing further attempts")
+        void shouldLockAccount() {
+            // Given
+            for (int i = 0; i < 3; i++) {
+                assertThrows(BadCredentialsException.class, () -> service.login(command("ana@school.mz", "guess"),
+                        ADDRESS, null));
+            }
+            int hashed = hashes.get();
+
+            // When
+            LoginThrottledException thrown = assertThrows(LoginThrottledException.class,
+                    () -> service.login(command("ana@school.mz", "secret"), ADDRESS, null));
+
+            // Then
+            assertEquals(LoginThrottledException.ACCOUNT_THROTTLED, thrown.getErrorCode());
+            assertTrue(thrown.getRetryAfter().compareTo(Duration.ofMinutes(14)) > 0);
+            assertEquals(hashed, hashes.get());
+            verify(repository).lockUntil(user.userId(), clock.instant().plus(Duration.ofMinutes(15)));
+            verify(repository, times(3)).findByEmail(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should forget failures that slid out of the window")
+        void shouldSlideWindow() {
+            // Given two failures
+            for (int i = 0; i < 2; i++) {
+                assertThrows(BadCredentialsException.class, () -> service.login(command("ana@school.mz", "guess"),
+                        ADDRESS, null));
+            }
+
+            // When a window and a half later
+            clock.advance(Duration.ofMinutes(23));
+            assertThrows(BadCredentialsException.class, () -> service.login(command("ana@school.mz", "guess"),
+                    ADDRESS, null));
+
+            // Then the account is not locked
+            assertNotNull(service.login(command("ana@school.mz", "secret"), ADDRESS, null));
+            verify(repository, never()).lockUntil(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should refuse an account locked by another node like an unknown one")
+        void shouldHonourStoredLock() {
+            // Given
+            UserCredentials locked = new UserCredentials(user.userId(), tenantId, user.passwordHash(),
+                    UserCredentials.ACTIVE, 5, clock.instant().plusSeconds(60));
+            when(repository.findByEmail(tenantId, "ana@school.mz")).thenReturn(Optional.of(locked));
+            BadCredentialsException unknown = assertThrows(BadCredentialsException.class,
+                    () -> service.login(command("nobody@school.mz", "secret"), ADDRESS, null));
+            int hashed = hashes.get();
+
+            // When
+            BadCredentialsException thrown = assertThrows(BadCredentialsException.class,
+                    () -> service.login(command("ana@school.mz", "secret"), ADDRESS, null));
+
+            // Then the password was hashed and the answer does not reveal the lock
+            assertEquals(hashed + 1, hashes.get());
+            assertEquals(unknown.getMessage(), thrown.getMessage());
+            verify(refreshTokenService, never()).issue(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should add failed attempts to the database in one batch")
+        void shouldSyncFailures() {
+            // Given
+            assertThrows(BadCredentialsException.class, () -> service.login(command("ana@school.mz", "guess"),
+                    ADDRESS, null));
+            assertThrows(BadCredentialsException.class, () -> service.login(command("ana@school.mz", "guess"),
+                    ADDRESS, null));
+
+            // When
+            int synced = throttle.sync();
+
+            // Then
+            assertEquals(1, synced);
+            verify(repository).addFailedAttempts(Map.of(user.userId(), 2));
+            assertEquals(0, throttle.sync());
+        }
+    }
+
+    @Nested
+    @DisplayName("Addresses")
+    class Addresses {
+
+        @Test
+        @DisplayName("Should refuse an address failing across many accounts")
+        void shouldThrottleAddress() {
+            // Given a credential stuffing run over unknown accounts
+            for (int i = 0; i < 10; i++) {
+                String email = "user" + i + "@example.com";
+                assertThrows(BadCredentialsException.class, () -> service.login(command(email, "guess"), ADDRESS,
+                        null));
+            }
+
+            // When
+            LoginThrottledException thrown = assertThrows(LoginThrottledException.class,
+                    () -> service.login(command("ana@school.mz", "secret"), ADDRESS, null));
+
+            // Then the address is refused but others are not
+            assertEquals(LoginThrottledException.ADDRESS_THROTTLED, thrown.getErrorCode());
+            assertNotNull(service.login(command("ana@school.mz", "secret"), "198.51.100.1", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Hashing")
+    class Hashing {
+
+        @Test
+        @DisplayName("Should refuse hashing once the pool and its queue are full")
+        void shouldRejectWhenSaturated() throws Exception {
+            // Given a pool of one thread and one queued task, both blocked
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            PasswordEncoder blocking = new CountingEncoder() {
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return true;
+                }
+            };
+            PasswordHashingExecutor saturated = new PasswordHashingExecutor(blocking, 1, 1, 5000, 1);
+            try {
+                CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> saturated.matches("a", "b"));
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+                CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> saturated.matches("a", "b"));
+                while (saturated.getQueued() == 0) {
+                    Thread.onSpinWait();
+                }
+
+                // When
+                LoginThrottledException thrown = assertThrows(LoginThrottledException.class,
+                        () -> saturated.matches("a", "b"));
+
+                // Then
+                assertEquals(LoginThrottledException.CAPACITY_EXCEEDED, thrown.getErrorCode());
+                assertEquals(1, saturated.getRejected());
+                release.countDown();
+                assertTrue(running.get(5, TimeUnit.SECONDS));
+                assertTrue(queued.get(5, TimeUnit.SECONDS));
+            } finally {
+                release.countDown();
+                saturated.shutdown();
+            }
+        }
+    }
+
+    private LoginCommand command(String email, String password) {
+        return LoginCommand.builder().tenantId(tenantId).email(email).password(password).build();
+    }
+
+    private class CountingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashes.incrementAndGet();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hashes.incrementAndGet();
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.xavier.smarteducationapi.security.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.security.application.principal.PrincipalCache;
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.event.UserChangedEvent;
+import com.xavier.smarteducationapi.security.domain.repository.UserAccountRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserAccount;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+
+/**
+ * Unit tests for the PrincipalCache.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Principal Cache Tests")
+class PrincipalCacheTests {
+
+    private UserAccountRepository repository;
+    private AuthorizationService authorizationService;
+    private AggregateChangeFeed changeFeed;
+    private PrincipalCache cache;
+    private UUID tenantId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserAccountRepository.class);
+        authorizationService = mock(AuthorizationService.class);
+        changeFeed = mock(AggregateChangeFeed.class);
+        cache = new PrincipalCache(repository, authorizationService, changeFeed, 2, 2);
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+
+        when(repository.findById(any(), any())).thenAnswer(invocation -> Optional.of(new UserAccount(
+                invocation.getArgument(1), invocation.getArgument(0), "user", "user@school.test", "ACTIVE")));
+        when(authorizationService.versionOf(any())).thenReturn(1L);
+        when(authorizationService.rolesOf(any(), any())).thenReturn(List.of("TEACHER"));
+        when(authorizationService.permissionsOf(any(), any())).thenReturn(PermissionSet.of(0));
+    }
+
+    @Test
+    @DisplayName("Should build a principal once and serve it from memory")
+    void shouldCachePrincipal() {
+        // When
+        UserPrincipal first = cache.get(tenantId, userId).orElseThrow();
+        for (int i = 0; i < 100; i++) {
+            assertSame(first, cache.get(tenantId, userId).orElseThrow());
+        }
+
+        // Then
+        assertEquals(List.of("TEACHER"), first.roles());
+        assertTrue(first.isActive());
+        verify(repository, times(1)).findById(tenantId, userId);
+        assertEquals(100, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Should cache users that do not exist")
+    void shouldCacheMissingUser() {
+        // Given
+        when(repository.findById(tenantId, userId)).thenReturn(Optional.empty());
+
+        // When
+        cache.get(tenantId, userId);
+
+        // Then
+        assertFalse(cache.get(tenantId, userId).isPresent());
+        verify(repository, times(1)).findById(tenantId, userId);
+    }
+
+    @Test
+    @DisplayName("Should rebuild permissions without reading the account when the tenant's roles changed")
+    void shouldRebuildStalePermissions() {
+        // Given
+        cache.get(tenantId, userId);
+
+        // When
+        when(authorizationService.versionOf(tenantId)).thenReturn(2L);
+        when(authorizationService.permissionsOf(tenantId, userId)).thenReturn(PermissionSet.of(0, 1));
+        UserPrincipal rebuilt = cache.get(tenantId, userId).orElseThrow();
+
+        // Then
+        assertEquals(2L, rebuilt.version());
+        assertTrue(rebuilt.permissions().contains(1));
+        verify(repository, times(1)).findById(tenantId, userId);
+    }
+
+    @Test
+    @DisplayName("Should evict only the users of the tenant that is full")
+    void shouldEvictPerTenant() {
+        // Given
+        UUID otherTenant = UUID.randomUUID();
+        cache.get(otherTenant, userId);
+
+        // When one tenant caches more users than it may keep
+        UUID first = UUID.randomUUID();
+        cache.get(tenantId, first);
+        cache.get(tenantId, UUID.randomUUID());
+        cache.get(tenantId, UUID.randomUUID());
+
+        // Then its least recently used user is read again, the other tenant's user is not
+        cache.get(otherTenant, userId);
+        cache.get(tenantId, first);
+        verify(repository, times(1)).findById(otherTenant, userId);
+        verify(repository, times(2)).findById(tenantId, first);
+        assertEquals(3, cache.getSize());
+    }
+
+    @Test
+    @DisplayName("Should drop a user's principal when the user changes")
+    void shouldInvalidateOnUserEvent() {
+        // Given
+        cache.get(tenantId, userId);
+
+        // When
+        cache.onUserEvent(new UserChangedEvent(userId.toString(), tenantId.toString(), "STATUS"));
+        cache.get(tenantId, userId);
+
+        // Then
+        verify(repository, times(2)).findById(tenantId, userId);
+        verify(authorizationService).invalidateUser(tenantId, userId);
+    }
+
+    @Test
+    @DisplayName("Should drop the principals of users changed on other nodes")
+    void shouldInvalidateFromChangeFeed() {
+        // Given
+        when(changeFeed.latestPosition()).thenReturn(10L);
+        cache.refresh();
+        cache.get(tenantId, userId);
+
+        // When
+        when(changeFeed.changesAfter(eq(UserChangedEvent.AGGREGATE_TYPE), anyLong(), anyInt()))
+                .thenReturn(new AggregateChanges(Set.of(userId.toString()), 11L, false, false));
+        int changed = cache.refresh();
+        cache.get(tenantId, userId);
+
+        // Then
+        assertEquals(1, changed);
+        verify(changeFeed).changesAfter(eq(UserChangedEvent.AGGREGATE_TYPE), eq(10L), anyInt());
+        verify(repository, times(2)).findById(tenantId, userId);
+    }
+}
@@ -0,0 +1,247 @@
+package com.xavier.smarteducationapi.security.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import com.xavier.smarteducationapi.security.application.dto.AccessTokenDto;
+import com.xavier.smarteducationapi.security.application.service.AccessTokenService;
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.application.service.RefreshTokenService;
+import com.xavier.smarteducationapi.security.application.token.RefreshTokenCodec;
+import com.xavier.smarteducationapi.security.application.token.RevokedTokenFilter;
+import com.xavier.smarteducationapi.security.domain.repository.RefreshTokenRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessToken;
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessTokenClaims;
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshToken;
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshTokenClaims;
+
+/**
+ * Unit tests for refresh token issuing, exchange and revocation.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Refresh Token Service Tests")
+class RefreshTokenServiceTests {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Instant NOW = Instant.parse("2025-09-23T08:00:00Z");
+
+    private RefreshTokenCodec codec;
+    private RefreshTokenRepository repository;
+    private AccessTokenService accessTokenService;
+    private AuthorizationService authorizationService;
+    private RevokedTokenFilter revokedTokens;
+    private RefreshTokenService service;
+    private UUID userId;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        codec = mock(RefreshTokenCodec.class);
+        repository = mock(RefreshTokenRepository.class);
+        accessTokenService = mock(AccessTokenService.class);
+        authorizationService = mock(AuthorizationService.class);
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        revokedTokens = new RevokedTokenFilter(repository, clock, 1000, 0.001, 3_600_000);
+        service = new RefreshTokenService(codec, repository, revokedTokens, accessTokenService, authorizationService,
+                clock, Duration.ofDays(30), 100, 5);
+        userId = UUID.randomUUID();
+        tenantId = UUID.randomUUID();
+
+        when(codec.encodeRefresh(any())).thenReturn(TOKEN);
+        when(codec.decodeRefresh(TOKEN)).thenReturn(
+                new RefreshTokenClaims(UUID.randomUUID(), userId, tenantId, NOW, NOW.plus(Duration.ofDays(30))));
+        when(authorizationService.rolesOf(tenantId, userId)).thenReturn(List.of("TEACHER"));
+        AccessTokenClaims claims = new AccessTokenClaims("jti", userId, tenantId, List.of("TEACHER"), 1, null, NOW,
+                NOW.plusSeconds(900));
+        when(accessTokenService.issue(userId, tenantId, List.of("TEACHER"))).thenReturn(new AccessToken("access", claims));
+    }
+
+    @Nested
+    @DisplayName("Exchange")
+    class Exchange {
+
+        @Test
+        @DisplayName("Should store only the hash of an issued token")
+        void shouldStoreHash() {
+            // When
+            AccessTokenDto issued = service.issue(userId, tenantId, "10.0.0.1", "test");
+
+            // Then
+            assertEquals(TOKEN, issued.getRefreshToken());
+            assertEquals("access", issued.getAccessToken());
+            verify(repository).save(argThat((RefreshToken token) ->
+                    token.tokenHash().equals(sha256(TOKEN)) && token.userId().equals(userId)));
+        }
+
+        @Test
+        @DisplayName("Should refresh without reading the token table once the filter is loaded")
+        void shouldSkipLookupWhenNotRevoked() {
+            // Given
+            revokedTokens.sync();
+
+            // When
+            AccessTokenDto refreshed = service.refresh(TOKEN);
+
+            // Then
+            assertEquals("access", refreshed.getAccessToken());
+            assertNull(refreshed.getRefreshToken());
+            verify(repository, never()).findByHash(anyString());
+        }
+
+        @Test
+        @DisplayName("Should look up every token until the filter is loaded")
+        void shouldLookUpBeforeLoad() {
+            // Given
+            when(repository.findByHash(sha256(TOKEN))).thenReturn(Optional.of(stored(false)));
+
+            // When
+            service.refresh(TOKEN);
+
+            // Then
+            verify(repository).findByHash(sha256(TOKEN));
+        }
+
+        @Test
+        @DisplayName("Should reject a token revoked on another node after the next sync")
+        void shouldRejectRevokedToken() {
+            // Given
+            revokedTokens.sync();
+            when(repository.findRevokedWithin(anyLong())).thenReturn(List.of(sha256(TOKEN)));
+            when(repository.findByHash(sha256(TOKEN))).thenReturn(Optional.of(stored(true)));
+
+            // When
+            revokedTokens.sync();
+
+            // Then
+            assertThrows(BadCredentialsException.class, () -> service.refresh(TOKEN));
+            verify(accessTokenService, never()).issue(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Revocation")
+    class Revocation {
+
+        @Test
+        @DisplayName("Should flag a token revoked on this node immediately")
+        void shouldFlagLocalRevocation() {
+            // Given
+            revokedTokens.sync();
+            when(repository.revoke(sha256(TOKEN))).thenReturn(true);
+
+            // When
+            assertTrue(service.revoke(TOKEN));
+
+            // Then
+            assertTrue(revokedTokens.mightBeRevoked(sha256(TOKEN)));
+        }
+
+        @Test
+        @DisplayName("Should reject forged tokens before touching the store or the filter")
+        void shouldRejectForgedTokens() {
+            // Given
+            revokedTokens.sync();
+            when(codec.decodeRefresh("forged")).thenThrow(new BadCredentialsException("Invalid refresh token"));
+
+            // When / Then
+            assertThrows(BadCredentialsException.class, () -> service.revoke("forged"));
+            verify(repository, never()).revoke(anyString());
+            assertFalse(revokedTokens.mightBeRevoked(sha256("forged")));
+        }
+
+        @Test
+        @DisplayName("Should not flag tokens the store did not revoke")
+        void shouldNotFlagUnknownTokens() {
+            // Given
+            revokedTokens.sync();
+            when(repository.revoke(sha256(TOKEN))).thenReturn(false);
+
+            // When
+            assertFalse(service.revoke(TOKEN));
+
+            // Then
+            assertFalse(revokedTokens.mightBeRevoked(sha256(TOKEN)));
+        }
+
+        @Test
+        @DisplayName("Should load revocations when rebuilding the filter")
+        void shouldRebuildFromRevokedTokens() {
+            // Given
+            String revoked = sha256("revoked");
+            doAnswer(invocation -> {
+                Consumer<String> consumer = invocation.getArgument(0);
+                consumer.accept(revoked);
+                return null;
+            }).when(repository).forEachRevokedHash(any());
+
+            // When
+            revokedTokens.sync();
+
+            // Then
+            assertTrue(revokedTokens.mightBeRevoked(revoked));
+            assertFalse(revokedTokens.mightBeRevoked(sha256(TOKEN)));
+        }
+
+        @Test
+        @DisplayName("Should delete expired tokens in bounded batches")
+        void shouldSweepInBatches() {
+            // Given
+            when(repository.deleteExpired(anyInt())).thenReturn(100, 100, 40);
+
+            // When
+            int deleted = service.sweepExpired();
+
+            // Then
+            assertEquals(240, deleted);
+            verify(repository, times(3)).deleteExpired(eq(100));
+        }
+    }
+
+    private RefreshToken stored(boolean revoked) {
+        return new RefreshToken(UUID.randomUUID(), userId, sha256(TOKEN), NOW.plus(Duration.ofDays(30)), revoked,
+                null, null);
+    }
+
+    private static String sha256(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
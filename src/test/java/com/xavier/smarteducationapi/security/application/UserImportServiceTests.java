@@ -0,0 +1,255 @@
+package com.xavier.smarteducationapi.security.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.smarteducationapi.common.application.exception.ValidationException;
+import com.xavier.smarteducationapi.common.domain.exception.BusinessRuleViolationException;
+import com.xavier.smarteducationapi.security.application.dto.UserImportResultDto;
+import com.xavier.smarteducationapi.security.application.importing.UserImportFormat;
+import com.xavier.smarteducationapi.security.application.login.PasswordHashingExecutor;
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.application.service.UserImportService;
+import com.xavier.smarteducationapi.security.domain.repository.AuthorizationRepository;
+import com.xavier.smarteducationapi.security.domain.repository.UserProvisioningRepository;
+import com.xavier.smarteducationapi.security.domain.valueobject.NewUser;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserAccount;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+import com.xavier.smarteducationapi.tenant.application.api.TenantCapabilitiesApi;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.SubscriptionPlan;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
+
+/**
+ * Unit tests for bulk user imports.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("User Import Service Tests")
+class UserImportServiceTests {
+
+    private UserProvisioningRepository repository;
+    private AuthorizationRepository authorizationRepository;
+    private AuthorizationService authorizationService;
+    private TenantCapabilitiesApi tenantCapabilitiesApi;
+    private PasswordHashingExecutor passwordHashing;
+    private UserImportService service;
+    private UUID tenantId;
+    private UserPrincipal caller;
+    private UUID teacherRole;
+    private List<NewUser> inserted;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserProvisioningRepository.class);
+        authorizationRepository = mock(AuthorizationRepository.class);
+        authorizationService = mock(AuthorizationService.class);
+        tenantCapabilitiesApi = mock(TenantCapabilitiesApi.class);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+        passwordHashing = new PasswordHashingExecutor(encoder, 1, 1, 1000, 2);
+        service = new UserImportService(repository, authorizationRepository, authorizationService,
+                tenantCapabilitiesApi, passwordHashing,
+                mock(PlatformTransactionManager.class), new ObjectMapper(), 2, 100);
+        tenantId = UUID.randomUUID();
+        caller = principal(tenantId);
+        teacherRole = UUID.randomUUID();
+        inserted = new ArrayList<>();
+
+        givenTenant(TenantStatus.ACTIVE, null);
+        when(authorizationService.isAllowed(eq(tenantId), any(), eq(new Permission("USER", "CREATE"))))
+                .thenReturn(true);
+        when(authorizationRepository.findRoleNames(tenantId))
+                .thenReturn(Map.of(teacherRole, "TEACHER", UUID.randomUUID(), "SUPER_ADMIN"));
+        when(authorizationRepository.findAssignableRoleNames(tenantId)).thenReturn(Map.of(teacherRole, "TEACHER"));
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<NewUser> users = invocation.getArgument(0);
+            inserted.addAll(users);
+            boolean[] result = new boolean[users.size()];
+            Arrays.fill(result, true);
+            return result;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashing.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should import a CSV upload and report the records it skipped")
+    void shouldImportCsv() {
+        // Given
+        when(repository.findExistingEmails(any(), anyCollection())).thenReturn(Set.of("taken@school.mz"));
+        String csv = """
+                Email,Password,First Name,Last Name,Roles
+                ana@school.mz,secret-123,Ana,"Silva, Jr.",teacher
+                taken@school.mz,secret-123,Rui,Costa,
+                ANA@school.mz,secret-123,Ana,Again,
+                not-an-email,secret-123,,,
+                "quoted@school.mz","pass""word1",Eva,"Multi
+                line",
+                rita@school.mz,secret-123,Rita,Lopes,PRINCIPAL
+                """;
+
+        // When
+        UserImportResultDto result = importCsv(csv);
+
+        // Then
+        assertEquals(6, result.getReceived());
+        assertEquals(2, result.getCreated());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(2, result.getRejected());
+        assertEquals(List.of(3L, 4L, 5L, 8L), result.getErrors().stream().map(error -> error.getLine()).toList());
+        assertEquals("Unknown role 'PRINCIPAL'", result.getErrors().get(3).getReason());
+        NewUser ana = inserted.get(0);
+        assertEquals("Silva, Jr.", ana.lastName());
+        assertEquals("ana@school.mz", ana.username());
+        assertEquals(List.of(teacherRole), ana.roleIds());
+        NewUser quoted = inserted.get(1);
+        assertEquals("hash:pass\"word1", quoted.passwordHash());
+        assertEquals("Multi\nline", quoted.lastName());
+    }
+
+    @Test
+    @DisplayName("Should check taken emails once per batch")
+    void shouldCheckEmailsPerBatch() {
+        // Given
+        String ndjson = """
+                {"email":"a@school.mz","password":"secret-123","roles":["TEACHER"]}
+                {"email":"b@school.mz","password":"secret-123"}
+
+                {"email":"c@school.mz","password":"secret-123","firstName":"Carla"}
+                {not json}
+                """;
+
+        // When
+        UserImportResultDto result = service.importUsers(caller, tenantId, UserImportFormat.NDJSON, body(ndjson));
+
+        // Then
+        assertEquals(4, result.getReceived());
+        assertEquals(3, result.getCreated());
+        assertEquals(1, result.getRejected());
+        assertEquals(5, result.getErrors().get(0).getLine());
+        verify(repository, times(2)).findExistingEmails(any(), anyCollection());
+        assertEquals("Carla", inserted.get(2).firstName());
+    }
+
+    @Test
+    @DisplayName("Should stop at the tenant's user quota without hashing later batches")
+    void shouldEnforceQuota() {
+        // Given room for two more users
+        givenTenant(TenantStatus.ACTIVE, 10);
+        when(repository.countUsersForUpdate(tenantId)).thenReturn(8, 10);
+        String csv = "email,password\n" + "a@school.mz,secret-123\n" + "b@school.mz,secret-123\n"
+                + "c@school.mz,secret-123\n" + "d@school.mz,secret-123\n" + "e@school.mz,secret-123\n";
+
+        // When
+        UserImportResultDto result = importCsv(csv);
+
+        // Then
+        assertEquals(2, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertTrue(result.getErrors().get(0).getReason().contains("quota of 10"));
+        verify(repository, times(2)).countUsersForUpdate(tenantId);
+        verify(repository, times(2)).findExistingEmails(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should refuse uploads without the required columns or into inactive tenants")
+    void shouldRefuseInvalidUploads() {
+        assertThrows(ValidationException.class, () -> importCsv("email,name\na@school.mz,Ana\n"));
+
+        givenTenant(TenantStatus.SUSPENDED, null);
+        assertThrows(BusinessRuleViolationException.class, () -> importCsv("email,password\n"));
+        verify(repository, never()).insertAll(anyList());
+        assertTrue(inserted.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject records assigning system roles")
+    void shouldRejectSystemRoles() {
+        // Given
+        String csv = """
+                email,password,roles
+                root@school.mz,secret-123,SUPER_ADMIN
+                ana@school.mz,secret-123,TEACHER
+                """;
+
+        // When
+        UserImportResultDto result = importCsv(csv);
+
+        // Then
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getRejected());
+        assertEquals("Unknown role 'SUPER_ADMIN'", result.getErrors().get(0).getReason());
+        assertEquals(List.of("ana@school.mz"), inserted.stream().map(NewUser::email).toList());
+    }
+
+    @Test
+    @DisplayName("Should refuse callers of another tenant or without the user creation permission")
+    void shouldRefuseUnauthorizedCallers() {
+        // Given
+        UserPrincipal outsider = principal(UUID.randomUUID());
+        UserPrincipal systemUser = principal(null);
+        when(authorizationService.isAllowed(eq(tenantId), any(), eq(new Permission("USER", "CREATE"))))
+                .thenReturn(false);
+
+        // When / Then
+        assertThrows(AccessDeniedException.class, () -> service.importUsers(outsider, tenantId,
+                UserImportFormat.CSV, body("email,password\na@school.mz,secret-123\n")));
+        assertThrows(AccessDeniedException.class, () -> service.importUsers(systemUser, tenantId,
+                UserImportFormat.CSV, body("email,password\na@school.mz,secret-123\n")));
+        assertThrows(AccessDeniedException.class, () -> importCsv("email,password\na@school.mz,secret-123\n"));
+        verify(repository, never()).insertAll(anyList());
+    }
+
+    private UserImportResultDto importCsv(String csv) {
+        return service.importUsers(caller, tenantId, UserImportFormat.CSV, body(csv));
+    }
+
+    private void givenTenant(TenantStatus status, Integer maxUsers) {
+        when(tenantCapabilitiesApi.capabilitiesOf(tenantId.toString())).thenReturn(Optional.of(
+                new TenantCapabilities(status, 0, SubscriptionPlan.BASIC, maxUsers, null, 1)));
+    }
+
+    private static UserPrincipal principal(UUID tenantId) {
+        UserAccount account = new UserAccount(UUID.randomUUID(), tenantId, "admin", "admin@school.mz", "ACTIVE");
+        return new UserPrincipal(account, List.of("ADMIN"), PermissionSet.of(), 1L);
+    }
+
+    private static ByteArrayInputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,85 @@
+package com.xavier.smarteducationapi.security.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.valueobject.Permission;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserAccount;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+import com.xavier.smarteducationapi.security.infrastructure.config.PermissionAuthorizationManager;
+
+/**
+ * Unit tests for endpoint permission checks against compiled permission sets.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Permission Authorization Manager Tests")
+class PermissionAuthorizationManagerTests {
+
+    private static final Permission TENANT_READ = new Permission("TENANT", "READ");
+
+    private AuthorizationService authorizationService;
+    private PermissionAuthorizationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        authorizationService = mock(AuthorizationService.class);
+        when(authorizationService.ordinalOf(TENANT_READ)).thenReturn(5);
+        manager = new PermissionAuthorizationManager(authorizationService, TENANT_READ);
+    }
+
+    @Test
+    @DisplayName("Should grant principals holding the permission bit")
+    void shouldGrantHeldPermission() {
+        assertTrue(granted(authenticated(PermissionSet.of(1, 5))));
+    }
+
+    @Test
+    @DisplayName("Should deny principals without the permission bit")
+    void shouldDenyMissingPermission() {
+        assertFalse(granted(authenticated(PermissionSet.of(1, 4))));
+    }
+
+    @Test
+    @DisplayName("Should deny permissions missing from the catalog")
+    void shouldDenyUnknownPermissions() {
+        // Given the catalog does not know the permission
+        when(authorizationService.ordinalOf(TENANT_READ)).thenReturn(-1);
+
+        assertFalse(granted(authenticated(PermissionSet.of(0, 1, 2, 3, 4, 5))));
+    }
+
+    @Test
+    @DisplayName("Should deny authentications without a user principal")
+    void shouldDenyOtherPrincipals() {
+        assertFalse(granted(new TestingAuthenticationToken("user", "", "ROLE_ADMIN")));
+        assertFalse(granted(null));
+    }
+
+    private boolean granted(Authentication authentication) {
+        return manager.check(() -> authentication, mock(RequestAuthorizationContext.class)).isGranted();
+    }
+
+    private static Authentication authenticated(PermissionSet permissions) {
+        UserAccount account = new UserAccount(UUID.randomUUID(), UUID.randomUUID(), "admin", "admin@school.test",
+                "ACTIVE");
+        UserPrincipal principal = new UserPrincipal(account, List.of("ADMIN"), permissions, 1L);
+        TestingAuthenticationToken authentication = new TestingAuthenticationToken(principal, "");
+        authentication.setAuthenticated(true);
+        return authentication;
+    }
+}
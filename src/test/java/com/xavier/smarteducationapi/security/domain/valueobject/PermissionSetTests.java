@@ -0,0 +1,76 @@
+package com.xavier.smarteducationapi.security.domain.valueobject;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PermissionSet value object.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Permission Set Tests")
+class PermissionSetTests {
+
+    @Test
+    @DisplayName("Should test single permission bits across words")
+    void shouldContainOrdinals() {
+        // Given
+        PermissionSet set = PermissionSet.of(0, 63, 64, 130);
+
+        // Then
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(63));
+        assertTrue(set.contains(64));
+        assertTrue(set.contains(130));
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(500));
+        assertFalse(set.contains(-1));
+        assertEquals(4, set.size());
+        assertArrayEquals(new int[] {0, 63, 64, 130}, set.ordinals());
+    }
+
+    @Test
+    @DisplayName("Should combine role permissions as a union")
+    void shouldUnionSets() {
+        // Given
+        PermissionSet reader = PermissionSet.of(1, 5);
+        PermissionSet writer = PermissionSet.of(2, 70);
+
+        // When
+        PermissionSet effective = PermissionSet.union(List.of(reader, writer));
+
+        // Then
+        assertEquals(PermissionSet.of(1, 2, 5, 70), effective);
+        assertTrue(effective.containsAll(reader));
+        assertFalse(reader.containsAll(effective));
+        assertTrue(PermissionSet.union(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should compare sets regardless of trailing empty words")
+    void shouldIgnoreTrailingEmptyWords() {
+        // Given
+        PermissionSet shortSet = PermissionSet.of(3);
+        PermissionSet longSet = PermissionSet.union(List.of(PermissionSet.of(3), PermissionSet.EMPTY));
+
+        // Then
+        assertEquals(shortSet, longSet);
+        assertEquals(shortSet.hashCode(), longSet.hashCode());
+        assertThrows(IllegalArgumentException.class, () -> PermissionSet.of(-2));
+    }
+
+    @Test
+    @DisplayName("Should parse RESOURCE:ACTION permissions")
+    void shouldParsePermissions() {
+        assertEquals(new Permission("TENANT", "UPDATE"), Permission.parse("tenant:update"));
+        assertThrows(IllegalArgumentException.class, () -> Permission.parse("TENANT"));
+    }
+}
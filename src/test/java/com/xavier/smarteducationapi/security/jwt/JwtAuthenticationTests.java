@@ -0,0 +1,327 @@
+package com.xavier.smarteducationapi.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.security.application.principal.PrincipalCache;
+import com.xavier.smarteducationapi.security.application.service.AuthorizationService;
+import com.xavier.smarteducationapi.security.domain.valueobject.AccessTokenClaims;
+import com.xavier.smarteducationapi.security.domain.valueobject.PermissionSet;
+import com.xavier.smarteducationapi.security.domain.valueobject.RefreshTokenClaims;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserAccount;
+import com.xavier.smarteducationapi.security.domain.valueobject.UserPrincipal;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.BearerAuthenticationEntryPoint;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.InvalidTokenException;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.JwtAuthenticationFilter;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.JwtCodec;
+import com.xavier.smarteducationapi.security.infrastructure.jwt.VerifiedTokenCache;
+import com.xavier.smarteducationapi.tenant.application.api.TenantCapabilitiesApi;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.SubscriptionPlan;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
+
+/**
+ * Unit tests for access token verification and the verified-token cache.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("JWT Authentication Tests")
+class JwtAuthenticationTests {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final Instant NOW = Instant.parse("2025-09-23T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private JwtCodec codec;
+    private AccessTokenClaims claims;
+
+    @BeforeEach
+    void setUp() {
+        codec = new JwtCodec(SECRET, "smart-education-api", clock, Duration.ZERO);
+        claims = new AccessTokenClaims(UUID.randomUUID().toString(), UUID.randomUUID(), UUID.randomUUID(),
+                List.of("ADMIN", "TEACHER"), 7,
+                new TenantCapabilities(TenantStatus.ACTIVE, 0b101, SubscriptionPlan.STANDARD, 50, null, 3),
+                NOW.minusSeconds(60), NOW.plusSeconds(600));
+    }
+
+    @Nested
+    @DisplayName("Codec")
+    class Codec {
+
+        @Test
+        @DisplayName("Should decode the claims it encoded")
+        void shouldRoundTrip() {
+            // When
+            AccessTokenClaims decoded = codec.decode(codec.encode(claims));
+
+            // Then
+            assertEquals(claims, decoded);
+            assertTrue(decoded.tenant().hasFeature(2));
+        }
+
+        @Test
+        @DisplayName("Should decode claims of system-wide users without tenant")
+        void shouldRoundTripWithoutTenant() {
+            // Given
+            AccessTokenClaims system = new AccessTokenClaims("jti", claims.userId(), null, List.of("SYSTEM_ADMIN"), 2,
+                    null, claims.issuedAt(), claims.expiresAt());
+
+            // When / Then
+            assertEquals(system, codec.decode(codec.encode(system)));
+        }
+
+        @Test
+        @DisplayName("Should sign with standard HMAC-SHA256")
+        void shouldSignWithHmacSha256() throws Exception {
+            // Given
+            String token = codec.encode(claims);
+            int signatureStart = token.lastIndexOf('.');
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+
+            // When
+            byte[] expected = mac.doFinal(token.substring(0, signatureStart).getBytes(StandardCharsets.US_ASCII));
+
+            // Then
+            assertEquals(Base64.getUrlEncoder().withoutPadding().encodeToString(expected),
+                    token.substring(signatureStart + 1));
+        }
+
+        @Test
+        @DisplayName("Should reject a token whose payload was altered")
+        void shouldRejectTamperedPayload() {
+            // Given
+            String[] parts = codec.encode(claims).split("\\.");
+            AccessTokenClaims forged = new AccessTokenClaims(claims.tokenId(), claims.userId(), claims.tenantId(),
+                    List.of("SUPER_ADMIN"), 7, claims.tenant(), claims.issuedAt(), claims.expiresAt());
+            String forgedPayload = codec.encode(forged).split("\\.")[1];
+
+            // When / Then
+            assertThrows(InvalidTokenException.class,
+                    () -> codec.decode(parts[0] + "." + forgedPayload + "." + parts[2]));
+        }
+
+        @Test
+        @DisplayName("Should reject unsigned tokens and tokens signed with another key")
+        void shouldRejectOtherSignatures() {
+            // Given
+            String[] parts = codec.encode(claims).split("\\.");
+            String none = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+            JwtCodec other = new JwtCodec("abcdef0123456789abcdef0123456789".getBytes(StandardCharsets.US_ASCII),
+                    "smart-education-api", clock, Duration.ZERO);
+
+            // When / Then
+            assertThrows(InvalidTokenException.class, () -> codec.decode(none + "." + parts[1] + "."));
+            assertThrows(InvalidTokenException.class, () -> codec.decode(other.encode(claims)));
+            assertThrows(InvalidTokenException.class, () -> codec.decode("not-a-token"));
+        }
+
+        @Test
+        @DisplayName("Should reject expired tokens and tokens of another issuer")
+        void shouldRejectExpiredAndForeignTokens() {
+            // Given
+            AccessTokenClaims expired = new AccessTokenClaims("jti", claims.userId(), null, List.of(), 1, null,
+                    NOW.minusSeconds(600), NOW);
+            JwtCodec foreign = new JwtCodec(SECRET, "someone-else", clock, Duration.ZERO);
+
+            // When / Then
+            assertThrows(InvalidTokenException.class, () -> codec.decode(codec.encode(expired)));
+            assertThrows(InvalidTokenException.class, () -> codec.decode(foreign.encode(claims)));
+        }
+        @Test
+        @DisplayName("Should refuse to start without a shared secret of at least 32 bytes")
+        void shouldRequireSecret() {
+            // Given
+            String shortSecret = Base64.getEncoder().encodeToString(new byte[16]);
+
+            // When / Then
+            assertThrows(IllegalStateException.class, () -> new JwtCodec("", "smart-education-api", 30));
+            assertThrows(IllegalStateException.class, () -> new JwtCodec(shortSecret, "smart-education-api", 30));
+            assertThrows(IllegalStateException.class, () -> new JwtCodec("not base64!", "smart-education-api", 30));
+        }
+
+        @Test
+        @DisplayName("Should not accept a refresh token as an access token")
+        void shouldSeparateTokenTypes() {
+            // Given
+            String refresh = codec.encodeRefresh(new RefreshTokenClaims(UUID.randomUUID(), claims.userId(),
+                    claims.tenantId(), claims.issuedAt(), claims.expiresAt()));
+
+            // When / Then
+            assertThrows(InvalidTokenException.class, () -> codec.decode(refresh));
+            assertThrows(InvalidTokenException.class, () -> codec.decodeRefresh(codec.encode(claims)));
+            assertEquals(claims.userId(), codec.decodeRefresh(refresh).userId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Verified token cache")
+    class Cache {
+
+        @Test
+        @DisplayName("Should only return claims for the exact token that was cached")
+        void shouldMatchWholeToken() {
+            // Given
+            VerifiedTokenCache cache = new VerifiedTokenCache(clock, 10);
+            String token = codec.encode(claims);
+            cache.put(token, claims);
+            String signature = token.substring(token.lastIndexOf('.'));
+
+            // When / Then
+            assertSame(claims, cache.get(token));
+            assertNull(cache.get("e30.e30" + signature));
+            assertEquals(1, cache.getHits());
+            assertEquals(1, cache.getMisses());
+        }
+
+        @Test
+        @DisplayName("Should drop expired tokens and stay within its bound")
+        void shouldExpireAndBound() {
+            // Given
+            VerifiedTokenCache cache = new VerifiedTokenCache(clock, 10);
+            AccessTokenClaims expired = new AccessTokenClaims("jti", claims.userId(), null, List.of(), 1, null,
+                    NOW.minusSeconds(600), NOW);
+            cache.put("a.b.expired", expired);
+
+            // When
+            for (int i = 0; i < 25; i++) {
+                cache.put("a.b." + i, claims);
+            }
+
+            // Then
+            assertNull(cache.get("a.b.expired"));
+            assertTrue(cache.getSize() <= 10);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter")
+    class Filter {
+
+        private JwtCodec spiedCodec;
+        private AuthorizationService authorizationService;
+        private TenantCapabilitiesApi tenantCapabilitiesApi;
+        private PrincipalCache principalCache;
+        private UserPrincipal principal;
+        private JwtAuthenticationFilter filter;
+
+        @BeforeEach
+        void setUp() {
+            spiedCodec = spy(codec);
+            authorizationService = mock(AuthorizationService.class);
+            tenantCapabilitiesApi = mock(TenantCapabilitiesApi.class);
+            principalCache = mock(PrincipalCache.class);
+            principal = principal("ACTIVE");
+            when(principalCache.get(claims.tenantId(), claims.userId())).thenReturn(Optional.of(principal));
+            filter = new JwtAuthenticationFilter(spiedCodec, new VerifiedTokenCache(clock, 100),
+                    authorizationService, tenantCapabilitiesApi, principalCache,
+                    new BearerAuthenticationEntryPoint());
+        }
+
+        @Test
+        @DisplayName("Should verify a repeated token only once")
+        void shouldVerifyOnce() {
+            // Given
+            when(authorizationService.versionOf(any())).thenReturn(7L);
+            String token = codec.encode(claims);
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                assertEquals(claims, filter.authenticate(token).getClaims());
+            }
+
+            // Then
+            verify(spiedCodec, times(1)).decode(token);
+        }
+
+        @Test
+        @DisplayName("Should reject a token issued before the permissions changed")
+        void shouldRejectStalePermissionVersion() {
+            // Given
+            String token = codec.encode(claims);
+            when(authorizationService.versionOf(claims.tenantId())).thenReturn(7L, 8L);
+            filter.authenticate(token);
+
+            // When / Then
+            assertThrows(InvalidTokenException.class, () -> filter.authenticate(token));
+        }
+
+        @Test
+        @DisplayName("Should reject a token issued before the tenant changed")
+        void shouldRejectStaleTenantVersion() {
+            // Given
+            String token = codec.encode(claims);
+            when(authorizationService.versionOf(any())).thenReturn(7L);
+            when(tenantCapabilitiesApi.isStale(claims.tenantId().toString(), claims.tenant()))
+                    .thenReturn(false, true);
+            filter.authenticate(token);
+
+            // When / Then
+            assertThrows(InvalidTokenException.class, () -> filter.authenticate(token));
+        }
+
+        @Test
+        @DisplayName("Should grant the roles of the user's current principal")
+        void shouldAuthenticateCurrentPrincipal() {
+            // Given
+            when(authorizationService.versionOf(any())).thenReturn(7L);
+
+            // When
+            var authentication = filter.authenticate(codec.encode(claims));
+
+            // Then
+            assertSame(principal, authentication.getPrincipal());
+            assertEquals(claims.userId().toString(), authentication.getName());
+            assertEquals(List.of("ROLE_EDITOR"), authentication.getAuthorities().stream()
+                    .map(Object::toString).toList());
+        }
+
+        @Test
+        @DisplayName("Should reject a token of a user no longer active")
+        void shouldRejectInactiveUser() {
+            // Given
+            String token = codec.encode(claims);
+            when(authorizationService.versionOf(any())).thenReturn(7L);
+            when(principalCache.get(claims.tenantId(), claims.userId()))
+                    .thenReturn(Optional.of(principal("SUSPENDED")), Optional.empty());
+
+            // When / Then
+            assertThrows(InvalidTokenException.class, () -> filter.authenticate(token));
+            assertThrows(InvalidTokenException.class, () -> filter.authenticate(token));
+        }
+
+        private UserPrincipal principal(String status) {
+            UserAccount account = new UserAccount(claims.userId(), claims.tenantId(), "teacher",
+                    "teacher@school.test", status);
+            return new UserPrincipal(account, List.of("EDITOR"), PermissionSet.of(0), 7L);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.xavier.smarteducationapi.tenant.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.common.domain.exception.BusinessRuleViolationException;
+import com.xavier.smarteducationapi.common.domain.valueobject.Address;
+import com.xavier.smarteducationapi.common.domain.valueobject.Email;
+import com.xavier.smarteducationapi.common.domain.valueobject.Phone;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.tenant.application.dto.SubdomainAvailabilityDto;
+import com.xavier.smarteducationapi.tenant.application.service.SubdomainAvailabilityService;
+import com.xavier.smarteducationapi.tenant.application.service.TenantApplicationService;
+import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantCreatedEvent;
+import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
+
+/**
+ * Unit tests for the SubdomainAvailabilityService.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Subdomain Availability Service Tests")
+class SubdomainAvailabilityServiceTests {
+
+    private TenantRepository tenantRepository;
+    private AggregateChangeFeed changeFeed;
+    private SubdomainAvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        tenantRepository = mock(TenantRepository.class);
+        changeFeed = mock(AggregateChangeFeed.class);
+        service = new SubdomainAvailabilityService(tenantRepository, changeFeed, Clock.systemUTC(),
+                "admin, API,www", 63, 3, 1000, 0.001, 3600000);
+
+        when(tenantRepository.findAllSubdomains()).thenReturn(List.of("st-marys", "St-Marys-School"));
+        when(tenantRepository.existsBySubdomain(anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0, String.class).startsWith("st-marys"));
+        when(tenantRepository.findExistingSubdomains(anyCollection())).thenReturn(Set.of("st-marys-school"));
+        when(changeFeed.latestPosition()).thenReturn(10L);
+    }
+
+    @Test
+    @DisplayName("Should answer free subdomains without reading the database once loaded")
+    void shouldAnswerFreeSubdomainsFromMemory() {
+        // Given
+        service.sync();
+
+        // When
+        SubdomainAvailabilityDto result = service.check(" Green-Valley ");
+
+        // Then
+        assertTrue(result.isAvailable());
+        assertEquals("green-valley", result.getSubdomain());
+        assertTrue(result.getSuggestions().isEmpty());
+        verify(tenantRepository, never()).existsBySubdomain(anyString());
+        assertEquals(0, service.getDatabaseLookups());
+    }
+
+    @Test
+    @DisplayName("Should look up every subdomain until the filter is loaded")
+    void shouldLookUpBeforeLoad() {
+        // When
+        SubdomainAvailabilityDto result = service.check("green-valley");
+
+        // Then
+        assertTrue(result.isAvailable());
+        verify(tenantRepository).existsBySubdomain("green-valley");
+    }
+
+    @Test
+    @DisplayName("Should confirm a possibly taken subdomain and suggest available ones")
+    void shouldSuggestAlternativesForTakenSubdomain() {
+        // Given
+        service.sync();
+
+        // When
+        SubdomainAvailabilityDto result = service.check("st-marys");
+
+        // Then the taken suggestion is dropped after a single query
+        assertFalse(result.isAvailable());
+        assertEquals(SubdomainAvailabilityDto.TAKEN, result.getReason());
+        assertEquals(List.of("st-marys-academy", "st-marys-edu", "st-marys-1"), result.getSuggestions());
+        verify(tenantRepository).existsBySubdomain("st-marys");
+        verify(tenantRepository, times(1)).findExistingSubdomains(List.of("st-marys-school"));
+    }
+
+    @Test
+    @DisplayName("Should refuse reserved subdomains without reading the database")
+    void shouldRefuseReservedSubdomains() {
+        // Given
+        service.sync();
+
+        // When
+        SubdomainAvailabilityDto result = service.check("Api");
+
+        // Then
+        assertFalse(result.isAvailable());
+        assertEquals(SubdomainAvailabilityDto.RESERVED, result.getReason());
+        assertEquals(List.of("api-school", "api-academy", "api-edu"), result.getSuggestions());
+        verify(tenantRepository, never()).existsBySubdomain(anyString());
+        verify(tenantRepository, never()).findExistingSubdomains(anyCollection());
+        assertThrows(BusinessRuleViolationException.class, () -> service.validateNotReserved("admin"));
+    }
+
+    @Test
+    @DisplayName("Should suggest a cleaned up name for a malformed subdomain")
+    void shouldSuggestForInvalidSubdomain() {
+        // Given
+        service.sync();
+
+        // When
+        SubdomainAvailabilityDto result = service.check("Green Valley!");
+
+        // Then
+        assertFalse(result.isAvailable());
+        assertEquals(SubdomainAvailabilityDto.INVALID, result.getReason());
+        assertEquals(List.of("green-valley", "green-valley-school", "green-valley-academy"),
+                result.getSuggestions());
+        assertTrue(service.check("ab").getSuggestions().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should add subdomains of tenants created here and on other nodes")
+    void shouldAddCreatedSubdomains() {
+        // Given
+        service.sync();
+        Tenant remote = Tenant.create(TenantId.generate(), "Remote School", "remote-school",
+                new Email("admin@remote-school.edu"), new Phone("+1-234-567-8900"),
+                Address.builder().city("Maputo").country("Mozambique").build());
+        when(changeFeed.changesAfter(anyString(), anyLong(), anyInt()))
+                .thenReturn(new AggregateChanges(Set.of(remote.getId().toString()), 11L, false, false));
+        when(tenantRepository.findAllById(any())).thenReturn(List.of(remote));
+
+        // When
+        service.onTenantCreated(new TenantCreatedEvent(TenantId.generate().toString(), "Local School",
+                "local-school", "admin@local-school.edu"));
+        service.sync();
+        service.check("local-school");
+        service.check("remote-school");
+
+        // Then
+        verify(changeFeed).changesAfter(TenantApplicationService.TENANT_AGGREGATE_TYPE, 10L, 1000);
+        verify(tenantRepository).existsBySubdomain("local-school");
+        verify(tenantRepository).existsBySubdomain("remote-school");
+    }
+}
@@ -1,6 +1,8 @@
 package com.xavier.smarteducationapi.tenant.application;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -10,18 +12,25 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.xavier.smarteducationapi.common.application.audit.AuditRecord;
+import com.xavier.smarteducationapi.common.application.audit.AuditTrail;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
 import com.xavier.smarteducationapi.common.domain.exception.EntityNotFoundException;
 import com.xavier.smarteducationapi.common.domain.valueobject.Address;
 import com.xavier.smarteducationapi.common.domain.valueobject.Email;
 import com.xavier.smarteducationapi.common.domain.valueobject.Phone;
 import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.tenant.application.dto.TenantChangesDto;
 import com.xavier.smarteducationapi.tenant.application.dto.TenantDto;
+import com.xavier.smarteducationapi.tenant.application.service.SubdomainAvailabilityService;
 import com.xavier.smarteducationapi.tenant.application.service.TenantApplicationService;
 import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
 import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
@@ -46,6 +55,15 @@ class TenantApplicationServiceTests {
     @Mock
     private TenantDomainService tenantDomainService;
 
+    @Mock
+    private SubdomainAvailabilityService subdomainAvailabilityService;
+
+    @Mock
+    private AggregateChangeFeed aggregateChangeFeed;
+
+    @Mock
+    private AuditTrail auditTrail;
+
     @InjectMocks
     private TenantApplicationService tenantApplicationService;
 
@@ -157,6 +175,28 @@ class TenantApplicationServiceTests {
         verify(tenantRepository).save(any(Tenant.class));
     }
 
+    @Test
+    @DisplayName("Should audit only the fields a command changed")
+    void shouldAuditChangedFields() {
+        // Given
+        when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(testTenant));
+        when(tenantRepository.save(any(Tenant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        tenantApplicationService.activateTenant(tenantId.toString());
+
+        // Then
+        ArgumentCaptor<AuditRecord> captor = ArgumentCaptor.forClass(AuditRecord.class);
+        verify(auditTrail).record(captor.capture());
+        AuditRecord record = captor.getValue();
+        assertEquals("ACTIVATE", record.action());
+        assertEquals(tenantId.toString(), record.tenantId());
+        assertEquals(Set.of("status"), record.oldValues().keySet());
+        assertEquals(TenantStatus.PENDING.name(), record.oldValues().get("status"));
+        assertEquals(Set.of("status", "activatedAt"), record.newValues().keySet());
+        assertEquals(TenantStatus.ACTIVE.name(), record.newValues().get("status"));
+    }
+
     @Test
     @DisplayName("Should suspend tenant")
     void shouldSuspendTenant() {
@@ -178,4 +218,24 @@ class TenantApplicationServiceTests {
         
         verify(tenantRepository).save(any(Tenant.class));
     }
+
+    @Test
+    @DisplayName("Should return the tenants changed after a cursor")
+    void shouldGetChangesSinceCursor() {
+        // Given one tenant changed and another one removed
+        String removedId = TenantId.generate().toString();
+        when(aggregateChangeFeed.changesAfter("Tenant", 40, 500))
+                .thenReturn(new AggregateChanges(Set.of(tenantId.toString(), removedId), 57, false, false));
+        when(tenantRepository.findAllById(any())).thenReturn(List.of(testTenant));
+
+        // When
+        TenantChangesDto changes = tenantApplicationService.getChangesSince(40, 500);
+
+        // Then
+        assertEquals(1, changes.getTenants().size());
+        assertEquals(tenantId.toString(), changes.getTenants().get(0).getId());
+        assertNotNull(changes.getTenants().get(0).getVersion());
+        assertEquals(List.of(removedId), changes.getRemovedTenantIds());
+        assertEquals(57, changes.getCursor());
+    }
 }
@@ -0,0 +1,138 @@
+package com.xavier.smarteducationapi.tenant.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.common.domain.valueobject.Address;
+import com.xavier.smarteducationapi.common.domain.valueobject.Email;
+import com.xavier.smarteducationapi.common.domain.valueobject.Phone;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.tenant.application.service.TenantCapabilityService;
+import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
+import com.xavier.smarteducationapi.tenant.domain.event.TenantSuspendedEvent;
+import com.xavier.smarteducationapi.tenant.domain.repository.SubscriptionRepository;
+import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.SubscriptionPlan;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantCapabilities;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
+
+/**
+ * Unit tests for the TenantCapabilityService.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Tenant Capability Service Tests")
+class TenantCapabilityServiceTests {
+
+    private TenantRepository tenantRepository;
+    private SubscriptionRepository subscriptionRepository;
+    private AggregateChangeFeed changeFeed;
+    private TenantCapabilityService service;
+    private TenantId tenantId;
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        tenantRepository = mock(TenantRepository.class);
+        subscriptionRepository = mock(SubscriptionRepository.class);
+        changeFeed = mock(AggregateChangeFeed.class);
+        service = new TenantCapabilityService(tenantRepository, subscriptionRepository, changeFeed,
+                "ATTENDANCE, GRADES,REPORTS", SubscriptionPlan.BASIC);
+        tenantId = TenantId.generate();
+        tenant = Tenant.create(tenantId, "Test School", "test-school", new Email("admin@test-school.edu"),
+                new Phone("+1-234-567-8900"), Address.builder().city("Maputo").country("Mozambique").build());
+        tenant.activate();
+        tenant.enableFeature("REPORTS");
+        tenant.enableFeature("UNLISTED");
+        tenant.setVersion(4L);
+
+        when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(tenant));
+        when(subscriptionRepository.findActiveByTenantId(tenantId)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Should compile status, listed features, plan, limits and version")
+    void shouldCompileCapabilities() {
+        // When
+        TenantCapabilities capabilities = service.capabilitiesOf(tenantId.toString()).orElseThrow();
+
+        // Then
+        assertEquals(TenantStatus.ACTIVE, capabilities.status());
+        assertEquals(0b100, capabilities.features());
+        assertTrue(service.hasFeature(capabilities, "REPORTS"));
+        assertFalse(service.hasFeature(capabilities, "UNLISTED"));
+        assertEquals(SubscriptionPlan.BASIC, capabilities.plan());
+        assertEquals(tenant.getMaxUsers(), capabilities.maxUsers());
+        assertEquals(4, capabilities.version());
+    }
+
+    @Test
+    @DisplayName("Should read a tenant's version once until the tenant changes")
+    void shouldCacheVersionUntilTenantEvent() {
+        // Given
+        TenantCapabilities capabilities = service.capabilitiesOf(tenantId.toString()).orElseThrow();
+
+        // When
+        boolean staleBefore = service.isStale(tenantId.toString(), capabilities);
+        service.isStale(tenantId.toString(), capabilities);
+        tenant.setVersion(5L);
+        service.onTenantEvent(new TenantSuspendedEvent(tenantId.toString(), "Test School", "Unpaid", Instant.now()));
+        boolean staleAfter = service.isStale(tenantId.toString(), capabilities);
+
+        // Then
+        assertFalse(staleBefore);
+        assertTrue(staleAfter);
+        verify(tenantRepository, times(2)).findById(tenantId);
+    }
+
+    @Test
+    @DisplayName("Should drop versions of tenants changed on other nodes")
+    void shouldFollowChangeFeed() {
+        // Given
+        when(changeFeed.latestPosition()).thenReturn(10L);
+        when(changeFeed.changesAfter(anyString(), anyLong(), anyInt()))
+                .thenReturn(new AggregateChanges(Set.of(tenantId.toString()), 12, false, false));
+        service.refresh();
+        TenantCapabilities capabilities = service.capabilitiesOf(tenantId.toString()).orElseThrow();
+        tenant.setVersion(5L);
+
+        // When
+        int changed = service.refresh();
+
+        // Then
+        assertEquals(1, changed);
+        assertTrue(service.isStale(tenantId.toString(), capabilities));
+        verify(changeFeed).changesAfter(any(), any(Long.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should treat capabilities of a missing tenant as stale")
+    void shouldTreatMissingTenantAsStale() {
+        // Given
+        TenantCapabilities capabilities = service.capabilitiesOf(tenantId.toString()).orElseThrow();
+        when(tenantRepository.findById(tenantId)).thenReturn(Optional.empty());
+        service.onTenantEvent(new TenantSuspendedEvent(tenantId.toString(), "Test School", "Deleted", Instant.now()));
+
+        // When / Then
+        assertTrue(service.isStale(tenantId.toString(), capabilities));
+    }
+}
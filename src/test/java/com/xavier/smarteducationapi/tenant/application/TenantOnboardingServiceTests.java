@@ -0,0 +1,161 @@
+package com.xavier.smarteducationapi.tenant.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.xavier.smarteducationapi.tenant.application.dto.TenantOnboardingResultDto;
+import com.xavier.smarteducationapi.tenant.application.service.SubdomainAvailabilityService;
+import com.xavier.smarteducationapi.tenant.application.service.TenantOnboardingService;
+import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
+import com.xavier.smarteducationapi.tenant.domain.repository.TenantRepository;
+
+import jakarta.validation.Validation;
+
+/**
+ * Unit tests for bulk tenant onboarding.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Tenant Onboarding Service Tests")
+class TenantOnboardingServiceTests {
+
+    private TenantRepository tenantRepository;
+    private SubdomainAvailabilityService subdomainAvailabilityService;
+    private TenantOnboardingService service;
+    private List<Tenant> inserted;
+    private List<List<TenantOnboardingResultDto>> chunks;
+
+    @BeforeEach
+    void setUp() {
+        tenantRepository = mock(TenantRepository.class);
+        subdomainAvailabilityService = mock(SubdomainAvailabilityService.class);
+        service = new TenantOnboardingService(tenantRepository, subdomainAvailabilityService,
+                mock(PlatformTransactionManager.class), Validation.buildDefaultValidatorFactory().getValidator(), 2);
+        inserted = new ArrayList<>();
+        chunks = new ArrayList<>();
+
+        when(subdomainAvailabilityService.isReserved(anyString())).thenAnswer(
+                invocation -> invocation.getArgument(0, String.class).equals("admin"));
+        when(subdomainAvailabilityService.takenAmong(anyCollection())).thenReturn(Set.of());
+        when(tenantRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(tenantRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Tenant> tenants = invocation.getArgument(0);
+            inserted.addAll(tenants);
+            boolean[] result = new boolean[tenants.size()];
+            Arrays.fill(result, true);
+            return result;
+        });
+    }
+
+    @Test
+    @DisplayName("Should check each chunk with set-based queries and insert it in one batch")
+    void shouldOnboardInChunks() {
+        // When
+        service.onboard(upload(tenant("alpha"), tenant("bravo"), tenant("charlie")), chunks::add);
+
+        // Then
+        assertEquals(3, inserted.size());
+        verify(subdomainAvailabilityService, times(2)).takenAmong(anyCollection());
+        verify(tenantRepository, times(2)).findExistingEmails(anyCollection());
+        verify(tenantRepository, times(2)).insertAll(anyList());
+        verify(tenantRepository, never()).existsBySubdomain(anyString());
+        verify(tenantRepository, never()).existsByEmail(anyString());
+        assertEquals(2, chunks.size());
+        assertEquals(List.of(1L, 2L), chunks.get(0).stream().map(TenantOnboardingResultDto::getLine).toList());
+        TenantOnboardingResultDto result = chunks.get(1).get(0);
+        assertEquals(TenantOnboardingResultDto.CREATED, result.getStatus());
+        assertEquals("charlie", result.getSubdomain());
+        assertNotNull(result.getTenantId());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid and reserved records and keep reading")
+    void shouldRejectInvalidRecords() {
+        // When
+        service.onboard(upload("{not json", tenant("admin"),
+                tenant("Bad-Subdomain"), tenant("delta").replace("\"+258 84 123 4567\"", "\"\"")), chunks::add);
+
+        // Then
+        List<TenantOnboardingResultDto> results = results();
+        assertEquals(4, results.size());
+        assertTrue(results.stream().allMatch(r -> TenantOnboardingResultDto.REJECTED.equals(r.getStatus())));
+        assertTrue(results.get(0).getReason().equals("Expected a JSON object"));
+        assertEquals("Subdomain is reserved", results.get(1).getReason());
+        assertTrue(results.get(2).getReason().startsWith("subdomain:"));
+        assertTrue(results.get(3).getReason().startsWith("primaryPhone:"));
+        verify(tenantRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should report taken and repeated subdomains and emails as duplicates")
+    void shouldReportDuplicates() {
+        // Given
+        when(subdomainAvailabilityService.takenAmong(anyCollection())).thenReturn(Set.of("taken"));
+        when(tenantRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("admin@known.edu"));
+
+        // When
+        service.onboard(upload(tenant("echo"), tenant("echo"), tenant("taken"),
+                tenant("fresh").replace("admin@fresh.edu", "Admin@Known.edu")), chunks::add);
+
+        // Then
+        List<TenantOnboardingResultDto> results = results();
+        assertEquals(List.of(TenantOnboardingResultDto.CREATED, TenantOnboardingResultDto.DUPLICATE,
+                TenantOnboardingResultDto.DUPLICATE, TenantOnboardingResultDto.DUPLICATE),
+                results.stream().map(TenantOnboardingResultDto::getStatus).toList());
+        assertEquals("Subdomain appears earlier in the upload", results.get(1).getReason());
+        assertEquals("Subdomain is already taken", results.get(2).getReason());
+        assertEquals("Email is already registered", results.get(3).getReason());
+        assertEquals(1, inserted.size());
+    }
+
+    @Test
+    @DisplayName("Should report tenants refused by the unique indexes as duplicates")
+    void shouldReportInsertConflicts() {
+        // Given
+        when(tenantRepository.insertAll(anyList())).thenReturn(new boolean[] {true, false});
+
+        // When
+        service.onboard(upload(tenant("golf"), tenant("hotel")), chunks::add);
+
+        // Then
+        List<TenantOnboardingResultDto> results = results();
+        assertEquals(TenantOnboardingResultDto.CREATED, results.get(0).getStatus());
+        assertEquals(TenantOnboardingResultDto.DUPLICATE, results.get(1).getStatus());
+        assertEquals("hotel", results.get(1).getSubdomain());
+    }
+
+    private List<TenantOnboardingResultDto> results() {
+        return chunks.stream().flatMap(List::stream).toList();
+    }
+
+    private static String tenant(String subdomain) {
+        return "{\"name\":\"School " + subdomain + "\",\"subdomain\":\"" + subdomain + "\","
+                + "\"primaryEmail\":\"admin@" + subdomain + ".edu\",\"primaryPhone\":\"+258 84 123 4567\","
+                + "\"street\":\"Av. Julius Nyerere\",\"city\":\"Maputo\",\"country\":\"Mozambique\"}";
+    }
+
+    private static ByteArrayInputStream upload(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
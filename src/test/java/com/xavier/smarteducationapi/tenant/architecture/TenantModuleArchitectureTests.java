@@ -247,6 +247,7 @@ class TenantModuleArchitectureTests {
                     "org.assertj..",
                     "lombok..",
                     "org.slf4j..",
+                    "io.micrometer..",
                     "com.tngtech.archunit.."
                 );
         
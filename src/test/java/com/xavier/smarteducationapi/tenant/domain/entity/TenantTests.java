@@ -711,4 +711,59 @@ class TenantTests {
             assertEquals(id, tenant.getId());
         }
     }
+
+    @Nested
+    @DisplayName("Event Replay")
+    class EventReplayTests {
+
+        @Test
+        @DisplayName("Should rebuild lifecycle state from recorded events")
+        void shouldRebuildStateFromRecordedEvents() {
+            // Given
+            Tenant tenant = Tenant.create(tenantId, tenantName, subdomain, primaryEmail, primaryPhone, address);
+            tenant.activate();
+            tenant.enableFeature("ATTENDANCE");
+            tenant.enableFeature("GRADES");
+            tenant.disableFeature("ATTENDANCE");
+            tenant.updateLimits(50, 800);
+            tenant.suspend("Payment overdue");
+            List<DomainEvent> history = tenant.getUncommittedEvents();
+
+            // When
+            Tenant rebuilt = Tenant.fromCreatedEvent((TenantCreatedEvent) history.get(0));
+            history.stream().skip(1).forEach(rebuilt::replay);
+
+            // Then
+            assertEquals(tenant.getId(), rebuilt.getId());
+            assertEquals(TenantStatus.SUSPENDED, rebuilt.getStatus());
+            assertEquals("Payment overdue", rebuilt.getSuspensionReason());
+            assertEquals(tenant.getActivatedAt(), rebuilt.getActivatedAt());
+            assertEquals(Set.of("GRADES"), rebuilt.getFeatures());
+            assertEquals(50, rebuilt.getMaxUsers());
+            assertEquals(800, rebuilt.getMaxStudents());
+            assertEquals(tenant.getVersion(), rebuilt.getVersion());
+            assertTrue(rebuilt.getUncommittedEvents().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should clear suspension when replaying a reactivation")
+        void shouldClearSuspensionOnReactivation() {
+            // Given
+            Tenant tenant = Tenant.create(tenantId, tenantName, subdomain, primaryEmail, primaryPhone, address);
+            tenant.activate();
+            tenant.suspend("Payment overdue");
+            tenant.reactivate();
+            List<DomainEvent> history = tenant.getUncommittedEvents();
+
+            // When
+            Tenant rebuilt = Tenant.fromCreatedEvent((TenantCreatedEvent) history.get(0));
+            history.stream().skip(1).forEach(rebuilt::replay);
+
+            // Then
+            assertEquals(TenantStatus.ACTIVE, rebuilt.getStatus());
+            assertNull(rebuilt.getSuspendedAt());
+            assertNull(rebuilt.getSuspensionReason());
+            assertEquals(tenant.getActivatedAt(), rebuilt.getActivatedAt());
+        }
+    }
 }
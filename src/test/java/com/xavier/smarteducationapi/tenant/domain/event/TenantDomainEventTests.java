@@ -1,13 +1,18 @@
 package com.xavier.smarteducationapi.tenant.domain.event;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventCoalescer;
+
 /**
  * Tests for tenant domain events.
  * 
@@ -198,4 +203,74 @@ class TenantDomainEventTests {
             assertNotNull(event.occurredOn());
         }
     }
+
+    @Nested
+    @DisplayName("Coalescing")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should merge successive updates into the last one")
+        void shouldMergeUpdates() {
+            // Given
+            TenantUpdatedEvent first = new TenantUpdatedEvent(tenantId, tenantName, "CONTACT_INFO_UPDATED");
+            TenantUpdatedEvent second = new TenantUpdatedEvent(tenantId, "Renamed School", "NAME_UPDATED");
+
+            // When
+            TenantUpdatedEvent merged = (TenantUpdatedEvent) first.coalesceWith(second).orElseThrow();
+
+            // Then
+            assertEquals(second.getEventId(), merged.getEventId());
+            assertEquals("Renamed School", merged.getTenantName());
+            assertEquals("CONTACT_INFO_UPDATED,NAME_UPDATED", merged.getUpdateType());
+        }
+
+        @Test
+        @DisplayName("Should keep the first previous and the last new limits")
+        void shouldMergeLimits() {
+            // Given
+            TenantLimitsUpdatedEvent first = new TenantLimitsUpdatedEvent(tenantId, tenantName, 20, 200, 10, 100);
+            TenantLimitsUpdatedEvent second = new TenantLimitsUpdatedEvent(tenantId, tenantName, 30, 300, 20, 200);
+
+            // When
+            TenantLimitsUpdatedEvent merged = (TenantLimitsUpdatedEvent) first.coalesceWith(second).orElseThrow();
+
+            // Then
+            assertEquals(30, merged.getNewMaxUsers());
+            assertEquals(300, merged.getNewMaxStudents());
+            assertEquals(10, merged.getPreviousMaxUsers());
+            assertEquals(100, merged.getPreviousMaxStudents());
+        }
+
+        @Test
+        @DisplayName("Should only merge feature events of the same feature")
+        void shouldMergeSameFeatureOnly() {
+            TenantFeatureEnabledEvent reports = new TenantFeatureEnabledEvent(tenantId, tenantName, "REPORTS");
+
+            assertTrue(reports.coalesceWith(new TenantFeatureEnabledEvent(tenantId, tenantName, "BILLING")).isEmpty());
+            assertTrue(reports.coalesceWith(new TenantFeatureEnabledEvent(tenantId, tenantName, "REPORTS")).isPresent());
+        }
+
+        @Test
+        @DisplayName("Should drop superseded states and keep dependent order")
+        void shouldCoalesceSequence() {
+            // Given an admin script touching one tenant repeatedly
+            TenantUpdatedEvent update1 = new TenantUpdatedEvent(tenantId, tenantName, "CONTACT_INFO_UPDATED");
+            TenantLimitsUpdatedEvent limits1 = new TenantLimitsUpdatedEvent(tenantId, tenantName, 20, 200, 10, 100);
+            TenantFeatureEnabledEvent feature = new TenantFeatureEnabledEvent(tenantId, tenantName, "REPORTS");
+            TenantUpdatedEvent update2 = new TenantUpdatedEvent(tenantId, tenantName, "CONTACT_INFO_UPDATED");
+            TenantLimitsUpdatedEvent limits2 = new TenantLimitsUpdatedEvent(tenantId, tenantName, 30, 300, 20, 200);
+            TenantUpdatedEvent otherTenant = new TenantUpdatedEvent("tenant-456", tenantName, "CONTACT_INFO_UPDATED");
+
+            // When
+            List<DomainEvent> events = EventCoalescer.coalesce(
+                    List.of(update1, limits1, feature, update2, otherTenant, limits2));
+
+            // Then
+            assertEquals(List.of(feature.getEventId(), update2.getEventId(), otherTenant.getEventId(),
+                            limits2.getEventId()),
+                    events.stream().map(DomainEvent::getEventId).toList());
+            assertEquals("CONTACT_INFO_UPDATED", ((TenantUpdatedEvent) events.get(1)).getUpdateType());
+            assertEquals(10, ((TenantLimitsUpdatedEvent) events.get(3)).getPreviousMaxUsers());
+        }
+    }
 }
@@ -0,0 +1,245 @@
+package com.xavier.smarteducationapi.tenant.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.smarteducationapi.common.domain.event.AggregateSnapshot;
+import com.xavier.smarteducationapi.common.domain.event.DomainEvent;
+import com.xavier.smarteducationapi.common.domain.event.EventStore;
+import com.xavier.smarteducationapi.common.domain.event.SnapshotStore;
+import com.xavier.smarteducationapi.common.domain.valueobject.Address;
+import com.xavier.smarteducationapi.common.domain.valueobject.Email;
+import com.xavier.smarteducationapi.common.domain.valueobject.Phone;
+import com.xavier.smarteducationapi.common.domain.valueobject.TenantId;
+import com.xavier.smarteducationapi.common.infrastructure.event.SnapshottingAggregateLoader;
+import com.xavier.smarteducationapi.common.infrastructure.event.codec.BinaryEventCodec;
+import com.xavier.smarteducationapi.tenant.domain.entity.Tenant;
+import com.xavier.smarteducationapi.tenant.domain.valueobject.TenantStatus;
+import com.xavier.smarteducationapi.tenant.infrastructure.event.EventSourcedTenantLoader;
+import com.xavier.smarteducationapi.tenant.infrastructure.event.TenantSnapshotter;
+
+/**
+ * Tests for snapshot-based tenant loading using in-memory event and snapshot stores.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Event Sourced Tenant Loader Tests")
+class EventSourcedTenantLoaderTests {
+
+    private static final int SNAPSHOT_INTERVAL = 10;
+
+    private InMemoryEventStore eventStore;
+    private InMemorySnapshotStore snapshotStore;
+    private EventSourcedTenantLoader loader;
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        eventStore = new InMemoryEventStore();
+        snapshotStore = new InMemorySnapshotStore();
+        loader = new EventSourcedTenantLoader(
+                new SnapshottingAggregateLoader(eventStore, snapshotStore, SNAPSHOT_INTERVAL), new TenantSnapshotter());
+
+        tenant = Tenant.create(TenantId.generate(), "Escola Primária da Beira", "beira",
+                new Email("admin@beira.edu.mz"), new Phone("+258841234567"),
+                Address.builder().street("Av. Eduardo Mondlane").city("Beira").build());
+        tenant.activate();
+        commit();
+    }
+
+    private void commit() {
+        tenant.getUncommittedEvents().forEach(eventStore::store);
+        tenant.markEventsAsCommitted();
+    }
+
+    private void toggleFeatures(int times) {
+        for (int i = 0; i < times; i++) {
+            if (i % 2 == 0) {
+                tenant.enableFeature("LIBRARY");
+            } else {
+                tenant.disableFeature("LIBRARY");
+            }
+        }
+        commit();
+    }
+
+    @Test
+    @DisplayName("Should rebuild a tenant from its full history when no snapshot exists")
+    void shouldRebuildFromHistory() {
+        // Given
+        tenant.updateLimits(30, 600);
+        commit();
+
+        // When
+        Tenant loaded = loader.load(tenant.getId()).orElseThrow();
+
+        // Then
+        assertEquals(TenantStatus.ACTIVE, loaded.getStatus());
+        assertEquals(30, loaded.getMaxUsers());
+        assertEquals(tenant.getVersion(), loaded.getVersion());
+        assertTrue(snapshotStore.snapshots.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should snapshot after the interval and replay only later events")
+    void shouldSnapshotAndReplayOnlyNewerEvents() {
+        // Given
+        toggleFeatures(SNAPSHOT_INTERVAL + 1);
+        loader.load(tenant.getId()).orElseThrow();
+        AggregateSnapshot snapshot = snapshotStore.findLatest(tenant.getId().toString(), "Tenant").orElseThrow();
+        assertEquals(SNAPSHOT_INTERVAL + 3, snapshot.eventCount());
+
+        tenant.suspend("Payment overdue");
+        commit();
+        eventStore.reads.clear();
+
+        // When
+        Tenant loaded = loader.load(tenant.getId()).orElseThrow();
+
+        // Then
+        assertEquals(List.of(1), eventStore.reads);
+        assertEquals(TenantStatus.SUSPENDED, loaded.getStatus());
+        assertEquals(tenant.getFeatures(), loaded.getFeatures());
+        assertEquals(tenant.getVersion(), loaded.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should replay the full history when the snapshot's last event is no longer stored")
+    void shouldReplayFullHistoryForOrphanedSnapshots() {
+        // Given a snapshot ending at an event the store does not hold
+        toggleFeatures(2);
+        Tenant stale = loader.load(tenant.getId()).orElseThrow();
+        snapshotStore.save(new AggregateSnapshot(tenant.getId().toString(), "Tenant", 2, UUID.randomUUID(),
+                new TenantSnapshotter().getSchemaVersion(),
+                BinaryEventCodec.writeFields(out -> new TenantSnapshotter().snapshot(stale, out))));
+        tenant.suspend("Payment overdue");
+        commit();
+        eventStore.reads.clear();
+
+        // When
+        Tenant loaded = loader.load(tenant.getId()).orElseThrow();
+
+        // Then the full history is read instead of treating the snapshot as current
+        assertEquals(List.of(5), eventStore.reads);
+        assertEquals(TenantStatus.SUSPENDED, loaded.getStatus());
+        assertEquals(tenant.getVersion(), loaded.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown tenants")
+    void shouldReturnEmptyForUnknownTenants() {
+        assertTrue(loader.load(TenantId.generate()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should restore every snapshot field")
+    void shouldRoundTripSnapshotState() {
+        // Given
+        tenant.setBusinessRegistration("400123456", "REG-2025-001");
+        tenant.enableFeature("GRADES");
+        tenant.suspend("Audit");
+        TenantSnapshotter snapshotter = new TenantSnapshotter();
+
+        // When
+        Tenant restored = BinaryEventCodec.readFields(
+                BinaryEventCodec.writeFields(out -> snapshotter.snapshot(tenant, out)), snapshotter::restore);
+
+        // Then
+        assertNotNull(restored);
+        assertEquals(tenant.getId(), restored.getId());
+        assertEquals(tenant.getName(), restored.getName());
+        assertEquals(tenant.getSubdomain(), restored.getSubdomain());
+        assertEquals(tenant.getPrimaryEmail(), restored.getPrimaryEmail());
+        assertEquals(tenant.getPrimaryPhone(), restored.getPrimaryPhone());
+        assertEquals(tenant.getAddress(), restored.getAddress());
+        assertEquals(tenant.getTaxId(), restored.getTaxId());
+        assertEquals(tenant.getRegistrationNumber(), restored.getRegistrationNumber());
+        assertEquals(tenant.getCreatedAt(), restored.getCreatedAt());
+        assertEquals(tenant.getSuspendedAt(), restored.getSuspendedAt());
+        assertEquals(tenant.getSuspensionReason(), restored.getSuspensionReason());
+        assertEquals(tenant.getFeatures(), restored.getFeatures());
+        assertEquals(tenant.getVersion(), restored.getVersion());
+    }
+
+    /**
+     * Event history in storage order; records how many events each read returned
+     */
+    static class InMemoryEventStore implements EventStore {
+        private final List<DomainEvent> events = new ArrayList<>();
+        final List<Integer> reads = new ArrayList<>();
+
+        @Override
+        public void store(DomainEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public List<DomainEvent> getEventsForAggregate(String aggregateId, String aggregateType) {
+            List<DomainEvent> result = events.stream()
+                    .filter(e -> e.getAggregateId().equals(aggregateId) && e.getAggregateType().equals(aggregateType))
+                    .toList();
+            reads.add(result.size());
+            return result;
+        }
+
+        @Override
+        public Optional<List<DomainEvent>> getEventsForAggregateAfter(String aggregateId, String aggregateType,
+                UUID eventId) {
+            int after = 0;
+            while (after < events.size() && !events.get(after).getEventId().equals(eventId)) {
+                after++;
+            }
+            if (after == events.size()) {
+                return Optional.empty();
+            }
+            List<DomainEvent> result = events.subList(after + 1, events.size()).stream()
+                    .filter(e -> e.getAggregateId().equals(aggregateId) && e.getAggregateType().equals(aggregateType))
+                    .toList();
+            reads.add(result.size());
+            return Optional.of(result);
+        }
+
+        @Override
+        public List<DomainEvent> getEventsByTimeRange(Instant start, Instant end) {
+            return List.of();
+        }
+
+        @Override
+        public List<DomainEvent> getEventsByTopic(String topic) {
+            return List.of();
+        }
+
+        @Override
+        public DomainEvent getEventById(UUID eventId) {
+            return null;
+        }
+    }
+
+    static class InMemorySnapshotStore implements SnapshotStore {
+        final List<AggregateSnapshot> snapshots = new ArrayList<>();
+
+        @Override
+        public void save(AggregateSnapshot snapshot) {
+            snapshots.add(snapshot);
+        }
+
+        @Override
+        public Optional<AggregateSnapshot> findLatest(String aggregateId, String aggregateType) {
+            return snapshots.stream()
+                    .filter(s -> s.aggregateId().equals(aggregateId) && s.aggregateType().equals(aggregateType))
+                    .max(Comparator.comparingLong(AggregateSnapshot::eventCount));
+        }
+    }
+}
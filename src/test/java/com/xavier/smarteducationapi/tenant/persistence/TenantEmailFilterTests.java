@@ -0,0 +1,132 @@
+package com.xavier.smarteducationapi.tenant.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.xavier.smarteducationapi.common.application.event.DomainEventListener;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChangeFeed;
+import com.xavier.smarteducationapi.common.domain.event.AggregateChanges;
+import com.xavier.smarteducationapi.tenant.infrastructure.persistence.mapper.TenantMapper;
+import com.xavier.smarteducationapi.tenant.infrastructure.persistence.repository.TenantEmailFilter;
+import com.xavier.smarteducationapi.tenant.infrastructure.persistence.repository.TenantJpaRepository;
+import com.xavier.smarteducationapi.tenant.infrastructure.persistence.repository.TenantRepositoryImpl;
+
+/**
+ * Unit tests for the TenantEmailFilter and the email lookups of the TenantRepositoryImpl.
+ *
+ * @author Xavier Nhagumbe
+ */
+@DisplayName("Tenant Email Filter Tests")
+class TenantEmailFilterTests {
+
+    private TenantJpaRepository jpaRepository;
+    private AggregateChangeFeed changeFeed;
+    private TenantEmailFilter filter;
+    private TenantRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(TenantJpaRepository.class);
+        changeFeed = mock(AggregateChangeFeed.class);
+        filter = new TenantEmailFilter(jpaRepository, changeFeed, Clock.systemUTC(), 1000, 0.001, 3600000);
+        repository = new TenantRepositoryImpl(jpaRepository, mock(TenantMapper.class),
+                mock(DomainEventListener.class), filter, mock(JdbcTemplate.class));
+
+        when(jpaRepository.findAllPrimaryEmails()).thenReturn(List.of("admin@st-marys.edu", "office@green.edu"));
+        when(jpaRepository.existsByNormalizedEmail(anyString())).thenReturn(true);
+        when(changeFeed.latestPosition()).thenReturn(10L);
+    }
+
+    @Test
+    @DisplayName("Should look up every email until the filter is loaded")
+    void shouldLookUpBeforeLoad() {
+        // When
+        assertTrue(repository.existsByEmail("new@school.edu"));
+
+        // Then
+        verify(jpaRepository).existsByNormalizedEmail("new@school.edu");
+    }
+
+    @Test
+    @DisplayName("Should answer unregistered emails without reading the database once loaded")
+    void shouldSkipDatabaseForUnregisteredEmails() {
+        // Given
+        filter.sync();
+
+        // When
+        boolean exists = repository.existsByEmail("new@school.edu");
+
+        // Then
+        assertFalse(exists);
+        verify(jpaRepository, never()).existsByNormalizedEmail(anyString());
+        assertEquals(1, filter.getChecks());
+        assertEquals(0, filter.getPassed());
+    }
+
+    @Test
+    @DisplayName("Should look up registered emails case-insensitively")
+    void shouldLookUpRegisteredEmailsLowercased() {
+        // Given
+        filter.sync();
+
+        // When
+        boolean exists = repository.existsByEmail(" Admin@St-Marys.EDU ");
+
+        // Then
+        assertTrue(exists);
+        verify(jpaRepository).existsByNormalizedEmail("admin@st-marys.edu");
+    }
+
+    @Test
+    @DisplayName("Should check many emails with a single query for the possible hits")
+    void shouldCheckEmailsInBulk() {
+        // Given
+        filter.sync();
+        when(jpaRepository.findNormalizedEmailsIn(anyCollection())).thenReturn(List.of("office@green.edu"));
+
+        // When
+        Set<String> existing = repository.findExistingEmails(
+                List.of("new@school.edu", "Office@Green.edu", "office@green.edu", "other@school.edu"));
+
+        // Then
+        assertEquals(Set.of("office@green.edu"), existing);
+        verify(jpaRepository).findNormalizedEmailsIn(List.of("office@green.edu"));
+        assertTrue(repository.findExistingEmails(List.of("new@school.edu")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should add emails of tenants changed on other nodes")
+    void shouldSyncFromChangeFeed() {
+        // Given
+        filter.sync();
+        when(changeFeed.changesAfter(anyString(), anyLong(), anyInt()))
+                .thenReturn(new AggregateChanges(Set.of("tenant-1"), 11L, false, false));
+        when(jpaRepository.findPrimaryEmailsByIdIn(Set.of("tenant-1"))).thenReturn(List.of("new@school.edu"));
+
+        // When
+        filter.sync();
+
+        // Then
+        assertTrue(repository.existsByEmail("new@school.edu"));
+        verify(changeFeed).changesAfter("Tenant", 10L, 1000);
+        verify(jpaRepository).existsByNormalizedEmail("new@school.edu");
+    }
+}